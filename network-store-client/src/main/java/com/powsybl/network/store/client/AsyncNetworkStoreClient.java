@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.network.store.iidm.impl.NetworkStoreClient;
+import com.powsybl.network.store.model.*;
+import org.springframework.core.ParameterizedTypeReference;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking access to the bulk loading endpoints of the network store server (collections, extensions and
+ * operational limits groups of a resource type). Each method returns immediately, so that many loadings can be
+ * in flight at the same time without parking one thread per request.
+ * <p>
+ * The blocking {@link NetworkStoreClient} API is available on top of the same asynchronous client with
+ * {@link #toBlockingClient()}.
+ *
+ * @author agent <agent at local>
+ */
+public class AsyncNetworkStoreClient {
+
+    private final AsyncRestClientImpl restClient;
+
+    public AsyncNetworkStoreClient(String baseUri) {
+        this(new AsyncRestClientImpl(baseUri));
+    }
+
+    public AsyncNetworkStoreClient(AsyncRestClientImpl restClient) {
+        this.restClient = Objects.requireNonNull(restClient);
+    }
+
+    /**
+     * Get a blocking client sharing the same non-blocking HTTP client.
+     */
+    public NetworkStoreClient toBlockingClient() {
+        return new RestNetworkStoreClient(restClient);
+    }
+
+    public <T extends IdentifiableAttributes> CompletableFuture<List<Resource<T>>> getIdentifiables(UUID networkUuid, int variantNum, ResourceType resourceType) {
+        Objects.requireNonNull(resourceType);
+        if (resourceType == ResourceType.NETWORK) {
+            throw new PowsyblException("Network is not a collection");
+        }
+        return restClient.getAllAsync("/networks/{networkUuid}/{variantNum}/" + RestNetworkStoreClient.getCollectionPath(resourceType), networkUuid, variantNum);
+    }
+
+    /**
+     * Load concurrently the collections of several resource types.
+     * @return a future completed when all the collections have been loaded
+     */
+    public CompletableFuture<Map<ResourceType, List<Resource<IdentifiableAttributes>>>> getCollections(UUID networkUuid, int variantNum, Set<ResourceType> resourceTypes) {
+        Map<ResourceType, CompletableFuture<List<Resource<IdentifiableAttributes>>>> futures = new EnumMap<>(ResourceType.class);
+        for (ResourceType resourceType : resourceTypes) {
+            futures.put(resourceType, getIdentifiables(networkUuid, variantNum, resourceType));
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+            .thenApply(unused -> {
+                Map<ResourceType, List<Resource<IdentifiableAttributes>>> resourcesByType = new EnumMap<>(ResourceType.class);
+                futures.forEach((resourceType, future) -> resourcesByType.put(resourceType, future.join()));
+                return resourcesByType;
+            });
+    }
+
+    public CompletableFuture<Map<String, ExtensionAttributes>> getAllExtensionsAttributesByResourceTypeAndExtensionName(UUID networkUuid, int variantNum, ResourceType resourceType, String extensionName) {
+        return restClient.getAsync("/networks/{networkUuid}/{variantNum}/identifiables/types/{type}/extensions/{extensionName}",
+                new ParameterizedTypeReference<Map<String, ExtensionAttributes>>() { }, networkUuid, variantNum, resourceType, extensionName)
+            .thenApply(RestNetworkStoreClient::filterRawExtensionAttributes);
+    }
+
+    public CompletableFuture<Map<String, Map<String, ExtensionAttributes>>> getAllExtensionsAttributesByResourceType(UUID networkUuid, int variantNum, ResourceType resourceType) {
+        return restClient.getAsync("/networks/{networkUuid}/{variantNum}/identifiables/types/{resourceType}/extensions",
+                new ParameterizedTypeReference<Map<String, Map<String, ExtensionAttributes>>>() { }, networkUuid, variantNum, resourceType)
+            .thenApply(rawExtensionAttributes -> {
+                Map<String, Map<String, ExtensionAttributes>> extensionAttributes = new HashMap<>();
+                rawExtensionAttributes.forEach((identifiableId, attributes) -> {
+                    Map<String, ExtensionAttributes> filteredAttributes = RestNetworkStoreClient.filterRawExtensionAttributes(attributes);
+                    if (!filteredAttributes.isEmpty()) {
+                        extensionAttributes.put(identifiableId, filteredAttributes);
+                    }
+                });
+                return extensionAttributes;
+            });
+    }
+
+    public CompletableFuture<Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>>> getAllOperationalLimitsGroupAttributesByResourceType(UUID networkUuid, int variantNum, ResourceType resourceType) {
+        return restClient.getAsync("/networks/{networkUuid}/{variantNum}/branch/types/{resourceType}/operationalLimitsGroup",
+                new ParameterizedTypeReference<>() { }, networkUuid, variantNum, resourceType);
+    }
+
+    public CompletableFuture<Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>>> getAllSelectedOperationalLimitsGroupAttributesByResourceType(UUID networkUuid, int variantNum, ResourceType resourceType) {
+        return restClient.getAsync("/networks/{networkUuid}/{variantNum}/branch/types/{resourceType}/operationalLimitsGroup/selected",
+                new ParameterizedTypeReference<>() { }, networkUuid, variantNum, resourceType);
+    }
+}
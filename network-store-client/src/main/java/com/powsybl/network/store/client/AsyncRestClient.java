@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.network.store.model.*;
+import org.springframework.core.ParameterizedTypeReference;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link RestClient}: requests are sent without waiting for the response and a
+ * {@link CompletableFuture} is completed when the response has been received and decoded.
+ *
+ * @author agent <agent at local>
+ */
+public interface AsyncRestClient {
+
+    <T extends IdentifiableAttributes> CompletableFuture<Void> createAllAsync(String url, List<Resource<T>> resources, Object... uriVariables);
+
+    <T extends IdentifiableAttributes> CompletableFuture<Optional<Resource<T>>> getOneAsync(String url, Object... uriVariables);
+
+    CompletableFuture<Optional<ExtensionAttributes>> getOneExtensionAttributesAsync(String url, Object... uriVariables);
+
+    CompletableFuture<Optional<OperationalLimitsGroupAttributes>> getOneOperationalLimitsGroupAttributesAsync(String url, Object... uriVariables);
+
+    <T extends IdentifiableAttributes> CompletableFuture<List<Resource<T>>> getAllAsync(String url, Object... uriVariables);
+
+    <T extends Attributes> CompletableFuture<Void> updateAllAsync(String url, List<Resource<T>> resources, Class<?> viewClass, Object... uriVariables);
+
+    CompletableFuture<Void> patchAllAsync(String url, List<ResourcePatch> patches, Object... uriVariables);
+
+    <E> CompletableFuture<E> getAsync(String url, ParameterizedTypeReference<E> responseType, Object... uriVariables);
+
+    CompletableFuture<Void> putAsync(String url, Object... uriVariables);
+
+    CompletableFuture<Void> deleteAsync(String url, Object... uriVariables);
+
+    CompletableFuture<Void> postAsync(String url, Object... uriVariables);
+
+    <T> CompletableFuture<Void> deleteAllAsync(String url, T body, Object... uriVariables);
+}
@@ -0,0 +1,432 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.network.store.model.*;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.UriBuilderFactory;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+/**
+ * {@link AsyncRestClient} implementation based on the non-blocking JDK {@link HttpClient}: no thread is parked
+ * while waiting for the server, so a large number of requests can be in flight at the same time.
+ * The blocking {@link RestClient} API is implemented on top of the asynchronous one, so that this client can be
+ * used as a drop-in replacement of {@link RestClientImpl} (for instance by a {@link RestNetworkStoreClient}), with the
+ * same binary format and compression settings.
+ *
+ * @author agent <agent at local>
+ */
+public class AsyncRestClientImpl implements AsyncRestClient, RestClient {
+
+    private static final String SMILE_MEDIA_TYPE_VALUE = RestClientImpl.SMILE_MEDIA_TYPE.toString();
+
+    private final HttpClient httpClient;
+
+    private final UriBuilderFactory uriBuilderFactory;
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectMapper smileObjectMapper;
+
+    private final boolean binaryFormatEnabled;
+
+    private final int compressionThreshold;
+
+    // cleared as soon as the server rejects a smile request body, the next request bodies being sent in json
+    private volatile boolean smileRequestBodySupported = true;
+
+    /**
+     * A received response, its body being already decompressed.
+     */
+    private record Response(int statusCode, byte[] body, ObjectMapper objectMapper) {
+    }
+
+    public AsyncRestClientImpl(String baseUri) {
+        this(new NetworkStoreConfig(baseUri));
+    }
+
+    public AsyncRestClientImpl(NetworkStoreConfig config) {
+        this(createHttpClient(), config.getBaseUrl(), config.isBinaryFormatEnabled(), config.getCompressionThreshold());
+    }
+
+    public AsyncRestClientImpl(HttpClient httpClient, String baseUri) {
+        this(httpClient, baseUri, false, RestClientImpl.COMPRESSION_DISABLED);
+    }
+
+    /**
+     * @param compressionThreshold minimum size in bytes of the request bodies to compress with gzip, a negative
+     *                             value disables the compression of both requests and responses
+     */
+    public AsyncRestClientImpl(HttpClient httpClient, String baseUri, boolean binaryFormatEnabled, int compressionThreshold) {
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.uriBuilderFactory = new DefaultUriBuilderFactory(UriComponentsBuilder.fromUriString(baseUri)
+            .path(NetworkStoreApi.VERSION));
+        this.objectMapper = RestClientImpl.createObjectMapper().enable(MapperFeature.DEFAULT_VIEW_INCLUSION);
+        this.smileObjectMapper = RestClientImpl.createSmileObjectMapper().enable(MapperFeature.DEFAULT_VIEW_INCLUSION);
+        this.binaryFormatEnabled = binaryFormatEnabled;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    private static HttpClient createHttpClient() {
+        return HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    }
+
+    private static PowsyblException createHttpException(URI uri, String method, HttpStatusCode httpStatusCode) {
+        return new PowsyblException("Fail to " + method + " at " + uri + ", status: " + httpStatusCode);
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    }
+
+    private static RuntimeException toRuntimeException(URI uri, String method, Throwable t) {
+        Throwable cause = unwrap(t);
+        if (cause instanceof IOException e) {
+            // same exception as RestTemplate so that retries of I/O errors keep working
+            return new ResourceAccessException("I/O error on " + method + " request for \"" + uri + "\": " + e.getMessage(), e);
+        }
+        return cause instanceof RuntimeException e ? e : new CompletionException(cause);
+    }
+
+    /**
+     * Wait for the completion of a request, unwrapping the exception thrown by the request, if any.
+     */
+    private static <R> R await(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static byte[] writeValueAsBytes(ObjectMapper objectMapper, Object value, Class<?> viewClass) {
+        try {
+            return viewClass != null ? objectMapper.writerWithView(viewClass).writeValueAsBytes(value) : objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <R> R readValue(Response response, JavaType type) {
+        if (response.body().length == 0) {
+            return null;
+        }
+        try {
+            return response.objectMapper().readValue(response.body(), type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpRequest.Builder createRequestBuilder(URI uri) {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(uri);
+        if (binaryFormatEnabled) {
+            // prefer smile but let the server answer in json if it does not support it
+            requestBuilder.header(HttpHeaders.ACCEPT, SMILE_MEDIA_TYPE_VALUE + ", " + MediaType.APPLICATION_JSON_VALUE);
+        } else {
+            requestBuilder.header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+        }
+        if (compressionThreshold >= 0) {
+            requestBuilder.header(HttpHeaders.ACCEPT_ENCODING, GzipCompressionInterceptor.GZIP);
+        }
+        return requestBuilder;
+    }
+
+    private HttpRequest createRequestWithBody(URI uri, String method, Object body, Class<?> viewClass, boolean smileRequestBody) {
+        HttpRequest.Builder requestBuilder = createRequestBuilder(uri)
+            .header(HttpHeaders.CONTENT_TYPE, smileRequestBody ? SMILE_MEDIA_TYPE_VALUE : MediaType.APPLICATION_JSON_VALUE);
+        byte[] bytes = writeValueAsBytes(smileRequestBody ? smileObjectMapper : objectMapper, body, viewClass);
+        if (compressionThreshold >= 0 && bytes.length > 0 && bytes.length >= compressionThreshold) {
+            try {
+                bytes = GzipCompressionInterceptor.compress(bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            requestBuilder.header(HttpHeaders.CONTENT_ENCODING, GzipCompressionInterceptor.GZIP);
+        }
+        return requestBuilder.method(method, HttpRequest.BodyPublishers.ofByteArray(bytes)).build();
+    }
+
+    private ObjectMapper getObjectMapper(HttpResponse<?> response) {
+        // a response without content type is most likely json
+        return response.headers().firstValue(HttpHeaders.CONTENT_TYPE)
+            .filter(contentType -> MediaType.parseMediaType(contentType).isCompatibleWith(RestClientImpl.SMILE_MEDIA_TYPE))
+            .map(contentType -> smileObjectMapper)
+            .orElse(objectMapper);
+    }
+
+    /**
+     * Send a request with a body. If the server rejects a smile body as an unsupported media type, the request is
+     * sent again in json, like all the next ones.
+     */
+    private CompletableFuture<Response> send(String method, String url, Object body, Class<?> viewClass,
+                                             List<HttpStatus> expectedStatuses, Object... uriVariables) {
+        URI uri = uriBuilderFactory.expand(url, uriVariables);
+        if (body == null) {
+            return send(uri, method, createRequestBuilder(uri).method(method, HttpRequest.BodyPublishers.noBody()).build(), expectedStatuses);
+        }
+        boolean smileRequestBody = binaryFormatEnabled && smileRequestBodySupported;
+        CompletableFuture<Response> response = send(uri, method, createRequestWithBody(uri, method, body, viewClass, smileRequestBody), expectedStatuses);
+        if (!smileRequestBody) {
+            return response;
+        }
+        return response.exceptionallyCompose(t -> {
+            Throwable cause = unwrap(t);
+            if (cause instanceof HttpClientErrorException e && e.getStatusCode() == HttpStatus.UNSUPPORTED_MEDIA_TYPE) {
+                smileRequestBodySupported = false;
+                return send(uri, method, createRequestWithBody(uri, method, body, viewClass, false), expectedStatuses);
+            }
+            return CompletableFuture.failedFuture(cause);
+        });
+    }
+
+    /**
+     * Send a request and check the status of the response. Server and client errors are reported like
+     * {@link RestTemplateResponseErrorHandler} does, any other status than the expected ones fails the request.
+     */
+    private CompletableFuture<Response> send(URI uri, String method, HttpRequest request, List<HttpStatus> expectedStatuses) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+            .handle((response, t) -> {
+                if (t != null) {
+                    throw toRuntimeException(uri, method.toLowerCase(), t);
+                }
+                byte[] body = response.body();
+                if (response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).filter(GzipCompressionInterceptor.GZIP::equalsIgnoreCase).isPresent()) {
+                    try {
+                        body = GzipCompressionInterceptor.decompress(body);
+                    } catch (IOException e) {
+                        throw toRuntimeException(uri, method.toLowerCase(), e);
+                    }
+                }
+                HttpStatusCode statusCode = HttpStatusCode.valueOf(response.statusCode());
+                if (statusCode.isError()) {
+                    HttpStatus status = HttpStatus.resolve(statusCode.value());
+                    RestTemplateResponseErrorHandler.handleError(statusCode, status != null ? status.getReasonPhrase() : "", body);
+                }
+                if (expectedStatuses.stream().noneMatch(expectedStatus -> expectedStatus.value() == statusCode.value())) {
+                    throw createHttpException(uri, method.toLowerCase(), statusCode);
+                }
+                return new Response(response.statusCode(), body, getObjectMapper(response));
+            });
+    }
+
+    private <R> CompletableFuture<R> sendAndRead(String method, String url, JavaType responseType, Object... uriVariables) {
+        return send(method, url, null, null, List.of(HttpStatus.OK), uriVariables)
+            .thenApply(response -> readValue(response, responseType));
+    }
+
+    private <T, D extends AbstractTopLevelDocument<T>> CompletableFuture<Optional<T>> getOneDocumentAsync(String url, TypeReference<D> documentType, Object... uriVariables) {
+        JavaType type = objectMapper.getTypeFactory().constructType(documentType);
+        return send("GET", url, null, null, List.of(HttpStatus.OK, HttpStatus.NOT_FOUND), uriVariables)
+            .thenApply(response -> {
+                if (response.statusCode() == HttpStatus.NOT_FOUND.value()) {
+                    return Optional.empty();
+                }
+                D document = readValue(response, type);
+                if (document == null) {
+                    throw new PowsyblException("Body is null");
+                }
+                return Optional.of(document.getData().get(0));
+            });
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> CompletableFuture<Void> createAllAsync(String url, List<Resource<T>> resources, Object... uriVariables) {
+        return send("POST", url, resources, null, List.of(HttpStatus.CREATED), uriVariables).thenApply(response -> null);
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> CompletableFuture<Optional<Resource<T>>> getOneAsync(String url, Object... uriVariables) {
+        return getOneDocumentAsync(url, new TypeReference<TopLevelDocument<T>>() {
+        }, uriVariables);
+    }
+
+    @Override
+    public CompletableFuture<Optional<ExtensionAttributes>> getOneExtensionAttributesAsync(String url, Object... uriVariables) {
+        return getOneDocumentAsync(url, new TypeReference<ExtensionAttributesTopLevelDocument>() {
+        }, uriVariables);
+    }
+
+    @Override
+    public CompletableFuture<Optional<OperationalLimitsGroupAttributes>> getOneOperationalLimitsGroupAttributesAsync(String url, Object... uriVariables) {
+        return getOneDocumentAsync(url, new TypeReference<OperationalLimitsGroupAttributesTopLevelDocument>() {
+        }, uriVariables);
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> CompletableFuture<List<Resource<T>>> getAllAsync(String url, Object... uriVariables) {
+        JavaType type = objectMapper.getTypeFactory().constructType(new TypeReference<TopLevelDocument<T>>() {
+        });
+        return this.<TopLevelDocument<T>>sendAndRead("GET", url, type, uriVariables)
+            .thenApply(document -> {
+                if (document == null) {
+                    throw new PowsyblException("Body is null");
+                }
+                return document.getData();
+            });
+    }
+
+    @Override
+    public <T extends Attributes> CompletableFuture<Void> updateAllAsync(String url, List<Resource<T>> resources, Class<?> viewClass, Object... uriVariables) {
+        return send("PUT", url, resources, viewClass, List.of(HttpStatus.OK), uriVariables).thenApply(response -> null);
+    }
+
+    @Override
+    public CompletableFuture<Void> patchAllAsync(String url, List<ResourcePatch> patches, Object... uriVariables) {
+        return send("PATCH", url, patches, null, List.of(HttpStatus.OK, HttpStatus.NOT_FOUND), uriVariables).thenApply(response -> {
+            if (response.statusCode() == HttpStatus.NOT_FOUND.value()) {
+                // same exception as RestClientImpl for an unsupported method reported as not found
+                throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public <E> CompletableFuture<E> getAsync(String url, ParameterizedTypeReference<E> responseType, Object... uriVariables) {
+        return sendAndRead("GET", url, objectMapper.getTypeFactory().constructType(responseType.getType()), uriVariables);
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(String url, Object... uriVariables) {
+        return send("PUT", url, null, null, List.of(HttpStatus.OK), uriVariables).thenApply(response -> null);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAsync(String url, Object... uriVariables) {
+        return send("DELETE", url, null, null, List.of(HttpStatus.OK), uriVariables).thenApply(response -> null);
+    }
+
+    @Override
+    public CompletableFuture<Void> postAsync(String url, Object... uriVariables) {
+        return send("POST", url, null, null, List.of(HttpStatus.OK), uriVariables).thenApply(response -> null);
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> deleteAllAsync(String url, T body, Object... uriVariables) {
+        return send("DELETE", url, body, null, List.of(HttpStatus.OK), uriVariables).thenApply(response -> null);
+    }
+
+    // blocking API
+
+    @Override
+    public <T extends IdentifiableAttributes> void createAll(String url, List<Resource<T>> resources, Object... uriVariables) {
+        await(createAllAsync(url, resources, uriVariables));
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> Optional<Resource<T>> getOne(String target, String url, Object... uriVariables) {
+        return await(getOneAsync(url, uriVariables));
+    }
+
+    @Override
+    public Optional<ExtensionAttributes> getOneExtensionAttributes(String url, Object... uriVariables) {
+        return await(getOneExtensionAttributesAsync(url, uriVariables));
+    }
+
+    @Override
+    public Optional<OperationalLimitsGroupAttributes> getOneOperationalLimitsGroupAttributes(String url, Object... uriVariables) {
+        return await(getOneOperationalLimitsGroupAttributesAsync(url, uriVariables));
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> List<Resource<T>> getAll(String target, String url, Object... uriVariables) {
+        return await(getAllAsync(url, uriVariables));
+    }
+
+    @Override
+    public <T extends Attributes> void updateAll(String url, List<Resource<T>> resources, Class<?> viewClass, Object... uriVariables) {
+        await(updateAllAsync(url, resources, viewClass, uriVariables));
+    }
+
+    @Override
+    public void patchAll(String url, List<ResourcePatch> patches, Object... uriVariables) {
+        await(patchAllAsync(url, patches, uriVariables));
+    }
+
+    @Override
+    public <E> E get(String url, ParameterizedTypeReference<E> responseType, Object... uriVariables) {
+        return await(getAsync(url, responseType, uriVariables));
+    }
+
+    @Override
+    public void put(String url, Object... uriVariables) {
+        await(putAsync(url, uriVariables));
+    }
+
+    @Override
+    public void delete(String url, Object... uriVariables) {
+        await(deleteAsync(url, uriVariables));
+    }
+
+    @Override
+    public void post(String url, Object... uriVariables) {
+        await(postAsync(url, uriVariables));
+    }
+
+    @Override
+    public <T> void deleteAll(String url, T body, Object... uriVariables) {
+        await(deleteAllAsync(url, body, uriVariables));
+    }
+
+    /**
+     * Same fallback as {@link RestClientImpl}: false if the server does not support several collections in a single
+     * request, answering 404 or 405. Resources are given to the consumer in the calling thread.
+     */
+    @Override
+    public boolean streamCollections(String target, String url, Consumer<Resource<IdentifiableAttributes>> consumer, Object... uriVariables) {
+        Response response;
+        try {
+            response = await(send("GET", url, null, null, List.of(HttpStatus.OK, HttpStatus.NOT_FOUND), uriVariables));
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode() == HttpStatus.METHOD_NOT_ALLOWED) {
+                return false;
+            }
+            throw e;
+        }
+        if (response.statusCode() == HttpStatus.NOT_FOUND.value()) {
+            return false;
+        }
+        ResourceCollectionsTopLevelDocument document = readValue(response, objectMapper.getTypeFactory().constructType(ResourceCollectionsTopLevelDocument.class));
+        if (document == null) {
+            throw new PowsyblException("Body is null");
+        }
+        document.getData().forEach(collection -> collection.getData().forEach(consumer));
+        return true;
+    }
+}
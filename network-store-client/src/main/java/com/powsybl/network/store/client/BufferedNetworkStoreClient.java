@@ -11,23 +11,39 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.google.common.base.Stopwatch;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.exceptions.UncheckedInterruptedException;
 import com.powsybl.commons.json.JsonUtil;
 import com.powsybl.network.store.client.util.ExecutorUtil;
 import com.powsybl.network.store.iidm.impl.AbstractForwardingNetworkStoreClient;
+import com.powsybl.network.store.iidm.impl.AutoFlushListener;
 import com.powsybl.network.store.iidm.impl.NetworkCollectionIndex;
 import com.powsybl.network.store.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import static com.powsybl.network.store.model.ResourceType.*;
 
 /**
+ * Buffer of the resources created, updated and removed since last flush.
+ * <p>
+ * With a write-behind flush, the buffers are sent in background. The server side operations reading or replacing the
+ * stored resources of a network wait for its flushes in progress, so that they see all the flushed resources: delete
+ * of the network or of a variant, clone of a variant (by num or by id), clone of the variants of another network
+ * (waiting for the flushes of the source network) and listing of the identifiable ids.
+ *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  * @author Franck Lecuyer <franck.lecuyer at rte-france.com>
  * @author Etienne Homer <etienne.homer at rte-france.com>
@@ -38,6 +54,8 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     private static final EnumSet<ResourceType> RESOURCE_TYPES_WITH_OPERATIONAL_LIMITS = EnumSet.of(ResourceType.LINE, ResourceType.TWO_WINDINGS_TRANSFORMER);
 
+    public static final int UNLIMITED_BUFFERED_RESOURCE_COUNT = 0;
+
     private static boolean hasOperationalLimits(ResourceType resourceType) {
         return RESOURCE_TYPES_WITH_OPERATIONAL_LIMITS.contains(resourceType);
     }
@@ -46,107 +64,128 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
     private final NetworkCollectionIndex<CollectionBuffer<NetworkAttributes>> networkResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>((networkUuid, resources) -> delegate.createNetworks(resources),
                 (networkUuid, resources, attributeFilter) -> delegate.updateNetworks(resources, attributeFilter),
-                (networkUuid, variantNum, ids) -> delegate.deleteNetwork(networkUuid, variantNum)));
+                (networkUuid, variantNum, ids) -> delegate.deleteNetwork(networkUuid, variantNum),
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<SubstationAttributes>> substationResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createSubstations,
                 delegate::updateSubstations,
-                delegate::removeSubstations));
+                delegate::removeSubstations,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<VoltageLevelAttributes>> voltageLevelResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createVoltageLevels,
                 delegate::updateVoltageLevels,
-                delegate::removeVoltageLevels));
+                delegate::removeVoltageLevels,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<GeneratorAttributes>> generatorResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createGenerators,
                 delegate::updateGenerators,
-                delegate::removeGenerators));
+                delegate::removeGenerators,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<BatteryAttributes>> batteryResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createBatteries,
                 delegate::updateBatteries,
-                delegate::removeBatteries));
+                delegate::removeBatteries,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<LoadAttributes>> loadResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createLoads,
                 delegate::updateLoads,
-                delegate::removeLoads));
+                delegate::removeLoads,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<BusbarSectionAttributes>> busbarSectionResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createBusbarSections,
                 delegate::updateBusbarSections,
-                delegate::removeBusBarSections));
+                delegate::removeBusBarSections,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<SwitchAttributes>> switchResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createSwitches,
                 delegate::updateSwitches,
-                delegate::removeSwitches));
+                delegate::removeSwitches,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<ShuntCompensatorAttributes>> shuntCompensatorResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createShuntCompensators,
                 delegate::updateShuntCompensators,
-                delegate::removeShuntCompensators));
+                delegate::removeShuntCompensators,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<VscConverterStationAttributes>> vscConverterStationResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createVscConverterStations,
                 delegate::updateVscConverterStations,
-                delegate::removeVscConverterStations));
+                delegate::removeVscConverterStations,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<LccConverterStationAttributes>> lccConverterStationResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createLccConverterStations,
                 delegate::updateLccConverterStations,
-                delegate::removeLccConverterStations));
+                delegate::removeLccConverterStations,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<StaticVarCompensatorAttributes>> svcResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createStaticVarCompensators,
                 delegate::updateStaticVarCompensators,
-                delegate::removeStaticVarCompensators));
+                delegate::removeStaticVarCompensators,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<HvdcLineAttributes>> hvdcLineResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createHvdcLines,
                 delegate::updateHvdcLines,
-                delegate::removeHvdcLines));
+                delegate::removeHvdcLines,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<BoundaryLineAttributes>> boundaryLineResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createBoundaryLines,
                 delegate::updateBoundaryLines,
-                delegate::removeBoundaryLines));
+                delegate::removeBoundaryLines,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<GroundAttributes>> groundResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createGrounds,
                 delegate::updateGrounds,
-                delegate::removeGrounds));
+                delegate::removeGrounds,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<TwoWindingsTransformerAttributes>> twoWindingsTransformerResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createTwoWindingsTransformers,
                 delegate::updateTwoWindingsTransformers,
-                delegate::removeTwoWindingsTransformers));
+                delegate::removeTwoWindingsTransformers,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<ThreeWindingsTransformerAttributes>> threeWindingsTransformerResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createThreeWindingsTransformers,
                 delegate::updateThreeWindingsTransformers,
-                delegate::removeThreeWindingsTransformers));
+                delegate::removeThreeWindingsTransformers,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<LineAttributes>> lineResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createLines,
                 delegate::updateLines,
-                delegate::removeLines));
+                delegate::removeLines,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<ConfiguredBusAttributes>> busResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createConfiguredBuses,
                 delegate::updateConfiguredBuses,
-                delegate::removeConfiguredBuses));
+                delegate::removeConfiguredBuses,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<TieLineAttributes>> tieLineResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createTieLines,
                 delegate::updateTieLines,
-                delegate::removeTieLines));
+                delegate::removeTieLines,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<AreaAttributes>> areaResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createAreas,
                 delegate::updateAreas,
-                delegate::removeAreas));
+                delegate::removeAreas,
+                delegate::patchResources));
 
     // operational limits and extensions have their owned buffer only used to remove them in the server on flush
     // it is used because powsybl api expose method to delete them particularly. these buffers allow removing them very efficiently,
@@ -161,9 +200,76 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     private final ExecutorService executorService;
 
+    // write-behind mode: flushes of a network sent in background are chained so that the server receives them in the
+    // same order as a synchronous flush would, and their number is bounded so that buffered resources do not pile up
+    private final Semaphore pendingFlushPermits;
+
+    private final Map<UUID, CompletableFuture<Void>> lastFlushFutures = new ConcurrentHashMap<>();
+
+    private final Map<UUID, Throwable> backgroundFlushFailures = new ConcurrentHashMap<>();
+
+    private final ObjectMapper resourceObjectMapper = createObjectMapper();
+
+    private final boolean mergePatchEnabled;
+
+    private final int maxBufferedResourceCount;
+
+    // upper bound of the number of resources buffered for each network, a resource updated several times being counted
+    // each time
+    private final Map<UUID, AtomicInteger> bufferedResourceCountUpperBounds = new ConcurrentHashMap<>();
+
+    private final List<AutoFlushListener> autoFlushListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Snapshot of the buffers of a network, flushed in background.
+     */
+    private record FlushSnapshot(Map<Integer, OperationalLimitsGroupsRemovalBuffer> operationalLimitsToRemove,
+                                 Map<Integer, ExtensionsRemovalBuffer> extensionsToRemove,
+                                 List<Map<Integer, CollectionBuffer<?>>> resourcesToFlush) {
+    }
+
     public BufferedNetworkStoreClient(RestNetworkStoreClient delegate, ExecutorService executorService) {
+        this(delegate, executorService, 0);
+    }
+
+    /**
+     * @param maxPendingFlushCount maximum number of flushes in progress in background, 0 for a synchronous flush. When
+     *                             the maximum is reached, flush waits for the oldest one to complete.
+     */
+    public BufferedNetworkStoreClient(RestNetworkStoreClient delegate, ExecutorService executorService, int maxPendingFlushCount) {
+        this(delegate, executorService, maxPendingFlushCount, false);
+    }
+
+    /**
+     * @param maxPendingFlushCount maximum number of flushes in progress in background, 0 for a synchronous flush. When
+     *                             the maximum is reached, flush waits for the oldest one to complete.
+     * @param mergePatchEnabled true to only send the modified attributes of the updated resources, as merge patches
+     */
+    public BufferedNetworkStoreClient(RestNetworkStoreClient delegate, ExecutorService executorService, int maxPendingFlushCount,
+                                      boolean mergePatchEnabled) {
+        this(delegate, executorService, maxPendingFlushCount, mergePatchEnabled, UNLIMITED_BUFFERED_RESOURCE_COUNT);
+    }
+
+    /**
+     * @param maxPendingFlushCount maximum number of flushes in progress in background, 0 for a synchronous flush. When
+     *                             the maximum is reached, flush waits for the oldest one to complete.
+     * @param mergePatchEnabled true to only send the modified attributes of the updated resources, as merge patches
+     * @param maxBufferedResourceCount maximum number of resources created or updated for a network above which the
+     *                                 buffers are flushed automatically, unlimited if zero
+     */
+    public BufferedNetworkStoreClient(RestNetworkStoreClient delegate, ExecutorService executorService, int maxPendingFlushCount,
+                                      boolean mergePatchEnabled, int maxBufferedResourceCount) {
         super(delegate);
+        this.mergePatchEnabled = mergePatchEnabled;
         this.executorService = Objects.requireNonNull(executorService);
+        if (maxPendingFlushCount < 0) {
+            throw new PowsyblException("Invalid max pending flush count: " + maxPendingFlushCount);
+        }
+        if (maxBufferedResourceCount < 0) {
+            throw new PowsyblException("Invalid max buffered resource count: " + maxBufferedResourceCount);
+        }
+        this.maxBufferedResourceCount = maxBufferedResourceCount;
+        pendingFlushPermits = maxPendingFlushCount > 0 ? new Semaphore(maxPendingFlushCount) : null;
         allBuffers.put(NETWORK, networkResourcesToFlush);
         allBuffers.put(SUBSTATION, substationResourcesToFlush);
         allBuffers.put(VOLTAGE_LEVEL, voltageLevelResourcesToFlush);
@@ -187,6 +293,67 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         allBuffers.put(AREA, areaResourcesToFlush);
     }
 
+    public boolean isMergePatchEnabled() {
+        return mergePatchEnabled;
+    }
+
+    public int getMaxBufferedResourceCount() {
+        return maxBufferedResourceCount;
+    }
+
+    @Override
+    public void addAutoFlushListener(AutoFlushListener listener) {
+        autoFlushListeners.add(Objects.requireNonNull(listener));
+    }
+
+    private int getBufferedResourceCount(UUID networkUuid) {
+        int[] count = new int[1];
+        for (var buffer : allBuffers.values()) {
+            buffer.applyToCollection(networkUuid, (variantNum, b) -> count[0] += b.getResourceCount());
+        }
+        return count[0];
+    }
+
+    /**
+     * Flush the buffers of a network if too many resources are buffered, so that the memory used by a network import
+     * is bounded. Counting the buffered resources goes through all the buffers, so it is only done when the upper bound
+     * of this count reaches the maximum.
+     * <p>
+     * The flush is completed before the listeners are notified, even in write-behind mode, so that a cache evicting
+     * the flushed resources reloads them from the server as stored.
+     */
+    private void autoFlushIfNeeded(UUID networkUuid, int bufferedCount) {
+        if (maxBufferedResourceCount == UNLIMITED_BUFFERED_RESOURCE_COUNT) {
+            return;
+        }
+        AtomicInteger upperBound = bufferedResourceCountUpperBounds.computeIfAbsent(networkUuid, k -> new AtomicInteger());
+        if (upperBound.addAndGet(bufferedCount) < maxBufferedResourceCount) {
+            return;
+        }
+        int count = getBufferedResourceCount(networkUuid);
+        if (count < maxBufferedResourceCount) {
+            upperBound.set(count);
+            return;
+        }
+        LOGGER.info("{} resources buffered for network {}, flushing", count, networkUuid);
+        flush(networkUuid);
+        awaitFlush(networkUuid);
+        autoFlushListeners.forEach(listener -> listener.onAutoFlush(networkUuid));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends IdentifiableAttributes> void prepareResourceUpdate(UUID networkUuid, int variantNum, Resource<T> resource) {
+        super.prepareResourceUpdate(networkUuid, variantNum, resource);
+        if (mergePatchEnabled && delegate.isPatchSupported()) {
+            // record the attributes before the modification, to only send the modified ones on flush
+            var buffer = (NetworkCollectionIndex<CollectionBuffer<T>>) allBuffers.get(resource.getType());
+            if (buffer != null) {
+                buffer.getCollection(networkUuid, variantNum).prepareUpdate(resource, resourceObjectMapper);
+            }
+        }
+    }
+
     @Override
     public void createNetworks(List<Resource<NetworkAttributes>> networkResources) {
         for (Resource<NetworkAttributes> networkResource : networkResources) {
@@ -207,7 +374,9 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     @Override
     public void deleteNetwork(UUID networkUuid) {
+        awaitFlush(networkUuid);
         delegate.deleteNetwork(networkUuid);
+        bufferedResourceCountUpperBounds.remove(networkUuid);
         // clear buffers as server side delete network already remove all equipments of the network
         allBuffers.values().forEach(buffer -> buffer.removeCollection(networkUuid));
         operationalLimitsToRemoveOnFlush.removeCollection(networkUuid);
@@ -216,6 +385,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     @Override
     public void deleteNetwork(UUID networkUuid, int variantNum) {
+        awaitFlush(networkUuid);
         delegate.deleteNetwork(networkUuid, variantNum);
         // clear buffers as server side delete network already remove all equipments of the network
         allBuffers.values().forEach(buffer -> buffer.removeCollection(networkUuid, variantNum));
@@ -228,6 +398,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<SubstationAttributes> substationResource : substationResources) {
             substationResourcesToFlush.getCollection(networkUuid, substationResource.getVariantNum()).create(substationResource);
         }
+        autoFlushIfNeeded(networkUuid, substationResources.size());
     }
 
     @Override
@@ -235,6 +406,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<SubstationAttributes> substationResource : substationResources) {
             substationResourcesToFlush.getCollection(networkUuid, substationResource.getVariantNum()).update(substationResource, attributeFilter);
         }
+        autoFlushIfNeeded(networkUuid, substationResources.size());
     }
 
     @Override
@@ -247,6 +419,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<VoltageLevelAttributes> voltageLevelResource : voltageLevelResources) {
             voltageLevelResourcesToFlush.getCollection(networkUuid, voltageLevelResource.getVariantNum()).create(voltageLevelResource);
         }
+        autoFlushIfNeeded(networkUuid, voltageLevelResources.size());
     }
 
     @Override
@@ -254,6 +427,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<VoltageLevelAttributes> voltageLevelResource : voltageLevelResources) {
             voltageLevelResourcesToFlush.getCollection(networkUuid, voltageLevelResource.getVariantNum()).update(voltageLevelResource, attributeFilter);
         }
+        autoFlushIfNeeded(networkUuid, voltageLevelResources.size());
     }
 
     @Override
@@ -266,6 +440,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<SwitchAttributes> switchResource : switchResources) {
             switchResourcesToFlush.getCollection(networkUuid, switchResource.getVariantNum()).create(switchResource);
         }
+        autoFlushIfNeeded(networkUuid, switchResources.size());
     }
 
     @Override
@@ -273,6 +448,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<SwitchAttributes> switchResource : switchResources) {
             switchResourcesToFlush.getCollection(networkUuid, switchResource.getVariantNum()).update(switchResource, attributeFilter);
         }
+        autoFlushIfNeeded(networkUuid, switchResources.size());
     }
 
     @Override
@@ -285,6 +461,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<BusbarSectionAttributes> busbarSectionResource : busbarSectionResources) {
             busbarSectionResourcesToFlush.getCollection(networkUuid, busbarSectionResource.getVariantNum()).create(busbarSectionResource);
         }
+        autoFlushIfNeeded(networkUuid, busbarSectionResources.size());
     }
 
     @Override
@@ -292,6 +469,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<BusbarSectionAttributes> busbarSectionResource : busbarSectionResources) {
             busbarSectionResourcesToFlush.getCollection(networkUuid, busbarSectionResource.getVariantNum()).update(busbarSectionResource, attributeFilter);
         }
+        autoFlushIfNeeded(networkUuid, busbarSectionResources.size());
     }
 
     @Override
@@ -304,6 +482,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<LoadAttributes> loadResource : loadResources) {
             loadResourcesToFlush.getCollection(networkUuid, loadResource.getVariantNum()).create(loadResource);
         }
+        autoFlushIfNeeded(networkUuid, loadResources.size());
     }
 
     @Override
@@ -311,6 +490,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<LoadAttributes> loadResource : loadResources) {
             loadResourcesToFlush.getCollection(networkUuid, loadResource.getVariantNum()).update(loadResource, attributeFilter);
         }
+        autoFlushIfNeeded(networkUuid, loadResources.size());
     }
 
     @Override
@@ -323,6 +503,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<GeneratorAttributes> generatorResource : generatorResources) {
             generatorResourcesToFlush.getCollection(networkUuid, generatorResource.getVariantNum()).create(generatorResource);
         }
+        autoFlushIfNeeded(networkUuid, generatorResources.size());
     }
 
     @Override
@@ -330,6 +511,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<GeneratorAttributes> generatorResource : generatorResources) {
             generatorResourcesToFlush.getCollection(networkUuid, generatorResource.getVariantNum()).update(generatorResource, attributeFilter);
         }
+        autoFlushIfNeeded(networkUuid, generatorResources.size());
     }
 
     @Override
@@ -342,6 +524,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<BatteryAttributes> batteryResource : batteryResources) {
             batteryResourcesToFlush.getCollection(networkUuid, batteryResource.getVariantNum()).create(batteryResource);
         }
+        autoFlushIfNeeded(networkUuid, batteryResources.size());
     }
 
     @Override
@@ -349,6 +532,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<BatteryAttributes> batteryResource : batteryResources) {
             batteryResourcesToFlush.getCollection(networkUuid, batteryResource.getVariantNum()).update(batteryResource, attributeFilter);
         }
+        autoFlushIfNeeded(networkUuid, batteryResources.size());
     }
 
     @Override
@@ -361,6 +545,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<TwoWindingsTransformerAttributes> twoWindingsTransformerResource : twoWindingsTransformerResources) {
             twoWindingsTransformerResourcesToFlush.getCollection(networkUuid, twoWindingsTransformerResource.getVariantNum()).create(twoWindingsTransformerResource);
         }
+        autoFlushIfNeeded(networkUuid, twoWindingsTransformerResources.size());
     }
 
     @Override
@@ -368,6 +553,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<TwoWindingsTransformerAttributes> twoWindingsTransformerResource : twoWindingsTransformerResources) {
             twoWindingsTransformerResourcesToFlush.getCollection(networkUuid, twoWindingsTransformerResource.getVariantNum()).update(twoWindingsTransformerResource, attributeFilter);
         }
+        autoFlushIfNeeded(networkUuid, twoWindingsTransformerResources.size());
     }
 
     @Override
@@ -383,6 +569,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<GroundAttributes> groundResource : groundResources) {
             groundResourcesToFlush.getCollection(networkUuid, groundResource.getVariantNum()).create(groundResource);
         }
+        autoFlushIfNeeded(networkUuid, groundResources.size());
     }
 
     @Override
@@ -390,6 +577,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<GroundAttributes> groundResource : groundResources) {
             groundResourcesToFlush.getCollection(networkUuid, groundResource.getVariantNum()).update(groundResource, attributeFilter);
         }
+        autoFlushIfNeeded(networkUuid, groundResources.size());
     }
 
     @Override
@@ -403,6 +591,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<ThreeWindingsTransformerAttributes> threeWindingsTransformerResource : threeWindingsTransformerResources) {
             threeWindingsTransformerResourcesToFlush.getCollection(networkUuid, threeWindingsTransformerResource.getVariantNum()).create(threeWindingsTransformerResource);
         }
+        autoFlushIfNeeded(networkUuid, threeWindingsTransformerResources.size());
     }
 
     @Override
@@ -410,6 +599,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<ThreeWindingsTransformerAttributes> threeWindingsTransformerResource : threeWindingsTransformerResources) {
             threeWindingsTransformerResourcesToFlush.getCollection(networkUuid, threeWindingsTransformerResource.getVariantNum()).update(threeWindingsTransformerResource, attributeFilter);
         }
+        autoFlushIfNeeded(networkUuid, threeWindingsTransformerResources.size());
     }
 
     @Override
@@ -422,6 +612,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<LineAttributes> lineResource : lineResources) {
             lineResourcesToFlush.getCollection(networkUuid, lineResource.getVariantNum()).create(lineResource);
         }
+        autoFlushIfNeeded(networkUuid, lineResources.size());
     }
 
     @Override
@@ -429,6 +620,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<LineAttributes> lineResource : lineResources) {
             lineResourcesToFlush.getCollection(networkUuid, lineResource.getVariantNum()).update(lineResource, attributeFilter);
         }
+        autoFlushIfNeeded(networkUuid, lineResources.size());
     }
 
     @Override
@@ -441,6 +633,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<ShuntCompensatorAttributes> shuntCompensatorResource : shuntCompensatorResources) {
             shuntCompensatorResourcesToFlush.getCollection(networkUuid, shuntCompensatorResource.getVariantNum()).create(shuntCompensatorResource);
         }
+        autoFlushIfNeeded(networkUuid, shuntCompensatorResources.size());
     }
 
     @Override
@@ -448,6 +641,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<ShuntCompensatorAttributes> shuntCompensatorResource : shuntCompensatorResources) {
             shuntCompensatorResourcesToFlush.getCollection(networkUuid, shuntCompensatorResource.getVariantNum()).update(shuntCompensatorResource, attributeFilter);
         }
+        autoFlushIfNeeded(networkUuid, shuntCompensatorResources.size());
     }
 
     @Override
@@ -461,6 +655,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<VscConverterStationAttributes> vscConverterStationResource : vscConverterStationResources) {
             vscConverterStationResourcesToFlush.getCollection(networkUuid, vscConverterStationResource.getVariantNum()).create(vscConverterStationResource);
         }
+        autoFlushIfNeeded(networkUuid, vscConverterStationResources.size());
     }
 
     @Override
@@ -468,6 +663,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<VscConverterStationAttributes> vscConverterStationResource : vscConverterStationResources) {
             vscConverterStationResourcesToFlush.getCollection(networkUuid, vscConverterStationResource.getVariantNum()).update(vscConverterStationResource, attributeFilter);
         }
+        autoFlushIfNeeded(networkUuid, vscConverterStationResources.size());
     }
 
     @Override
@@ -481,6 +677,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<LccConverterStationAttributes> lccConverterStationResource : lccConverterStationResources) {
             lccConverterStationResourcesToFlush.getCollection(networkUuid, lccConverterStationResource.getVariantNum()).create(lccConverterStationResource);
         }
+        autoFlushIfNeeded(networkUuid, lccConverterStationResources.size());
     }
 
     @Override
@@ -488,6 +685,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<LccConverterStationAttributes> lccConverterStationResource : lccConverterStationResources) {
             lccConverterStationResourcesToFlush.getCollection(networkUuid, lccConverterStationResource.getVariantNum()).update(lccConverterStationResource, attributeFilter);
         }
+        autoFlushIfNeeded(networkUuid, lccConverterStationResources.size());
     }
 
     @Override
@@ -501,6 +699,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<StaticVarCompensatorAttributes> svcResource : svcResources) {
             svcResourcesToFlush.getCollection(networkUuid, svcResource.getVariantNum()).create(svcResource);
         }
+        autoFlushIfNeeded(networkUuid, svcResources.size());
     }
 
     @Override
@@ -508,6 +707,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<StaticVarCompensatorAttributes> svcResource : svcResources) {
             svcResourcesToFlush.getCollection(networkUuid, svcResource.getVariantNum()).update(svcResource, attributeFilter);
         }
+        autoFlushIfNeeded(networkUuid, svcResources.size());
     }
 
     @Override
@@ -521,6 +721,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<HvdcLineAttributes> hvdcLineResource : hvdcLineResources) {
             hvdcLineResourcesToFlush.getCollection(networkUuid, hvdcLineResource.getVariantNum()).create(hvdcLineResource);
         }
+        autoFlushIfNeeded(networkUuid, hvdcLineResources.size());
     }
 
     @Override
@@ -528,6 +729,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<HvdcLineAttributes> hvdcLineResource : hvdcLineResources) {
             hvdcLineResourcesToFlush.getCollection(networkUuid, hvdcLineResource.getVariantNum()).update(hvdcLineResource, attributeFilter);
         }
+        autoFlushIfNeeded(networkUuid, hvdcLineResources.size());
     }
 
     @Override
@@ -540,6 +742,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<BoundaryLineAttributes> boundaryLineResource : boundaryLineResources) {
             boundaryLineResourcesToFlush.getCollection(networkUuid, boundaryLineResource.getVariantNum()).create(boundaryLineResource);
         }
+        autoFlushIfNeeded(networkUuid, boundaryLineResources.size());
     }
 
     @Override
@@ -547,6 +750,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<BoundaryLineAttributes> boundaryLineResource : boundaryLineResources) {
             boundaryLineResourcesToFlush.getCollection(networkUuid, boundaryLineResource.getVariantNum()).update(boundaryLineResource, attributeFilter);
         }
+        autoFlushIfNeeded(networkUuid, boundaryLineResources.size());
     }
 
     @Override
@@ -559,6 +763,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<ConfiguredBusAttributes> busResource : busResources) {
             busResourcesToFlush.getCollection(networkUuid, busResource.getVariantNum()).create(busResource);
         }
+        autoFlushIfNeeded(networkUuid, busResources.size());
     }
 
     @Override
@@ -566,6 +771,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<ConfiguredBusAttributes> busResource : busResources) {
             busResourcesToFlush.getCollection(networkUuid, busResource.getVariantNum()).update(busResource, attributeFilter);
         }
+        autoFlushIfNeeded(networkUuid, busResources.size());
     }
 
     @Override
@@ -578,6 +784,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<TieLineAttributes> tieLineResource : tieLineResources) {
             tieLineResourcesToFlush.getCollection(networkUuid, tieLineResource.getVariantNum()).create(tieLineResource);
         }
+        autoFlushIfNeeded(networkUuid, tieLineResources.size());
     }
 
     @Override
@@ -585,6 +792,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<TieLineAttributes> tieLineResource : tieLineResources) {
             tieLineResourcesToFlush.getCollection(networkUuid, tieLineResource.getVariantNum()).update(tieLineResource, attributeFilter);
         }
+        autoFlushIfNeeded(networkUuid, tieLineResources.size());
     }
 
     @Override
@@ -598,6 +806,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<AreaAttributes> areaResource : areaResources) {
             areaResourcesToFlush.getCollection(networkUuid, areaResource.getVariantNum()).create(areaResource);
         }
+        autoFlushIfNeeded(networkUuid, areaResources.size());
     }
 
     @Override
@@ -605,6 +814,7 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         for (Resource<AreaAttributes> areaResource : areaResources) {
             areaResourcesToFlush.getCollection(networkUuid, areaResource.getVariantNum()).update(areaResource, attributeFilter);
         }
+        autoFlushIfNeeded(networkUuid, areaResources.size());
     }
 
     @Override
@@ -630,24 +840,138 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         extensionsToRemoveOnFlush.getCollection(networkUuid, variantNum).remove(finalExtensionsByIdentifiableIds, resourceType);
     }
 
+    private static ObjectMapper createObjectMapper() {
+        return JsonUtil.createObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS, false)
+            .configure(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS, false);
+    }
+
+    public boolean isWriteBehind() {
+        return pendingFlushPermits != null;
+    }
+
     @Override
     public void flush(UUID networkUuid) {
+        if (isWriteBehind()) {
+            flushAsync(networkUuid);
+        } else {
+            bufferedResourceCountUpperBounds.remove(networkUuid);
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            // olg and extension buffers must be flushed before equipments buffers.
+            // because in server deleting olg/extensions can interact with updating equipment containing olg/extensions
+            List<Future<?>> externalBuffersFutures = new ArrayList<>(2);
+            externalBuffersFutures.add(executorService.submit(() ->
+                    operationalLimitsToRemoveOnFlush.applyToCollection(networkUuid, (variantNum, b) -> b.flush(networkUuid, variantNum))));
+            externalBuffersFutures.add(executorService.submit(() ->
+                    extensionsToRemoveOnFlush.applyToCollection(networkUuid, (variantNum, b) -> b.flush(networkUuid, variantNum))));
+            ExecutorUtil.waitAllFutures(externalBuffersFutures);
+            List<Future<?>> futures = new ArrayList<>(allBuffers.size());
+            for (var buffer : allBuffers.values()) {
+                futures.add(executorService.submit(() -> buffer.applyToCollection(networkUuid, (variantNum, b) -> b.flush(networkUuid, variantNum))));
+            }
+            ExecutorUtil.waitAllFutures(futures);
+            stopwatch.stop();
+            LOGGER.info("All buffers flushed in {} ms", stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    /**
+     * Flush the buffers of a network in background. Buffers are moved to a snapshot, with a copy of the resources, and
+     * the method returns as soon as the snapshot is queued, unless the maximum number of flushes in progress is
+     * reached. Snapshots of a network are sent one after the other, with the same ordering as a synchronous flush
+     * inside each one, while snapshots of different networks are sent concurrently. A background flush failure is
+     * thrown by the next call to flush or {@link #awaitFlush(UUID)} for the same network.
+     *
+     * @return a future completed when the snapshot has been sent to the server
+     */
+    @Override
+    public CompletableFuture<Void> flushAsync(UUID networkUuid) {
+        if (!isWriteBehind()) {
+            flush(networkUuid);
+            return CompletableFuture.completedFuture(null);
+        }
+        throwBackgroundFlushFailure(networkUuid);
+
+        // backpressure: wait for the oldest flush to complete if too many are in progress
+        try {
+            pendingFlushPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedInterruptedException(e);
+        }
+        FlushSnapshot snapshot;
+        try {
+            snapshot = takeSnapshot(networkUuid);
+        } catch (RuntimeException e) {
+            pendingFlushPermits.release();
+            throw e;
+        }
+
         Stopwatch stopwatch = Stopwatch.createStarted();
-        // olg and extension buffers must be flushed before equipments buffers.
-        // because in server deleting olg/extensions can interact with updating equipment containing olg/extensions
-        List<Future<?>> externalBuffersFutures = new ArrayList<>(2);
-        externalBuffersFutures.add(executorService.submit(() ->
-                operationalLimitsToRemoveOnFlush.applyToCollection(networkUuid, (variantNum, b) -> b.flush(networkUuid, variantNum))));
-        externalBuffersFutures.add(executorService.submit(() ->
-                extensionsToRemoveOnFlush.applyToCollection(networkUuid, (variantNum, b) -> b.flush(networkUuid, variantNum))));
-        ExecutorUtil.waitAllFutures(externalBuffersFutures);
-        List<Future<?>> futures = new ArrayList<>(allBuffers.size());
+        // flushes of different networks are independent and are sent concurrently
+        CompletableFuture<Void> flushFuture = lastFlushFutures.compute(networkUuid, (k, lastFlushFuture) ->
+                (lastFlushFuture != null ? lastFlushFuture : CompletableFuture.<Void>completedFuture(null))
+                        // a failed flush does not prevent the next ones to be sent, as with synchronous flushes
+                        .handle((v, e) -> null)
+                        .thenCompose(v -> sendSnapshot(networkUuid, snapshot))
+                        .whenComplete((v, e) -> {
+                            pendingFlushPermits.release();
+                            if (e != null) {
+                                backgroundFlushFailures.putIfAbsent(networkUuid, e);
+                                LOGGER.error("Background flush of network {} failed", networkUuid, e);
+                            } else {
+                                LOGGER.info("All buffers flushed in background in {} ms", stopwatch.elapsed(TimeUnit.MILLISECONDS));
+                            }
+                        }));
+        // forget the last flush of the network once completed, unless another one has been chained to it
+        flushFuture.whenComplete((v, e) -> lastFlushFutures.remove(networkUuid, flushFuture));
+        return flushFuture;
+    }
+
+    @Override
+    public void awaitFlush(UUID networkUuid) {
+        CompletableFuture<Void> lastFlushFuture = lastFlushFutures.get(networkUuid);
+        if (lastFlushFuture != null) {
+            try {
+                lastFlushFuture.join();
+            } catch (CompletionException e) {
+                // failure is recorded by the flush itself
+            }
+        }
+        throwBackgroundFlushFailure(networkUuid);
+    }
+
+    private void throwBackgroundFlushFailure(UUID networkUuid) {
+        Throwable failure = backgroundFlushFailures.remove(networkUuid);
+        if (failure != null) {
+            throw new PowsyblException("Background flush failed", failure instanceof CompletionException ? failure.getCause() : failure);
+        }
+    }
+
+    private FlushSnapshot takeSnapshot(UUID networkUuid) {
+        bufferedResourceCountUpperBounds.remove(networkUuid);
+        Map<Integer, OperationalLimitsGroupsRemovalBuffer> operationalLimitsToRemove = new HashMap<>();
+        operationalLimitsToRemoveOnFlush.applyToCollection(networkUuid, (variantNum, b) -> operationalLimitsToRemove.put(variantNum, b.snapshot()));
+        Map<Integer, ExtensionsRemovalBuffer> extensionsToRemove = new HashMap<>();
+        extensionsToRemoveOnFlush.applyToCollection(networkUuid, (variantNum, b) -> extensionsToRemove.put(variantNum, b.snapshot()));
+        List<Map<Integer, CollectionBuffer<?>>> resourcesToFlush = new ArrayList<>(allBuffers.size());
         for (var buffer : allBuffers.values()) {
-            futures.add(executorService.submit(() -> buffer.applyToCollection(networkUuid, (variantNum, b) -> b.flush(networkUuid, variantNum))));
+            Map<Integer, CollectionBuffer<?>> buffersByVariant = new HashMap<>();
+            buffer.applyToCollection(networkUuid, (variantNum, b) -> buffersByVariant.put(variantNum, b.snapshot(resourceObjectMapper, variantNum)));
+            resourcesToFlush.add(buffersByVariant);
         }
-        ExecutorUtil.waitAllFutures(futures);
-        stopwatch.stop();
-        LOGGER.info("All buffers flushed in {} ms", stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        return new FlushSnapshot(operationalLimitsToRemove, extensionsToRemove, resourcesToFlush);
+    }
+
+    private CompletableFuture<Void> sendSnapshot(UUID networkUuid, FlushSnapshot snapshot) {
+        // olg and extension buffers must be flushed before equipments buffers, as in a synchronous flush
+        CompletableFuture<Void> externalBuffersFuture = CompletableFuture.allOf(
+                CompletableFuture.runAsync(() -> snapshot.operationalLimitsToRemove().forEach((variantNum, b) -> b.flush(networkUuid, variantNum)), executorService),
+                CompletableFuture.runAsync(() -> snapshot.extensionsToRemove().forEach((variantNum, b) -> b.flush(networkUuid, variantNum)), executorService));
+        return externalBuffersFuture.thenCompose(v -> CompletableFuture.allOf(snapshot.resourcesToFlush().stream()
+                .map(buffersByVariant -> CompletableFuture.runAsync(() -> buffersByVariant.forEach((variantNum, b) -> b.flush(networkUuid, variantNum)), executorService))
+                .toArray(CompletableFuture[]::new)));
     }
 
     private static <T extends IdentifiableAttributes> void cloneBuffer(NetworkCollectionIndex<CollectionBuffer<T>> buffer, UUID networkUuid,
@@ -676,12 +1000,11 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     @Override
     public void cloneNetwork(UUID networkUuid, int sourceVariantNum, int targetVariantNum, String targetVariantId) {
+        // server side clone has to see the resources of the flushes in progress
+        awaitFlush(networkUuid);
         delegate.cloneNetwork(networkUuid, sourceVariantNum, targetVariantNum, targetVariantId);
 
-        var objectMapper = JsonUtil.createObjectMapper()
-            .registerModule(new JavaTimeModule())
-            .configure(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS, false)
-            .configure(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS, false);
+        var objectMapper = createObjectMapper();
 
         //can't use allBuffers because of generics compile error...
         cloneBuffer(switchResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
@@ -716,8 +1039,23 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
                 });
     }
 
+    @Override
+    public void cloneNetwork(UUID networkUuid, String sourceVariantId, String targetVariantId, boolean mayOverwrite) {
+        // server side clone has to see the resources of the flushes in progress
+        awaitFlush(networkUuid);
+        delegate.cloneNetwork(networkUuid, sourceVariantId, targetVariantId, mayOverwrite);
+    }
+
+    @Override
+    public void cloneNetwork(UUID networkUuid, UUID sourceNetworkUuid, List<String> targetVariantIds) {
+        // server side clone has to see the resources of the flushes in progress of the source network
+        awaitFlush(sourceNetworkUuid);
+        delegate.cloneNetwork(networkUuid, sourceNetworkUuid, targetVariantIds);
+    }
+
     @Override
     public List<String> getIdentifiablesIds(UUID networkUuid, int variantNum) {
+        awaitFlush(networkUuid);
         List<String> identifiablesIds = super.getIdentifiablesIds(networkUuid, variantNum);
         for (var buffer : allBuffers.values()) {
             CollectionBuffer<? extends IdentifiableAttributes> collection = buffer.getCollection(networkUuid, variantNum);
@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.exceptions.UncheckedInterruptedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Uploads a list of items to the server in chunks.
+ * <p>
+ * Chunk size is adapted to the serialized size of the items: it is estimated from a sample of the items so that a
+ * chunk is about {@link #TARGET_CHUNK_BYTES} bytes, small resources being sent by larger chunks than big ones.
+ * <p>
+ * Up to parallelism chunks are uploaded at the same time. The calling thread uploads chunks itself and the executor
+ * only provides helper threads, so that the upload completes even if all the executor threads are busy, for instance
+ * by the flush of the other collections waiting for their own upload.
+ * <p>
+ * A chunk failing because of an I/O error is retried with an exponential backoff.
+ *
+ * @author agent <agent at local>
+ */
+class ChunkedUploader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChunkedUploader.class);
+
+    static final int TARGET_CHUNK_BYTES = 1024 * 1024;
+
+    static final int MAX_CHUNK_SIZE = 10000;
+
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private static final int SAMPLE_SIZE = 10;
+
+    static final int MAX_ATTEMPT_COUNT = 4;
+
+    static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(200);
+
+    private final ExecutorService executorService;
+
+    private final int parallelism;
+
+    private final Duration initialBackoff;
+
+    ChunkedUploader(ExecutorService executorService, int parallelism) {
+        this(executorService, parallelism, DEFAULT_INITIAL_BACKOFF);
+    }
+
+    ChunkedUploader(ExecutorService executorService, int parallelism, Duration initialBackoff) {
+        if (parallelism < 1) {
+            throw new PowsyblException("Invalid upload parallelism: " + parallelism);
+        }
+        if (parallelism > 1) {
+            Objects.requireNonNull(executorService);
+        }
+        this.executorService = executorService;
+        this.parallelism = parallelism;
+        this.initialBackoff = Objects.requireNonNull(initialBackoff);
+    }
+
+    /**
+     * Split items in chunks of about {@link #TARGET_CHUNK_BYTES} bytes once serialized with the given writer.
+     */
+    static <T> List<List<T>> partition(List<T> items, ObjectWriter writer) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        int chunkSize = estimateChunkSize(items, writer.without(SerializationFeature.FAIL_ON_EMPTY_BEANS));
+        List<List<T>> chunks = new ArrayList<>((items.size() + chunkSize - 1) / chunkSize);
+        for (int i = 0; i < items.size(); i += chunkSize) {
+            chunks.add(items.subList(i, Math.min(items.size(), i + chunkSize)));
+        }
+        return chunks;
+    }
+
+    private static <T> int estimateChunkSize(List<T> items, ObjectWriter writer) {
+        // item size is estimated on evenly spaced items, serializing all of them twice would be too costly
+        int sampleSize = Math.min(SAMPLE_SIZE, items.size());
+        long sampleBytes = 0;
+        for (int i = 0; i < sampleSize; i++) {
+            try {
+                sampleBytes += writer.writeValueAsBytes(items.get(i * items.size() / sampleSize)).length;
+            } catch (JsonProcessingException e) {
+                // the estimation must not prevent the upload, the request serialization will report the error if any
+                LOGGER.warn("Cannot estimate serialized size: {}", e.getMessage());
+                return DEFAULT_CHUNK_SIZE;
+            }
+        }
+        long itemBytes = Math.max(1, sampleBytes / sampleSize);
+        return (int) Math.max(1, Math.min(MAX_CHUNK_SIZE, TARGET_CHUNK_BYTES / itemBytes));
+    }
+
+    /**
+     * Upload a chunk, retrying with an exponential backoff on I/O errors.
+     */
+    <T> void uploadWithRetry(List<T> chunk, Consumer<List<T>> chunkUploader) {
+        long backoff = initialBackoff.toMillis();
+        for (int attempt = 1;; attempt++) {
+            try {
+                chunkUploader.accept(chunk);
+                return;
+            } catch (ResourceAccessException e) {
+                if (attempt == MAX_ATTEMPT_COUNT) {
+                    throw e;
+                }
+                LOGGER.error(e.toString(), e);
+                LOGGER.info("{} (attempt {} of {} in {} ms)", RestNetworkStoreClient.STR_RETRYING, attempt + 1, MAX_ATTEMPT_COUNT, backoff);
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new UncheckedInterruptedException(ie);
+                }
+                backoff *= 2;
+            }
+        }
+    }
+
+    /**
+     * Upload all the chunks, up to parallelism at the same time. The first failure stops the upload of the chunks not
+     * yet started and is thrown once the chunks in progress are completed.
+     */
+    <T> void upload(List<List<T>> chunks, Consumer<List<T>> chunkUploader) {
+        if (parallelism == 1 || chunks.size() == 1) {
+            for (List<T> chunk : chunks) {
+                uploadWithRetry(chunk, chunkUploader);
+            }
+            return;
+        }
+
+        AtomicInteger nextChunk = new AtomicInteger();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        CountDownLatch remainingChunks = new CountDownLatch(chunks.size());
+        Runnable worker = () -> {
+            int i;
+            while ((i = nextChunk.getAndIncrement()) < chunks.size()) {
+                try {
+                    if (failure.get() == null) {
+                        uploadWithRetry(chunks.get(i), chunkUploader);
+                    }
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    remainingChunks.countDown();
+                }
+            }
+        };
+        int helperCount = Math.min(parallelism, chunks.size()) - 1;
+        for (int h = 0; h < helperCount; h++) {
+            executorService.execute(worker);
+        }
+        worker.run();
+        // only wait for the chunks, not for the helpers: a helper not yet started has no chunk left to upload
+        try {
+            remainingChunks.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedInterruptedException(e);
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+}
@@ -0,0 +1,279 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.network.store.iidm.impl.AbstractForwardingNetworkStoreClient;
+import com.powsybl.network.store.iidm.impl.NetworkStoreClient;
+import com.powsybl.network.store.model.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Coalesce the lookups of single resources by id which are done at the same time by several threads. A lookup is sent
+ * right away to the delegate unless a request of the same resource type, network and variant is already in progress:
+ * the lookup then joins the next batch, which is sent as a single multi-id request once the request in progress has
+ * completed, or after a short window if it takes longer. Each waiting lookup gets its own result.
+ * <p>
+ * Lookups are only delayed under contention, so a single thread walking a network is not slowed down, while many
+ * threads walking a network without preloading share their requests.
+ *
+ * @author agent <agent at local>
+ */
+public class CoalescingNetworkStoreClient extends AbstractForwardingNetworkStoreClient<NetworkStoreClient> implements NetworkStoreClient {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CoalescingNetworkStoreClient.class);
+
+    /**
+     * Lookups are coalesced by network variant and resource type, a null resource type meaning a lookup of an
+     * identifiable of any type.
+     */
+    private record BatchKey(UUID networkUuid, int variantNum, ResourceType resourceType) {
+    }
+
+    private static final class Batch {
+
+        private final Set<String> ids = new LinkedHashSet<>();
+
+        private final CompletableFuture<Map<String, Resource<IdentifiableAttributes>>> resourcesById = new CompletableFuture<>();
+    }
+
+    /**
+     * Batch whose request is in progress and batch collecting the lookups to send next, of a batch key.
+     */
+    private static final class Batches {
+
+        private Batch inProgress;
+
+        private Batch next;
+    }
+
+    private final Duration window;
+
+    private final Map<BatchKey, Batches> batchesByKey = new HashMap<>();
+
+    public CoalescingNetworkStoreClient(NetworkStoreClient delegate, Duration window) {
+        super(delegate);
+        this.window = Objects.requireNonNull(window);
+        if (window.isNegative() || window.isZero()) {
+            throw new PowsyblException("Coalescing window has to be positive: " + window);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends IdentifiableAttributes> Optional<Resource<T>> get(UUID networkUuid, int variantNum, ResourceType resourceType, String id) {
+        Objects.requireNonNull(id);
+        BatchKey key = new BatchKey(networkUuid, variantNum, resourceType);
+        Batches batches;
+        Batch batch;
+        Batch previous = null;
+        boolean first;
+        synchronized (batchesByKey) {
+            batches = batchesByKey.computeIfAbsent(key, k -> new Batches());
+            if (batches.inProgress == null) {
+                // no contention, sent right away
+                batch = new Batch();
+                batches.inProgress = batch;
+                first = true;
+            } else if (batches.next == null) {
+                batch = new Batch();
+                batches.next = batch;
+                previous = batches.inProgress;
+                first = true;
+            } else {
+                batch = batches.next;
+                first = false;
+            }
+            batch.ids.add(id);
+        }
+        if (first) {
+            // the first lookup of the batch is in charge of sending it
+            if (previous != null) {
+                awaitPrevious(previous);
+            }
+            send(key, batches, batch);
+        }
+        return Optional.ofNullable((Resource<T>) await(batch.resourcesById).get(id));
+    }
+
+    /**
+     * Number of lookups waiting for the request in progress of a resource type to complete.
+     */
+    int getWaitingLookupCount(UUID networkUuid, int variantNum, ResourceType resourceType) {
+        synchronized (batchesByKey) {
+            Batches batches = batchesByKey.get(new BatchKey(networkUuid, variantNum, resourceType));
+            return batches != null && batches.next != null ? batches.next.ids.size() : 0;
+        }
+    }
+
+    private void awaitPrevious(Batch previous) {
+        try {
+            previous.resourcesById.get(window.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            // send immediately the ids collected so far
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // the previous request failure is reported to its own lookups
+        }
+    }
+
+    private void send(BatchKey key, Batches batches, Batch batch) {
+        List<String> ids;
+        synchronized (batchesByKey) {
+            if (batches.next == batch) {
+                // next lookups will start a new batch
+                batches.inProgress = batch;
+                batches.next = null;
+            }
+            ids = new ArrayList<>(batch.ids);
+        }
+        try {
+            List<Resource<IdentifiableAttributes>> resources = key.resourceType() != null
+                    ? delegate.getIdentifiablesByIds(key.networkUuid(), key.variantNum(), key.resourceType(), ids)
+                    : delegate.getIdentifiablesByIds(key.networkUuid(), key.variantNum(), ids);
+            LOGGER.debug("{} lookups coalesced, {} resources found", ids.size(), resources.size());
+            Map<String, Resource<IdentifiableAttributes>> resourcesById = new HashMap<>(resources.size());
+            resources.forEach(resource -> resourcesById.put(resource.getId(), resource));
+            batch.resourcesById.complete(resourcesById);
+        } catch (RuntimeException e) {
+            batch.resourcesById.completeExceptionally(e);
+        } finally {
+            synchronized (batchesByKey) {
+                if (batches.inProgress == batch) {
+                    batches.inProgress = null;
+                }
+                if (batches.inProgress == null && batches.next == null) {
+                    batchesByKey.remove(key, batches);
+                }
+            }
+        }
+    }
+
+    private static <R> R await(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<Resource<SubstationAttributes>> getSubstation(UUID networkUuid, int variantNum, String substationId) {
+        return get(networkUuid, variantNum, ResourceType.SUBSTATION, substationId);
+    }
+
+    @Override
+    public Optional<Resource<VoltageLevelAttributes>> getVoltageLevel(UUID networkUuid, int variantNum, String voltageLevelId) {
+        return get(networkUuid, variantNum, ResourceType.VOLTAGE_LEVEL, voltageLevelId);
+    }
+
+    @Override
+    public Optional<Resource<SwitchAttributes>> getSwitch(UUID networkUuid, int variantNum, String switchId) {
+        return get(networkUuid, variantNum, ResourceType.SWITCH, switchId);
+    }
+
+    @Override
+    public Optional<Resource<BusbarSectionAttributes>> getBusbarSection(UUID networkUuid, int variantNum, String busbarSectionId) {
+        return get(networkUuid, variantNum, ResourceType.BUSBAR_SECTION, busbarSectionId);
+    }
+
+    @Override
+    public Optional<Resource<LoadAttributes>> getLoad(UUID networkUuid, int variantNum, String loadId) {
+        return get(networkUuid, variantNum, ResourceType.LOAD, loadId);
+    }
+
+    @Override
+    public Optional<Resource<GeneratorAttributes>> getGenerator(UUID networkUuid, int variantNum, String generatorId) {
+        return get(networkUuid, variantNum, ResourceType.GENERATOR, generatorId);
+    }
+
+    @Override
+    public Optional<Resource<BatteryAttributes>> getBattery(UUID networkUuid, int variantNum, String batteryId) {
+        return get(networkUuid, variantNum, ResourceType.BATTERY, batteryId);
+    }
+
+    @Override
+    public Optional<Resource<TwoWindingsTransformerAttributes>> getTwoWindingsTransformer(UUID networkUuid, int variantNum, String twoWindingsTransformerId) {
+        return get(networkUuid, variantNum, ResourceType.TWO_WINDINGS_TRANSFORMER, twoWindingsTransformerId);
+    }
+
+    @Override
+    public Optional<Resource<ThreeWindingsTransformerAttributes>> getThreeWindingsTransformer(UUID networkUuid, int variantNum, String threeWindingsTransformerId) {
+        return get(networkUuid, variantNum, ResourceType.THREE_WINDINGS_TRANSFORMER, threeWindingsTransformerId);
+    }
+
+    @Override
+    public Optional<Resource<LineAttributes>> getLine(UUID networkUuid, int variantNum, String lineId) {
+        return get(networkUuid, variantNum, ResourceType.LINE, lineId);
+    }
+
+    @Override
+    public Optional<Resource<ShuntCompensatorAttributes>> getShuntCompensator(UUID networkUuid, int variantNum, String shuntCompensatorId) {
+        return get(networkUuid, variantNum, ResourceType.SHUNT_COMPENSATOR, shuntCompensatorId);
+    }
+
+    @Override
+    public Optional<Resource<VscConverterStationAttributes>> getVscConverterStation(UUID networkUuid, int variantNum, String vscConverterStationId) {
+        return get(networkUuid, variantNum, ResourceType.VSC_CONVERTER_STATION, vscConverterStationId);
+    }
+
+    @Override
+    public Optional<Resource<LccConverterStationAttributes>> getLccConverterStation(UUID networkUuid, int variantNum, String lccConverterStationId) {
+        return get(networkUuid, variantNum, ResourceType.LCC_CONVERTER_STATION, lccConverterStationId);
+    }
+
+    @Override
+    public Optional<Resource<StaticVarCompensatorAttributes>> getStaticVarCompensator(UUID networkUuid, int variantNum, String staticVarCompensatorId) {
+        return get(networkUuid, variantNum, ResourceType.STATIC_VAR_COMPENSATOR, staticVarCompensatorId);
+    }
+
+    @Override
+    public Optional<Resource<HvdcLineAttributes>> getHvdcLine(UUID networkUuid, int variantNum, String hvdcLineId) {
+        return get(networkUuid, variantNum, ResourceType.HVDC_LINE, hvdcLineId);
+    }
+
+    @Override
+    public Optional<Resource<BoundaryLineAttributes>> getBoundaryLine(UUID networkUuid, int variantNum, String boundaryLineId) {
+        return get(networkUuid, variantNum, ResourceType.BOUNDARY_LINE, boundaryLineId);
+    }
+
+    @Override
+    public Optional<Resource<GroundAttributes>> getGround(UUID networkUuid, int variantNum, String groundId) {
+        return get(networkUuid, variantNum, ResourceType.GROUND, groundId);
+    }
+
+    @Override
+    public Optional<Resource<AreaAttributes>> getArea(UUID networkUuid, int variantNum, String areaId) {
+        return get(networkUuid, variantNum, ResourceType.AREA, areaId);
+    }
+
+    @Override
+    public Optional<Resource<ConfiguredBusAttributes>> getConfiguredBus(UUID networkUuid, int variantNum, String busId) {
+        return get(networkUuid, variantNum, ResourceType.CONFIGURED_BUS, busId);
+    }
+
+    @Override
+    public Optional<Resource<TieLineAttributes>> getTieLine(UUID networkUuid, int variantNum, String tieLineId) {
+        return get(networkUuid, variantNum, ResourceType.TIE_LINE, tieLineId);
+    }
+
+    @Override
+    public Optional<Resource<IdentifiableAttributes>> getIdentifiable(UUID networkUuid, int variantNum, String id) {
+        return get(networkUuid, variantNum, null, id);
+    }
+}
@@ -7,17 +7,25 @@
 package com.powsybl.network.store.client;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.powsybl.network.store.model.AttributeFilter;
-import com.powsybl.network.store.model.IdentifiableAttributes;
-import com.powsybl.network.store.model.Resource;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.powsybl.network.store.model.*;
 import org.apache.logging.log4j.util.TriConsumer;
 
 import java.util.*;
 import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
+ * Resources created, updated and removed since last flush.
+ * <p>
+ * When patches are enabled, the attributes of a resource are recorded before its first modification since last
+ * flush (see {@link #prepareUpdate(Resource, ObjectMapper)}), so that only the modified attributes are sent on flush
+ * as a merge patch instead of the whole resource. Resources updated without prior record, or with the SV filter
+ * which already sends a small subset of the attributes, are still fully sent, as well as the patched resources if the
+ * server does not support patches.
+ *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 public class CollectionBuffer<T extends IdentifiableAttributes> {
@@ -28,6 +36,8 @@ public class CollectionBuffer<T extends IdentifiableAttributes> {
 
     private final TriConsumer<UUID, Integer, List<String>> removeFct;
 
+    private final BiPredicate<UUID, List<ResourcePatch>> patchFct;
+
     private final Map<String, Resource<T>> createResources = new LinkedHashMap<>();
 
     private static final class ResourceAndFilter<T extends IdentifiableAttributes> {
@@ -58,18 +68,56 @@ public class CollectionBuffer<T extends IdentifiableAttributes> {
 
     private final Set<String> removeResourcesIds = new HashSet<>();
 
+    // attributes of updated resources as they were before their first modification since last flush
+    private final Map<String, ObjectNode> originalAttributes = new HashMap<>();
+
+    // patches of the updated resources having original attributes, computed on flush or snapshot
+    private final List<ResourcePatch> patches = new ArrayList<>();
+
+    // resources of the patches, fully sent if the server does not support patches
+    private final Map<String, ResourceAndFilter<T>> patchedResources = new LinkedHashMap<>();
+
+    private ObjectMapper patchObjectMapper;
+
     public CollectionBuffer(BiConsumer<UUID, List<Resource<T>>> createFct,
                             TriConsumer<UUID, List<Resource<T>>, AttributeFilter> updateFct,
                             TriConsumer<UUID, Integer, List<String>> removeFct) {
+        this(createFct, updateFct, removeFct, null);
+    }
+
+    /**
+     * @param patchFct function sending the patches of updated resources, returning false if the server does not
+     *                 support patches, null to always send the whole resources
+     */
+    public CollectionBuffer(BiConsumer<UUID, List<Resource<T>>> createFct,
+                            TriConsumer<UUID, List<Resource<T>>, AttributeFilter> updateFct,
+                            TriConsumer<UUID, Integer, List<String>> removeFct,
+                            BiPredicate<UUID, List<ResourcePatch>> patchFct) {
         this.createFct = Objects.requireNonNull(createFct);
         this.updateFct = updateFct;
         this.removeFct = removeFct;
+        this.patchFct = patchFct;
     }
 
     void create(Resource<T> resource) {
         createResources.put(resource.getId(), resource);
     }
 
+    /**
+     * To be called before modifying in place a resource, to record its attributes if it is its first modification since
+     * last flush. Does nothing if patches are disabled.
+     */
+    void prepareUpdate(Resource<T> resource, ObjectMapper objectMapper) {
+        String id = resource.getId();
+        if (patchFct != null && updateFct != null
+                && !createResources.containsKey(id)
+                && !updateResources.containsKey(id)
+                && !originalAttributes.containsKey(id)) {
+            patchObjectMapper = objectMapper;
+            originalAttributes.put(id, objectMapper.valueToTree(resource.getAttributes()));
+        }
+    }
+
     void update(Resource<T> resource) {
         update(resource, AttributeFilter.PRIMARY_AS_NULL);
     }
@@ -102,9 +150,35 @@ public class CollectionBuffer<T extends IdentifiableAttributes> {
                 // no need to update the resource on server side if we remove it just after
                 updateResources.remove(resourceId);
             }
+            originalAttributes.remove(resourceId);
         }
     }
 
+    /**
+     * Move the updated resources having recorded original attributes to the patches. Resources not modified since the
+     * record are just dropped.
+     */
+    private void createPatches() {
+        if (originalAttributes.isEmpty()) {
+            return;
+        }
+        Iterator<ResourceAndFilter<T>> it = updateResources.values().iterator();
+        while (it.hasNext()) {
+            ResourceAndFilter<T> resourceAndFilter = it.next();
+            Resource<T> resource = resourceAndFilter.getResource();
+            ObjectNode original = originalAttributes.get(resource.getId());
+            if (original != null && resourceAndFilter.getAttributeFilter() != AttributeFilter.SV) {
+                ObjectNode patch = JsonMergePatch.create(original, patchObjectMapper.valueToTree(resource.getAttributes()));
+                if (!patch.isEmpty()) {
+                    patches.add(new ResourcePatch(resource.getType(), resource.getId(), resource.getVariantNum(), patch));
+                    patchedResources.put(resource.getId(), resourceAndFilter);
+                }
+                it.remove();
+            }
+        }
+        originalAttributes.clear();
+    }
+
     void flush(UUID networkUuid, int variantNum) {
         if (removeFct != null && !removeResourcesIds.isEmpty()) {
             removeFct.accept(networkUuid, variantNum, new ArrayList<>(removeResourcesIds));
@@ -112,6 +186,11 @@ public class CollectionBuffer<T extends IdentifiableAttributes> {
         if (!createResources.isEmpty()) {
             createFct.accept(networkUuid, new ArrayList<>(createResources.values()));
         }
+        createPatches();
+        if (!patches.isEmpty() && !patchFct.test(networkUuid, new ArrayList<>(patches))) {
+            // the server does not support patches, the patched resources are fully sent with the other updated ones
+            patchedResources.forEach(updateResources::putIfAbsent);
+        }
         if (updateFct != null && !updateResources.isEmpty()) {
             List<Resource<T>> primaryResources = new ArrayList<>();
             Map<AttributeFilter, List<Resource<T>>> filteredResources = new EnumMap<>(AttributeFilter.class);
@@ -148,6 +227,8 @@ public class CollectionBuffer<T extends IdentifiableAttributes> {
         createResources.clear();
         updateResources.clear();
         removeResourcesIds.clear();
+        patches.clear();
+        patchedResources.clear();
     }
 
     /**
@@ -163,7 +244,8 @@ public class CollectionBuffer<T extends IdentifiableAttributes> {
         List<Resource<T>> clonedUpdateResources = Resource.cloneResourcesToVariant(updateResources.values().stream().map(ResourceAndFilter::getResource).collect(Collectors.toList()), newVariantNum,
                 objectMapper, resourcePostProcessor);
 
-        var clonedBuffer = new CollectionBuffer<>(createFct, updateFct, removeFct);
+        // original attributes are not cloned, updated resources of the clone are fully sent
+        var clonedBuffer = new CollectionBuffer<>(createFct, updateFct, removeFct, patchFct);
         for (Resource<T> clonedResource : clonedCreateResources) {
             clonedBuffer.createResources.put(clonedResource.getId(), clonedResource);
         }
@@ -176,6 +258,59 @@ public class CollectionBuffer<T extends IdentifiableAttributes> {
         return clonedBuffer;
     }
 
+    /**
+     * Move the content of the buffer to a new buffer which can be flushed in background. Resources are deep copied as
+     * they may still be modified in place while the new buffer is flushed.
+     *
+     * @param objectMapper a object mapper to help copying resources
+     * @param variantNum variant num of the resources of the buffer
+     * @return the new buffer
+     */
+    CollectionBuffer<T> snapshot(ObjectMapper objectMapper, int variantNum) {
+        // patches are computed now as the resources will be modified in place after the snapshot
+        createPatches();
+        var snapshotBuffer = new CollectionBuffer<>(createFct, updateFct, removeFct, patchFct);
+        snapshotBuffer.patches.addAll(patches);
+        if (!patchedResources.isEmpty()) {
+            snapshotBuffer.patchedResources.putAll(copyResources(patchedResources.values(), objectMapper, variantNum));
+        }
+        if (!createResources.isEmpty()) {
+            for (Resource<T> copiedResource : Resource.cloneResourcesToVariant(createResources.values(), variantNum, objectMapper, null)) {
+                snapshotBuffer.createResources.put(copiedResource.getId(), copiedResource);
+            }
+        }
+        if (!updateResources.isEmpty()) {
+            snapshotBuffer.updateResources.putAll(copyResources(updateResources.values(), objectMapper, variantNum));
+        }
+        snapshotBuffer.removeResourcesIds.addAll(removeResourcesIds);
+        createResources.clear();
+        updateResources.clear();
+        removeResourcesIds.clear();
+        patches.clear();
+        patchedResources.clear();
+        return snapshotBuffer;
+    }
+
+    private static <T extends IdentifiableAttributes> Map<String, ResourceAndFilter<T>> copyResources(Collection<ResourceAndFilter<T>> resources,
+                                                                                                   ObjectMapper objectMapper, int variantNum) {
+        List<ResourceAndFilter<T>> resourcesAndFilters = new ArrayList<>(resources);
+        List<Resource<T>> copiedResources = Resource.cloneResourcesToVariant(resourcesAndFilters.stream().map(ResourceAndFilter::getResource).toList(),
+                variantNum, objectMapper, null);
+        Map<String, ResourceAndFilter<T>> copiedResourcesById = new LinkedHashMap<>();
+        for (int i = 0; i < copiedResources.size(); i++) {
+            Resource<T> copiedResource = copiedResources.get(i);
+            copiedResourcesById.put(copiedResource.getId(), new ResourceAndFilter<>(copiedResource, resourcesAndFilters.get(i).getAttributeFilter()));
+        }
+        return copiedResourcesById;
+    }
+
+    /**
+     * Get the number of resources created or updated since last flush.
+     */
+    int getResourceCount() {
+        return createResources.size() + updateResources.size();
+    }
+
     public Set<String> getCreateResourcesIds() {
         return createResources.keySet();
     }
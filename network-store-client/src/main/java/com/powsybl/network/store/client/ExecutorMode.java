@@ -0,0 +1,25 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+/**
+ * Kind of executor used by a {@link NetworkStoreService} to flush collections in parallel.
+ *
+ * @author agent <agent at local>
+ */
+public enum ExecutorMode {
+    /**
+     * A pool of one platform thread per resource type, shared by all the networks of the service: when many
+     * networks are flushed at the same time, their requests are queued behind each other.
+     */
+    FIXED_THREAD_POOL,
+    /**
+     * A new virtual thread per task, so that the number of requests in flight is not bounded by a pool size
+     * and a network is never waiting for the flush of another one.
+     */
+    VIRTUAL_THREAD_PER_TASK
+}
@@ -33,6 +33,15 @@ public class ExtensionsRemovalBuffer {
         return clonedBuffer;
     }
 
+    /**
+     * Move the pending removals to a new buffer which can be flushed in background.
+     */
+    ExtensionsRemovalBuffer snapshot() {
+        var snapshotBuffer = cloneBuffer();
+        removedExtensionIds.clear();
+        return snapshotBuffer;
+    }
+
     void remove(Map<String, Set<String>> extensionsIds, ResourceType resourceType) {
         removedExtensionIds.computeIfAbsent(resourceType, s -> new HashMap<>());
         mergeExtensions(removedExtensionIds.get(resourceType), extensionsIds);
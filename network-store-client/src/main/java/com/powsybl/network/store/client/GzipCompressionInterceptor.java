@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compress with gzip the request bodies bigger than a threshold, and ask the server for gzip encoded responses
+ * which are transparently decompressed.
+ *
+ * @author agent <agent at local>
+ */
+public class GzipCompressionInterceptor implements ClientHttpRequestInterceptor {
+
+    static final String GZIP = "gzip";
+
+    private final int threshold;
+
+    /**
+     * @param threshold minimum size in bytes of a request body to be compressed
+     */
+    public GzipCompressionInterceptor(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Compression threshold must not be negative: " + threshold);
+        }
+        this.threshold = threshold;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        HttpHeaders headers = request.getHeaders();
+        headers.set(HttpHeaders.ACCEPT_ENCODING, GZIP);
+        byte[] requestBody = body;
+        if (body.length > 0 && body.length >= threshold && !headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            requestBody = compress(body);
+            headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+            headers.setContentLength(requestBody.length);
+        }
+        ClientHttpResponse response = execution.execute(request, requestBody);
+        if (GZIP.equalsIgnoreCase(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))) {
+            return new GzipClientHttpResponse(response);
+        }
+        return response;
+    }
+
+    static byte[] compress(byte[] bytes) throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzipOs = new GZIPOutputStream(os)) {
+            gzipOs.write(bytes);
+        }
+        return os.toByteArray();
+    }
+
+    static byte[] decompress(byte[] bytes) throws IOException {
+        // empty bodies (no content, errors without payload...) are not gzip streams
+        if (bytes.length == 0) {
+            return bytes;
+        }
+        try (GZIPInputStream gzipIs = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return gzipIs.readAllBytes();
+        }
+    }
+
+    /**
+     * A response decoding on the fly a gzip encoded body. Content encoding and length headers are removed as they
+     * refer to the compressed body.
+     */
+    private static final class GzipClientHttpResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+
+        private final HttpHeaders headers;
+
+        private InputStream body;
+
+        private GzipClientHttpResponse(ClientHttpResponse delegate) {
+            this.delegate = Objects.requireNonNull(delegate);
+            headers = new HttpHeaders();
+            headers.putAll(delegate.getHeaders());
+            headers.remove(HttpHeaders.CONTENT_ENCODING);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                // empty bodies (no content, errors without payload...) are not gzip streams
+                PushbackInputStream compressedBody = new PushbackInputStream(delegate.getBody());
+                int firstByte = compressedBody.read();
+                if (firstByte == -1) {
+                    body = InputStream.nullInputStream();
+                } else {
+                    compressedBody.unread(firstByte);
+                    body = new GZIPInputStream(compressedBody);
+                }
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -8,7 +8,9 @@ package com.powsybl.network.store.client;
 
 import com.powsybl.commons.config.ModuleConfig;
 import com.powsybl.commons.config.PlatformConfig;
+import com.powsybl.network.store.iidm.impl.CachedNetworkStoreClient;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -21,10 +23,68 @@ public final class NetworkStoreConfig {
 
     private static final PreloadingStrategy DEFAULT_PRELOADING_STRATEGY = PreloadingStrategy.NONE;
 
+    private static final boolean DEFAULT_BINARY_FORMAT_ENABLED = false;
+
+    private static final int DEFAULT_COMPRESSION_THRESHOLD = RestClientImpl.COMPRESSION_DISABLED;
+
+    private static final ExecutorMode DEFAULT_EXECUTOR_MODE = ExecutorMode.FIXED_THREAD_POOL;
+
+    private static final int DEFAULT_COALESCING_WINDOW = NetworkStoreService.NO_COALESCING_WINDOW;
+
+    private static final boolean DEFAULT_CONCURRENT_CACHE_ENABLED = false;
+
+    private static final int DEFAULT_MAX_CACHED_RESOURCE_COUNT = CachedNetworkStoreClient.UNLIMITED_CACHED_RESOURCE_COUNT;
+
+    private static final boolean DEFAULT_COPY_ON_WRITE_VARIANTS_ENABLED = false;
+
+    private static final int DEFAULT_MAX_PENDING_FLUSH_COUNT = NetworkStoreService.SYNCHRONOUS_FLUSH;
+
+    private static final boolean DEFAULT_MERGE_PATCH_ENABLED = false;
+
+    private static final int DEFAULT_UPLOAD_PARALLELISM = NetworkStoreService.SEQUENTIAL_UPLOAD;
+
+    private static final int DEFAULT_MAX_BUFFERED_RESOURCE_COUNT = BufferedNetworkStoreClient.UNLIMITED_BUFFERED_RESOURCE_COUNT;
+
+    private static final boolean DEFAULT_LAZY_EXTENSION_ATTRIBUTES_ENABLED = false;
+
+    private static final boolean DEFAULT_COLLECTIONS_REQUEST_ENABLED = false;
+
+    private static final boolean DEFAULT_ASYNC_PRELOADING_ENABLED = false;
+
     private String baseUrl;
 
     private PreloadingStrategy preloadingStrategy = DEFAULT_PRELOADING_STRATEGY;
 
+    private boolean binaryFormatEnabled = DEFAULT_BINARY_FORMAT_ENABLED;
+
+    private int compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+
+    private ExecutorMode executorMode = DEFAULT_EXECUTOR_MODE;
+
+    private int coalescingWindow = DEFAULT_COALESCING_WINDOW;
+
+    private boolean concurrentCacheEnabled = DEFAULT_CONCURRENT_CACHE_ENABLED;
+
+    private int maxCachedResourceCount = DEFAULT_MAX_CACHED_RESOURCE_COUNT;
+
+    private boolean copyOnWriteVariantsEnabled = DEFAULT_COPY_ON_WRITE_VARIANTS_ENABLED;
+
+    private int maxPendingFlushCount = DEFAULT_MAX_PENDING_FLUSH_COUNT;
+
+    private boolean mergePatchEnabled = DEFAULT_MERGE_PATCH_ENABLED;
+
+    private int uploadParallelism = DEFAULT_UPLOAD_PARALLELISM;
+
+    private int maxBufferedResourceCount = DEFAULT_MAX_BUFFERED_RESOURCE_COUNT;
+
+    private PreloadingProfile preloadingProfile = PreloadingProfile.NONE;
+
+    private boolean lazyExtensionAttributesEnabled = DEFAULT_LAZY_EXTENSION_ATTRIBUTES_ENABLED;
+
+    private boolean collectionsRequestEnabled = DEFAULT_COLLECTIONS_REQUEST_ENABLED;
+
+    private boolean asyncPreloadingEnabled = DEFAULT_ASYNC_PRELOADING_ENABLED;
+
     public NetworkStoreConfig(String baseUrl) {
         this.baseUrl = Objects.requireNonNull(baseUrl);
     }
@@ -40,8 +100,54 @@ public final class NetworkStoreConfig {
                 .orElse(DEFAULT_BASE_URL);
         PreloadingStrategy preloadingStrategy = moduleConfig.flatMap(mc -> mc.getOptionalEnumProperty("preloading-strategy", PreloadingStrategy.class))
                 .orElse(DEFAULT_PRELOADING_STRATEGY);
+        boolean binaryFormatEnabled = moduleConfig.flatMap(mc -> mc.getOptionalBooleanProperty("binary-format-enabled"))
+                .orElse(DEFAULT_BINARY_FORMAT_ENABLED);
+        int compressionThreshold = moduleConfig.map(mc -> mc.getIntProperty("compression-threshold", DEFAULT_COMPRESSION_THRESHOLD))
+                .orElse(DEFAULT_COMPRESSION_THRESHOLD);
+        ExecutorMode executorMode = moduleConfig.flatMap(mc -> mc.getOptionalEnumProperty("executor-mode", ExecutorMode.class))
+                .orElse(DEFAULT_EXECUTOR_MODE);
+        int coalescingWindow = moduleConfig.map(mc -> mc.getIntProperty("coalescing-window", DEFAULT_COALESCING_WINDOW))
+                .orElse(DEFAULT_COALESCING_WINDOW);
+        boolean concurrentCacheEnabled = moduleConfig.flatMap(mc -> mc.getOptionalBooleanProperty("concurrent-cache-enabled"))
+                .orElse(DEFAULT_CONCURRENT_CACHE_ENABLED);
+        int maxCachedResourceCount = moduleConfig.map(mc -> mc.getIntProperty("max-cached-resource-count", DEFAULT_MAX_CACHED_RESOURCE_COUNT))
+                .orElse(DEFAULT_MAX_CACHED_RESOURCE_COUNT);
+        boolean copyOnWriteVariantsEnabled = moduleConfig.flatMap(mc -> mc.getOptionalBooleanProperty("copy-on-write-variants-enabled"))
+                .orElse(DEFAULT_COPY_ON_WRITE_VARIANTS_ENABLED);
+        int maxPendingFlushCount = moduleConfig.map(mc -> mc.getIntProperty("max-pending-flush-count", DEFAULT_MAX_PENDING_FLUSH_COUNT))
+                .orElse(DEFAULT_MAX_PENDING_FLUSH_COUNT);
+        boolean mergePatchEnabled = moduleConfig.flatMap(mc -> mc.getOptionalBooleanProperty("merge-patch-enabled"))
+                .orElse(DEFAULT_MERGE_PATCH_ENABLED);
+        int uploadParallelism = moduleConfig.map(mc -> mc.getIntProperty("upload-parallelism", DEFAULT_UPLOAD_PARALLELISM))
+                .orElse(DEFAULT_UPLOAD_PARALLELISM);
+        int maxBufferedResourceCount = moduleConfig.map(mc -> mc.getIntProperty("max-buffered-resource-count", DEFAULT_MAX_BUFFERED_RESOURCE_COUNT))
+                .orElse(DEFAULT_MAX_BUFFERED_RESOURCE_COUNT);
+        PreloadingProfile preloadingProfile = moduleConfig.map(mc -> PreloadingProfile.parse(mc.getStringListProperty("preloaded-extensions", List.of()),
+                                                                                             mc.getStringListProperty("preloaded-operational-limits", List.of())))
+                .orElse(PreloadingProfile.NONE);
+        boolean lazyExtensionAttributesEnabled = moduleConfig.flatMap(mc -> mc.getOptionalBooleanProperty("lazy-extension-attributes-enabled"))
+                .orElse(DEFAULT_LAZY_EXTENSION_ATTRIBUTES_ENABLED);
+        boolean collectionsRequestEnabled = moduleConfig.flatMap(mc -> mc.getOptionalBooleanProperty("collections-request-enabled"))
+                .orElse(DEFAULT_COLLECTIONS_REQUEST_ENABLED);
+        boolean asyncPreloadingEnabled = moduleConfig.flatMap(mc -> mc.getOptionalBooleanProperty("async-preloading-enabled"))
+                .orElse(DEFAULT_ASYNC_PRELOADING_ENABLED);
         return new NetworkStoreConfig(baseUrl)
-                .setPreloadingStrategy(preloadingStrategy);
+                .setPreloadingStrategy(preloadingStrategy)
+                .setBinaryFormatEnabled(binaryFormatEnabled)
+                .setCompressionThreshold(compressionThreshold)
+                .setExecutorMode(executorMode)
+                .setCoalescingWindow(coalescingWindow)
+                .setConcurrentCacheEnabled(concurrentCacheEnabled)
+                .setMaxCachedResourceCount(maxCachedResourceCount)
+                .setCopyOnWriteVariantsEnabled(copyOnWriteVariantsEnabled)
+                .setMaxPendingFlushCount(maxPendingFlushCount)
+                .setMergePatchEnabled(mergePatchEnabled)
+                .setUploadParallelism(uploadParallelism)
+                .setMaxBufferedResourceCount(maxBufferedResourceCount)
+                .setPreloadingProfile(preloadingProfile)
+                .setLazyExtensionAttributesEnabled(lazyExtensionAttributesEnabled)
+                .setCollectionsRequestEnabled(collectionsRequestEnabled)
+                .setAsyncPreloadingEnabled(asyncPreloadingEnabled);
     }
 
     public String getBaseUrl() {
@@ -61,4 +167,188 @@ public final class NetworkStoreConfig {
         this.preloadingStrategy = Objects.requireNonNull(preloadingStrategy);
         return this;
     }
+
+    public boolean isBinaryFormatEnabled() {
+        return binaryFormatEnabled;
+    }
+
+    public NetworkStoreConfig setBinaryFormatEnabled(boolean binaryFormatEnabled) {
+        this.binaryFormatEnabled = binaryFormatEnabled;
+        return this;
+    }
+
+    /**
+     * Minimum size in bytes of the request bodies to compress with gzip, a negative value disables the compression.
+     */
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    public NetworkStoreConfig setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+        return this;
+    }
+
+    public ExecutorMode getExecutorMode() {
+        return executorMode;
+    }
+
+    public NetworkStoreConfig setExecutorMode(ExecutorMode executorMode) {
+        this.executorMode = Objects.requireNonNull(executorMode);
+        return this;
+    }
+
+    /**
+     * Maximum duration in ms during which lookups of single resources done while a request of the same resource type
+     * is in progress are coalesced into the next request, 0 to disable the coalescing.
+     */
+    public int getCoalescingWindow() {
+        return coalescingWindow;
+    }
+
+    public NetworkStoreConfig setCoalescingWindow(int coalescingWindow) {
+        this.coalescingWindow = coalescingWindow;
+        return this;
+    }
+
+    /**
+     * If true, the identifiables of a network can be looked up and read by several threads at the same time. The bus
+     * views and components are calculated on first access, which has to be done by a single thread.
+     */
+    public boolean isConcurrentCacheEnabled() {
+        return concurrentCacheEnabled;
+    }
+
+    public NetworkStoreConfig setConcurrentCacheEnabled(boolean concurrentCacheEnabled) {
+        this.concurrentCacheEnabled = concurrentCacheEnabled;
+        return this;
+    }
+
+    /**
+     * Maximum number of resources cached for a network variant above which the resources of the least recently used
+     * voltage levels are evicted, 0 for no limit.
+     */
+    public int getMaxCachedResourceCount() {
+        return maxCachedResourceCount;
+    }
+
+    public NetworkStoreConfig setMaxCachedResourceCount(int maxCachedResourceCount) {
+        this.maxCachedResourceCount = maxCachedResourceCount;
+        return this;
+    }
+
+    /**
+     * If true, the unmodified resources are shared between a variant and its clones instead of being copied.
+     */
+    public boolean isCopyOnWriteVariantsEnabled() {
+        return copyOnWriteVariantsEnabled;
+    }
+
+    public NetworkStoreConfig setCopyOnWriteVariantsEnabled(boolean copyOnWriteVariantsEnabled) {
+        this.copyOnWriteVariantsEnabled = copyOnWriteVariantsEnabled;
+        return this;
+    }
+
+    /**
+     * Maximum number of flushes sent in background, 0 for a synchronous flush.
+     */
+    public int getMaxPendingFlushCount() {
+        return maxPendingFlushCount;
+    }
+
+    public NetworkStoreConfig setMaxPendingFlushCount(int maxPendingFlushCount) {
+        this.maxPendingFlushCount = maxPendingFlushCount;
+        return this;
+    }
+
+    /**
+     * If true, only the modified attributes of the updated resources are sent to the server, as merge patches.
+     */
+    public boolean isMergePatchEnabled() {
+        return mergePatchEnabled;
+    }
+
+    public NetworkStoreConfig setMergePatchEnabled(boolean mergePatchEnabled) {
+        this.mergePatchEnabled = mergePatchEnabled;
+        return this;
+    }
+
+    /**
+     * Maximum number of chunks of a collection sent at the same time when creating or updating resources, 1 to send
+     * them one after the other.
+     */
+    public int getUploadParallelism() {
+        return uploadParallelism;
+    }
+
+    public NetworkStoreConfig setUploadParallelism(int uploadParallelism) {
+        this.uploadParallelism = uploadParallelism;
+        return this;
+    }
+
+    /**
+     * Maximum number of resources created or updated for a network above which they are flushed automatically, 0 for
+     * no limit. Combined with a maximum number of cached resources, the memory used by a network import is bounded.
+     */
+    public int getMaxBufferedResourceCount() {
+        return maxBufferedResourceCount;
+    }
+
+    public NetworkStoreConfig setMaxBufferedResourceCount(int maxBufferedResourceCount) {
+        this.maxBufferedResourceCount = maxBufferedResourceCount;
+        return this;
+    }
+
+    /**
+     * Extensions and operational limits groups preloaded for all the identifiables of their collections the first
+     * time a network variant is used, only with a preloading strategy other than {@link PreloadingStrategy#NONE}.
+     */
+    public PreloadingProfile getPreloadingProfile() {
+        return preloadingProfile;
+    }
+
+    public NetworkStoreConfig setPreloadingProfile(PreloadingProfile preloadingProfile) {
+        this.preloadingProfile = Objects.requireNonNull(preloadingProfile);
+        return this;
+    }
+
+    /**
+     * If true, the extension attributes loaded for all the identifiables of a collection are kept as json bytes and
+     * only deserialized the first time the extension of an identifiable is used.
+     */
+    public boolean isLazyExtensionAttributesEnabled() {
+        return lazyExtensionAttributesEnabled;
+    }
+
+    public NetworkStoreConfig setLazyExtensionAttributesEnabled(boolean lazyExtensionAttributesEnabled) {
+        this.lazyExtensionAttributesEnabled = lazyExtensionAttributesEnabled;
+        return this;
+    }
+
+    /**
+     * If true, the collections preloaded together are loaded with a single request instead of one request per
+     * collection sent in parallel. The server has to support it, otherwise collections are loaded one by one.
+     */
+    public boolean isCollectionsRequestEnabled() {
+        return collectionsRequestEnabled;
+    }
+
+    public NetworkStoreConfig setCollectionsRequestEnabled(boolean collectionsRequestEnabled) {
+        this.collectionsRequestEnabled = collectionsRequestEnabled;
+        return this;
+    }
+
+    /**
+     * If true, the rest client created from the config is a non-blocking {@link AsyncRestClientImpl}, and the
+     * collections preloaded together which are not loaded with a single request are loaded with requests all sent at
+     * the same time, instead of one thread waiting for each collection.
+     */
+    public boolean isAsyncPreloadingEnabled() {
+        return asyncPreloadingEnabled;
+    }
+
+    public NetworkStoreConfig setAsyncPreloadingEnabled(boolean asyncPreloadingEnabled) {
+        this.asyncPreloadingEnabled = asyncPreloadingEnabled;
+        return this;
+    }
 }
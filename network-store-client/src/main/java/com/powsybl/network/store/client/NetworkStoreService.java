@@ -33,9 +33,10 @@ import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Service;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -45,10 +46,17 @@ import java.util.stream.Collectors;
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 @Service
+@EnableConfigurationProperties(NetworkStoreServiceProperties.class)
 public class NetworkStoreService implements AutoCloseable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(NetworkStoreService.class);
 
+    public static final int NO_COALESCING_WINDOW = 0;
+
+    public static final int SYNCHRONOUS_FLUSH = 0;
+
+    public static final int SEQUENTIAL_UPLOAD = 1;
+
     private final RestClient restClient;
 
     private final PreloadingStrategy defaultPreloadingStrategy;
@@ -57,9 +65,7 @@ public class NetworkStoreService implements AutoCloseable {
 
     private final ContextSnapshotFactory contextSnapshotFactory = ContextSnapshotFactory.builder().build();
 
-    private final ExecutorService executorService = ContextExecutorService.wrap(
-        Executors.newFixedThreadPool(ResourceType.values().length),
-        contextSnapshotFactory::captureAll);
+    private final ExecutorService executorService;
 
     public NetworkStoreService(String baseUri) {
         this(baseUri, PreloadingStrategy.NONE);
@@ -69,17 +75,41 @@ public class NetworkStoreService implements AutoCloseable {
         this(new RestClientImpl(baseUri), defaultPreloadingStrategy);
     }
 
+    public NetworkStoreService(RestClient restClient, PreloadingStrategy defaultPreloadingStrategy) {
+        this(restClient, defaultPreloadingStrategy, ExecutorMode.FIXED_THREAD_POOL);
+    }
+
+    public NetworkStoreService(RestClient restClient, PreloadingStrategy defaultPreloadingStrategy, ExecutorMode executorMode) {
+        this(restClient, new NetworkStoreConfig()
+            .setPreloadingStrategy(defaultPreloadingStrategy)
+            .setExecutorMode(executorMode));
+    }
+
     @Autowired
-    public NetworkStoreService(RestClient restClient,
-                               @Value("${powsybl.services.network-store-server.preloading-strategy:NONE}") PreloadingStrategy defaultPreloadingStrategy) {
-        this(restClient, defaultPreloadingStrategy, NetworkStoreService::createStoreClient);
+    public NetworkStoreService(RestClient restClient, NetworkStoreServiceProperties properties) {
+        this(restClient, properties.toConfig());
+    }
+
+    /**
+     * The network store client of each network is created with the cache, buffer and preloading settings of the
+     * config, the base url, binary format and compression threshold of the config being the ones of the rest client.
+     */
+    public NetworkStoreService(RestClient restClient, NetworkStoreConfig config) {
+        this(restClient, config.getPreloadingStrategy(), config.getExecutorMode(),
+            (client, preloadingStrategy, executor) -> createStoreClient(client, preloadingStrategy, executor, config));
     }
 
     NetworkStoreService(RestClient restClient, PreloadingStrategy defaultPreloadingStrategy,
                         TriFunction<RestClient, PreloadingStrategy, ExecutorService, NetworkStoreClient> decorator) {
+        this(restClient, defaultPreloadingStrategy, ExecutorMode.FIXED_THREAD_POOL, decorator);
+    }
+
+    NetworkStoreService(RestClient restClient, PreloadingStrategy defaultPreloadingStrategy, ExecutorMode executorMode,
+                        TriFunction<RestClient, PreloadingStrategy, ExecutorService, NetworkStoreClient> decorator) {
         this.restClient = Objects.requireNonNull(restClient);
         this.defaultPreloadingStrategy = Objects.requireNonNull(defaultPreloadingStrategy);
         this.decorator = Objects.requireNonNull(decorator);
+        this.executorService = createExecutorService(Objects.requireNonNull(executorMode));
     }
 
     public NetworkStoreService(String baseUri, PreloadingStrategy defaultPreloadingStrategy,
@@ -89,7 +119,17 @@ public class NetworkStoreService implements AutoCloseable {
 
     public static NetworkStoreService create(NetworkStoreConfig config) {
         Objects.requireNonNull(config);
-        return new NetworkStoreService(config.getBaseUrl(), config.getPreloadingStrategy());
+        RestClient restClient = config.isAsyncPreloadingEnabled() ? new AsyncRestClientImpl(config) : new RestClientImpl(config);
+        return new NetworkStoreService(restClient, config);
+    }
+
+    private ExecutorService createExecutorService(ExecutorMode executorMode) {
+        LOGGER.info("Executor mode: {}", executorMode);
+        ExecutorService executor = switch (executorMode) {
+            case FIXED_THREAD_POOL -> Executors.newFixedThreadPool(ResourceType.values().length);
+            case VIRTUAL_THREAD_PER_TASK -> Executors.newVirtualThreadPerTaskExecutor();
+        };
+        return ContextExecutorService.wrap(executor, contextSnapshotFactory::captureAll);
     }
 
     private PreloadingStrategy getNonNullPreloadingStrategy(PreloadingStrategy preloadingStrategy) {
@@ -97,15 +137,74 @@ public class NetworkStoreService implements AutoCloseable {
     }
 
     private static NetworkStoreClient createStoreClient(RestClient restClient, PreloadingStrategy preloadingStrategy,
-                                                        ExecutorService executorService) {
+                                                        ExecutorService executorService, NetworkStoreConfig config) {
         Objects.requireNonNull(preloadingStrategy);
         LOGGER.info("Preloading strategy: {}", preloadingStrategy);
-        var cachedClient = new CachedNetworkStoreClient(new BufferedNetworkStoreClient(new RestNetworkStoreClient(restClient), executorService));
+        PreloadingProfile preloadingProfile = config.getPreloadingProfile();
+        int maxPendingFlushCount = config.getMaxPendingFlushCount();
+        int uploadParallelism = config.getUploadParallelism();
+        int maxBufferedResourceCount = config.getMaxBufferedResourceCount();
+        int coalescingWindow = config.getCoalescingWindow();
+        int maxCachedResourceCount = config.getMaxCachedResourceCount();
+        if (!preloadingProfile.isEmpty()) {
+            if (preloadingStrategy == PreloadingStrategy.NONE) {
+                LOGGER.warn("{} ignored without preloading strategy", preloadingProfile);
+            } else {
+                LOGGER.info("{}", preloadingProfile);
+            }
+        }
+        if (maxPendingFlushCount > 0) {
+            LOGGER.info("Write-behind flush with at most {} pending flushes", maxPendingFlushCount);
+        }
+        if (config.isMergePatchEnabled()) {
+            LOGGER.info("Merge patch of updated resources enabled");
+        }
+        if (uploadParallelism > SEQUENTIAL_UPLOAD) {
+            LOGGER.info("Upload parallelism: {}", uploadParallelism);
+        }
+        if (maxBufferedResourceCount > 0) {
+            LOGGER.info("Max buffered resource count: {}", maxBufferedResourceCount);
+        }
+        if (config.isLazyExtensionAttributesEnabled()) {
+            LOGGER.info("Lazy extension attributes enabled");
+        }
+        boolean asyncPreloadingEnabled = config.isAsyncPreloadingEnabled() && preloadingStrategy != PreloadingStrategy.NONE;
+        if (asyncPreloadingEnabled && !(restClient instanceof AsyncRestClientImpl)) {
+            LOGGER.warn("Async preloading ignored as the rest client is not an {}", AsyncRestClientImpl.class.getSimpleName());
+            asyncPreloadingEnabled = false;
+        }
+        // without the collections request, collections are only loaded together when the rest client is asynchronous
+        boolean collectionsLoadedTogether = config.isCollectionsRequestEnabled() || asyncPreloadingEnabled;
+        var restStoreClient = new RestNetworkStoreClient(restClient, executorService, uploadParallelism, config.isLazyExtensionAttributesEnabled(),
+                                                         config.isCollectionsRequestEnabled());
+        NetworkStoreClient bufferedClient = new BufferedNetworkStoreClient(restStoreClient, executorService,
+                                                                           maxPendingFlushCount, config.isMergePatchEnabled(), maxBufferedResourceCount);
+        if (coalescingWindow > 0) {
+            LOGGER.info("Coalescing window: {} ms", coalescingWindow);
+            bufferedClient = new CoalescingNetworkStoreClient(bufferedClient, Duration.ofMillis(coalescingWindow));
+        }
+        if (config.isConcurrentCacheEnabled()) {
+            LOGGER.info("Concurrent cache enabled");
+        }
+        if (maxCachedResourceCount > 0) {
+            LOGGER.info("Max cached resource count: {}", maxCachedResourceCount);
+        }
+        if (config.isCopyOnWriteVariantsEnabled()) {
+            LOGGER.info("Copy on write variants enabled");
+        }
+        var cachedClient = new CachedNetworkStoreClient(bufferedClient, config.isConcurrentCacheEnabled(), maxCachedResourceCount, config.isCopyOnWriteVariantsEnabled());
+        if (config.isCollectionsRequestEnabled() && preloadingStrategy != PreloadingStrategy.NONE) {
+            LOGGER.info("Collections request enabled");
+        }
+        if (asyncPreloadingEnabled) {
+            LOGGER.info("Async preloading enabled");
+        }
         return switch (preloadingStrategy) {
             case NONE -> cachedClient;
-            case COLLECTION -> new PreloadingNetworkStoreClient(cachedClient, false, executorService);
+            case COLLECTION -> new PreloadingNetworkStoreClient(cachedClient, false, collectionsLoadedTogether,
+                                                                preloadingProfile, executorService);
             case ALL_COLLECTIONS_NEEDED_FOR_BUS_VIEW ->
-                new PreloadingNetworkStoreClient(cachedClient, true, executorService);
+                new PreloadingNetworkStoreClient(cachedClient, true, collectionsLoadedTogether, preloadingProfile, executorService);
         };
     }
 
@@ -208,10 +307,27 @@ public class NetworkStoreService implements AutoCloseable {
     }
 
     public Network getNetwork(UUID uuid, PreloadingStrategy preloadingStrategy) {
+        return getNetwork(uuid, preloadingStrategy, PreloadingProfile.NONE);
+    }
+
+    /**
+     * Get a network and preload the extensions and operational limits groups of a profile, in addition to the ones
+     * of the configured profile. The profile is ignored with the {@link PreloadingStrategy#NONE} preloading strategy.
+     */
+    public Network getNetwork(UUID uuid, PreloadingStrategy preloadingStrategy, PreloadingProfile preloadingProfile) {
         Objects.requireNonNull(uuid);
+        Objects.requireNonNull(preloadingProfile);
         NetworkStoreClient storeClient = decorator.apply(restClient, getNonNullPreloadingStrategy(preloadingStrategy), executorService);
-        return NetworkImpl.create(storeClient, storeClient.getNetwork(uuid, Resource.INITIAL_VARIANT_NUM)
+        NetworkImpl network = NetworkImpl.create(storeClient, storeClient.getNetwork(uuid, Resource.INITIAL_VARIANT_NUM)
                 .orElseThrow(() -> new PowsyblException("Network '" + uuid + "' not found")));
+        if (!preloadingProfile.isEmpty()) {
+            if (storeClient instanceof PreloadingNetworkStoreClient preloadingStoreClient) {
+                preloadingStoreClient.preload(uuid, Resource.INITIAL_VARIANT_NUM, preloadingProfile);
+            } else {
+                LOGGER.warn("{} ignored without preloading strategy", preloadingProfile);
+            }
+        }
+        return network;
     }
 
     public void deleteNetwork(UUID uuid) {
@@ -251,6 +367,15 @@ public class NetworkStoreService implements AutoCloseable {
         networkImpl.getIndex().getStoreClient().flush(networkImpl.getUuid());
     }
 
+    /**
+     * Wait for the network flushes sent in background to be stored by the server. Only needed when flushes are sent
+     * in background (max pending flush count greater than 0), as otherwise flush is synchronous.
+     */
+    public void awaitFlush(Network network) {
+        NetworkImpl networkImpl = getNetworkImpl(network);
+        networkImpl.getIndex().getStoreClient().awaitFlush(networkImpl.getUuid());
+    }
+
     @PostConstruct
     public void start() {
         LOGGER.info(Version.getTableString());
@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Spring properties of the {@link NetworkStoreService}, bound from {@code powsybl.services.network-store-server.*}
+ * and converted to a {@link NetworkStoreConfig}, the defaults of the properties being the ones of the config. The
+ * base url, binary format and compression threshold are properties of the {@link RestClientImpl}.
+ *
+ * @author agent <agent at local>
+ */
+@ConfigurationProperties(prefix = "powsybl.services.network-store-server")
+public class NetworkStoreServiceProperties {
+
+    private final NetworkStoreConfig config = new NetworkStoreConfig();
+
+    private List<String> preloadedExtensions = new ArrayList<>();
+
+    private List<String> preloadedOperationalLimits = new ArrayList<>();
+
+    public PreloadingStrategy getPreloadingStrategy() {
+        return config.getPreloadingStrategy();
+    }
+
+    public void setPreloadingStrategy(PreloadingStrategy preloadingStrategy) {
+        config.setPreloadingStrategy(preloadingStrategy);
+    }
+
+    public ExecutorMode getExecutorMode() {
+        return config.getExecutorMode();
+    }
+
+    public void setExecutorMode(ExecutorMode executorMode) {
+        config.setExecutorMode(executorMode);
+    }
+
+    public int getCoalescingWindow() {
+        return config.getCoalescingWindow();
+    }
+
+    public void setCoalescingWindow(int coalescingWindow) {
+        config.setCoalescingWindow(coalescingWindow);
+    }
+
+    public boolean isConcurrentCacheEnabled() {
+        return config.isConcurrentCacheEnabled();
+    }
+
+    public void setConcurrentCacheEnabled(boolean concurrentCacheEnabled) {
+        config.setConcurrentCacheEnabled(concurrentCacheEnabled);
+    }
+
+    public int getMaxCachedResourceCount() {
+        return config.getMaxCachedResourceCount();
+    }
+
+    public void setMaxCachedResourceCount(int maxCachedResourceCount) {
+        config.setMaxCachedResourceCount(maxCachedResourceCount);
+    }
+
+    public boolean isCopyOnWriteVariantsEnabled() {
+        return config.isCopyOnWriteVariantsEnabled();
+    }
+
+    public void setCopyOnWriteVariantsEnabled(boolean copyOnWriteVariantsEnabled) {
+        config.setCopyOnWriteVariantsEnabled(copyOnWriteVariantsEnabled);
+    }
+
+    public int getMaxPendingFlushCount() {
+        return config.getMaxPendingFlushCount();
+    }
+
+    public void setMaxPendingFlushCount(int maxPendingFlushCount) {
+        config.setMaxPendingFlushCount(maxPendingFlushCount);
+    }
+
+    public boolean isMergePatchEnabled() {
+        return config.isMergePatchEnabled();
+    }
+
+    public void setMergePatchEnabled(boolean mergePatchEnabled) {
+        config.setMergePatchEnabled(mergePatchEnabled);
+    }
+
+    public int getUploadParallelism() {
+        return config.getUploadParallelism();
+    }
+
+    public void setUploadParallelism(int uploadParallelism) {
+        config.setUploadParallelism(uploadParallelism);
+    }
+
+    public int getMaxBufferedResourceCount() {
+        return config.getMaxBufferedResourceCount();
+    }
+
+    public void setMaxBufferedResourceCount(int maxBufferedResourceCount) {
+        config.setMaxBufferedResourceCount(maxBufferedResourceCount);
+    }
+
+    /**
+     * Extensions preloaded for all the identifiables of their collections, as {@code RESOURCE_TYPE:extensionName}.
+     */
+    public List<String> getPreloadedExtensions() {
+        return preloadedExtensions;
+    }
+
+    public void setPreloadedExtensions(List<String> preloadedExtensions) {
+        this.preloadedExtensions = Objects.requireNonNull(preloadedExtensions);
+    }
+
+    /**
+     * Resource types whose operational limits groups are preloaded.
+     */
+    public List<String> getPreloadedOperationalLimits() {
+        return preloadedOperationalLimits;
+    }
+
+    public void setPreloadedOperationalLimits(List<String> preloadedOperationalLimits) {
+        this.preloadedOperationalLimits = Objects.requireNonNull(preloadedOperationalLimits);
+    }
+
+    public boolean isLazyExtensionAttributesEnabled() {
+        return config.isLazyExtensionAttributesEnabled();
+    }
+
+    public void setLazyExtensionAttributesEnabled(boolean lazyExtensionAttributesEnabled) {
+        config.setLazyExtensionAttributesEnabled(lazyExtensionAttributesEnabled);
+    }
+
+    public boolean isCollectionsRequestEnabled() {
+        return config.isCollectionsRequestEnabled();
+    }
+
+    public void setCollectionsRequestEnabled(boolean collectionsRequestEnabled) {
+        config.setCollectionsRequestEnabled(collectionsRequestEnabled);
+    }
+
+    public NetworkStoreConfig toConfig() {
+        return config.setPreloadingProfile(PreloadingProfile.parse(preloadedExtensions, preloadedOperationalLimits));
+    }
+}
@@ -35,6 +35,15 @@ public class OperationalLimitsGroupsRemovalBuffer {
         return clonedBuffer;
     }
 
+    /**
+     * Move the pending removals to a new buffer which can be flushed in background.
+     */
+    OperationalLimitsGroupsRemovalBuffer snapshot() {
+        var snapshotBuffer = cloneBuffer();
+        removedOperationalLimitsIds.clear();
+        return snapshotBuffer;
+    }
+
     void remove(Map<String, Map<Integer, Set<String>>> operationalLimitsGroupIds, ResourceType resourceType) {
         removedOperationalLimitsIds.computeIfAbsent(resourceType, s -> new HashMap<>());
         mergeOperationalLimitsGroups(removedOperationalLimitsIds.get(resourceType), operationalLimitsGroupIds);
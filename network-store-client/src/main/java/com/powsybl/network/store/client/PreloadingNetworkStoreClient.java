@@ -17,12 +17,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Per collection preloading.
+ * <p>
+ * A preloading profile can also be given so that the first time a network variant is used, the extensions and
+ * operational limits groups of the profile are loaded in bulk for all the identifiables, in parallel.
+ *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  * @author Etienne Homer <etienne.homer at rte-france.com>
  */
@@ -52,16 +58,46 @@ public class PreloadingNetworkStoreClient extends AbstractForwardingNetworkStore
 
     private final boolean allCollectionsNeededForBusView;
 
+    private final boolean collectionsLoadedTogether;
+
+    private final NetworkCollectionIndex<Set<ResourceType>> cachedResourceTypes;
+
+    private final PreloadingProfile preloadingProfile;
+
     private final ExecutorService executorService;
 
-    private final NetworkCollectionIndex<Set<ResourceType>> cachedResourceTypes
-            = new NetworkCollectionIndex<>(() -> EnumSet.noneOf(ResourceType.class));
+    private final NetworkCollectionIndex<AtomicBoolean> preloadedProfiles = new NetworkCollectionIndex<>(AtomicBoolean::new, true);
 
     public PreloadingNetworkStoreClient(CachedNetworkStoreClient delegate, boolean allCollectionsNeededForBusView,
                                         ExecutorService executorService) {
+        this(delegate, allCollectionsNeededForBusView, PreloadingProfile.NONE, executorService);
+    }
+
+    /**
+     * @param preloadingProfile extensions and operational limits groups preloaded the first time a network variant is used
+     */
+    public PreloadingNetworkStoreClient(CachedNetworkStoreClient delegate, boolean allCollectionsNeededForBusView,
+                                        PreloadingProfile preloadingProfile, ExecutorService executorService) {
+        this(delegate, allCollectionsNeededForBusView, false, preloadingProfile, executorService);
+    }
+
+    /**
+     * @param collectionsLoadedTogether true to load several collections with a single call to the delegate instead
+     *                                  of one call per collection sent in parallel, the rest client then loading them
+     *                                  with a single request or with non-blocking requests
+     * @param preloadingProfile extensions and operational limits groups preloaded the first time a network variant is used
+     */
+    public PreloadingNetworkStoreClient(CachedNetworkStoreClient delegate, boolean allCollectionsNeededForBusView,
+                                        boolean collectionsLoadedTogether, PreloadingProfile preloadingProfile,
+                                        ExecutorService executorService) {
         super(delegate);
         this.allCollectionsNeededForBusView = allCollectionsNeededForBusView;
+        this.collectionsLoadedTogether = collectionsLoadedTogether;
+        this.preloadingProfile = Objects.requireNonNull(preloadingProfile);
         this.executorService = Objects.requireNonNull(executorService);
+        cachedResourceTypes = delegate.isConcurrent()
+                ? new NetworkCollectionIndex<>(ConcurrentHashMap::newKeySet, true)
+                : new NetworkCollectionIndex<>(() -> EnumSet.noneOf(ResourceType.class));
     }
 
     private void loadToCache(ResourceType resourceType, UUID networkUuid, int variantNum) {
@@ -91,14 +127,23 @@ public class PreloadingNetworkStoreClient extends AbstractForwardingNetworkStore
         }
     }
 
+    private void loadCollections(UUID networkUuid, int variantNum, Set<ResourceType> resourceTypes) {
+        if (collectionsLoadedTogether) {
+            // in a single call
+            delegate.loadCollections(networkUuid, variantNum, resourceTypes);
+        } else {
+            List<Future<?>> futures = new ArrayList<>(resourceTypes.size());
+            for (ResourceType resourceType : resourceTypes) {
+                futures.add(executorService.submit(() -> loadToCache(resourceType, networkUuid, variantNum)));
+            }
+            ExecutorUtil.waitAllFutures(futures);
+        }
+    }
+
     private void loadAllCollectionsNeededForBusView(UUID networkUuid, int variantNum, Set<ResourceType> resourceTypes) {
         // directly load all collections
         Stopwatch stopwatch = Stopwatch.createStarted();
-        List<Future<?>> futures = new ArrayList<>(RESOURCE_TYPES_NEEDED_FOR_BUS_VIEW.size());
-        for (ResourceType resourceType : RESOURCE_TYPES_NEEDED_FOR_BUS_VIEW) {
-            futures.add(executorService.submit(() -> loadToCache(resourceType, networkUuid, variantNum)));
-        }
-        ExecutorUtil.waitAllFutures(futures);
+        loadCollections(networkUuid, variantNum, RESOURCE_TYPES_NEEDED_FOR_BUS_VIEW);
         resourceTypes.addAll(RESOURCE_TYPES_NEEDED_FOR_BUS_VIEW);
         stopwatch.stop();
         LOGGER.info("All collections needed for bus view loaded in {} ms", stopwatch.elapsed(TimeUnit.MILLISECONDS));
@@ -110,9 +155,74 @@ public class PreloadingNetworkStoreClient extends AbstractForwardingNetworkStore
         return resourceTypes.contains(resourceType);
     }
 
+    public PreloadingProfile getPreloadingProfile() {
+        return preloadingProfile;
+    }
+
+    /**
+     * Preload the collections, extensions and operational limits groups of a profile. Missing collections are loaded
+     * first, as extensions and operational limits groups are stored in the cached resources, then extensions and
+     * operational limits groups are loaded in parallel, one task per resource type so that a collection cache is only
+     * modified by one thread at a time.
+     */
+    public void preload(UUID networkUuid, int variantNum, PreloadingProfile profile) {
+        Objects.requireNonNull(networkUuid);
+        Objects.requireNonNull(profile);
+        if (profile.isEmpty()) {
+            return;
+        }
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        Set<ResourceType> profileResourceTypes = profile.getResourceTypes();
+        Set<ResourceType> resourceTypes = cachedResourceTypes.getCollection(networkUuid, variantNum);
+        Set<ResourceType> resourceTypesToLoad = EnumSet.copyOf(profileResourceTypes);
+        if (allCollectionsNeededForBusView) {
+            resourceTypesToLoad.addAll(RESOURCE_TYPES_NEEDED_FOR_BUS_VIEW);
+        }
+        resourceTypesToLoad.removeAll(resourceTypes);
+        if (!resourceTypesToLoad.isEmpty()) {
+            loadCollections(networkUuid, variantNum, resourceTypesToLoad);
+            resourceTypes.addAll(resourceTypesToLoad);
+        }
+
+        List<Future<?>> futures = new ArrayList<>(profileResourceTypes.size());
+        for (ResourceType resourceType : profileResourceTypes) {
+            futures.add(executorService.submit(() -> {
+                for (String extensionName : profile.getExtensionNames(resourceType)) {
+                    delegate.loadAllExtensionsAttributesByResourceTypeAndExtensionName(networkUuid, variantNum, resourceType, extensionName);
+                }
+                if (profile.hasOperationalLimits(resourceType)) {
+                    delegate.loadAllOperationalLimitsGroupAttributesByResourceType(networkUuid, variantNum, resourceType);
+                }
+            }));
+        }
+        ExecutorUtil.waitAllFutures(futures);
+
+        stopwatch.stop();
+        LOGGER.info("{} preloaded in {} ms", profile, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+    }
+
+    private void ensureProfilePreloaded(UUID networkUuid, int variantNum) {
+        if (preloadingProfile.isEmpty()) {
+            return;
+        }
+        // the flag is set before preloading as the preloading itself goes through this method
+        AtomicBoolean preloaded = preloadedProfiles.getCollection(networkUuid, variantNum);
+        if (preloaded.compareAndSet(false, true)) {
+            try {
+                preload(networkUuid, variantNum, preloadingProfile);
+            } catch (RuntimeException e) {
+                // preloading will be tried again on next access
+                preloaded.set(false);
+                throw e;
+            }
+        }
+    }
+
     private void ensureCached(ResourceType resourceType, UUID networkUuid, int variantNum) {
         Objects.requireNonNull(resourceType);
         Objects.requireNonNull(networkUuid);
+        ensureProfilePreloaded(networkUuid, variantNum);
         Set<ResourceType> resourceTypes = cachedResourceTypes.getCollection(networkUuid, variantNum);
         if (!resourceTypes.contains(resourceType)) {
             if (allCollectionsNeededForBusView && RESOURCE_TYPES_NEEDED_FOR_BUS_VIEW.contains(resourceType)) {
@@ -124,16 +234,27 @@ public class PreloadingNetworkStoreClient extends AbstractForwardingNetworkStore
         }
     }
 
+    @Override
+    public void createNetworks(List<Resource<NetworkAttributes>> networkResources) {
+        delegate.createNetworks(networkResources);
+        // nothing to preload from the server for a new network
+        for (Resource<NetworkAttributes> networkResource : networkResources) {
+            preloadedProfiles.getCollection(networkResource.getAttributes().getUuid(), networkResource.getVariantNum()).set(true);
+        }
+    }
+
     @Override
     public void deleteNetwork(UUID networkUuid) {
         delegate.deleteNetwork(networkUuid);
         cachedResourceTypes.removeCollection(networkUuid);
+        preloadedProfiles.removeCollection(networkUuid);
     }
 
     @Override
     public void deleteNetwork(UUID networkUuid, int variantNum) {
         delegate.deleteNetwork(networkUuid, variantNum);
         cachedResourceTypes.removeCollection(networkUuid, variantNum);
+        preloadedProfiles.removeCollection(networkUuid, variantNum);
     }
 
     @Override
@@ -874,12 +995,14 @@ public class PreloadingNetworkStoreClient extends AbstractForwardingNetworkStore
 
     @Override
     public Optional<ExtensionAttributes> getExtensionAttributes(UUID networkUuid, int variantNum, ResourceType resourceType, String identifiableId, String extensionName) {
+        ensureProfilePreloaded(networkUuid, variantNum);
         delegate.loadAllExtensionsAttributesByResourceTypeAndExtensionName(networkUuid, variantNum, resourceType, extensionName);
         return delegate.getExtensionAttributes(networkUuid, variantNum, resourceType, identifiableId, extensionName);
     }
 
     @Override
     public Map<String, ExtensionAttributes> getAllExtensionsAttributesByIdentifiableId(UUID networkUuid, int variantNum, ResourceType resourceType, String id) {
+        ensureProfilePreloaded(networkUuid, variantNum);
         delegate.loadAllExtensionsAttributesByResourceType(networkUuid, variantNum, resourceType);
         return delegate.getAllExtensionsAttributesByIdentifiableId(networkUuid, variantNum, resourceType, id);
     }
@@ -887,6 +1010,7 @@ public class PreloadingNetworkStoreClient extends AbstractForwardingNetworkStore
     @Override
     public Optional<OperationalLimitsGroupAttributes> getOperationalLimitsGroupAttributes(UUID networkUuid, int variantNum, ResourceType resourceType, String branchId, String operationalLimitGroupId,
             int side) {
+        ensureProfilePreloaded(networkUuid, variantNum);
         delegate.loadAllOperationalLimitsGroupAttributesByResourceType(networkUuid, variantNum, resourceType);
         return delegate.getOperationalLimitsGroupAttributes(networkUuid, variantNum, resourceType, branchId, operationalLimitGroupId, side);
     }
@@ -894,12 +1018,14 @@ public class PreloadingNetworkStoreClient extends AbstractForwardingNetworkStore
     @Override
     public Optional<OperationalLimitsGroupAttributes> getSelectedOperationalLimitsGroupAttributes(UUID networkUuid, int variantNum, ResourceType resourceType, String branchId,
             String operationalLimitGroupId, int side) {
+        ensureProfilePreloaded(networkUuid, variantNum);
         delegate.loadAllSelectedOperationalLimitsGroupAttributesByResourceType(networkUuid, variantNum, resourceType);
         return delegate.getSelectedOperationalLimitsGroupAttributes(networkUuid, variantNum, resourceType, branchId, operationalLimitGroupId, side);
     }
 
     @Override
     public List<OperationalLimitsGroupAttributes> getOperationalLimitsGroupAttributesForBranchSide(UUID networkUuid, int variantNum, ResourceType resourceType, String branchId, int side) {
+        ensureProfilePreloaded(networkUuid, variantNum);
         delegate.loadAllOperationalLimitsGroupAttributesByResourceType(networkUuid, variantNum, resourceType);
         return delegate.getOperationalLimitsGroupAttributesForBranchSide(networkUuid, variantNum, resourceType, branchId, side);
     }
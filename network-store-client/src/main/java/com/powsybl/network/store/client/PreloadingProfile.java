@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.network.store.model.ResourceType;
+
+import java.util.*;
+
+/**
+ * Extensions and operational limits groups to load for all the identifiables of some collections, in addition to
+ * the collections themselves, so that a computation like a load flow does not load them one identifiable at a time.
+ * <p>
+ * Extensions are listed by resource type and extension name, for instance {@code GENERATOR:activePowerControl}, and
+ * operational limits groups by resource type.
+ *
+ * @author agent <agent at local>
+ */
+public final class PreloadingProfile {
+
+    public static final PreloadingProfile NONE = new PreloadingProfile(Map.of(), Set.of());
+
+    private final Map<ResourceType, Set<String>> extensionNamesByResourceType;
+
+    private final Set<ResourceType> operationalLimitsResourceTypes;
+
+    private PreloadingProfile(Map<ResourceType, Set<String>> extensionNamesByResourceType, Set<ResourceType> operationalLimitsResourceTypes) {
+        this.extensionNamesByResourceType = extensionNamesByResourceType;
+        this.operationalLimitsResourceTypes = operationalLimitsResourceTypes;
+    }
+
+    public static final class Builder {
+
+        private final Map<ResourceType, Set<String>> extensionNamesByResourceType = new EnumMap<>(ResourceType.class);
+
+        private final Set<ResourceType> operationalLimitsResourceTypes = EnumSet.noneOf(ResourceType.class);
+
+        private Builder() {
+        }
+
+        public Builder extension(ResourceType resourceType, String extensionName) {
+            Objects.requireNonNull(resourceType);
+            Objects.requireNonNull(extensionName);
+            extensionNamesByResourceType.computeIfAbsent(resourceType, k -> new LinkedHashSet<>()).add(extensionName);
+            return this;
+        }
+
+        public Builder operationalLimits(ResourceType resourceType) {
+            operationalLimitsResourceTypes.add(Objects.requireNonNull(resourceType));
+            return this;
+        }
+
+        public PreloadingProfile build() {
+            Map<ResourceType, Set<String>> extensionNames = new EnumMap<>(ResourceType.class);
+            extensionNamesByResourceType.forEach((resourceType, names) -> extensionNames.put(resourceType, Collections.unmodifiableSet(new LinkedHashSet<>(names))));
+            return new PreloadingProfile(Collections.unmodifiableMap(extensionNames),
+                    Collections.unmodifiableSet(EnumSet.copyOf(operationalLimitsResourceTypes)));
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a profile from its configuration.
+     *
+     * @param extensions extensions to preload, as {@code RESOURCE_TYPE:extensionName}
+     * @param operationalLimitsResourceTypes resource types whose operational limits groups are preloaded
+     */
+    public static PreloadingProfile parse(List<String> extensions, List<String> operationalLimitsResourceTypes) {
+        Builder builder = builder();
+        for (String extension : Objects.requireNonNull(extensions)) {
+            if (extension.isBlank()) {
+                continue;
+            }
+            String[] tokens = extension.trim().split(":");
+            if (tokens.length != 2 || tokens[1].isBlank()) {
+                throw new PowsyblException("Invalid preloaded extension '" + extension + "', expected RESOURCE_TYPE:extensionName");
+            }
+            builder.extension(parseResourceType(tokens[0]), tokens[1].trim());
+        }
+        for (String resourceType : Objects.requireNonNull(operationalLimitsResourceTypes)) {
+            if (!resourceType.isBlank()) {
+                builder.operationalLimits(parseResourceType(resourceType));
+            }
+        }
+        return builder.build();
+    }
+
+    private static ResourceType parseResourceType(String resourceType) {
+        try {
+            return ResourceType.valueOf(resourceType.trim());
+        } catch (IllegalArgumentException e) {
+            throw new PowsyblException("Invalid resource type '" + resourceType + "'");
+        }
+    }
+
+    public Set<String> getExtensionNames(ResourceType resourceType) {
+        return extensionNamesByResourceType.getOrDefault(resourceType, Set.of());
+    }
+
+    public boolean hasOperationalLimits(ResourceType resourceType) {
+        return operationalLimitsResourceTypes.contains(resourceType);
+    }
+
+    /**
+     * Get the resource types whose collection has to be loaded to preload the extensions and operational limits
+     * groups of this profile.
+     */
+    public Set<ResourceType> getResourceTypes() {
+        Set<ResourceType> resourceTypes = EnumSet.noneOf(ResourceType.class);
+        resourceTypes.addAll(extensionNamesByResourceType.keySet());
+        resourceTypes.addAll(operationalLimitsResourceTypes);
+        return resourceTypes;
+    }
+
+    public boolean isEmpty() {
+        return extensionNamesByResourceType.isEmpty() && operationalLimitsResourceTypes.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "PreloadingProfile(extensions=" + extensionNamesByResourceType + ", operationalLimits=" + operationalLimitsResourceTypes + ")";
+    }
+}
@@ -6,11 +6,15 @@
  */
 package com.powsybl.network.store.client;
 
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.network.store.model.*;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -36,8 +40,51 @@ public interface RestClient {
 
     <T extends IdentifiableAttributes> List<Resource<T>> getAll(String target, String url, Object... uriVariables);
 
+    /**
+     * Retrieves all the resources of a collection, each resource being given to the consumer as soon as it has been
+     * decoded from the response, so that the full collection is never materialized.
+     */
+    default <T extends IdentifiableAttributes> void streamAll(String target, String url, Consumer<Resource<T>> consumer, Object... uriVariables) {
+        List<Resource<T>> resources = getAll(target, url, uriVariables);
+        resources.forEach(consumer);
+    }
+
+    /**
+     * Retrieves several collections returned in a single {@link ResourceCollectionsTopLevelDocument}, each resource
+     * being given to the consumer as soon as it has been decoded from the response.
+     *
+     * @return false if the server does not support the request, answering 404 or 405, nothing being given to the
+     * consumer
+     */
+    default boolean streamCollections(String target, String url, Consumer<Resource<IdentifiableAttributes>> consumer, Object... uriVariables) {
+        ResourceCollectionsTopLevelDocument document;
+        try {
+            document = get(url, new ParameterizedTypeReference<>() { }, uriVariables);
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND || e.getStatusCode() == HttpStatus.METHOD_NOT_ALLOWED) {
+                return false;
+            }
+            throw e;
+        } catch (PowsyblException e) {
+            // get reports the statuses which are not errors for the rest template, as 404, this way
+            return false;
+        }
+        if (document == null) {
+            return false;
+        }
+        document.getData().forEach(collection -> collection.getData().forEach(consumer));
+        return true;
+    }
+
     <T extends Attributes> void updateAll(String url, List<Resource<T>> resources, Class<?> viewClass, Object... uriVariables);
 
+    /**
+     * Partially updates resources, each patch only containing the modified attributes of a resource.
+     *
+     * @throws HttpClientErrorException with a 404 or 405 status if the server does not support patches
+     */
+    void patchAll(String url, List<ResourcePatch> patches, Object... uriVariables);
+
     <E> E get(String url, ParameterizedTypeReference<E> responseType, Object... uriVariables);
 
     void put(String url, Object... uriVariables);
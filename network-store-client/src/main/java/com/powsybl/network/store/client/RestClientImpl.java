@@ -6,10 +6,14 @@
  */
 package com.powsybl.network.store.client;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.network.store.model.*;
@@ -18,14 +22,22 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -33,31 +45,67 @@ import java.util.*;
 @Component
 public class RestClientImpl implements RestClient {
 
+    /**
+     * Smile (binary JSON) media type, negotiated when the binary format is enabled.
+     */
+    public static final MediaType SMILE_MEDIA_TYPE = new MediaType("application", "x-jackson-smile");
+
+    /**
+     * Compression threshold value disabling the compression of the REST traffic.
+     */
+    public static final int COMPRESSION_DISABLED = -1;
+
     private final RestTemplate restTemplate;
 
+    private final boolean binaryFormatEnabled;
+
+    // cleared as soon as the server rejects a smile request body, the next request bodies being sent in json
+    private volatile boolean smileRequestBodySupported = true;
+
     // Used for standalone (non-Spring) usage, e.g. from integration tests or external tools
     public RestClientImpl(String baseUri) {
-        this(createRestTemplateBuilder(baseUri));
+        this(new NetworkStoreConfig(baseUri));
+    }
+
+    public RestClientImpl(NetworkStoreConfig config) {
+        this(createRestTemplateBuilder(config.getBaseUrl()), config.isBinaryFormatEnabled(), config.getCompressionThreshold());
     }
 
     // Used in unit tests with a mock-backed RestTemplateBuilder
     public RestClientImpl(RestTemplateBuilder restTemplateBuilder) {
-        this.restTemplate = Objects.requireNonNull(restTemplateBuilder)
+        this(restTemplateBuilder, false);
+    }
+
+    public RestClientImpl(RestTemplateBuilder restTemplateBuilder, boolean binaryFormatEnabled) {
+        this(restTemplateBuilder, binaryFormatEnabled, COMPRESSION_DISABLED);
+    }
+
+    /**
+     * @param compressionThreshold minimum size in bytes of the request bodies to compress with gzip, a negative
+     *                             value disables the compression of both requests and responses
+     */
+    public RestClientImpl(RestTemplateBuilder restTemplateBuilder, boolean binaryFormatEnabled, int compressionThreshold) {
+        this.binaryFormatEnabled = binaryFormatEnabled;
+        RestTemplateBuilder builder = Objects.requireNonNull(restTemplateBuilder)
             .errorHandler(new RestTemplateResponseErrorHandler())
-            .additionalCustomizers(RestClientImpl::enableDefaultViewInclusion)
-            .build();
+            .additionalCustomizers(RestClientImpl::enableDefaultViewInclusion,
+                restTemplate1 -> configureSmileConverter(restTemplate1, binaryFormatEnabled));
+        if (compressionThreshold >= 0) {
+            builder = builder.additionalInterceptors(new GzipCompressionInterceptor(compressionThreshold));
+        }
+        this.restTemplate = builder.build();
     }
 
     @Autowired
     public RestClientImpl(RestTemplateBuilder restTemplateBuilder,
-                          @Value("${powsybl.services.network-store-server.base-uri:http://network-store-server/}") String baseUri) {
-        this.restTemplate = Objects.requireNonNull(restTemplateBuilder)
-            .errorHandler(new RestTemplateResponseErrorHandler())
-            .uriTemplateHandler(new DefaultUriBuilderFactory(UriComponentsBuilder
-                .fromUriString(baseUri)
-                .path(NetworkStoreApi.VERSION)))
-            .additionalCustomizers(RestClientImpl::enableDefaultViewInclusion)
-            .build();
+                          @Value("${powsybl.services.network-store-server.base-uri:http://network-store-server/}") String baseUri,
+                          @Value("${powsybl.services.network-store-server.binary-format-enabled:false}") boolean binaryFormatEnabled,
+                          @Value("${powsybl.services.network-store-server.compression-threshold:-1}") int compressionThreshold) {
+        this(Objects.requireNonNull(restTemplateBuilder)
+                .uriTemplateHandler(new DefaultUriBuilderFactory(UriComponentsBuilder
+                    .fromUriString(baseUri)
+                    .path(NetworkStoreApi.VERSION))),
+            binaryFormatEnabled, compressionThreshold);
     }
 
     public static RestTemplateBuilder createRestTemplateBuilder(String baseUri) {
@@ -66,8 +114,21 @@ public class RestClientImpl implements RestClient {
                         .path(NetworkStoreApi.VERSION)));
     }
 
-    private static ObjectMapper createObjectMapper() {
-        ObjectMapper objectMapper = new ObjectMapper();
+    static ObjectMapper createObjectMapper() {
+        return configureObjectMapper(new ObjectMapper());
+    }
+
+    /**
+     * Smile object mapper also referencing repeated string values (ids, enum values...) instead of writing them again.
+     */
+    static ObjectMapper createSmileObjectMapper() {
+        SmileFactory smileFactory = SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build();
+        return configureObjectMapper(new ObjectMapper(smileFactory));
+    }
+
+    private static ObjectMapper configureObjectMapper(ObjectMapper objectMapper) {
         objectMapper.registerModule(new JavaTimeModule())
             .configure(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS, false)
             .configure(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS, false);
@@ -112,10 +173,59 @@ public class RestClientImpl implements RestClient {
         }
     }
 
+    /**
+     * Remove any Smile converter registered by Spring Boot (it is added as soon as
+     * jackson-dataformat-smile is on the classpath) and, if the binary format is enabled,
+     * register our own one in front of the JSON converter. The Smile ObjectMapper is
+     * configured like the JSON one (same modules, same views with DEFAULT_VIEW_INCLUSION)
+     * so that both wire formats carry exactly the same attributes.
+     *
+     * Removing the Boot converter when disabled keeps the Accept header unchanged for
+     * clients that did not opt-in.
+     */
+    private static void configureSmileConverter(RestTemplate restTemplate, boolean binaryFormatEnabled) {
+        var converters = restTemplate.getMessageConverters();
+        converters.removeIf(MappingJackson2SmileHttpMessageConverter.class::isInstance);
+        if (binaryFormatEnabled) {
+            converters.add(0, new MappingJackson2SmileHttpMessageConverter(
+                createSmileObjectMapper().enable(MapperFeature.DEFAULT_VIEW_INCLUSION)));
+        }
+    }
+
+    private HttpHeaders createRequestHeaders(boolean withBody) {
+        HttpHeaders headers = new HttpHeaders();
+        if (binaryFormatEnabled) {
+            // prefer smile but let the server answer in json if it does not support it
+            headers.setAccept(List.of(SMILE_MEDIA_TYPE, MediaType.APPLICATION_JSON));
+            if (withBody) {
+                // the content type has to be explicit, the smile converter being the first one
+                headers.setContentType(smileRequestBodySupported ? SMILE_MEDIA_TYPE : MediaType.APPLICATION_JSON);
+            }
+        }
+        return headers;
+    }
+
+    /**
+     * Send a request with a body. If the server rejects a smile body as an unsupported media type, the request is
+     * sent again in json, like all the next ones.
+     */
+    private ResponseEntity<Void> exchangeWithBody(String url, HttpMethod method, Object body, Object... uriVariables) {
+        boolean smileRequestBody = binaryFormatEnabled && smileRequestBodySupported;
+        try {
+            return restTemplate.exchange(url, method, new HttpEntity<>(body, createRequestHeaders(true)), Void.class, uriVariables);
+        } catch (HttpClientErrorException e) {
+            if (!smileRequestBody || e.getStatusCode() != HttpStatus.UNSUPPORTED_MEDIA_TYPE) {
+                throw e;
+            }
+            smileRequestBodySupported = false;
+            return restTemplate.exchange(url, method, new HttpEntity<>(body, createRequestHeaders(true)), Void.class, uriVariables);
+        }
+    }
+
     private <T, D extends AbstractTopLevelDocument<T>> ResponseEntity<D> getDocument(String url, ParameterizedTypeReference<D> parameterizedTypeReference, Object... uriVariables) {
         return restTemplate.exchange(url,
                 HttpMethod.GET,
-                new HttpEntity<>(new HttpHeaders()),
+                new HttpEntity<>(createRequestHeaders(false)),
                 parameterizedTypeReference,
                 uriVariables);
     }
@@ -134,8 +244,7 @@ public class RestClientImpl implements RestClient {
 
     @Override
     public <T extends IdentifiableAttributes> void createAll(String url, List<Resource<T>> resources, Object... uriVariables) {
-        HttpEntity<?> entity = new HttpEntity<>(resources);
-        ResponseEntity<Void> response = restTemplate.exchange(url, HttpMethod.POST, entity, Void.class, uriVariables);
+        ResponseEntity<Void> response = exchangeWithBody(url, HttpMethod.POST, resources, uriVariables);
         if (response.getStatusCode() != HttpStatus.CREATED) {
             throw createHttpException(url, "post", response.getStatusCode());
         }
@@ -173,33 +282,142 @@ public class RestClientImpl implements RestClient {
 
     @Override
     public <T extends IdentifiableAttributes> List<Resource<T>> getAll(String target, String url, Object... uriVariables) {
-        ResponseEntity<TopLevelDocument<T>> response = getDocument(url, new ParameterizedTypeReference<>() {
-        }, uriVariables);
-        if (response.getStatusCode() != HttpStatus.OK) {
-            throw createHttpException(url, "get", response.getStatusCode());
+        List<Resource<T>> resources = new ArrayList<>();
+        streamAll(target, url, resources::add, uriVariables);
+        return resources;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends IdentifiableAttributes> void streamAll(String target, String url, Consumer<Resource<T>> consumer, Object... uriVariables) {
+        streamData(url, TopLevelDocument.class, (parser, objectMapper) -> consumer.accept(objectMapper.readValue(parser, Resource.class)), uriVariables);
+    }
+
+    @Override
+    public boolean streamCollections(String target, String url, Consumer<Resource<IdentifiableAttributes>> consumer, Object... uriVariables) {
+        try {
+            return Boolean.TRUE.equals(streamData(url, ResourceCollectionsTopLevelDocument.class, true,
+                                                  (parser, objectMapper) -> readCollection(parser, objectMapper, consumer), uriVariables));
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode() == HttpStatus.METHOD_NOT_ALLOWED) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private void streamData(String url, Class<?> documentClass, DataElementReader elementReader, Object... uriVariables) {
+        streamData(url, documentClass, false, elementReader, uriVariables);
+    }
+
+    /**
+     * @return false if the response is not found and notFoundAllowed is true
+     */
+    private Boolean streamData(String url, Class<?> documentClass, boolean notFoundAllowed, DataElementReader elementReader, Object... uriVariables) {
+        RequestCallback requestCallback = restTemplate.httpEntityCallback(new HttpEntity<>(createRequestHeaders(false)), documentClass);
+        ResponseExtractor<Boolean> responseExtractor = response -> {
+            if (notFoundAllowed && response.getStatusCode() == HttpStatus.NOT_FOUND) {
+                return false;
+            }
+            if (response.getStatusCode() != HttpStatus.OK) {
+                throw createHttpException(url, "get", response.getStatusCode());
+            }
+            readData(response, elementReader);
+            return true;
+        };
+        return restTemplate.execute(url, HttpMethod.GET, requestCallback, responseExtractor, uriVariables);
+    }
+
+    private ObjectMapper getObjectMapper(MediaType contentType) {
+        // any converter can read a response without content type, which is most likely json
+        MediaType mediaType = contentType != null ? contentType : MediaType.APPLICATION_JSON;
+        return restTemplate.getMessageConverters().stream()
+            .filter(AbstractJackson2HttpMessageConverter.class::isInstance)
+            .map(AbstractJackson2HttpMessageConverter.class::cast)
+            .filter(converter -> converter.canRead(TopLevelDocument.class, mediaType))
+            .findFirst()
+            .map(AbstractJackson2HttpMessageConverter::getObjectMapper)
+            .orElseThrow(() -> new PowsyblException("No converter found for content type " + contentType));
+    }
+
+    @FunctionalInterface
+    private interface DataElementReader {
+
+        /**
+         * Decode one element of the data array, the parser being positioned on the start token of the element.
+         */
+        void read(JsonParser parser, ObjectMapper objectMapper) throws IOException;
+    }
+
+    /**
+     * Decode the data array of a document token by token, each element being decoded by the element reader as soon
+     * as it is received.
+     */
+    private void readData(ClientHttpResponse response, DataElementReader elementReader) throws IOException {
+        ObjectMapper objectMapper = getObjectMapper(response.getHeaders().getContentType());
+        try (JsonParser parser = objectMapper.createParser(response.getBody())) {
+            parser.nextToken();
+            readData(parser, objectMapper, elementReader);
+        }
+    }
+
+    /**
+     * Decode the data array of the object the parser is positioned on, other fields of the object (meta) are skipped.
+     */
+    private static void readData(JsonParser parser, ObjectMapper objectMapper, DataElementReader elementReader) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new PowsyblException("Start object token was expected: " + parser.currentToken());
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("data".equals(fieldName) && token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elementReader.read(parser, objectMapper);
+                }
+            } else {
+                parser.skipChildren();
+            }
         }
-        TopLevelDocument<T> body = getBody(response);
-        return body.getData();
+    }
+
+    /**
+     * Decode a {@link ResourceCollection}, each of its resources being given to the consumer as soon as it is decoded.
+     */
+    @SuppressWarnings("unchecked")
+    private static void readCollection(JsonParser parser, ObjectMapper objectMapper, Consumer<Resource<IdentifiableAttributes>> consumer) throws IOException {
+        readData(parser, objectMapper, (p, m) -> consumer.accept(m.readValue(p, Resource.class)));
     }
 
     @Override
     public <T extends Attributes> void updateAll(String url, List<Resource<T>> resources, Class<?> viewClass, Object... uriVariables) {
-        HttpEntity<?> entity = wrapViewAware(viewClass, resources);
-        ResponseEntity<Void> response = restTemplate.exchange(url, HttpMethod.PUT, entity, Void.class, uriVariables);
+        ResponseEntity<Void> response = exchangeWithBody(url, HttpMethod.PUT, wrapViewAware(viewClass, resources), uriVariables);
         if (response.getStatusCode() != HttpStatus.OK) {
             throw createHttpException(url, "put", response.getStatusCode());
         }
     }
 
-    private <T extends Attributes> HttpEntity<?> wrapViewAware(Class<?> viewClass, List<Resource<T>> resources) {
+    @Override
+    public void patchAll(String url, List<ResourcePatch> patches, Object... uriVariables) {
+        ResponseEntity<Void> response = exchangeWithBody(url, HttpMethod.PATCH, patches, uriVariables);
+        if (response.getStatusCode() == HttpStatus.NOT_FOUND) {
+            // not an error for the rest template, but the way some servers report an unsupported method
+            throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+        }
+        if (response.getStatusCode() != HttpStatus.OK) {
+            throw createHttpException(url, "patch", response.getStatusCode());
+        }
+    }
+
+    private static <T extends Attributes> MappingJacksonValue wrapViewAware(Class<?> viewClass, List<Resource<T>> resources) {
         MappingJacksonValue jacksonValue = new MappingJacksonValue(resources);
         jacksonValue.setSerializationView(viewClass);
-        return new HttpEntity<>(jacksonValue);
+        return jacksonValue;
     }
 
     @Override
     public <E> E get(String url, ParameterizedTypeReference<E> responseType, Object... uriVariables) {
-        ResponseEntity<E> response = restTemplate.exchange(url, HttpMethod.GET, null, responseType, uriVariables);
+        ResponseEntity<E> response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(createRequestHeaders(false)), responseType, uriVariables);
         if (response.getStatusCode() != HttpStatus.OK) {
             throw createHttpException(url, "get", response.getStatusCode());
         }
@@ -232,8 +450,7 @@ public class RestClientImpl implements RestClient {
 
     @Override
     public <T> void deleteAll(String url, T body, Object... uriVariables) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body);
-        ResponseEntity<Void> response = restTemplate.exchange(url, HttpMethod.DELETE, requestEntity, Void.class, uriVariables);
+        ResponseEntity<Void> response = exchangeWithBody(url, HttpMethod.DELETE, body, uriVariables);
         if (response.getStatusCode() != HttpStatus.OK) {
             throw createHttpException(url, "delete", response.getStatusCode());
         }
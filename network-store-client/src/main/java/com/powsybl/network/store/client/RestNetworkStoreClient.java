@@ -9,6 +9,7 @@ package com.powsybl.network.store.client;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.google.common.base.Stopwatch;
@@ -20,13 +21,17 @@ import com.powsybl.network.store.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.*;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -38,9 +43,12 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
     private static final Logger LOGGER = LoggerFactory.getLogger(RestNetworkStoreClient.class);
 
     private static final int RESOURCES_CREATION_CHUNK_SIZE = 1000;
+    // ids are sent in the query string, so partitions are smaller than for creation to keep urls short
+    private static final int RESOURCES_IDS_CHUNK_SIZE = 100;
     public static final String STR_RETRYING = "Retrying...";
     private static final String STR_NETWORK = "network";
     private static final String URL_NETWORK_UUID = "/networks/{networkUuid}";
+    private static final String URL_IDENTIFIABLES = "/networks/{networkUuid}/identifiables";
     private static final String STR_SUBSTATION = "substation";
     private static final String STR_VOLTAGE_LEVEL = "voltage level";
     private static final String STR_BUSBAR_SECTION = "busbar section";
@@ -65,13 +73,75 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     private final ObjectMapper objectMapper;
 
+    private final ChunkedUploader uploader;
+
+    private final boolean lazyExtensionAttributesEnabled;
+
+    // non-blocking client loading collections one by one all at the same time, if the rest client supports it
+    private final AsyncNetworkStoreClient asyncClient;
+
+    // set to false the first time the server answers that it does not support loading several collections at once
+    private volatile boolean collectionsRequestSupported;
+
+    private volatile boolean idsFilterSupported = true;
+
+    // set to false the first time the server answers that it does not support patching resources
+    private volatile boolean patchSupported = true;
+
     public RestNetworkStoreClient(RestClient restClient) {
         this(restClient, new ObjectMapper());
     }
 
     public RestNetworkStoreClient(RestClient restClient, ObjectMapper objectMapper) {
+        this(restClient, objectMapper, new ChunkedUploader(null, 1));
+    }
+
+    /**
+     * @param uploadParallelism maximum number of chunks of a collection created or updated at the same time, 1 to
+     *                          send them one after the other
+     */
+    public RestNetworkStoreClient(RestClient restClient, ExecutorService executorService, int uploadParallelism) {
+        this(restClient, executorService, uploadParallelism, false);
+    }
+
+    /**
+     * @param uploadParallelism maximum number of chunks of a collection created or updated at the same time, 1 to
+     *                          send them one after the other
+     * @param lazyExtensionAttributesEnabled true to keep the extension attributes loaded for a whole collection as
+     *                                       json bytes, only deserialized when the extension is used
+     */
+    public RestNetworkStoreClient(RestClient restClient, ExecutorService executorService, int uploadParallelism,
+                                  boolean lazyExtensionAttributesEnabled) {
+        this(restClient, executorService, uploadParallelism, lazyExtensionAttributesEnabled, true);
+    }
+
+    /**
+     * @param collectionsRequestEnabled false to never load several collections with a single request, even if the
+     *                                  server supports it
+     */
+    public RestNetworkStoreClient(RestClient restClient, ExecutorService executorService, int uploadParallelism,
+                                  boolean lazyExtensionAttributesEnabled, boolean collectionsRequestEnabled) {
+        this(restClient, new ObjectMapper(), new ChunkedUploader(executorService, uploadParallelism), lazyExtensionAttributesEnabled,
+            collectionsRequestEnabled);
+    }
+
+    RestNetworkStoreClient(RestClient restClient, ObjectMapper objectMapper, ChunkedUploader uploader) {
+        this(restClient, objectMapper, uploader, false);
+    }
+
+    RestNetworkStoreClient(RestClient restClient, ObjectMapper objectMapper, ChunkedUploader uploader,
+                           boolean lazyExtensionAttributesEnabled) {
+        this(restClient, objectMapper, uploader, lazyExtensionAttributesEnabled, true);
+    }
+
+    RestNetworkStoreClient(RestClient restClient, ObjectMapper objectMapper, ChunkedUploader uploader,
+                           boolean lazyExtensionAttributesEnabled, boolean collectionsRequestEnabled) {
         this.restClient = Objects.requireNonNull(restClient);
         this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.uploader = Objects.requireNonNull(uploader);
+        this.lazyExtensionAttributesEnabled = lazyExtensionAttributesEnabled;
+        this.collectionsRequestSupported = collectionsRequestEnabled;
+        asyncClient = restClient instanceof AsyncRestClientImpl asyncRestClient ? new AsyncNetworkStoreClient(asyncRestClient) : null;
         objectMapper.registerModule(new JavaTimeModule())
             .configure(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS, false)
             .configure(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS, false);
@@ -81,22 +151,15 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
     // network
 
     private <T extends IdentifiableAttributes> void create(String target, String url, List<Resource<T>> resourceList, Object... uriVariables) {
-        for (List<Resource<T>> resourcePartition : Lists.partition(resourceList, RESOURCES_CREATION_CHUNK_SIZE)) {
+        uploader.upload(ChunkedUploader.partition(resourceList, objectMapper.writer()), resourcePartition -> {
             if (LOGGER.isInfoEnabled()) {
                 LOGGER.info("Creating {} {} resources ({})...", resourcePartition.size(), target, UriComponentsBuilder.fromUriString(url).buildAndExpand(uriVariables));
             }
             Stopwatch stopwatch = Stopwatch.createStarted();
-            try {
-                restClient.createAll(url, resourcePartition, uriVariables);
-            } catch (ResourceAccessException e) {
-                LOGGER.error(e.toString(), e);
-                // retry only one time
-                LOGGER.info(STR_RETRYING);
-                restClient.createAll(url, resourcePartition, uriVariables);
-            }
+            restClient.createAll(url, resourcePartition, uriVariables);
             stopwatch.stop();
             LOGGER.info("{} {} resources created in {} ms", resourcePartition.size(), target, stopwatch.elapsed(TimeUnit.MILLISECONDS));
-        }
+        });
     }
 
     private <T extends IdentifiableAttributes> List<Resource<T>> getAll(String target, String url, Object... uriVariables) {
@@ -110,6 +173,20 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return resourceList;
     }
 
+    private <T extends IdentifiableAttributes> void streamAll(String target, String url, Consumer<Resource<T>> consumer, Object... uriVariables) {
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Loading {} resources {}", target, UriComponentsBuilder.fromUriString(url).buildAndExpand(uriVariables));
+        }
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        AtomicLong resourceCount = new AtomicLong();
+        restClient.<T>streamAll(target, url, resource -> {
+            resourceCount.incrementAndGet();
+            consumer.accept(resource);
+        }, uriVariables);
+        stopwatch.stop();
+        LOGGER.info("{} {} resources loaded in {} ms", resourceCount.get(), target, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+    }
+
     private <T extends IdentifiableAttributes> Optional<Resource<T>> get(String target, String url, Object... uriVariables) {
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("Loading {} resource {}", target, UriComponentsBuilder.fromUriString(url).buildAndExpand(uriVariables));
@@ -166,7 +243,45 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return filteredExtensionAttributes;
     }
 
-    private static Map<String, ExtensionAttributes> filterRawExtensionAttributes(Map<String, ExtensionAttributes> extensionAttributes) {
+    private Map<String, ExtensionAttributes> getLazyExtensionAttributesMap(String extensionName, String urlTemplate, Object... uriVariables) {
+        logGetExtensionAttributesUrl(urlTemplate, uriVariables);
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        Map<String, LazyExtensionAttributes> lazyExtensionAttributes = restClient.get(urlTemplate, new ParameterizedTypeReference<>() { }, uriVariables);
+        // without loader, the attributes could not be materialized
+        Map<String, ExtensionAttributes> filteredExtensionAttributes = ExtensionLoaders.loaderExists(extensionName)
+                ? new HashMap<>(lazyExtensionAttributes)
+                : new HashMap<>();
+        int filteredCount = lazyExtensionAttributes.size() - filteredExtensionAttributes.size();
+
+        stopwatch.stop();
+        logGetExtensionAttributesTime(filteredExtensionAttributes.size(), stopwatch.elapsed(TimeUnit.MILLISECONDS), filteredCount);
+
+        return filteredExtensionAttributes;
+    }
+
+    private Map<String, Map<String, ExtensionAttributes>> getLazyExtensionAttributesNestedMap(String urlTemplate, Object... uriVariables) {
+        logGetExtensionAttributesUrl(urlTemplate, uriVariables);
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        Map<String, Map<String, LazyExtensionAttributes>> lazyExtensionAttributes = restClient.get(urlTemplate, new ParameterizedTypeReference<>() { }, uriVariables);
+        Map<String, Map<String, ExtensionAttributes>> filteredExtensionAttributes = new HashMap<>();
+        long filteredAttributesCount = 0;
+        for (Map.Entry<String, Map<String, LazyExtensionAttributes>> entry : lazyExtensionAttributes.entrySet()) {
+            Map<String, ExtensionAttributes> filteredInnerMap = entry.getValue().entrySet().stream()
+                    .filter(innerEntry -> ExtensionLoaders.loaderExists(innerEntry.getKey()))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            if (!filteredInnerMap.isEmpty()) {
+                filteredExtensionAttributes.put(entry.getKey(), filteredInnerMap);
+            }
+            filteredAttributesCount += entry.getValue().size() - filteredInnerMap.size();
+        }
+        stopwatch.stop();
+        long loadedAttributesCount = filteredExtensionAttributes.values().stream().mapToLong(Map::size).sum();
+        logGetExtensionAttributesTime(loadedAttributesCount, stopwatch.elapsed(TimeUnit.MILLISECONDS), filteredAttributesCount);
+
+        return filteredExtensionAttributes;
+    }
+
+    static Map<String, ExtensionAttributes> filterRawExtensionAttributes(Map<String, ExtensionAttributes> extensionAttributes) {
         return extensionAttributes.entrySet().stream()
                 .filter(entry -> !(entry.getValue() instanceof RawExtensionAttributes))
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
@@ -267,22 +382,63 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
     }
 
     private <T extends IdentifiableAttributes> void updateAll(String target, String url, List<Resource<T>> resources, AttributeFilter attributeFilter, Object... uriVariables) {
-        for (List<Resource<T>> resourcePartition : Lists.partition(resources, RESOURCES_CREATION_CHUNK_SIZE)) {
+        ObjectWriter writer = objectMapper.writerWithView(AttributeFilter.getViewClass(attributeFilter));
+        uploader.upload(ChunkedUploader.partition(resources, writer), resourcePartition -> {
             Stopwatch stopwatch = Stopwatch.createStarted();
-            try {
-                updatePartition(target, url, attributeFilter, resourcePartition, uriVariables);
-            } catch (ResourceAccessException e) {
-                LOGGER.error(e.toString(), e);
-                // retry only one time
-                LOGGER.info(STR_RETRYING);
-                updatePartition(target, url, attributeFilter, resourcePartition, uriVariables);
-            }
+            updatePartition(target, url, attributeFilter, resourcePartition, uriVariables);
             stopwatch.stop();
             if (LOGGER.isInfoEnabled()) {
                 LOGGER.info("{} {}{} resources updated in {} ms", resourcePartition.size(), target,
                         AttributeFilter.getLabelFromView(AttributeFilter.getViewClass(attributeFilter)), stopwatch.elapsed(TimeUnit.MILLISECONDS));
             }
+        });
+    }
+
+    private void patchPartition(List<ResourcePatch> patches, UUID networkUuid) {
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Patching {} resources ({})...", patches.size(), UriComponentsBuilder.fromUriString(URL_IDENTIFIABLES).buildAndExpand(networkUuid));
+        }
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        restClient.patchAll(URL_IDENTIFIABLES, patches, networkUuid);
+        stopwatch.stop();
+        LOGGER.info("{} resources patched in {} ms", patches.size(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Tell if resources can be patched, false once the server has answered that it does not support it.
+     */
+    public boolean isPatchSupported() {
+        return patchSupported;
+    }
+
+    /**
+     * Update resources by only sending their modified attributes. Patches can be of any resource type. If the server
+     * does not support it, answering 404 or 405, nothing is patched, for this call and the following ones, and the
+     * whole resources have to be updated instead.
+     *
+     * @return false if the patches have not been sent as the server does not support them
+     */
+    public boolean patchResources(UUID networkUuid, List<ResourcePatch> patches) {
+        if (!patchSupported) {
+            return false;
+        }
+        List<List<ResourcePatch>> partitions = ChunkedUploader.partition(patches, objectMapper.writer());
+        if (partitions.isEmpty()) {
+            return true;
+        }
+        // the first partition is sent alone, so that no other partition is sent if the server does not support patches
+        try {
+            uploader.uploadWithRetry(partitions.get(0), partition -> patchPartition(partition, networkUuid));
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode() != HttpStatus.NOT_FOUND && e.getStatusCode() != HttpStatus.METHOD_NOT_ALLOWED) {
+                throw e;
+            }
+            LOGGER.warn("Patching resources is not supported by the server, the whole resources are updated");
+            patchSupported = false;
+            return false;
         }
+        uploader.upload(partitions.subList(1, partitions.size()), partition -> patchPartition(partition, networkUuid));
+        return true;
     }
 
     private void removeAll(String target, String url, UUID networkUuid, int variantNum, List<String> ids) {
@@ -997,6 +1153,150 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return get("identifiable", "/networks/{networkUuid}/{variantNum}/identifiables/{id}", networkUuid, variantNum, id);
     }
 
+    @Override
+    public <T extends IdentifiableAttributes> void getIdentifiables(UUID networkUuid, int variantNum, ResourceType resourceType, Consumer<Resource<T>> consumer) {
+        if (resourceType == ResourceType.NETWORK) {
+            NetworkStoreClient.super.getIdentifiables(networkUuid, variantNum, resourceType, consumer);
+        } else {
+            streamAll(resourceType.getDescription(), "/networks/{networkUuid}/{variantNum}/" + getCollectionPath(resourceType), consumer, networkUuid, variantNum);
+        }
+    }
+
+    @Override
+    public List<Resource<IdentifiableAttributes>> getIdentifiablesByIds(UUID networkUuid, int variantNum, Collection<String> ids) {
+        List<Resource<IdentifiableAttributes>> resources = getAllByIds("identifiable", "/networks/{networkUuid}/{variantNum}/identifiables", ids, networkUuid, variantNum);
+        return resources != null ? resources : NetworkStoreClient.super.getIdentifiablesByIds(networkUuid, variantNum, ids);
+    }
+
+    @Override
+    public List<Resource<IdentifiableAttributes>> getIdentifiablesByIds(UUID networkUuid, int variantNum, ResourceType resourceType, Collection<String> ids) {
+        if (resourceType == ResourceType.NETWORK) {
+            return NetworkStoreClient.super.getIdentifiablesByIds(networkUuid, variantNum, resourceType, ids);
+        }
+        List<Resource<IdentifiableAttributes>> resources = getAllByIds(resourceType.getDescription(), "/networks/{networkUuid}/{variantNum}/" + getCollectionPath(resourceType), ids, networkUuid, variantNum);
+        return resources != null ? resources : NetworkStoreClient.super.getIdentifiablesByIds(networkUuid, variantNum, resourceType, ids);
+    }
+
+    /**
+     * Get the resources with the given ids, one id query parameter being added to the url for each id. The server is
+     * expected to only return the resources of the collection whose id is one of the id query parameters, unknown ids
+     * being ignored. If it does not, answering 400 or 405, or returning resources which have not been requested, the
+     * ids filter is not used anymore and null is returned so that the resources are loaded one by one.
+     */
+    private List<Resource<IdentifiableAttributes>> getAllByIds(String target, String url, Collection<String> ids, Object... uriVariables) {
+        if (!idsFilterSupported) {
+            return null;
+        }
+        List<Resource<IdentifiableAttributes>> resources = new ArrayList<>(ids.size());
+        for (List<String> partition : Iterables.partition(ids, RESOURCES_IDS_CHUNK_SIZE)) {
+            UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(url);
+            Object[] partitionUriVariables = Arrays.copyOf(uriVariables, uriVariables.length + partition.size());
+            for (int i = 0; i < partition.size(); i++) {
+                builder.queryParam("id", "{id" + i + "}");
+                partitionUriVariables[uriVariables.length + i] = partition.get(i);
+            }
+            List<Resource<IdentifiableAttributes>> partitionResources;
+            try {
+                partitionResources = getAll(target, builder.build().toUriString(), partitionUriVariables);
+            } catch (HttpClientErrorException e) {
+                if (e.getStatusCode() != HttpStatus.BAD_REQUEST && e.getStatusCode() != HttpStatus.METHOD_NOT_ALLOWED) {
+                    throw e;
+                }
+                partitionResources = null;
+            }
+            Set<String> partitionIds = new HashSet<>(partition);
+            if (partitionResources == null || !partitionResources.stream().allMatch(resource -> partitionIds.contains(resource.getId()))) {
+                LOGGER.warn("Filtering resources by ids is not supported by the server, resources are loaded one by one");
+                idsFilterSupported = false;
+                return null;
+            }
+            resources.addAll(partitionResources);
+        }
+        return resources;
+    }
+
+    /**
+     * Load several collections with a single request to {@code /networks/{networkUuid}/{variantNum}/collections}. If
+     * the server does not support it, answering 404 or 405, the collections are loaded one by one, for this request
+     * and the following ones. With an {@link AsyncRestClientImpl}, the requests of the collections loaded one by one
+     * are all sent at the same time, without a thread waiting for each of them.
+     */
+    @Override
+    public void getCollections(UUID networkUuid, int variantNum, Set<ResourceType> resourceTypes, Consumer<Resource<IdentifiableAttributes>> consumer) {
+        if (resourceTypes.isEmpty()) {
+            return;
+        }
+        if (!collectionsRequestSupported) {
+            getCollectionsOneByOne(networkUuid, variantNum, resourceTypes, consumer);
+            return;
+        }
+        String resourceTypesParam = resourceTypes.stream().map(ResourceType::name).sorted().collect(Collectors.joining(","));
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Loading collections {} of network {} variant {}", resourceTypesParam, networkUuid, variantNum);
+        }
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        AtomicLong resourceCount = new AtomicLong();
+        boolean supported = restClient.streamCollections("collections", "/networks/{networkUuid}/{variantNum}/collections?resourceTypes={resourceTypes}", resource -> {
+            resourceCount.incrementAndGet();
+            consumer.accept(resource);
+        }, networkUuid, variantNum, resourceTypesParam);
+        if (!supported) {
+            LOGGER.warn("Loading several collections in a single request is not supported by the server, collections are loaded one by one");
+            collectionsRequestSupported = false;
+            getCollectionsOneByOne(networkUuid, variantNum, resourceTypes, consumer);
+            return;
+        }
+        stopwatch.stop();
+        LOGGER.info("{} resources of {} collections loaded in {} ms", resourceCount.get(), resourceTypes.size(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
+    }
+
+    private void getCollectionsOneByOne(UUID networkUuid, int variantNum, Set<ResourceType> resourceTypes, Consumer<Resource<IdentifiableAttributes>> consumer) {
+        if (asyncClient == null) {
+            NetworkStoreClient.super.getCollections(networkUuid, variantNum, resourceTypes, consumer);
+            return;
+        }
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        Map<ResourceType, List<Resource<IdentifiableAttributes>>> resourcesByType;
+        try {
+            resourcesByType = asyncClient.getCollections(networkUuid, variantNum, resourceTypes).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        // resources are given to the consumer in the calling thread
+        resourcesByType.values().forEach(resources -> resources.forEach(consumer));
+        stopwatch.stop();
+        LOGGER.info("{} collections loaded concurrently in {} ms", resourceTypes.size(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
+    }
+
+    static String getCollectionPath(ResourceType resourceType) {
+        return switch (resourceType) {
+            case SUBSTATION -> "substations";
+            case VOLTAGE_LEVEL -> "voltage-levels";
+            case LOAD -> "loads";
+            case GENERATOR -> "generators";
+            case BATTERY -> "batteries";
+            case SHUNT_COMPENSATOR -> "shunt-compensators";
+            case VSC_CONVERTER_STATION -> "vsc-converter-stations";
+            case LCC_CONVERTER_STATION -> "lcc-converter-stations";
+            case STATIC_VAR_COMPENSATOR -> "static-var-compensators";
+            case BUSBAR_SECTION -> "busbar-sections";
+            case SWITCH -> "switches";
+            case TWO_WINDINGS_TRANSFORMER -> "2-windings-transformers";
+            case THREE_WINDINGS_TRANSFORMER -> "3-windings-transformers";
+            case LINE -> "lines";
+            case HVDC_LINE -> "hvdc-lines";
+            case BOUNDARY_LINE -> "boundary-lines";
+            case GROUND -> "grounds";
+            case CONFIGURED_BUS -> "configured-buses";
+            case TIE_LINE -> "tie-lines";
+            case AREA -> "areas";
+            case NETWORK -> throw new PowsyblException("Network is not a collection");
+        };
+    }
+
     @Override
     public List<String> getIdentifiablesIds(UUID networkUuid, int variantNum) {
         Stopwatch stopwatch = Stopwatch.createStarted();
@@ -1051,6 +1351,9 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public Map<String, ExtensionAttributes> getAllExtensionsAttributesByResourceTypeAndExtensionName(UUID networkUuid, int variantNum, ResourceType resourceType, String extensionName) {
+        if (lazyExtensionAttributesEnabled) {
+            return getLazyExtensionAttributesMap(extensionName, "/networks/{networkUuid}/{variantNum}/identifiables/types/{type}/extensions/{extensionName}", networkUuid, variantNum, resourceType, extensionName);
+        }
         return getExtensionAttributesMap("/networks/{networkUuid}/{variantNum}/identifiables/types/{type}/extensions/{extensionName}", networkUuid, variantNum, resourceType, extensionName);
     }
 
@@ -1061,6 +1364,9 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public Map<String, Map<String, ExtensionAttributes>> getAllExtensionsAttributesByResourceType(UUID networkUuid, int variantNum, ResourceType resourceType) {
+        if (lazyExtensionAttributesEnabled) {
+            return getLazyExtensionAttributesNestedMap("/networks/{networkUuid}/{variantNum}/identifiables/types/{resourceType}/extensions", networkUuid, variantNum, resourceType);
+        }
         return getExtensionAttributesNestedMap("/networks/{networkUuid}/{variantNum}/identifiables/types/{resourceType}/extensions", networkUuid, variantNum, resourceType);
     }
 
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.powsybl.network.store.iidm.impl.DuplicateVariantNumException;
 import com.powsybl.network.store.model.TopLevelError;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
@@ -33,16 +34,19 @@ public class RestTemplateResponseErrorHandler implements ResponseErrorHandler {
 
     @Override
     public void handleError(ClientHttpResponse response) throws IOException {
-        byte[] body = response.getBody().readAllBytes();
+        handleError(response.getStatusCode(), response.getStatusText(), response.getBody().readAllBytes());
+    }
+
+    static void handleError(HttpStatusCode statusCode, String statusText, byte[] body) {
         String strBody = new String(body);
         if (strBody.contains(DUPLICATE_VARIANT_NUM_KEY)) {
             throw new DuplicateVariantNumException(strBody);
         }
-        if (response.getStatusCode().is5xxServerError()) {
-            throw new HttpServerErrorException(response.getStatusCode(), response.getStatusText(), body, StandardCharsets.UTF_8);
-        } else if (response.getStatusCode().is4xxClientError()) {
-            if (response.getStatusCode() != HttpStatus.NOT_FOUND) {
-                throw new HttpClientErrorException(response.getStatusCode(), response.getStatusText(), body, StandardCharsets.UTF_8);
+        if (statusCode.is5xxServerError()) {
+            throw new HttpServerErrorException(statusCode, statusText, body, StandardCharsets.UTF_8);
+        } else if (statusCode.is4xxClientError()) {
+            if (statusCode != HttpStatus.NOT_FOUND) {
+                throw new HttpClientErrorException(statusCode, statusText, body, StandardCharsets.UTF_8);
             }
         }
     }
@@ -0,0 +1,251 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.network.store.iidm.impl.NetworkStoreClient;
+import com.powsybl.network.store.model.*;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class AsyncNetworkStoreClientTest {
+
+    private static final UUID NETWORK_UUID = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+
+    private static final String BASE_PATH = "/v1/networks/" + NETWORK_UUID + "/" + Resource.INITIAL_VARIANT_NUM;
+
+    private final ObjectMapper objectMapper = RestClientImpl.createObjectMapper();
+
+    private final ObjectMapper smileObjectMapper = RestClientImpl.createSmileObjectMapper();
+
+    private HttpServer server;
+
+    private String baseUrl;
+
+    private AsyncNetworkStoreClient client;
+
+    private final List<String> createdBodies = Collections.synchronizedList(new ArrayList<>());
+
+    private final List<String> requestPaths = Collections.synchronizedList(new ArrayList<>());
+
+    // content type and content encoding of the created bodies
+    private final List<String> createdBodyHeaders = Collections.synchronizedList(new ArrayList<>());
+
+    private volatile boolean smileRequestBodyRejected = false;
+
+    private volatile int collectionsStatus = 200;
+
+    // the server only answers once all the expected requests have been received
+    private CountDownLatch inFlightRequests = new CountDownLatch(0);
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/v1/networks", this::handle);
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort() + "/";
+        client = new AsyncNetworkStoreClient(baseUrl);
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    private static Resource<SubstationAttributes> createSubstation(String id) {
+        return Resource.substationBuilder()
+            .id(id)
+            .attributes(SubstationAttributes.builder().country(Country.FR).build())
+            .build();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        requestPaths.add(path);
+        try (InputStream is = exchange.getRequestBody()) {
+            byte[] body = is.readAllBytes();
+            if ("POST".equals(exchange.getRequestMethod())) {
+                String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+                String contentEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+                createdBodyHeaders.add(contentType + ";" + contentEncoding);
+                boolean smileBody = RestClientImpl.SMILE_MEDIA_TYPE.toString().equals(contentType);
+                if (smileBody && smileRequestBodyRejected) {
+                    exchange.sendResponseHeaders(415, -1);
+                    exchange.close();
+                    return;
+                }
+                if (GzipCompressionInterceptor.GZIP.equals(contentEncoding)) {
+                    body = GzipCompressionInterceptor.decompress(body);
+                }
+                createdBodies.add(objectMapper.writeValueAsString((smileBody ? smileObjectMapper : objectMapper).readTree(body)));
+                exchange.sendResponseHeaders(201, -1);
+                exchange.close();
+                return;
+            }
+        }
+        inFlightRequests.countDown();
+        try {
+            if (!inFlightRequests.await(10, TimeUnit.SECONDS)) {
+                send(exchange, 500, "Requests are not sent concurrently".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (path.equals(BASE_PATH + "/substations")) {
+            send(exchange, 200, objectMapper.writeValueAsBytes(TopLevelDocument.of(List.of(createSubstation("S1"), createSubstation("S2")))));
+        } else if (path.startsWith(BASE_PATH + "/substations/")) {
+            send(exchange, 404, new byte[0]);
+        } else if (path.equals(BASE_PATH + "/collections")) {
+            send(exchange, collectionsStatus, collectionsStatus == 200
+                ? objectMapper.writeValueAsBytes(ResourceCollectionsTopLevelDocument.of(List.of(ResourceCollection.of(ResourceType.SUBSTATION, List.of(createSubstation("S1"))))))
+                : new byte[0]);
+        } else if (path.equals(BASE_PATH + "/identifiables/types/GENERATOR/extensions/activePowerControl")) {
+            send(exchange, 200, objectMapper.writeValueAsBytes(Map.of("G1", ActivePowerControlAttributes.builder().droop(4).participate(true).build())));
+        } else if (path.equals(BASE_PATH + "/lines")) {
+            send(exchange, 500, "boom".getBytes(StandardCharsets.UTF_8));
+        } else {
+            send(exchange, 200, objectMapper.writeValueAsBytes(TopLevelDocument.empty()));
+        }
+    }
+
+    /**
+     * Send a json body, converted to smile and compressed if the client accepts it.
+     */
+    private void send(HttpExchange exchange, int status, byte[] jsonBody) throws IOException {
+        byte[] body = jsonBody;
+        String accept = Objects.requireNonNullElse(exchange.getRequestHeaders().getFirst("Accept"), "");
+        if (status == 200 && accept.contains(RestClientImpl.SMILE_MEDIA_TYPE.toString())) {
+            body = smileObjectMapper.writeValueAsBytes(objectMapper.readTree(jsonBody));
+            exchange.getResponseHeaders().add("Content-Type", RestClientImpl.SMILE_MEDIA_TYPE.toString());
+        } else {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+        }
+        if (body.length > 0 && GzipCompressionInterceptor.GZIP.equals(exchange.getRequestHeaders().getFirst("Accept-Encoding"))) {
+            body = GzipCompressionInterceptor.compress(body);
+            exchange.getResponseHeaders().add("Content-Encoding", GzipCompressionInterceptor.GZIP);
+        }
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            exchange.getResponseBody().write(body);
+        }
+        exchange.close();
+    }
+
+    @Test
+    public void testConcurrentLoading() {
+        // requests are answered only once all of them have been received by the server, which would never happen
+        // if each request was blocking a client thread until its response
+        Set<ResourceType> resourceTypes = EnumSet.of(ResourceType.SUBSTATION, ResourceType.VOLTAGE_LEVEL, ResourceType.LOAD,
+            ResourceType.GENERATOR, ResourceType.SWITCH);
+        inFlightRequests = new CountDownLatch(resourceTypes.size() + 1);
+        CompletableFuture<Map<ResourceType, List<Resource<IdentifiableAttributes>>>> collections = client.getCollections(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, resourceTypes);
+        CompletableFuture<Map<String, ExtensionAttributes>> extensions = client.getAllExtensionsAttributesByResourceTypeAndExtensionName(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, ResourceType.GENERATOR, "activePowerControl");
+
+        Map<ResourceType, List<Resource<IdentifiableAttributes>>> resourcesByType = collections.join();
+        assertEquals(resourceTypes, resourcesByType.keySet());
+        assertEquals(List.of("S1", "S2"), resourcesByType.get(ResourceType.SUBSTATION).stream().map(Resource::getId).toList());
+        assertTrue(resourcesByType.get(ResourceType.LOAD).isEmpty());
+        ActivePowerControlAttributes apc = (ActivePowerControlAttributes) extensions.join().get("G1");
+        assertEquals(4, apc.getDroop(), 0);
+    }
+
+    @Test
+    public void testBlockingClient() {
+        NetworkStoreClient blockingClient = client.toBlockingClient();
+        assertEquals(2, blockingClient.getSubstations(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM).size());
+        assertTrue(blockingClient.getSubstation(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "S3").isEmpty());
+        assertThrows(HttpServerErrorException.class, () -> blockingClient.getLines(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM));
+
+        blockingClient.createSubstations(NETWORK_UUID, List.of(createSubstation("S3")));
+        assertEquals(1, createdBodies.size());
+        assertTrue(createdBodies.get(0).startsWith("[{\"type\":\"SUBSTATION\",\"id\":\"S3\""));
+    }
+
+    @Test
+    public void testBinaryFormatAndCompression() {
+        NetworkStoreConfig config = new NetworkStoreConfig(baseUrl)
+            .setBinaryFormatEnabled(true)
+            .setCompressionThreshold(0);
+        NetworkStoreClient blockingClient = new RestNetworkStoreClient(new AsyncRestClientImpl(config));
+        // smile and gzip encoded response
+        assertEquals(List.of("S1", "S2"), blockingClient.getSubstations(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM).stream().map(Resource::getId).toList());
+
+        blockingClient.createSubstations(NETWORK_UUID, List.of(createSubstation("S3")));
+        assertEquals(List.of("application/x-jackson-smile;gzip"), createdBodyHeaders);
+        assertTrue(createdBodies.get(0).startsWith("[{\"type\":\"SUBSTATION\",\"id\":\"S3\""));
+
+        // smile rejected by the server, the request is sent again in json, like the next ones
+        smileRequestBodyRejected = true;
+        blockingClient.createSubstations(NETWORK_UUID, List.of(createSubstation("S4")));
+        blockingClient.createSubstations(NETWORK_UUID, List.of(createSubstation("S5")));
+        assertEquals(List.of("application/x-jackson-smile;gzip", "application/x-jackson-smile;gzip", "application/json;gzip", "application/json;gzip"),
+            createdBodyHeaders);
+        assertEquals(3, createdBodies.size());
+        assertTrue(createdBodies.get(2).startsWith("[{\"type\":\"SUBSTATION\",\"id\":\"S5\""));
+    }
+
+    @Test
+    public void testStreamCollections() {
+        AsyncRestClientImpl restClient = new AsyncRestClientImpl(baseUrl);
+        String url = "/networks/{networkUuid}/{variantNum}/collections?resourceTypes={resourceTypes}";
+        List<Resource<IdentifiableAttributes>> resources = new ArrayList<>();
+        assertTrue(restClient.streamCollections("collections", url, resources::add, NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "SUBSTATION"));
+        assertEquals(List.of("S1"), resources.stream().map(Resource::getId).toList());
+
+        collectionsStatus = 404;
+        assertFalse(restClient.streamCollections("collections", url, resources::add, NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "SUBSTATION"));
+        collectionsStatus = 405;
+        assertFalse(restClient.streamCollections("collections", url, resources::add, NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "SUBSTATION"));
+        assertEquals(1, resources.size());
+    }
+
+    @Test
+    public void testCollectionsLoadedConcurrentlyAfterFallback() {
+        collectionsStatus = 405;
+        NetworkStoreClient restStoreClient = new RestNetworkStoreClient(new AsyncRestClientImpl(baseUrl));
+        Set<ResourceType> resourceTypes = EnumSet.of(ResourceType.SUBSTATION, ResourceType.LOAD, ResourceType.GENERATOR);
+
+        // the collections request, and then one request per collection
+        List<Resource<IdentifiableAttributes>> resources = new ArrayList<>();
+        restStoreClient.getCollections(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, resourceTypes, resources::add);
+        assertEquals(List.of("S1", "S2"), resources.stream().map(Resource::getId).toList());
+        assertEquals(4, requestPaths.size());
+        assertEquals(BASE_PATH + "/collections", requestPaths.get(0));
+
+        // unsupported collections request is not sent again, and the collections requests are answered only once all
+        // of them have been received
+        inFlightRequests = new CountDownLatch(resourceTypes.size());
+        requestPaths.clear();
+        resources.clear();
+        restStoreClient.getCollections(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, resourceTypes, resources::add);
+        assertEquals(2, resources.size());
+        assertEquals(3, requestPaths.size());
+        assertFalse(requestPaths.contains(BASE_PATH + "/collections"));
+    }
+}
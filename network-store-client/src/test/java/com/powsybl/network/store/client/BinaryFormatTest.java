@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.network.store.model.*;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.*;
+import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.http.HttpMethod.POST;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * @author agent <agent at local>
+ */
+@RunWith(SpringRunner.class)
+@RestClientTest
+public class BinaryFormatTest {
+
+    @SpringBootConfiguration
+    public static class EmptyConfig {
+
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        @Primary
+        public RestClient testClient(RestTemplateBuilder restTemplateBuilder) {
+            return new RestClientImpl(restTemplateBuilder, true);
+        }
+    }
+
+    private static final ObjectMapper JSON_MAPPER = RestClientImpl.createObjectMapper();
+
+    private static final ObjectMapper SMILE_MAPPER = RestClientImpl.createSmileObjectMapper();
+
+    @Autowired
+    private RestClient restClient;
+
+    @Autowired
+    private MockRestServiceServer server;
+
+    private final UUID networkUuid = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+
+    private static List<Resource<SubstationAttributes>> createSubstations(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> Resource.substationBuilder()
+                .id("substation" + i)
+                .attributes(SubstationAttributes.builder()
+                    .name("Substation " + i)
+                    .country(Country.FR)
+                    .tso("RTE")
+                    .build())
+                .build())
+            .toList();
+    }
+
+    @Test
+    public void testGetAllWithSmile() throws Exception {
+        List<Resource<SubstationAttributes>> substations = createSubstations(100);
+        byte[] smile = SMILE_MAPPER.writeValueAsBytes(TopLevelDocument.of(substations));
+        byte[] json = JSON_MAPPER.writeValueAsBytes(TopLevelDocument.of(substations));
+        assertTrue("Smile size " + smile.length + " is not half of json size " + json.length, 2 * smile.length <= json.length);
+
+        server.expect(requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/substations"))
+            .andExpect(method(GET))
+            .andExpect(header(HttpHeaders.ACCEPT, startsWith(RestClientImpl.SMILE_MEDIA_TYPE.toString())))
+            .andRespond(withSuccess(smile, RestClientImpl.SMILE_MEDIA_TYPE));
+
+        RestNetworkStoreClient client = new RestNetworkStoreClient(restClient);
+        List<Resource<SubstationAttributes>> result = client.getSubstations(networkUuid, Resource.INITIAL_VARIANT_NUM);
+        server.verify();
+        assertEquals(100, result.size());
+        assertEquals("substation42", result.get(42).getId());
+        assertEquals("Substation 42", result.get(42).getAttributes().getName());
+        assertEquals(Country.FR, result.get(42).getAttributes().getCountry());
+    }
+
+    @Test
+    public void testJsonFallback() throws Exception {
+        // a server not supporting smile still answers in json
+        server.expect(requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/substations"))
+            .andExpect(method(GET))
+            .andRespond(withSuccess(JSON_MAPPER.writeValueAsString(TopLevelDocument.of(createSubstations(2))), MediaType.APPLICATION_JSON));
+
+        RestNetworkStoreClient client = new RestNetworkStoreClient(restClient);
+        List<Resource<SubstationAttributes>> result = client.getSubstations(networkUuid, Resource.INITIAL_VARIANT_NUM);
+        server.verify();
+        assertEquals(List.of("substation0", "substation1"), result.stream().map(Resource::getId).toList());
+    }
+
+    @Test
+    public void testResponseWithoutContentType() throws Exception {
+        // a response without content type is decoded as json
+        server.expect(requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/substations"))
+            .andExpect(method(GET))
+            .andRespond(withSuccess(JSON_MAPPER.writeValueAsString(TopLevelDocument.of(createSubstations(2))), null));
+
+        RestNetworkStoreClient client = new RestNetworkStoreClient(restClient);
+        List<Resource<SubstationAttributes>> result = client.getSubstations(networkUuid, Resource.INITIAL_VARIANT_NUM);
+        server.verify();
+        assertEquals(List.of("substation0", "substation1"), result.stream().map(Resource::getId).toList());
+    }
+
+    @Test
+    public void testCreateWithSmile() {
+        server.expect(requestTo("/networks/" + networkUuid + "/substations"))
+            .andExpect(method(POST))
+            .andExpect(content().contentType(RestClientImpl.SMILE_MEDIA_TYPE))
+            .andRespond(withStatus(HttpStatus.CREATED));
+
+        RestNetworkStoreClient client = new RestNetworkStoreClient(restClient);
+        client.createSubstations(networkUuid, createSubstations(3));
+        server.verify();
+    }
+
+    @Test
+    public void testCreateJsonFallback() {
+        // a server rejecting smile request bodies is sent the request again in json, like the next ones
+        server.expect(requestTo("/networks/" + networkUuid + "/substations"))
+            .andExpect(method(POST))
+            .andExpect(content().contentType(RestClientImpl.SMILE_MEDIA_TYPE))
+            .andRespond(withStatus(HttpStatus.UNSUPPORTED_MEDIA_TYPE));
+        server.expect(requestTo("/networks/" + networkUuid + "/substations"))
+            .andExpect(method(POST))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andRespond(withStatus(HttpStatus.CREATED));
+        server.expect(requestTo("/networks/" + networkUuid + "/substations"))
+            .andExpect(method(POST))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andRespond(withStatus(HttpStatus.CREATED));
+
+        RestNetworkStoreClient client = new RestNetworkStoreClient(restClient);
+        client.createSubstations(networkUuid, createSubstations(3));
+        client.createSubstations(networkUuid, createSubstations(3));
+        server.verify();
+    }
+}
@@ -8,6 +8,7 @@ package com.powsybl.network.store.client;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.VariantManagerConstants;
 import com.powsybl.iidm.network.extensions.ActivePowerControl;
 import com.powsybl.iidm.network.extensions.CoordinatedReactiveControl;
@@ -30,10 +31,10 @@ import org.springframework.test.web.client.MockRestServiceServer;
 import java.io.IOException;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ForkJoinPool;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNull;
+import static org.junit.Assert.*;
 import static org.springframework.http.HttpMethod.*;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
@@ -521,4 +522,231 @@ public class BufferedNetworkStoreClientTest {
         bufferedClient.flush(networkUuid);
         server.verify();
     }
+
+    @Test
+    public void testWriteBehindFlush() {
+        BufferedNetworkStoreClient bufferedClient = new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool(), 1);
+        assertTrue(bufferedClient.isWriteBehind());
+        UUID networkUuid = UUID.randomUUID();
+        LoadAttributes loadAttributes = new LoadAttributes();
+        loadAttributes.setP(200);
+        loadAttributes.setQ(-200);
+        Resource<LoadAttributes> loadResource = Resource.create(ResourceType.LOAD, "loadId", 0, loadAttributes);
+        bufferedClient.removeExtensionsAttributes(networkUuid, Resource.INITIAL_VARIANT_NUM, ResourceType.LOAD, Map.of("loadId", Set.of("ActivePowerControl")));
+        bufferedClient.updateLoads(networkUuid, List.of(loadResource), AttributeFilter.PRIMARY_AS_NULL);
+
+        // extension removal is sent before the equipment update, and the load is sent as it was when flushed
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/0/identifiables/extensions"))
+                .andExpect(method(DELETE))
+                .andExpect(content().string("{\"loadId\":[\"ActivePowerControl\"]}"))
+                .andRespond(withSuccess());
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/loads"))
+                .andExpect(method(PUT))
+                .andExpect(content().string(
+                        "[{\"type\":\"LOAD\",\"id\":\"loadId\",\"variantNum\":0,\"attributes\":{\"fictitious\":false," +
+                                "\"extensionAttributes\":{},\"p0\":0.0,\"q0\":0.0,\"p\":200.0,\"q\":-200.0,\"regulatingEquipments\":[]}}]"))
+                .andRespond(withSuccess());
+        CompletableFuture<Void> future = bufferedClient.flushAsync(networkUuid);
+        loadAttributes.setP(300);
+        bufferedClient.awaitFlush(networkUuid);
+        assertTrue(future.isDone());
+        server.verify();
+        server.reset();
+
+        // the modified load is sent by the next flush
+        bufferedClient.updateLoads(networkUuid, List.of(loadResource), AttributeFilter.PRIMARY_AS_NULL);
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/loads"))
+                .andExpect(method(PUT))
+                .andExpect(content().string(
+                        "[{\"type\":\"LOAD\",\"id\":\"loadId\",\"variantNum\":0,\"attributes\":{\"fictitious\":false," +
+                                "\"extensionAttributes\":{},\"p0\":0.0,\"q0\":0.0,\"p\":300.0,\"q\":-200.0,\"regulatingEquipments\":[]}}]"))
+                .andRespond(withSuccess());
+        bufferedClient.flush(networkUuid);
+        bufferedClient.awaitFlush(networkUuid);
+        server.verify();
+        server.reset();
+
+        // a failed background flush is reported by the next wait
+        bufferedClient.updateLoads(networkUuid, List.of(loadResource), AttributeFilter.PRIMARY_AS_NULL);
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/loads"))
+                .andExpect(method(PUT))
+                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+        bufferedClient.flush(networkUuid);
+        assertThrows(PowsyblException.class, () -> bufferedClient.awaitFlush(networkUuid));
+        server.verify();
+        // failure is only reported once
+        bufferedClient.awaitFlush(networkUuid);
+    }
+
+    @Test
+    public void testWriteBehindFlushFailureOfOtherNetwork() {
+        BufferedNetworkStoreClient bufferedClient = new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool(), 1);
+        UUID networkUuid = UUID.randomUUID();
+        UUID otherNetworkUuid = UUID.randomUUID();
+        Resource<LoadAttributes> loadResource = Resource.create(ResourceType.LOAD, "loadId", 0, new LoadAttributes());
+        bufferedClient.updateLoads(networkUuid, List.of(loadResource), AttributeFilter.PRIMARY_AS_NULL);
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/loads"))
+                .andExpect(method(PUT))
+                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+        bufferedClient.flush(networkUuid);
+
+        // the failure is only reported for the network whose flush has failed
+        bufferedClient.awaitFlush(otherNetworkUuid);
+        bufferedClient.flush(otherNetworkUuid);
+        assertThrows(PowsyblException.class, () -> bufferedClient.awaitFlush(networkUuid));
+        server.verify();
+    }
+
+    @Test
+    public void testWriteBehindFlushBeforeCloneByVariantId() {
+        BufferedNetworkStoreClient bufferedClient = new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool(), 1);
+        UUID networkUuid = UUID.randomUUID();
+        Resource<LoadAttributes> loadResource = Resource.create(ResourceType.LOAD, "loadId", 0, new LoadAttributes());
+        bufferedClient.updateLoads(networkUuid, List.of(loadResource), AttributeFilter.PRIMARY_AS_NULL);
+
+        // the background flush is completed before the variant is cloned on server side
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/loads"))
+                .andExpect(method(PUT))
+                .andRespond(withSuccess());
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/InitialState/toId/v1?mayOverwrite=false"))
+                .andExpect(method(PUT))
+                .andRespond(withSuccess());
+        CompletableFuture<Void> future = bufferedClient.flushAsync(networkUuid);
+        bufferedClient.cloneNetwork(networkUuid, "InitialState", "v1", false);
+        assertTrue(future.isDone());
+        server.verify();
+    }
+
+    @Test
+    public void testMergePatch() {
+        BufferedNetworkStoreClient bufferedClient = new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool(), 0, true);
+        assertTrue(bufferedClient.isMergePatchEnabled());
+        UUID networkUuid = UUID.randomUUID();
+        LoadAttributes loadAttributes = new LoadAttributes();
+        loadAttributes.setP0(100);
+        Resource<LoadAttributes> loadResource = Resource.create(ResourceType.LOAD, "loadId", 0, loadAttributes);
+        Resource<LoadAttributes> loadResource2 = Resource.create(ResourceType.LOAD, "loadId2", 0, new LoadAttributes());
+
+        // only the attributes modified since last flush are sent
+        bufferedClient.prepareResourceUpdate(networkUuid, 0, loadResource);
+        loadAttributes.setP0(110);
+        bufferedClient.updateLoads(networkUuid, List.of(loadResource), AttributeFilter.PRIMARY_AS_NULL);
+        bufferedClient.prepareResourceUpdate(networkUuid, 0, loadResource);
+        loadAttributes.setQ0(10);
+        loadAttributes.setName("load");
+        bufferedClient.updateLoads(networkUuid, List.of(loadResource), AttributeFilter.PRIMARY_AS_NULL);
+        // a resource set to the same values is not sent
+        bufferedClient.prepareResourceUpdate(networkUuid, 0, loadResource2);
+        bufferedClient.updateLoads(networkUuid, List.of(loadResource2), AttributeFilter.PRIMARY_AS_NULL);
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/identifiables"))
+                .andExpect(method(PATCH))
+                .andExpect(content().json("[{\"type\":\"LOAD\",\"id\":\"loadId\",\"variantNum\":0,\"attributes\":{\"name\":\"load\",\"p0\":110.0,\"q0\":10.0}}]", true))
+                .andRespond(withSuccess());
+        bufferedClient.flush(networkUuid);
+        server.verify();
+        server.reset();
+
+        // removed attribute
+        bufferedClient.prepareResourceUpdate(networkUuid, 0, loadResource);
+        loadAttributes.setName(null);
+        bufferedClient.updateLoads(networkUuid, List.of(loadResource), AttributeFilter.PRIMARY_AS_NULL);
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/identifiables"))
+                .andExpect(method(PATCH))
+                .andExpect(content().json("[{\"type\":\"LOAD\",\"id\":\"loadId\",\"variantNum\":0,\"attributes\":{\"name\":null}}]", true))
+                .andRespond(withSuccess());
+        bufferedClient.flush(networkUuid);
+        server.verify();
+        server.reset();
+
+        // a resource updated without prior record of its attributes is fully sent, as well as sv updates
+        loadAttributes.setP0(120);
+        bufferedClient.updateLoads(networkUuid, List.of(loadResource), AttributeFilter.PRIMARY_AS_NULL);
+        bufferedClient.prepareResourceUpdate(networkUuid, 0, loadResource2);
+        loadResource2.getAttributes().setP(5);
+        bufferedClient.updateLoads(networkUuid, List.of(loadResource2), AttributeFilter.SV);
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/loads"))
+                .andExpect(method(PUT))
+                .andRespond(withSuccess());
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/loads/sv"))
+                .andExpect(method(PUT))
+                .andRespond(withSuccess());
+        bufferedClient.flush(networkUuid);
+        server.verify();
+    }
+
+    @Test
+    public void testMergePatchNotSupported() {
+        for (HttpStatus status : List.of(HttpStatus.NOT_FOUND, HttpStatus.METHOD_NOT_ALLOWED)) {
+            server.reset();
+            RestNetworkStoreClient patchingRestStoreClient = new RestNetworkStoreClient(restClient);
+            BufferedNetworkStoreClient bufferedClient = new BufferedNetworkStoreClient(patchingRestStoreClient, ForkJoinPool.commonPool(), 0, true);
+            UUID networkUuid = UUID.randomUUID();
+            LoadAttributes loadAttributes = new LoadAttributes();
+            loadAttributes.setP0(100);
+            Resource<LoadAttributes> loadResource = Resource.create(ResourceType.LOAD, "loadId", 0, loadAttributes);
+
+            // the patch is rejected, so the whole resource is sent instead
+            bufferedClient.prepareResourceUpdate(networkUuid, 0, loadResource);
+            loadAttributes.setP0(110);
+            bufferedClient.updateLoads(networkUuid, List.of(loadResource), AttributeFilter.PRIMARY_AS_NULL);
+            server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/identifiables"))
+                    .andExpect(method(PATCH))
+                    .andRespond(withStatus(status));
+            server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/loads"))
+                    .andExpect(method(PUT))
+                    .andExpect(jsonPath("$[0].id").value("loadId"))
+                    .andExpect(jsonPath("$[0].attributes.p0").value(110.0))
+                    .andRespond(withSuccess());
+            bufferedClient.flush(networkUuid);
+            server.verify();
+            assertFalse(patchingRestStoreClient.isPatchSupported());
+            server.reset();
+
+            // and the patch is not tried again
+            bufferedClient.prepareResourceUpdate(networkUuid, 0, loadResource);
+            loadAttributes.setP0(120);
+            bufferedClient.updateLoads(networkUuid, List.of(loadResource), AttributeFilter.PRIMARY_AS_NULL);
+            server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/loads"))
+                    .andExpect(method(PUT))
+                    .andExpect(jsonPath("$[0].attributes.p0").value(120.0))
+                    .andRespond(withSuccess());
+            bufferedClient.flush(networkUuid);
+            server.verify();
+        }
+    }
+
+    @Test
+    public void testAutoFlush() {
+        BufferedNetworkStoreClient bufferedClient = new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool(), 0, false, 2);
+        assertEquals(2, bufferedClient.getMaxBufferedResourceCount());
+        List<UUID> autoFlushedNetworkUuids = new ArrayList<>();
+        bufferedClient.addAutoFlushListener(autoFlushedNetworkUuids::add);
+        UUID networkUuid = UUID.randomUUID();
+        Resource<LoadAttributes> load1 = Resource.create(ResourceType.LOAD, "load1", 0, new LoadAttributes());
+        Resource<LoadAttributes> load2 = Resource.create(ResourceType.LOAD, "load2", 0, new LoadAttributes());
+        Resource<LoadAttributes> load3 = Resource.create(ResourceType.LOAD, "load3", 0, new LoadAttributes());
+
+        // a resource updated several times is only buffered once
+        bufferedClient.createLoads(networkUuid, List.of(load1));
+        bufferedClient.updateLoads(networkUuid, List.of(load1), AttributeFilter.PRIMARY_AS_NULL);
+        bufferedClient.updateLoads(networkUuid, List.of(load1), AttributeFilter.PRIMARY_AS_NULL);
+        server.verify();
+        assertTrue(autoFlushedNetworkUuids.isEmpty());
+
+        // buffers are flushed as soon as the maximum is reached
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/loads"))
+                .andExpect(method(POST))
+                .andRespond(withSuccess());
+        bufferedClient.createLoads(networkUuid, List.of(load2));
+        server.verify();
+        server.reset();
+        assertEquals(List.of(networkUuid), autoFlushedNetworkUuids);
+
+        // count restarts from zero after a flush
+        bufferedClient.createLoads(networkUuid, List.of(load3));
+        server.verify();
+        assertEquals(1, autoFlushedNetworkUuids.size());
+
+        assertThrows(PowsyblException.class, () -> new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool(), 0, false, -1));
+    }
 }
@@ -17,6 +17,7 @@ import com.powsybl.iidm.network.extensions.ConnectablePosition;
 import com.powsybl.iidm.network.extensions.GeneratorStartup;
 import com.powsybl.iidm.network.extensions.OperatingStatus;
 import com.powsybl.network.store.iidm.impl.CachedNetworkStoreClient;
+import com.powsybl.network.store.iidm.impl.ResourceEvictionListener;
 import com.powsybl.network.store.model.*;
 import org.junit.Before;
 import org.junit.Test;
@@ -265,6 +266,82 @@ public class CachedNetworkStoreClientTest {
         server.verify();
     }
 
+    private static Resource<LoadAttributes> createLoad(String id, String voltageLevelId) {
+        return Resource.loadBuilder()
+                .id(id)
+                .attributes(LoadAttributes.builder()
+                        .voltageLevelId(voltageLevelId)
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void testVoltageLevelEviction() throws IOException {
+        // at most 2 resources cached, so one voltage level with 2 loads
+        CachedNetworkStoreClient cachedClient = new CachedNetworkStoreClient(new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool()), false, 2);
+        UUID networkUuid = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+        List<String> evictedIds = new ArrayList<>();
+        ResourceEvictionListener listener = (uuid, variantNum, resourceType, ids) -> {
+            assertEquals(ResourceType.LOAD, resourceType);
+            evictedIds.addAll(new TreeSet<>(ids));
+        };
+        cachedClient.addResourceEvictionListener(listener);
+
+        String loadsV1Json = objectMapper.writeValueAsString(TopLevelDocument.of(List.of(createLoad("LOAD_1", "VL_1"), createLoad("LOAD_2", "VL_1"))));
+        String loadsV2Json = objectMapper.writeValueAsString(TopLevelDocument.of(List.of(createLoad("LOAD_3", "VL_2"), createLoad("LOAD_4", "VL_2"))));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/voltage-levels/VL_1/loads"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(loadsV1Json, MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/voltage-levels/VL_2/loads"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(loadsV2Json, MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/voltage-levels/VL_1/loads"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(loadsV1Json, MediaType.APPLICATION_JSON));
+
+        // loading the second voltage level evicts the first one
+        assertEquals(2, cachedClient.getVoltageLevelLoads(networkUuid, Resource.INITIAL_VARIANT_NUM, "VL_1").size());
+        assertTrue(evictedIds.isEmpty());
+        assertEquals(2, cachedClient.getVoltageLevelLoads(networkUuid, Resource.INITIAL_VARIANT_NUM, "VL_2").size());
+        assertEquals(List.of("LOAD_1", "LOAD_2"), evictedIds);
+
+        // a modified voltage level is not evicted, so the first voltage level is loaded again without evicting anything
+        Resource<LoadAttributes> load3 = cachedClient.getLoad(networkUuid, Resource.INITIAL_VARIANT_NUM, "LOAD_3").orElseThrow();
+        load3.getAttributes().setP0(10);
+        cachedClient.updateLoads(networkUuid, List.of(load3), AttributeFilter.SV);
+        assertEquals(2, cachedClient.getVoltageLevelLoads(networkUuid, Resource.INITIAL_VARIANT_NUM, "VL_1").size());
+        assertEquals(List.of("LOAD_1", "LOAD_2"), evictedIds);
+        assertSame(load3, cachedClient.getLoad(networkUuid, Resource.INITIAL_VARIANT_NUM, "LOAD_3").orElseThrow());
+
+        server.verify();
+    }
+
+    @Test
+    public void testAutoFlushEviction() {
+        // at most 2 resources buffered and 2 resources cached, as during a network import with bounded memory
+        CachedNetworkStoreClient cachedClient = new CachedNetworkStoreClient(new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool(), 0, false, 2), false, 2);
+        UUID networkUuid = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+        List<String> evictedIds = new ArrayList<>();
+        ResourceEvictionListener listener = (uuid, variantNum, resourceType, ids) -> evictedIds.addAll(new TreeSet<>(ids));
+        cachedClient.addResourceEvictionListener(listener);
+
+        server.expect(ExpectedCount.twice(), requestTo("/networks/" + networkUuid + "/loads"))
+                .andExpect(method(POST))
+                .andRespond(withSuccess());
+
+        // created resources are not evicted before being flushed
+        cachedClient.createLoads(networkUuid, List.of(createLoad("LOAD_1", "VL_1")));
+        cachedClient.createLoads(networkUuid, List.of(createLoad("LOAD_2", "VL_2")));
+        cachedClient.createLoads(networkUuid, List.of(createLoad("LOAD_3", "VL_3")));
+        assertTrue(evictedIds.isEmpty());
+
+        // once flushed, the resources of the least recently created voltage level are evicted
+        cachedClient.createLoads(networkUuid, List.of(createLoad("LOAD_4", "VL_3")));
+        assertEquals(List.of("LOAD_1"), evictedIds);
+
+        server.verify();
+    }
+
     @Test
     public void testAllLinesCache() throws IOException {
         CachedNetworkStoreClient cachedClient = new CachedNetworkStoreClient(new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool()));
@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.powsybl.commons.PowsyblException;
+import org.junit.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class ChunkedUploaderTest {
+
+    private static final ObjectWriter WRITER = new ObjectMapper().writer();
+
+    @Test
+    public void testPartition() {
+        List<String> smallItems = IntStream.range(0, 20000).mapToObj(i -> "a").toList();
+        List<List<String>> smallChunks = ChunkedUploader.partition(smallItems, WRITER);
+        assertEquals(2, smallChunks.size());
+        assertEquals(ChunkedUploader.MAX_CHUNK_SIZE, smallChunks.get(0).size());
+
+        String bigItem = "a".repeat(100000);
+        List<String> bigItems = IntStream.range(0, 50).mapToObj(i -> bigItem).toList();
+        List<List<String>> bigChunks = ChunkedUploader.partition(bigItems, WRITER);
+        assertEquals(10, bigChunks.get(0).size());
+        assertEquals(5, bigChunks.size());
+
+        List<Integer> items = IntStream.range(0, 25000).boxed().toList();
+        assertEquals(items, ChunkedUploader.partition(items, WRITER).stream().flatMap(List::stream).toList());
+
+        assertTrue(ChunkedUploader.partition(List.of(), WRITER).isEmpty());
+    }
+
+    @Test
+    public void testParallelUpload() {
+        // single thread pool kept busy, the calling thread has to upload all the chunks itself
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            executorService.execute(() -> {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            List<List<Integer>> chunks = List.of(List.of(0, 1), List.of(2, 3), List.of(4), List.of(5, 6));
+            List<Integer> uploaded = Collections.synchronizedList(new ArrayList<>());
+            new ChunkedUploader(executorService, 4).upload(chunks, uploaded::addAll);
+            assertEquals(List.of(0, 1, 2, 3, 4, 5, 6), uploaded.stream().sorted().toList());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testRetry() {
+        ChunkedUploader uploader = new ChunkedUploader(null, 1, Duration.ofMillis(1));
+        AtomicInteger attemptCount = new AtomicInteger();
+        uploader.upload(List.of(List.of(1)), chunk -> {
+            if (attemptCount.incrementAndGet() < 3) {
+                throw new ResourceAccessException("Connection reset");
+            }
+        });
+        assertEquals(3, attemptCount.get());
+
+        attemptCount.set(0);
+        List<List<Integer>> chunks = List.of(List.of(1));
+        ResourceAccessException e = assertThrows(ResourceAccessException.class, () -> uploader.upload(chunks, chunk -> {
+            attemptCount.incrementAndGet();
+            throw new ResourceAccessException("Connection reset");
+        }));
+        assertEquals("Connection reset", e.getMessage());
+        assertEquals(ChunkedUploader.MAX_ATTEMPT_COUNT, attemptCount.get());
+    }
+
+    @Test
+    public void testParallelUploadFailure() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            ChunkedUploader uploader = new ChunkedUploader(executorService, 3, Duration.ofMillis(1));
+            List<List<Integer>> chunks = List.of(List.of(0), List.of(1), List.of(2));
+            PowsyblException e = assertThrows(PowsyblException.class, () -> uploader.upload(chunks, chunk -> {
+                if (chunk.get(0) == 1) {
+                    throw new PowsyblException("Upload failed");
+                }
+            }));
+            assertEquals("Upload failed", e.getMessage());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testInvalidParallelism() {
+        assertThrows(PowsyblException.class, () -> new ChunkedUploader(null, 0));
+    }
+}
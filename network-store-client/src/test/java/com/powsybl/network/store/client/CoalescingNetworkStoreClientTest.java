@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.network.store.iidm.impl.NetworkStoreClient;
+import com.powsybl.network.store.model.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author agent <agent at local>
+ */
+public class CoalescingNetworkStoreClientTest {
+
+    private static final UUID NETWORK_UUID = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+
+    private static final int LOOKUP_COUNT = 20;
+
+    private NetworkStoreClient delegate;
+
+    private CoalescingNetworkStoreClient client;
+
+    private final List<List<String>> requestedIds = Collections.synchronizedList(new ArrayList<>());
+
+    private final CountDownLatch firstRequestStarted = new CountDownLatch(1);
+
+    private final CountDownLatch firstRequestReleased = new CountDownLatch(1);
+
+    private static Resource<IdentifiableAttributes> createGenerator(String id) {
+        return Resource.create(ResourceType.GENERATOR, id, Resource.INITIAL_VARIANT_NUM, GeneratorAttributes.builder().voltageLevelId("VL").build());
+    }
+
+    @Before
+    public void setUp() {
+        delegate = mock(NetworkStoreClient.class);
+        // only even generators exist
+        when(delegate.getIdentifiablesByIds(eq(NETWORK_UUID), eq(Resource.INITIAL_VARIANT_NUM), eq(ResourceType.GENERATOR), anyCollection()))
+            .thenAnswer(invocation -> {
+                Collection<String> ids = invocation.getArgument(3);
+                requestedIds.add(new ArrayList<>(ids));
+                if (requestedIds.size() == 1) {
+                    // the first request is kept in progress until released by the test
+                    firstRequestStarted.countDown();
+                    firstRequestReleased.await();
+                }
+                return ids.stream()
+                    .filter(id -> Integer.parseInt(id.substring(1)) % 2 == 0)
+                    .map(CoalescingNetworkStoreClientTest::createGenerator)
+                    .toList();
+            });
+        // long window so that the lookups waiting for the first request are in the same batch
+        client = new CoalescingNetworkStoreClient(delegate, Duration.ofSeconds(10));
+    }
+
+    private <R> List<R> lookupConcurrently(Callable<R>[] lookups) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(lookups.length);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<R>> futures = new ArrayList<>();
+            for (Callable<R> lookup : lookups) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return lookup.call();
+                }));
+            }
+            start.countDown();
+            List<R> results = new ArrayList<>();
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentLookups() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(LOOKUP_COUNT);
+        try {
+            // a lookup without contention is sent right away
+            Future<Optional<Resource<GeneratorAttributes>>> firstResult = executor.submit(() -> client.getGenerator(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "G0"));
+            assertTrue(firstRequestStarted.await(10, TimeUnit.SECONDS));
+
+            // lookups done while the first request is in progress are coalesced in the next one
+            List<Future<Optional<Resource<GeneratorAttributes>>>> results = new ArrayList<>();
+            for (int i = 1; i < LOOKUP_COUNT; i++) {
+                String id = "G" + i;
+                results.add(executor.submit(() -> client.getGenerator(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, id)));
+            }
+            while (client.getWaitingLookupCount(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, ResourceType.GENERATOR) < LOOKUP_COUNT - 1) {
+                Thread.sleep(10);
+            }
+            firstRequestReleased.countDown();
+
+            // each lookup gets its own result
+            assertEquals("G0", firstResult.get().map(Resource::getId).orElseThrow());
+            for (int i = 1; i < LOOKUP_COUNT; i++) {
+                if (i % 2 == 0) {
+                    assertEquals("G" + i, results.get(i - 1).get().map(Resource::getId).orElseThrow());
+                } else {
+                    assertTrue(results.get(i - 1).get().isEmpty());
+                }
+            }
+            assertEquals(2, requestedIds.size());
+            assertEquals(List.of("G0"), requestedIds.get(0));
+            assertEquals(LOOKUP_COUNT - 1, requestedIds.get(1).size());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // a later lookup is sent right away, without waiting for the window
+        long start = System.nanoTime();
+        assertTrue(client.getGenerator(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "G2").isPresent());
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 10);
+        assertEquals(3, requestedIds.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testErrorIsReportedToAllLookups() throws Exception {
+        when(delegate.getIdentifiablesByIds(eq(NETWORK_UUID), eq(Resource.INITIAL_VARIANT_NUM), eq(ResourceType.LINE), anyCollection()))
+            .thenThrow(new PowsyblException("boom"));
+        Callable<String>[] lookups = new Callable[2];
+        for (int i = 0; i < lookups.length; i++) {
+            String id = "L" + i;
+            lookups[i] = () -> {
+                try {
+                    client.getLine(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, id);
+                    return null;
+                } catch (PowsyblException e) {
+                    return e.getMessage();
+                }
+            };
+        }
+        assertEquals(List.of("boom", "boom"), lookupConcurrently(lookups));
+    }
+
+    @Test
+    public void testInvalidWindow() {
+        assertThrows(PowsyblException.class, () -> new CoalescingNetworkStoreClient(delegate, Duration.ZERO));
+    }
+}
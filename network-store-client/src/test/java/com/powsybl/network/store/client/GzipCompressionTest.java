@@ -0,0 +1,173 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.network.store.model.*;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.*;
+import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.http.HttpMethod.POST;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * @author agent <agent at local>
+ */
+@RunWith(SpringRunner.class)
+@RestClientTest
+public class GzipCompressionTest {
+
+    private static final int COMPRESSION_THRESHOLD = 1024;
+
+    @SpringBootConfiguration
+    public static class EmptyConfig {
+
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        @Primary
+        public RestClient testClient(RestTemplateBuilder restTemplateBuilder) {
+            return new RestClientImpl(restTemplateBuilder, false, COMPRESSION_THRESHOLD);
+        }
+    }
+
+    @Autowired
+    private RestClient restClient;
+
+    @Autowired
+    private MockRestServiceServer server;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final UUID networkUuid = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+
+    /**
+     * Generate node/breaker voltage levels with a topology similar to real ones (internal connections and
+     * calculated buses mappings), which are the biggest payloads exchanged with the server.
+     */
+    private static List<Resource<VoltageLevelAttributes>> createVoltageLevels(int count, int nodeCount) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> {
+                Map<Integer, Integer> nodeToCalculatedBus = new HashMap<>();
+                List<InternalConnectionAttributes> internalConnections = new ArrayList<>();
+                for (int node = 0; node < nodeCount; node++) {
+                    nodeToCalculatedBus.put(node, node % 3);
+                    internalConnections.add(InternalConnectionAttributes.builder().node1(node).node2(node + 1).build());
+                }
+                return Resource.voltageLevelBuilder()
+                    .id("VL" + i)
+                    .attributes(VoltageLevelAttributes.builder()
+                        .substationId("S" + i / 2)
+                        .nominalV(400)
+                        .lowVoltageLimit(380)
+                        .highVoltageLimit(420)
+                        .topologyKind(TopologyKind.NODE_BREAKER)
+                        .internalConnections(internalConnections)
+                        .nodeToCalculatedBusForBusView(nodeToCalculatedBus)
+                        .nodeToCalculatedBusForBusBreakerView(nodeToCalculatedBus)
+                        .build())
+                    .build();
+            })
+            .toList();
+    }
+
+    private static byte[] decompress(byte[] bytes) throws IOException {
+        try (GZIPInputStream is = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return is.readAllBytes();
+        }
+    }
+
+    @Test
+    public void testRequestCompression() {
+        List<Resource<VoltageLevelAttributes>> voltageLevels = createVoltageLevels(10, 100);
+        server.expect(requestTo("/networks/" + networkUuid + "/voltage-levels"))
+            .andExpect(method(POST))
+            .andExpect(header(HttpHeaders.CONTENT_ENCODING, GzipCompressionInterceptor.GZIP))
+            .andExpect(header(HttpHeaders.ACCEPT_ENCODING, GzipCompressionInterceptor.GZIP))
+            .andExpect(request -> {
+                byte[] compressed = ((MockClientHttpRequest) request).getBodyAsBytes();
+                String json = new String(decompress(compressed));
+                assertTrue(json.startsWith("[{\"type\":\"VOLTAGE_LEVEL\",\"id\":\"VL0\""));
+                assertTrue(compressed.length < json.length());
+            })
+            .andRespond(withStatus(HttpStatus.CREATED));
+
+        new RestNetworkStoreClient(restClient).createVoltageLevels(networkUuid, voltageLevels);
+        server.verify();
+    }
+
+    @Test
+    public void testSmallRequestNotCompressed() {
+        Resource<SubstationAttributes> substation = Resource.substationBuilder()
+            .id("S")
+            .attributes(SubstationAttributes.builder().country(Country.FR).build())
+            .build();
+        server.expect(requestTo("/networks/" + networkUuid + "/substations"))
+            .andExpect(method(POST))
+            .andExpect(headerDoesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(content().json("[{\"type\":\"SUBSTATION\",\"id\":\"S\"}]"))
+            .andRespond(withStatus(HttpStatus.CREATED));
+
+        new RestNetworkStoreClient(restClient).createSubstations(networkUuid, List.of(substation));
+        server.verify();
+    }
+
+    @Test
+    public void testResponseDecompression() throws IOException {
+        List<Resource<VoltageLevelAttributes>> voltageLevels = createVoltageLevels(3, 10);
+        byte[] compressed = GzipCompressionInterceptor.compress(objectMapper.writeValueAsBytes(TopLevelDocument.of(voltageLevels)));
+        server.expect(requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/voltage-levels"))
+            .andExpect(method(GET))
+            .andExpect(header(HttpHeaders.ACCEPT_ENCODING, GzipCompressionInterceptor.GZIP))
+            .andRespond(withSuccess(compressed, MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, GzipCompressionInterceptor.GZIP));
+
+        List<Resource<VoltageLevelAttributes>> result = new RestNetworkStoreClient(restClient).getVoltageLevels(networkUuid, Resource.INITIAL_VARIANT_NUM);
+        server.verify();
+        assertEquals(List.of("VL0", "VL1", "VL2"), result.stream().map(Resource::getId).toList());
+        assertEquals(10, result.get(2).getAttributes().getInternalConnections().size());
+    }
+
+    /**
+     * Payload of a generated network, checking it is restored as is and at least 5 times smaller once compressed.
+     */
+    @Test
+    public void testCompressionRatio() throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(createVoltageLevels(100, 200));
+        byte[] compressed = GzipCompressionInterceptor.compress(json);
+        assertArrayEquals(json, decompress(compressed));
+        assertTrue(compressed.length < json.length / 5);
+    }
+}
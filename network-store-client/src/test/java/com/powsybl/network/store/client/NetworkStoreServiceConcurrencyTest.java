@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.network.store.iidm.impl.CachedNetworkStoreClient;
+import com.powsybl.network.store.iidm.impl.OfflineNetworkStoreClient;
+import com.powsybl.network.store.model.ResourceType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tasks run by the executor of a {@link NetworkStoreService} for each {@link ExecutorMode}.
+ *
+ * @author agent <agent at local>
+ */
+public class NetworkStoreServiceConcurrencyTest {
+
+    // more tasks than the threads of the fixed pool, which has one thread per resource type
+    private static final int TASK_COUNT = 2 * ResourceType.values().length;
+
+    /**
+     * Run tasks waiting for each other with the executor given by the service to its store clients.
+     *
+     * @return for each task, true if all the tasks have been started while it was running
+     */
+    private static List<Boolean> runTasks(ExecutorMode executorMode, Set<Thread> threads) throws Exception {
+        AtomicReference<ExecutorService> executorRef = new AtomicReference<>();
+        try (NetworkStoreService service = new NetworkStoreService(new RestClientImpl("http://localhost/"), PreloadingStrategy.NONE, executorMode,
+                (restClient, preloadingStrategy, executor) -> {
+                    executorRef.set(executor);
+                    return new CachedNetworkStoreClient(new OfflineNetworkStoreClient());
+                })) {
+            service.createNetwork("test", "test");
+            ExecutorService executor = executorRef.get();
+            assertNotNull(executor);
+
+            CountDownLatch allStarted = new CountDownLatch(TASK_COUNT);
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < TASK_COUNT; i++) {
+                futures.add(executor.submit(() -> {
+                    threads.add(Thread.currentThread());
+                    allStarted.countDown();
+                    return allStarted.await(2, TimeUnit.SECONDS);
+                }));
+            }
+            List<Boolean> results = new ArrayList<>();
+            for (Future<Boolean> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+
+    @Test
+    public void testFixedThreadPool() throws Exception {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        List<Boolean> results = runTasks(ExecutorMode.FIXED_THREAD_POOL, threads);
+        // the first tasks occupy all the threads of the pool, the other ones being queued behind them
+        assertEquals(List.of(false), results.subList(0, ResourceType.values().length).stream().distinct().toList());
+        assertEquals(ResourceType.values().length, threads.size());
+        assertTrue(threads.stream().noneMatch(Thread::isVirtual));
+    }
+
+    @Test
+    public void testVirtualThreadPerTask() throws Exception {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        List<Boolean> results = runTasks(ExecutorMode.VIRTUAL_THREAD_PER_TASK, threads);
+        // no task is queued behind another one
+        assertEquals(List.of(true), results.stream().distinct().toList());
+        assertEquals(TASK_COUNT, threads.size());
+        assertTrue(threads.stream().allMatch(Thread::isVirtual));
+    }
+}
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableList;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.LoadType;
 import com.powsybl.iidm.network.SwitchKind;
@@ -27,6 +28,7 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.client.ExpectedCount;
@@ -35,10 +37,12 @@ import org.springframework.test.web.client.MockRestServiceServer;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.*;
 import static org.springframework.http.HttpMethod.*;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 /**
@@ -1836,4 +1840,124 @@ public class PreloadingNetworkStoreClientTest {
         assertTrue(olg2Attributes.isPresent());
         server.verify();
     }
+
+    @Test
+    public void testAllCollectionsNeededForBusViewInOneRequest() throws IOException {
+        // with the collections request enabled, all the collections needed for the bus view are loaded with a single request
+        PreloadingNetworkStoreClient client = new PreloadingNetworkStoreClient(new CachedNetworkStoreClient(new BufferedNetworkStoreClient(new RestNetworkStoreClient(restClient), ForkJoinPool.commonPool())),
+                                                                               true, true, PreloadingProfile.NONE, ForkJoinPool.commonPool());
+
+        Resource<SubstationAttributes> substation = Resource.substationBuilder()
+                .id("sub1")
+                .attributes(SubstationAttributes.builder()
+                        .country(Country.FR)
+                        .build())
+                .build();
+        Resource<VoltageLevelAttributes> vl = Resource.voltageLevelBuilder()
+                .id("vl1")
+                .attributes(VoltageLevelAttributes.builder()
+                        .substationId("sub1")
+                        .nominalV(400)
+                        .build())
+                .build();
+        String collectionsJson = objectMapper.writeValueAsString(ResourceCollectionsTopLevelDocument.of(List.of(
+                ResourceCollection.of(ResourceType.SUBSTATION, List.of(substation)),
+                ResourceCollection.of(ResourceType.VOLTAGE_LEVEL, List.of(vl)),
+                ResourceCollection.of(ResourceType.LOAD, List.of()))));
+        String resourceTypes = PreloadingNetworkStoreClient.RESOURCE_TYPES_NEEDED_FOR_BUS_VIEW.stream()
+                .map(ResourceType::name)
+                .sorted()
+                .collect(Collectors.joining(","));
+
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/collections?resourceTypes=" + resourceTypes))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(collectionsJson, MediaType.APPLICATION_JSON));
+
+        assertEquals(List.of("sub1"), client.getSubstations(networkUuid, Resource.INITIAL_VARIANT_NUM).stream().map(Resource::getId).toList());
+        assertEquals(List.of("vl1"), client.getVoltageLevelsInSubstation(networkUuid, Resource.INITIAL_VARIANT_NUM, "sub1").stream().map(Resource::getId).toList());
+        assertTrue(client.getLoads(networkUuid, Resource.INITIAL_VARIANT_NUM).isEmpty());
+        assertTrue(client.getLines(networkUuid, Resource.INITIAL_VARIANT_NUM).isEmpty());
+        server.verify();
+    }
+
+    @Test
+    public void testPreloadingProfile() throws IOException {
+        // the generator collection and all its active power control extensions are preloaded the first time the network is used
+        PreloadingProfile profile = PreloadingProfile.parse(List.of("GENERATOR:activepowercontrol"), List.of());
+        PreloadingNetworkStoreClient client = new PreloadingNetworkStoreClient(new CachedNetworkStoreClient(new BufferedNetworkStoreClient(new RestNetworkStoreClient(restClient), ForkJoinPool.commonPool())),
+                                                                               false, profile, ForkJoinPool.commonPool());
+
+        Resource<GeneratorAttributes> g1Resource = Resource.generatorBuilder()
+                .id("GEN")
+                .attributes(GeneratorAttributes.builder()
+                        .voltageLevelId("VL_1")
+                        .build())
+                .build();
+        Resource<GeneratorAttributes> g2Resource = Resource.generatorBuilder()
+                .id("GEN1")
+                .attributes(GeneratorAttributes.builder()
+                        .voltageLevelId("VL_1")
+                        .build())
+                .build();
+        String generatorsJson = objectMapper.writeValueAsString(TopLevelDocument.of(List.of(g1Resource, g2Resource)));
+        ActivePowerControlAttributes apc1 = ActivePowerControlAttributes.builder()
+                .droop(5.2)
+                .participate(true)
+                .participationFactor(0.5)
+                .build();
+        ActivePowerControlAttributes apc2 = ActivePowerControlAttributes.builder()
+                .droop(5.2)
+                .participate(true)
+                .participationFactor(1)
+                .build();
+        String extensionAttributes = objectMapper.writerFor(new TypeReference<Map<String, ExtensionAttributes>>() {
+        }).writeValueAsString(Map.of("GEN", apc1, "GEN1", apc2));
+
+        // a failed preloading is tried again on next access
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/generators"))
+                .andExpect(method(GET))
+                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+        assertThrows(RuntimeException.class, () -> client.getGenerators(networkUuid, Resource.INITIAL_VARIANT_NUM));
+        server.verify();
+        server.reset();
+
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/generators"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(generatorsJson, MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/identifiables/types/" + ResourceType.GENERATOR + "/extensions/"
+                + "activepowercontrol"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(extensionAttributes, MediaType.APPLICATION_JSON));
+
+        assertEquals(2, client.getGenerators(networkUuid, Resource.INITIAL_VARIANT_NUM).size());
+        server.verify();
+
+        // no more request, everything is in the cache
+        server.reset();
+        Optional<ExtensionAttributes> apc1Attributes = client.getExtensionAttributes(networkUuid, Resource.INITIAL_VARIANT_NUM, ResourceType.GENERATOR, "GEN", "activepowercontrol");
+        assertTrue(apc1Attributes.isPresent());
+        assertEquals(0.5, ((ActivePowerControlAttributes) apc1Attributes.get()).getParticipationFactor(), 0);
+        Optional<ExtensionAttributes> apc2Attributes = client.getExtensionAttributes(networkUuid, Resource.INITIAL_VARIANT_NUM, ResourceType.GENERATOR, "GEN1", "activepowercontrol");
+        assertTrue(apc2Attributes.isPresent());
+        assertEquals(1, ((ActivePowerControlAttributes) apc2Attributes.get()).getParticipationFactor(), 0);
+        server.verify();
+    }
+
+    @Test
+    public void testParsePreloadingProfile() {
+        PreloadingProfile profile = PreloadingProfile.parse(List.of("GENERATOR:activepowercontrol", " ", "LOAD:detail", "GENERATOR:startup"), List.of("LINE"));
+        assertEquals(Set.of("activepowercontrol", "startup"), profile.getExtensionNames(ResourceType.GENERATOR));
+        assertEquals(Set.of("detail"), profile.getExtensionNames(ResourceType.LOAD));
+        assertTrue(profile.getExtensionNames(ResourceType.LINE).isEmpty());
+        assertTrue(profile.hasOperationalLimits(ResourceType.LINE));
+        assertFalse(profile.hasOperationalLimits(ResourceType.GENERATOR));
+        assertEquals(EnumSet.of(ResourceType.GENERATOR, ResourceType.LOAD, ResourceType.LINE), profile.getResourceTypes());
+        assertTrue(PreloadingProfile.parse(List.of(), List.of()).isEmpty());
+
+        List<String> invalidExtensions = List.of("activepowercontrol");
+        List<String> invalidResourceTypes = List.of("FOO");
+        List<String> noResourceTypes = List.of();
+        assertThrows(PowsyblException.class, () -> PreloadingProfile.parse(invalidExtensions, noResourceTypes));
+        assertThrows(PowsyblException.class, () -> PreloadingProfile.parse(noResourceTypes, invalidResourceTypes));
+    }
 }
@@ -29,6 +29,8 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.client.ExpectedCount;
@@ -460,6 +462,38 @@ public class RestNetworkStoreClientTest {
         assertTrue(resultIdentifiable1.containsKey("activePowerControl"));
     }
 
+    @Test
+    public void testLazyExtensionAttributesByResourceType() throws JsonProcessingException {
+        RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(restClient, objectMapper, new ChunkedUploader(null, 1), true);
+        server.expect(requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/identifiables/types/" + ResourceType.GENERATOR + "/extensions"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess("{\"identifiableId2\":{\"unknownExtension\":{\"extensionName\":\"unknownExtension\",\"attribute1\":5.0}},"
+                        + "\"identifiableId1\":{\"unknownExtension\":{\"extensionName\":\"unknownExtension\",\"attribute1\":5.0},\"activePowerControl\":"
+                              + "{\"extensionName\":\"activePowerControl\",\"participate\":true,\"droop\":5.2,\"participationFactor\":0.5,\"minTargetP\":"
+                                    + "0.0,\"maxTargetP\":0.0}}}", MediaType.APPLICATION_JSON));
+        Map<String, Map<String, ExtensionAttributes>> result = restNetworkStoreClient.getAllExtensionsAttributesByResourceType(networkUuid, 0, ResourceType.GENERATOR);
+        server.verify();
+        // unknown extensions are filtered as without lazy extension attributes
+        assertEquals(Set.of("identifiableId1"), result.keySet());
+        assertEquals(Set.of("activePowerControl"), result.get("identifiableId1").keySet());
+        ExtensionAttributes lazyAttributes = result.get("identifiableId1").get("activePowerControl");
+        assertTrue(lazyAttributes instanceof LazyExtensionAttributes);
+
+        ExtensionAttributes attributes = LazyExtensionAttributes.materialize(lazyAttributes);
+        assertEquals(ActivePowerControlAttributes.builder().participate(true).droop(5.2).participationFactor(0.5).build(), attributes);
+
+        // lazy attributes are serialized as the typed attributes
+        assertEquals(objectMapper.readTree(objectMapper.writerFor(ExtensionAttributes.class).writeValueAsString(attributes)),
+                objectMapper.readTree(objectMapper.writerFor(ExtensionAttributes.class).writeValueAsString(lazyAttributes)));
+        server.reset();
+
+        server.expect(requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/identifiables/types/" + ResourceType.GENERATOR + "/extensions/unknownExtension"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess("{\"identifiableId1\":{\"extensionName\":\"unknownExtension\",\"attribute1\":true}}", MediaType.APPLICATION_JSON));
+        assertTrue(restNetworkStoreClient.getAllExtensionsAttributesByResourceTypeAndExtensionName(networkUuid, 0, ResourceType.GENERATOR, "unknownExtension").isEmpty());
+        server.verify();
+    }
+
     @Test
     public void testOperationalLimitsGroupAttributesByResourceType() {
         RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(restClient, objectMapper);
@@ -582,6 +616,220 @@ public class RestNetworkStoreClientTest {
         server.verify();
     }
 
+    @Test
+    public void testGetIdentifiablesStreaming() throws JsonProcessingException {
+        RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(restClient, objectMapper);
+        Resource<SubstationAttributes> s1 = Resource.substationBuilder()
+                .id("s1")
+                .attributes(SubstationAttributes.builder().country(Country.FR).build())
+                .build();
+        Resource<SubstationAttributes> s2 = Resource.substationBuilder()
+                .id("s2")
+                .attributes(SubstationAttributes.builder().country(Country.BE).build())
+                .build();
+        // meta is sent before data to check it is skipped while streaming
+        String json = "{\"meta\":{\"count\":2},\"data\":" + objectMapper.writeValueAsString(List.of(s1, s2)) + "}";
+        server.expect(requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/substations"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(json, MediaType.APPLICATION_JSON));
+
+        List<Resource<SubstationAttributes>> substations = new ArrayList<>();
+        restNetworkStoreClient.<SubstationAttributes>getIdentifiables(networkUuid, Resource.INITIAL_VARIANT_NUM, ResourceType.SUBSTATION, substations::add);
+        server.verify();
+        assertEquals(List.of("s1", "s2"), substations.stream().map(Resource::getId).toList());
+        assertEquals(Country.BE, substations.get(1).getAttributes().getCountry());
+    }
+
+    @Test
+    public void testGetIdentifiablesByIds() throws JsonProcessingException {
+        RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(restClient, objectMapper);
+        Resource<SubstationAttributes> s1 = Resource.substationBuilder()
+                .id("s1")
+                .attributes(SubstationAttributes.builder().country(Country.FR).build())
+                .build();
+        server.expect(requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/substations?id=s1&id=s2"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(TopLevelDocument.of(s1)), MediaType.APPLICATION_JSON));
+
+        List<Resource<IdentifiableAttributes>> substations = restNetworkStoreClient.getIdentifiablesByIds(networkUuid, Resource.INITIAL_VARIANT_NUM, ResourceType.SUBSTATION, List.of("s1", "s2"));
+        server.verify();
+        assertEquals(List.of("s1"), substations.stream().map(Resource::getId).toList());
+    }
+
+    @Test
+    public void testGetIdentifiablesByIdsFallback() throws JsonProcessingException {
+        // the server ignores the ids filter and returns the whole collection
+        RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(restClient, objectMapper);
+        Resource<SubstationAttributes> s1 = Resource.substationBuilder()
+                .id("s1")
+                .attributes(SubstationAttributes.builder().country(Country.FR).build())
+                .build();
+        Resource<SubstationAttributes> s3 = Resource.substationBuilder()
+                .id("s3")
+                .attributes(SubstationAttributes.builder().country(Country.BE).build())
+                .build();
+        server.expect(requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/substations?id=s1&id=s2"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(TopLevelDocument.of(List.of(s1, s3))), MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.twice(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/identifiables/s1"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(TopLevelDocument.of(s1)), MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.twice(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/identifiables/s2"))
+                .andExpect(method(GET))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        List<Resource<IdentifiableAttributes>> substations = restNetworkStoreClient.getIdentifiablesByIds(networkUuid, Resource.INITIAL_VARIANT_NUM, ResourceType.SUBSTATION, List.of("s1", "s2"));
+        assertEquals(List.of("s1"), substations.stream().map(Resource::getId).toList());
+
+        // resources are then directly loaded one by one
+        substations = restNetworkStoreClient.getIdentifiablesByIds(networkUuid, Resource.INITIAL_VARIANT_NUM, ResourceType.SUBSTATION, List.of("s1", "s2"));
+        assertEquals(List.of("s1"), substations.stream().map(Resource::getId).toList());
+        server.verify();
+    }
+
+    @Test
+    public void testGetCollectionsFallback() throws JsonProcessingException {
+        // the server does not support loading several collections in a single request
+        RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(restClient, objectMapper);
+        Resource<SubstationAttributes> s1 = Resource.substationBuilder()
+                .id("s1")
+                .attributes(SubstationAttributes.builder().country(Country.FR).build())
+                .build();
+        String substationsJson = objectMapper.writeValueAsString(TopLevelDocument.of(s1));
+        String voltageLevelsJson = objectMapper.writeValueAsString(TopLevelDocument.empty());
+        server.expect(requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/collections?resourceTypes=SUBSTATION,VOLTAGE_LEVEL"))
+                .andExpect(method(GET))
+                .andRespond(withStatus(HttpStatus.METHOD_NOT_ALLOWED));
+        server.expect(ExpectedCount.twice(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/substations"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(substationsJson, MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.twice(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/voltage-levels"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(voltageLevelsJson, MediaType.APPLICATION_JSON));
+
+        Set<ResourceType> resourceTypes = EnumSet.of(ResourceType.SUBSTATION, ResourceType.VOLTAGE_LEVEL);
+        List<Resource<IdentifiableAttributes>> resources = new ArrayList<>();
+        restNetworkStoreClient.getCollections(networkUuid, Resource.INITIAL_VARIANT_NUM, resourceTypes, resources::add);
+        assertEquals(List.of("s1"), resources.stream().map(Resource::getId).toList());
+
+        // collections are then directly loaded one by one
+        resources.clear();
+        restNetworkStoreClient.getCollections(networkUuid, Resource.INITIAL_VARIANT_NUM, resourceTypes, resources::add);
+        assertEquals(List.of("s1"), resources.stream().map(Resource::getId).toList());
+        server.verify();
+    }
+
+    /**
+     * A rest client only relying on the default implementation of {@link RestClient#streamCollections}.
+     */
+    private static final class ForwardingRestClient implements RestClient {
+
+        private final RestClient delegate;
+
+        private ForwardingRestClient(RestClient delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public <T extends IdentifiableAttributes> void createAll(String url, List<Resource<T>> resources, Object... uriVariables) {
+            delegate.createAll(url, resources, uriVariables);
+        }
+
+        @Override
+        public <T extends IdentifiableAttributes> Optional<Resource<T>> getOne(String target, String url, Object... uriVariables) {
+            return delegate.getOne(target, url, uriVariables);
+        }
+
+        @Override
+        public Optional<ExtensionAttributes> getOneExtensionAttributes(String url, Object... uriVariables) {
+            return delegate.getOneExtensionAttributes(url, uriVariables);
+        }
+
+        @Override
+        public Optional<OperationalLimitsGroupAttributes> getOneOperationalLimitsGroupAttributes(String url, Object... uriVariables) {
+            return delegate.getOneOperationalLimitsGroupAttributes(url, uriVariables);
+        }
+
+        @Override
+        public <T extends IdentifiableAttributes> List<Resource<T>> getAll(String target, String url, Object... uriVariables) {
+            return delegate.getAll(target, url, uriVariables);
+        }
+
+        @Override
+        public <T extends Attributes> void updateAll(String url, List<Resource<T>> resources, Class<?> viewClass, Object... uriVariables) {
+            delegate.updateAll(url, resources, viewClass, uriVariables);
+        }
+
+        @Override
+        public void patchAll(String url, List<ResourcePatch> patches, Object... uriVariables) {
+            delegate.patchAll(url, patches, uriVariables);
+        }
+
+        @Override
+        public <E> E get(String url, ParameterizedTypeReference<E> responseType, Object... uriVariables) {
+            return delegate.get(url, responseType, uriVariables);
+        }
+
+        @Override
+        public void put(String url, Object... uriVariables) {
+            delegate.put(url, uriVariables);
+        }
+
+        @Override
+        public void delete(String url, Object... uriVariables) {
+            delegate.delete(url, uriVariables);
+        }
+
+        @Override
+        public void post(String url, Object... uriVariables) {
+            delegate.post(url, uriVariables);
+        }
+
+        @Override
+        public <T> void deleteAll(String url, T ids, Object... uriVariables) {
+            delegate.deleteAll(url, ids, uriVariables);
+        }
+    }
+
+    @Test
+    public void testGetCollectionsFallbackWithDefaultStreamCollections() throws JsonProcessingException {
+        RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(new ForwardingRestClient(restClient), objectMapper);
+        Resource<SubstationAttributes> s1 = Resource.substationBuilder()
+                .id("s1")
+                .attributes(SubstationAttributes.builder().country(Country.FR).build())
+                .build();
+        String substationsJson = objectMapper.writeValueAsString(TopLevelDocument.of(s1));
+        String collectionsUrl = "/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/collections?resourceTypes=SUBSTATION";
+        String substationsUrl = "/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/substations";
+        Set<ResourceType> resourceTypes = EnumSet.of(ResourceType.SUBSTATION);
+        List<Resource<IdentifiableAttributes>> resources = new ArrayList<>();
+
+        // the server does not know the request
+        server.expect(requestTo(collectionsUrl))
+                .andExpect(method(GET))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        server.expect(requestTo(substationsUrl))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(substationsJson, MediaType.APPLICATION_JSON));
+        restNetworkStoreClient.getCollections(networkUuid, Resource.INITIAL_VARIANT_NUM, resourceTypes, resources::add);
+        assertEquals(List.of("s1"), resources.stream().map(Resource::getId).toList());
+        server.verify();
+
+        // the server does not allow the request
+        server.reset();
+        resources.clear();
+        restNetworkStoreClient = new RestNetworkStoreClient(new ForwardingRestClient(restClient), objectMapper);
+        server.expect(requestTo(collectionsUrl))
+                .andExpect(method(GET))
+                .andRespond(withStatus(HttpStatus.METHOD_NOT_ALLOWED));
+        server.expect(requestTo(substationsUrl))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(substationsJson, MediaType.APPLICATION_JSON));
+        restNetworkStoreClient.getCollections(networkUuid, Resource.INITIAL_VARIANT_NUM, resourceTypes, resources::add);
+        assertEquals(List.of("s1"), resources.stream().map(Resource::getId).toList());
+        server.verify();
+    }
+
     private static TwoWindingsTransformerAttributes createTwoWindingsTransformerAttributes() {
         TwoWindingsTransformerAttributes twoWindingsTransformerAttributes = new TwoWindingsTransformerAttributes();
         twoWindingsTransformerAttributes.setP1(1.0);
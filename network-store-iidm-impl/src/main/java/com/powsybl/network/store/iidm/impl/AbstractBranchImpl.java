@@ -352,9 +352,9 @@ public abstract class AbstractBranchImpl<T extends Branch<T> & Connectable<T>, U
     private void updateSelectedOperationalLimitsGroupIdIfNull(TwoSides side, String id) {
         var resource = getResource();
         if (side == TwoSides.ONE && resource.getAttributes().getSelectedOperationalLimitsGroupId1() == null) {
-            resource.getAttributes().setSelectedOperationalLimitsGroupId1(id);
+            updateResourceWithoutNotification(res -> res.getAttributes().setSelectedOperationalLimitsGroupId1(id));
         } else if (side == TwoSides.TWO && resource.getAttributes().getSelectedOperationalLimitsGroupId2() == null) {
-            resource.getAttributes().setSelectedOperationalLimitsGroupId2(id);
+            updateResourceWithoutNotification(res -> res.getAttributes().setSelectedOperationalLimitsGroupId2(id));
         }
     }
 
@@ -6,9 +6,18 @@
  */
 package com.powsybl.network.store.iidm.impl;
 
+import com.powsybl.network.store.model.IdentifiableAttributes;
+import com.powsybl.network.store.model.Resource;
+import com.powsybl.network.store.model.ResourceType;
 import lombok.experimental.Delegate;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -21,4 +30,59 @@ public abstract class AbstractForwardingNetworkStoreClient<T extends NetworkStor
     protected AbstractForwardingNetworkStoreClient(T delegate) {
         this.delegate = Objects.requireNonNull(delegate);
     }
+
+    @Override
+    public <U extends IdentifiableAttributes> void getIdentifiables(UUID networkUuid, int variantNum, ResourceType resourceType, Consumer<Resource<U>> consumer) {
+        delegate.getIdentifiables(networkUuid, variantNum, resourceType, consumer);
+    }
+
+    @Override
+    public List<Resource<IdentifiableAttributes>> getIdentifiablesByIds(UUID networkUuid, int variantNum, Collection<String> ids) {
+        return delegate.getIdentifiablesByIds(networkUuid, variantNum, ids);
+    }
+
+    @Override
+    public List<Resource<IdentifiableAttributes>> getIdentifiablesByIds(UUID networkUuid, int variantNum, ResourceType resourceType, Collection<String> ids) {
+        return delegate.getIdentifiablesByIds(networkUuid, variantNum, resourceType, ids);
+    }
+
+    @Override
+    public void getCollections(UUID networkUuid, int variantNum, Set<ResourceType> resourceTypes, Consumer<Resource<IdentifiableAttributes>> consumer) {
+        delegate.getCollections(networkUuid, variantNum, resourceTypes, consumer);
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> void prepareResourceUpdate(UUID networkUuid, int variantNum, Resource<T> resource) {
+        delegate.prepareResourceUpdate(networkUuid, variantNum, resource);
+    }
+
+    @Override
+    public void addResourceEvictionListener(ResourceEvictionListener listener) {
+        delegate.addResourceEvictionListener(listener);
+    }
+
+    @Override
+    public void addAutoFlushListener(AutoFlushListener listener) {
+        delegate.addAutoFlushListener(listener);
+    }
+
+    @Override
+    public boolean isConcurrent() {
+        return delegate.isConcurrent();
+    }
+
+    @Override
+    public boolean isEvictionEnabled() {
+        return delegate.isEvictionEnabled();
+    }
+
+    @Override
+    public CompletableFuture<Void> flushAsync(UUID networkUuid) {
+        return delegate.flushAsync(networkUuid);
+    }
+
+    @Override
+    public void awaitFlush(UUID networkUuid) {
+        delegate.awaitFlush(networkUuid);
+    }
 }
@@ -38,6 +38,9 @@ public abstract class AbstractIdentifiableImpl<I extends Identifiable<I>, D exte
     // Needed to generate the exception message when accessing a removed identifiable
     private String idBeforeRemoval;
 
+    // Set when the resource has been evicted from the cache of the store client, the object being still referenced
+    private volatile boolean resourceEvicted;
+
     private static final String PROPERTIES = "properties";
 
     protected AbstractIdentifiableImpl(NetworkObjectIndex index, Resource<D> resource) {
@@ -50,8 +53,10 @@ public abstract class AbstractIdentifiableImpl<I extends Identifiable<I>, D exte
     }
 
     public void updateResourceWithoutNotification(Consumer<Resource<D>> modifier, AttributeFilter attributeFilter) {
-        modifier.accept(resource);
-        index.updateResource(resource, attributeFilter);
+        Resource<D> r = getBoundResource();
+        index.prepareResourceUpdate(r);
+        modifier.accept(r);
+        index.updateResource(r, attributeFilter);
     }
 
     public void updateResource(Consumer<Resource<D>> modifier, String attribute, Object oldValue, Object newValue) {
@@ -59,33 +64,43 @@ public abstract class AbstractIdentifiableImpl<I extends Identifiable<I>, D exte
     }
 
     public void updateResource(Consumer<Resource<D>> modifier, AttributeFilter attributeFilter, String attribute, Object oldValue, Object newValue) {
-        modifier.accept(resource);
-        index.updateResource(resource, attributeFilter);
+        Resource<D> r = getBoundResource();
+        index.prepareResourceUpdate(r);
+        modifier.accept(r);
+        index.updateResource(r, attributeFilter);
         String variantId = getNetwork().getVariantManager().getWorkingVariantId();
         index.notifyUpdate(this, attribute, variantId, oldValue, newValue);
     }
 
     public void updateResource(Consumer<Resource<D>> modifier, String attribute, String variantId, Object oldValue, Supplier<Object> newValueSupplier) {
-        modifier.accept(resource);
-        index.updateResource(resource, AttributeFilter.PRIMARY_AS_NULL);
+        Resource<D> r = getBoundResource();
+        index.prepareResourceUpdate(r);
+        modifier.accept(r);
+        index.updateResource(r, AttributeFilter.PRIMARY_AS_NULL);
         index.notifyUpdate(this, attribute, variantId, oldValue, newValueSupplier.get());
     }
 
     public void updateResourcePropertyAdded(Consumer<Resource<D>> modifier, String attribute, Object newValue) {
-        modifier.accept(resource);
-        index.updateResource(resource, AttributeFilter.PRIMARY_AS_NULL);
+        Resource<D> r = getBoundResource();
+        index.prepareResourceUpdate(r);
+        modifier.accept(r);
+        index.updateResource(r, AttributeFilter.PRIMARY_AS_NULL);
         index.notifyPropertyAdded(this, () -> attribute, newValue);
     }
 
     public void updateResourcePropertyReplaced(Consumer<Resource<D>> modifier, String attribute, String oldValue, Object newValue) {
-        modifier.accept(resource);
-        index.updateResource(resource, AttributeFilter.PRIMARY_AS_NULL);
+        Resource<D> r = getBoundResource();
+        index.prepareResourceUpdate(r);
+        modifier.accept(r);
+        index.updateResource(r, AttributeFilter.PRIMARY_AS_NULL);
         index.notifyPropertyReplaced(this, () -> attribute, oldValue, newValue);
     }
 
     public void updateResourcePropertyRemoved(Consumer<Resource<D>> modifier, String attribute, String oldValue) {
-        modifier.accept(resource);
-        index.updateResource(resource, AttributeFilter.PRIMARY_AS_NULL);
+        Resource<D> r = getBoundResource();
+        index.prepareResourceUpdate(r);
+        modifier.accept(r);
+        index.updateResource(r, AttributeFilter.PRIMARY_AS_NULL);
         index.notifyPropertyRemoved(this, attribute, oldValue);
     }
 
@@ -94,8 +109,10 @@ public abstract class AbstractIdentifiableImpl<I extends Identifiable<I>, D exte
     }
 
     public void updateResourceExtension(Extension<?> extension, Consumer<Resource<D>> modifier, String attribute, Object oldValue, Object newValue) {
-        modifier.accept(resource);
-        index.updateResource(resource, AttributeFilter.PRIMARY_AS_NULL);
+        Resource<D> r = getBoundResource();
+        index.prepareResourceUpdate(r);
+        modifier.accept(r);
+        index.updateResource(r, AttributeFilter.PRIMARY_AS_NULL);
         String variantId = getNetwork().getVariantManager().getWorkingVariantId();
         getIndex().notifyExtensionUpdate(extension, attribute, variantId, oldValue, newValue);
     }
@@ -105,6 +122,11 @@ public abstract class AbstractIdentifiableImpl<I extends Identifiable<I>, D exte
     }
 
     public void setResource(Resource<D> resource) {
+        resourceEvicted = false;
+        bindResource(resource);
+    }
+
+    private void bindResource(Resource<D> resource) {
         if (resource == null && this.resource != null) {
             // Save idBeforeRemoval when switching from non-null to null resource
             idBeforeRemoval = this.resource.getId();
@@ -113,7 +135,30 @@ public abstract class AbstractIdentifiableImpl<I extends Identifiable<I>, D exte
             idBeforeRemoval = null;
         }
 
+        Resource<D> previousResource = this.resource;
         this.resource = resource;
+        if (previousResource != null && resource != null && previousResource != resource) {
+            materializeUsedExtensionAttributes(previousResource, resource);
+        }
+    }
+
+    /**
+     * Extensions already created read their attributes from the resource bound to this object, so the extension
+     * attributes materialized in the previous resource (typically the one of the previous working variant) must not
+     * be lazy in the new one.
+     */
+    private void materializeUsedExtensionAttributes(Resource<D> previousResource, Resource<D> newResource) {
+        Map<String, ExtensionAttributes> previousExtensionAttributes = previousResource.getAttributes().getExtensionAttributes();
+        List<String> extensionNames = newResource.getAttributes().getExtensionAttributes().entrySet().stream()
+                .filter(e -> e.getValue() instanceof LazyExtensionAttributes)
+                .map(Map.Entry::getKey)
+                .filter(extensionName -> previousExtensionAttributes.containsKey(extensionName)
+                        && !(previousExtensionAttributes.get(extensionName) instanceof LazyExtensionAttributes))
+                .toList();
+        // materialized through the cache of the working variant, which replaces the lazy attributes in place
+        for (String extensionName : extensionNames) {
+            index.loadExtensionAttributes(newResource.getType(), newResource.getId(), extensionName);
+        }
     }
 
     public Resource<D> getResource() {
@@ -124,7 +169,24 @@ public abstract class AbstractIdentifiableImpl<I extends Identifiable<I>, D exte
         if (index.getWorkingVariantNum() == -1) {
             throw new PowsyblException("Variant index not set");
         }
-        return Optional.ofNullable(resource);
+        return Optional.ofNullable(getBoundResource());
+    }
+
+    /**
+     * Mark the resource of this object as evicted from the cache of the store client, so that the object is bound
+     * again to the resource of the cache on next access instead of reading or updating the evicted one.
+     */
+    void markResourceEvicted() {
+        resourceEvicted = true;
+    }
+
+    private Resource<D> getBoundResource() {
+        if (resourceEvicted && resource != null) {
+            // cleared first, so that an eviction while reloading is not missed
+            resourceEvicted = false;
+            bindResource(index.reloadEvictedResource(this, resource));
+        }
+        return resource;
     }
 
     public String getId() {
@@ -296,10 +358,9 @@ public abstract class AbstractIdentifiableImpl<I extends Identifiable<I>, D exte
 
     public String setProperty(String key, String value) {
         MutableObject<String> oldValue = new MutableObject<>();
-        Map<String, String> properties = getResource().getAttributes().getProperties();
-        if (properties == null) {
-            properties = new HashMap<>();
-        }
+        Map<String, String> oldProperties = getResource().getAttributes().getProperties();
+        // work on a copy as the properties are only modified by the resource update
+        Map<String, String> properties = oldProperties != null ? new HashMap<>(oldProperties) : new HashMap<>();
         oldValue.setValue(properties.put(key, value));
 
         Map<String, String> finalProperties = properties;
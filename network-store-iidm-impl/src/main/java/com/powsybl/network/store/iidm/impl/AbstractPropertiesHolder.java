@@ -52,9 +52,8 @@ public abstract class AbstractPropertiesHolder implements PropertiesHolder {
     public String setProperty(String key, String value) {
         MutableObject<String> oldValue = new MutableObject<>();
         Map<String, String> properties = getProperties();
-        if (properties == null) {
-            properties = new HashMap<>();
-        }
+        // modify a copy, the properties of the resource are only changed through persistProperties
+        properties = properties == null ? new HashMap<>() : new HashMap<>(properties);
         oldValue.setValue(properties.put(key, value));
 
         persistProperties(properties);
@@ -65,6 +64,7 @@ public abstract class AbstractPropertiesHolder implements PropertiesHolder {
     public boolean removeProperty(String key) {
         Map<String, String> properties = getProperties();
         if (properties != null && properties.containsKey(key)) {
+            properties = new HashMap<>(properties);
             properties.remove(key);
             persistProperties(properties);
             return true;
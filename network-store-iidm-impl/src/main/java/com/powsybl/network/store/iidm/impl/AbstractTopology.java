@@ -8,15 +8,16 @@ package com.powsybl.network.store.iidm.impl;
 
 import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.iidm.network.*;
+import com.powsybl.network.store.iidm.impl.util.CompactGraph;
 import com.powsybl.network.store.model.*;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.jgrapht.Graph;
-import org.jgrapht.alg.connectivity.ConnectivityInspector;
 import org.jgrapht.graph.Pseudograph;
 
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -260,6 +261,22 @@ public abstract class AbstractTopology<T> {
         }
     }
 
+    protected void buildEdges(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource,
+                              boolean includeOpenSwitches, boolean includeRetainSwitches, CompactGraph<T> graph) {
+        UUID networkUuid = index.getNetwork().getUuid();
+
+        for (Resource<SwitchAttributes> resource : index.getStoreClient().getVoltageLevelSwitches(networkUuid, index.getWorkingVariantNum(), voltageLevelResource.getId())) {
+            T nodeOrBus1 = getSwitchNodeOrBus1(resource);
+            T nodeOrBus2 = getSwitchNodeOrBus2(resource);
+            if ((includeOpenSwitches || !resource.getAttributes().isOpen()) && (includeRetainSwitches || !resource.getAttributes().isRetained())) {
+                graph.addEdge(nodeOrBus1, nodeOrBus2);
+            } else {
+                graph.addVertex(nodeOrBus1);
+                graph.addVertex(nodeOrBus2);
+            }
+        }
+    }
+
     protected void buildGraph(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource,
                               boolean includeOpenSwitches, boolean includeRetainSwitches, Graph<T, Edge> graph, List<Vertex> vertices) {
         buildVertices(index, voltageLevelResource, vertices);
@@ -276,12 +293,20 @@ public abstract class AbstractTopology<T> {
     public List<ConnectedSetResult<T>> findConnectedSetList(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource, boolean isBusView) {
         List<ConnectedSetResult<T>> connectedSetsList = new ArrayList<>();
 
-        // build graph
+        // build a compact graph, with nodes or buses inserted in the same order as in the full graph so that the
+        // calculated buses are numbered the same way
+        List<Vertex> vertices = buildVertices(index, voltageLevelResource);
         Map<T, List<Vertex>> verticesByNodeOrBus = new HashMap<>();
-        Graph<T, Edge> graph = buildGraph(index, voltageLevelResource, false, isBusView, verticesByNodeOrBus);
+        CompactGraph<T> graph = new CompactGraph<>();
+        for (Vertex vertex : vertices) {
+            T nodeOrBus = getNodeOrBus(vertex);
+            graph.addVertex(nodeOrBus);
+            verticesByNodeOrBus.computeIfAbsent(nodeOrBus, k -> new ArrayList<>()).add(vertex);
+        }
+        buildEdges(index, voltageLevelResource, false, isBusView, graph);
 
         // find node/bus connected sets
-        for (Set<T> connectedNodesOrBuses : new ConnectivityInspector<>(graph).connectedSets()) {
+        for (Set<T> connectedNodesOrBuses : graph.getConnectedSets()) {
             // filter connected vertices that cannot be a calculated bus
             if (isCalculatedBusValid(connectedNodesOrBuses, verticesByNodeOrBus, isBusView)) {
                 Set<Vertex> connectedVertices = connectedNodesOrBuses.stream()
@@ -417,45 +442,74 @@ public abstract class AbstractTopology<T> {
         return new CalculatedBusAttributes(connectedSet.getConnectedVertices(), null, null, v, angle);
     }
 
-    private CalculationResult<T> getCalculatedBusAttributesList(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource, boolean isBusView) {
-        List<CalculatedBusAttributes> calculatedBusAttributesList;
-        Map<T, Integer> nodeOrBusToCalculatedBusNum;
-        if (isCalculatedBusesValid(voltageLevelResource, isBusView)) {
-            calculatedBusAttributesList = isBusView ? voltageLevelResource.getAttributes().getCalculatedBusesForBusView() : voltageLevelResource.getAttributes().getCalculatedBusesForBusBreakerView();
-            nodeOrBusToCalculatedBusNum = getNodeOrBusToCalculatedBusNum(voltageLevelResource, isBusView);
-        } else {
-            // calculate buses
-            List<ConnectedSetResult<T>> connectedSetList = findConnectedSetList(index, voltageLevelResource, isBusView);
-            calculatedBusAttributesList = connectedSetList
-                    .stream()
-                    //TODO in this case in nodebreaker topology we currently don't preserve any values from
-                    //the same view if it was already computed but is invalidated.
-                    //we could do it some day (we need to define good heuristics to
-                    //match previous values to new buses).
-                    //NOTE: We chose to have the same behavior when getting the values from the other view
-                    // get V and Angle values from other view if available
-                    .map(connectedSet -> createCalculatedBusAttributesWithVAndAngle(index, voltageLevelResource, connectedSet, isBusView))
-                    .collect(Collectors.toList());
-            setCalculatedBuses(voltageLevelResource, isBusView, calculatedBusAttributesList);
-
-            // set index calculated buses per node or bus
-            nodeOrBusToCalculatedBusNum = new HashMap<>();
-            for (int calculatedBusNum = 0; calculatedBusNum < calculatedBusAttributesList.size(); calculatedBusNum++) {
-                for (T nodeOrBus : connectedSetList.get(calculatedBusNum).getConnectedNodesOrBuses()) {
-                    nodeOrBusToCalculatedBusNum.put(nodeOrBus, calculatedBusNum);
-                }
+    private CalculationResult<T> applyConnectedSetList(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource, boolean isBusView,
+                                                       List<ConnectedSetResult<T>> connectedSetList) {
+        List<CalculatedBusAttributes> calculatedBusAttributesList = connectedSetList
+                .stream()
+                //TODO in this case in nodebreaker topology we currently don't preserve any values from
+                //the same view if it was already computed but is invalidated.
+                //we could do it some day (we need to define good heuristics to
+                //match previous values to new buses).
+                //NOTE: We chose to have the same behavior when getting the values from the other view
+                // get V and Angle values from other view if available
+                .map(connectedSet -> createCalculatedBusAttributesWithVAndAngle(index, voltageLevelResource, connectedSet, isBusView))
+                .collect(Collectors.toList());
+        index.prepareResourceUpdate(voltageLevelResource);
+        setCalculatedBuses(voltageLevelResource, isBusView, calculatedBusAttributesList);
+
+        // set index calculated buses per node or bus
+        Map<T, Integer> nodeOrBusToCalculatedBusNum = new HashMap<>();
+        for (int calculatedBusNum = 0; calculatedBusNum < calculatedBusAttributesList.size(); calculatedBusNum++) {
+            for (T nodeOrBus : connectedSetList.get(calculatedBusNum).getConnectedNodesOrBuses()) {
+                nodeOrBusToCalculatedBusNum.put(nodeOrBus, calculatedBusNum);
             }
-            setNodeOrBusToCalculatedBusNum(voltageLevelResource, nodeOrBusToCalculatedBusNum, isBusView);
-
-            // validate calculation
-            voltageLevelResource.getAttributes().setCalculatedBusesValid(true);
-            index.updateVoltageLevelResource(voltageLevelResource);
-            index.getNetwork().invalidateComponents();
         }
+        setNodeOrBusToCalculatedBusNum(voltageLevelResource, nodeOrBusToCalculatedBusNum, isBusView);
+
+        // validate calculation
+        voltageLevelResource.getAttributes().setCalculatedBusesValid(true);
+        index.updateVoltageLevelResource(voltageLevelResource);
+        index.getNetwork().invalidateComponents();
 
         return new CalculationResult<>(calculatedBusAttributesList, nodeOrBusToCalculatedBusNum);
     }
 
+    private CalculationResult<T> getCalculatedBusAttributesList(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource, boolean isBusView) {
+        if (isCalculatedBusesValid(voltageLevelResource, isBusView)) {
+            List<CalculatedBusAttributes> calculatedBusAttributesList = isBusView ? voltageLevelResource.getAttributes().getCalculatedBusesForBusView() : voltageLevelResource.getAttributes().getCalculatedBusesForBusBreakerView();
+            return new CalculationResult<>(calculatedBusAttributesList, getNodeOrBusToCalculatedBusNum(voltageLevelResource, isBusView));
+        }
+        // calculate buses
+        List<ConnectedSetResult<T>> connectedSetList = findConnectedSetList(index, voltageLevelResource, isBusView);
+        return applyConnectedSetList(index, voltageLevelResource, isBusView, connectedSetList);
+    }
+
+    /**
+     * Calculate buses of all the voltage levels of the list which are not already calculated. Connected sets only read
+     * the store, so when the store client supports concurrent reads they are searched in parallel on the common
+     * fork-join pool. Calculated buses are then set on voltage level resources by the calling thread, which has waited
+     * for the end of the parallel search, so that voltage level attributes are never written concurrently. Reads
+     * evicting cached resources notify the network objects of the eviction, so the search is never parallel when the
+     * eviction is enabled.
+     */
+    public void calculateBuses(NetworkObjectIndex index, List<Resource<VoltageLevelAttributes>> voltageLevelResources, boolean isBusView) {
+        List<Resource<VoltageLevelAttributes>> invalidVoltageLevelResources = voltageLevelResources.stream()
+                .filter(voltageLevelResource -> !isCalculatedBusesValid(voltageLevelResource, isBusView))
+                .toList();
+        if (invalidVoltageLevelResources.isEmpty()) {
+            return;
+        }
+        NetworkStoreClient storeClient = index.getStoreClient();
+        boolean parallel = invalidVoltageLevelResources.size() > 1 && storeClient.isConcurrent() && !storeClient.isEvictionEnabled();
+        Stream<Resource<VoltageLevelAttributes>> stream = parallel ? invalidVoltageLevelResources.parallelStream() : invalidVoltageLevelResources.stream();
+        List<List<ConnectedSetResult<T>>> connectedSetLists = stream
+                .map(voltageLevelResource -> findConnectedSetList(index, voltageLevelResource, isBusView))
+                .toList();
+        for (int i = 0; i < invalidVoltageLevelResources.size(); i++) {
+            applyConnectedSetList(index, invalidVoltageLevelResources.get(i), isBusView, connectedSetLists.get(i));
+        }
+    }
+
     public Map<String, Bus> calculateBuses(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource) {
         return calculateBuses(index, voltageLevelResource, false);
     }
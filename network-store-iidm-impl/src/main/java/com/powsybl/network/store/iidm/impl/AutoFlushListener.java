@@ -0,0 +1,20 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import java.util.UUID;
+
+/**
+ * Listener notified when a network store client flushes the modifications of a network by itself, without an explicit
+ * call to {@link NetworkStoreClient#flush(UUID)}, so that a cache can release the resources now stored by the server.
+ *
+ * @author agent <agent at local>
+ */
+public interface AutoFlushListener {
+
+    void onAutoFlush(UUID networkUuid);
+}
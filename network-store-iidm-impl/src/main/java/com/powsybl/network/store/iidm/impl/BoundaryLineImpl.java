@@ -359,7 +359,7 @@ public class BoundaryLineImpl extends AbstractInjectionImpl<BoundaryLine, Bounda
     private void updateSelectedOperationalLimitsGroupIdIfNull(String id) {
         var resource = getResource();
         if (resource.getAttributes().getSelectedOperationalLimitsGroupId() == null) {
-            resource.getAttributes().setSelectedOperationalLimitsGroupId(id);
+            updateResourceWithoutNotification(res -> res.getAttributes().setSelectedOperationalLimitsGroupId(id));
         }
     }
 
@@ -633,7 +633,7 @@ public class BoundaryLineImpl extends AbstractInjectionImpl<BoundaryLine, Bounda
         if (type.isAssignableFrom(ConnectablePosition.class)) {
             var resource = getResource();
             if (resource.getAttributes().getPosition() != null) {
-                resource.getAttributes().setPosition(null);
+                updateResourceWithoutNotification(res -> res.getAttributes().setPosition(null));
                 return true;
             }
             return false;
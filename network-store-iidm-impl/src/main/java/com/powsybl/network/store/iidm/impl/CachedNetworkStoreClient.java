@@ -10,16 +10,40 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.network.store.iidm.impl.util.TriConsumer;
 import com.powsybl.network.store.model.*;
-import org.apache.commons.lang3.mutable.MutableInt;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
+ * A client caching the resources loaded from its delegate.
+ * <p>
+ * By default, a network using this client has to be read by a single thread. In concurrent mode, the identifiables of
+ * a network can be looked up and read by several threads at the same time, for instance to post-process a security
+ * analysis in parallel: both the collection caches of this client and the object index of the network are thread
+ * safe. Network modifications are still expected to be done by a single thread, without concurrent reads, and so are
+ * the first accesses to the bus views and components which are calculated and stored in the network on demand.
+ * <p>
+ * The number of cached resources of a network variant can be bounded. When the bound is exceeded, the resources of
+ * the least recently used voltage levels are evicted from the cache, except the ones modified since last flush, and
+ * the eviction listeners are notified. Voltage levels are also marked as used when resources are created in them, so
+ * that when the delegate flushes the modifications by itself, for instance during a network import with a bounded
+ * number of buffered resources, the resources of the least recently created voltage levels are evicted too.
+ * <p>
+ * In copy on write mode, cloning a variant does not copy the resources not modified since last flush but shares them
+ * with the source variant. Before being modified in place, a shared resource is handed over to the modifying variant
+ * and the other variants get a private copy, see {@link #prepareResourceUpdate(UUID, int, Resource)}. Voltage levels
+ * and networks are always copied as they are also modified in place by the topology computation.
+ *
  * @author Nicolas Noir <nicolas.noir at rte-france.com>
  * @author Etienne Homer <etienne.homer at rte-france.com>
  */
@@ -27,186 +51,256 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
 
     private static final int MAX_GET_IDENTIFIABLE_CALL_COUNT = 10;
 
-    private final Map<UUID, List<VariantInfos>> variantsInfosByNetworkUuid = new HashMap<>();
+    public static final int UNLIMITED_CACHED_RESOURCE_COUNT = 0;
+
+    private final boolean concurrent;
+
+    private final int maxCachedResourceCount;
+
+    private final boolean copyOnWriteVariants;
+
+    private final ObjectMapper objectMapper = JsonUtil.createObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .configure(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS, false)
+        .configure(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS, false);
+
+    // notice: the indexes and maps of this client are always concurrent as their iteration order is not used
+
+    private final Map<UUID, List<VariantInfos>> variantsInfosByNetworkUuid = new ConcurrentHashMap<>();
+
+    /**
+     * Dictionary of the ids repeated in the cached resources, shared by all the collections and variants.
+     */
+    private final StringDictionary stringDictionary = new StringDictionary();
 
     private final NetworkCollectionIndex<CollectionCache<NetworkAttributes>> networksCache =
             new NetworkCollectionIndex<>(() -> new CollectionCache<>(
                     (networkUuid, variantNum, id) -> delegate.getNetwork(networkUuid, variantNum),
                     null,
                     (networkUuid, variantNum) -> delegate.getNetwork(networkUuid, variantNum).stream().collect(Collectors.toList()),
-                    delegate)
+                    delegate, isConcurrent(), stringDictionary), true
             );
 
     private final NetworkCollectionIndex<CollectionCache<SubstationAttributes>> substationsCache =
             new NetworkCollectionIndex<>(() -> new CollectionCache<>(
                     delegate::getSubstation,
                     null,
-                    delegate::getSubstations,
-                    delegate)
+                    allLoader(ResourceType.SUBSTATION),
+                    delegate, isConcurrent(), stringDictionary), true
             );
 
     private final NetworkCollectionIndex<CollectionCache<VoltageLevelAttributes>> voltageLevelsCache =
             new NetworkCollectionIndex<>(() -> new CollectionCache<>(
                     delegate::getVoltageLevel,
                     delegate::getVoltageLevelsInSubstation,
-                    delegate::getVoltageLevels,
-                    delegate)
+                    allLoader(ResourceType.VOLTAGE_LEVEL),
+                    delegate, isConcurrent(), stringDictionary), true
             );
 
     private final NetworkCollectionIndex<CollectionCache<SwitchAttributes>> switchesCache =
             new NetworkCollectionIndex<>(() -> new CollectionCache<>(
                     delegate::getSwitch,
                     delegate::getVoltageLevelSwitches,
-                    delegate::getSwitches,
-                    delegate)
+                    allLoader(ResourceType.SWITCH),
+                    delegate, isConcurrent(), stringDictionary), true
             );
 
     private final NetworkCollectionIndex<CollectionCache<BusbarSectionAttributes>> busbarSectionsCache =
             new NetworkCollectionIndex<>(() -> new CollectionCache<>(
                     delegate::getBusbarSection,
                     delegate::getVoltageLevelBusbarSections,
-                    delegate::getBusbarSections,
-                    delegate)
+                    allLoader(ResourceType.BUSBAR_SECTION),
+                    delegate, isConcurrent(), stringDictionary), true
             );
 
     private final NetworkCollectionIndex<CollectionCache<LoadAttributes>> loadsCache =
             new NetworkCollectionIndex<>(() -> new CollectionCache<>(
                     delegate::getLoad,
                     delegate::getVoltageLevelLoads,
-                    delegate::getLoads,
-                    delegate)
+                    allLoader(ResourceType.LOAD),
+                    delegate, isConcurrent(), stringDictionary), true
             );
 
     private final NetworkCollectionIndex<CollectionCache<GeneratorAttributes>> generatorsCache =
             new NetworkCollectionIndex<>(() -> new CollectionCache<>(
                     delegate::getGenerator,
                     delegate::getVoltageLevelGenerators,
-                    delegate::getGenerators,
-                    delegate)
+                    allLoader(ResourceType.GENERATOR),
+                    delegate, isConcurrent(), stringDictionary), true
             );
 
     private final NetworkCollectionIndex<CollectionCache<BatteryAttributes>> batteriesCache =
             new NetworkCollectionIndex<>(() -> new CollectionCache<>(
                     delegate::getBattery,
                     delegate::getVoltageLevelBatteries,
-                    delegate::getBatteries,
-                    delegate)
+                    allLoader(ResourceType.BATTERY),
+                    delegate, isConcurrent(), stringDictionary), true
             );
 
     private final NetworkCollectionIndex<CollectionCache<TwoWindingsTransformerAttributes>> twoWindingsTransformerCache =
             new NetworkCollectionIndex<>(() -> new CollectionCache<>(
                     delegate::getTwoWindingsTransformer,
                     delegate::getVoltageLevelTwoWindingsTransformers,
-                    delegate::getTwoWindingsTransformers,
-                    delegate)
+                    allLoader(ResourceType.TWO_WINDINGS_TRANSFORMER),
+                    delegate, isConcurrent(), stringDictionary), true
             );
 
     private final NetworkCollectionIndex<CollectionCache<ThreeWindingsTransformerAttributes>> threeWindingsTransformerCache =
             new NetworkCollectionIndex<>(() -> new CollectionCache<>(
                     delegate::getThreeWindingsTransformer,
                     delegate::getVoltageLevelThreeWindingsTransformers,
-                    delegate::getThreeWindingsTransformers,
-                    delegate)
+                    allLoader(ResourceType.THREE_WINDINGS_TRANSFORMER),
+                    delegate, isConcurrent(), stringDictionary), true
             );
 
     private final NetworkCollectionIndex<CollectionCache<LineAttributes>> linesCache =
             new NetworkCollectionIndex<>(() -> new CollectionCache<>(
                     delegate::getLine,
                     delegate::getVoltageLevelLines,
-                    delegate::getLines,
-                    delegate)
+                    allLoader(ResourceType.LINE),
+                    delegate, isConcurrent(), stringDictionary), true
             );
 
     private final NetworkCollectionIndex<CollectionCache<ShuntCompensatorAttributes>> shuntCompensatorsCache =
             new NetworkCollectionIndex<>(() -> new CollectionCache<>(
                     delegate::getShuntCompensator,
                     delegate::getVoltageLevelShuntCompensators,
-                    delegate::getShuntCompensators,
-                    delegate)
+                    allLoader(ResourceType.SHUNT_COMPENSATOR),
+                    delegate, isConcurrent(), stringDictionary), true
             );
 
     private final NetworkCollectionIndex<CollectionCache<VscConverterStationAttributes>> vscConverterStationCache =
             new NetworkCollectionIndex<>(() -> new CollectionCache<>(
                     delegate::getVscConverterStation,
                     delegate::getVoltageLevelVscConverterStations,
-                    delegate::getVscConverterStations,
-                    delegate)
+                    allLoader(ResourceType.VSC_CONVERTER_STATION),
+                    delegate, isConcurrent(), stringDictionary), true
             );
 
     private final NetworkCollectionIndex<CollectionCache<LccConverterStationAttributes>> lccConverterStationCache =
             new NetworkCollectionIndex<>(() -> new CollectionCache<>(
                     delegate::getLccConverterStation,
                     delegate::getVoltageLevelLccConverterStations,
-                    delegate::getLccConverterStations,
-                    delegate)
+                    allLoader(ResourceType.LCC_CONVERTER_STATION),
+                    delegate, isConcurrent(), stringDictionary), true
             );
 
     private final NetworkCollectionIndex<CollectionCache<StaticVarCompensatorAttributes>> staticVarCompensatorCache =
             new NetworkCollectionIndex<>(() -> new CollectionCache<>(
                     delegate::getStaticVarCompensator,
                     delegate::getVoltageLevelStaticVarCompensators,
-                    delegate::getStaticVarCompensators,
-                    delegate)
+                    allLoader(ResourceType.STATIC_VAR_COMPENSATOR),
+                    delegate, isConcurrent(), stringDictionary), true
             );
 
     private final NetworkCollectionIndex<CollectionCache<HvdcLineAttributes>> hvdcLinesCache =
             new NetworkCollectionIndex<>(() -> new CollectionCache<>(
                     delegate::getHvdcLine,
                     null,
-                    delegate::getHvdcLines,
-                    delegate)
+                    allLoader(ResourceType.HVDC_LINE),
+                    delegate, isConcurrent(), stringDictionary), true
             );
 
     private final NetworkCollectionIndex<CollectionCache<BoundaryLineAttributes>> boundaryLinesCache =
             new NetworkCollectionIndex<>(() -> new CollectionCache<>(
                     delegate::getBoundaryLine,
                     delegate::getVoltageLevelBoundaryLines,
-                    delegate::getBoundaryLines,
-                    delegate)
+                    allLoader(ResourceType.BOUNDARY_LINE),
+                    delegate, isConcurrent(), stringDictionary), true
             );
 
     private final NetworkCollectionIndex<CollectionCache<ConfiguredBusAttributes>> configuredBusesCache =
             new NetworkCollectionIndex<>(() -> new CollectionCache<>(
                     delegate::getConfiguredBus,
                     delegate::getVoltageLevelConfiguredBuses,
-                    delegate::getConfiguredBuses,
-                    delegate)
+                    allLoader(ResourceType.CONFIGURED_BUS),
+                    delegate, isConcurrent(), stringDictionary), true
             );
 
     private final NetworkCollectionIndex<CollectionCache<TieLineAttributes>> tieLinesCache =
             new NetworkCollectionIndex<>(() -> new CollectionCache<>(
                     delegate::getTieLine,
                     null,
-                    delegate::getTieLines,
-                    delegate)
+                    allLoader(ResourceType.TIE_LINE),
+                    delegate, isConcurrent(), stringDictionary), true
             );
 
     private final NetworkCollectionIndex<CollectionCache<GroundAttributes>> groundsCache =
             new NetworkCollectionIndex<>(() -> new CollectionCache<>(
                     delegate::getGround,
                     delegate::getVoltageLevelGrounds,
-                    delegate::getGrounds,
-                    delegate)
+                    allLoader(ResourceType.GROUND),
+                    delegate, isConcurrent(), stringDictionary), true
             );
 
     private final NetworkCollectionIndex<CollectionCache<AreaAttributes>> areasCache =
             new NetworkCollectionIndex<>(() -> new CollectionCache<>(
                     delegate::getArea,
                     null,
-                    delegate::getAreas,
-                    delegate)
+                    allLoader(ResourceType.AREA),
+                    delegate, isConcurrent(), stringDictionary), true
             );
 
     private final Map<ResourceType, NetworkCollectionIndex<? extends CollectionCache<? extends IdentifiableAttributes>>> voltageLevelContainersCaches = new EnumMap<>(ResourceType.class);
 
     private final Map<ResourceType, NetworkCollectionIndex<? extends CollectionCache<? extends IdentifiableAttributes>>> networkContainersCaches = new EnumMap<>(ResourceType.class);
 
-    private final Map<Pair<UUID, Integer>, MutableInt> identifiableCallCountByNetworkVariant = new HashMap<>();
+    private final Map<Pair<UUID, Integer>, AtomicInteger> identifiableCallCountByNetworkVariant = new ConcurrentHashMap<>();
+
+    private final Map<Pair<UUID, Integer>, Set<String>> identifiablesIdsByNetworkVariant = new ConcurrentHashMap<>();
 
-    private final Map<Pair<UUID, Integer>, Set<String>> identifiablesIdsByNetworkVariant = new HashMap<>();
+    /**
+     * Ids of the voltage levels whose resources have been loaded, from the least to the most recently used. Each set
+     * is guarded by its own monitor.
+     */
+    private final NetworkCollectionIndex<Set<String>> voltageLevelsUsage = new NetworkCollectionIndex<>(LinkedHashSet::new, true);
+
+    /**
+     * Flush in progress, with the ids of the resources it is flushing for each collection.
+     */
+    private record PendingFlush(CompletableFuture<Void> future, List<Pair<CollectionCache<?>, Set<String>>> flushingResourceIds) {
+    }
+
+    private final Map<UUID, Queue<PendingFlush>> pendingFlushes = new ConcurrentHashMap<>();
+
+    private final Set<ResourceEvictionListener> evictionListeners = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private <T extends IdentifiableAttributes> TriConsumer<UUID, Integer, Consumer<Resource<T>>> allLoader(ResourceType resourceType) {
+        return (networkUuid, variantNum, consumer) -> delegate.getIdentifiables(networkUuid, variantNum, resourceType, consumer);
+    }
 
     public CachedNetworkStoreClient(NetworkStoreClient delegate) {
+        this(delegate, false);
+    }
+
+    /**
+     * @param concurrent true to allow the networks to be read by several threads at the same time
+     */
+    public CachedNetworkStoreClient(NetworkStoreClient delegate, boolean concurrent) {
+        this(delegate, concurrent, UNLIMITED_CACHED_RESOURCE_COUNT);
+    }
+
+    /**
+     * @param concurrent true to allow the networks to be read by several threads at the same time
+     * @param maxCachedResourceCount maximum number of resources cached for a network variant above which the resources
+     *                               of the least recently used voltage levels are evicted, unlimited if zero or negative
+     */
+    public CachedNetworkStoreClient(NetworkStoreClient delegate, boolean concurrent, int maxCachedResourceCount) {
+        this(delegate, concurrent, maxCachedResourceCount, false);
+    }
+
+    /**
+     * @param concurrent true to allow the networks to be read by several threads at the same time
+     * @param maxCachedResourceCount maximum number of resources cached for a network variant above which the resources
+     *                               of the least recently used voltage levels are evicted, unlimited if zero or negative
+     * @param copyOnWriteVariants true to share the unmodified resources between a variant and its clones instead of
+     *                            copying them
+     */
+    public CachedNetworkStoreClient(NetworkStoreClient delegate, boolean concurrent, int maxCachedResourceCount, boolean copyOnWriteVariants) {
         super(delegate);
+        this.concurrent = concurrent;
+        this.maxCachedResourceCount = maxCachedResourceCount;
+        this.copyOnWriteVariants = copyOnWriteVariants;
         voltageLevelContainersCaches.put(ResourceType.SWITCH, switchesCache);
         voltageLevelContainersCaches.put(ResourceType.BUSBAR_SECTION, busbarSectionsCache);
         voltageLevelContainersCaches.put(ResourceType.LOAD, loadsCache);
@@ -229,6 +323,212 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         networkContainersCaches.put(ResourceType.VOLTAGE_LEVEL, voltageLevelsCache);
         networkContainersCaches.put(ResourceType.TIE_LINE, tieLinesCache);
         networkContainersCaches.put(ResourceType.AREA, areasCache);
+        delegate.addAutoFlushListener(this::onAutoFlush);
+    }
+
+    @Override
+    public boolean isConcurrent() {
+        return concurrent;
+    }
+
+    @Override
+    public boolean isEvictionEnabled() {
+        return maxCachedResourceCount > 0;
+    }
+
+    public int getMaxCachedResourceCount() {
+        return maxCachedResourceCount;
+    }
+
+    public boolean isCopyOnWriteVariants() {
+        return copyOnWriteVariants;
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> void prepareResourceUpdate(UUID networkUuid, int variantNum, Resource<T> resource) {
+        delegate.prepareResourceUpdate(networkUuid, variantNum, resource);
+        unshareResource(networkUuid, variantNum, resource);
+    }
+
+    /**
+     * Give a private copy of a resource to the other variants sharing it, so that it can be modified in place by the
+     * given variant.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends IdentifiableAttributes> void unshareResource(UUID networkUuid, int variantNum, Resource<T> resource) {
+        var cache = (NetworkCollectionIndex<CollectionCache<T>>) getCache(resource.getType());
+        if (!cache.getCollection(networkUuid, variantNum).isSharingResources()) {
+            return;
+        }
+        cache.applyToCollection(networkUuid, (otherVariantNum, otherCollection) -> {
+            if (otherVariantNum != variantNum) {
+                otherCollection.unshareResource(resource, otherVariantNum, objectMapper);
+            }
+        });
+        // the resource could have been created by the source variant
+        resource.setVariantNum(variantNum);
+    }
+
+    private void unshareResources(UUID networkUuid, int variantNum, ResourceType resourceType, Set<String> ids) {
+        CollectionCache<?> collection = getCache(resourceType).getCollection(networkUuid, variantNum);
+        if (collection.isSharingResources()) {
+            for (String id : ids) {
+                collection.getCachedResource(id).ifPresent(resource -> unshareResource(networkUuid, variantNum, resource));
+            }
+        }
+    }
+
+    @Override
+    public void addResourceEvictionListener(ResourceEvictionListener listener) {
+        evictionListeners.add(Objects.requireNonNull(listener));
+    }
+
+    private int getCachedResourceCount(UUID networkUuid, int variantNum) {
+        int count = 0;
+        for (var cache : networkContainersCaches.values()) {
+            count += cache.getCollection(networkUuid, variantNum).getCachedResourceCount();
+        }
+        return count;
+    }
+
+    private <T extends IdentifiableAttributes> List<Resource<T>> getVoltageLevelContainerResources(NetworkCollectionIndex<CollectionCache<T>> cache,
+                                                                                                   UUID networkUuid, int variantNum, String voltageLevelId) {
+        List<Resource<T>> resources = cache.getCollection(networkUuid, variantNum).getContainerResources(networkUuid, variantNum, voltageLevelId);
+        if (maxCachedResourceCount > 0) {
+            evictLeastRecentlyUsedVoltageLevels(networkUuid, variantNum, voltageLevelId);
+        }
+        return resources;
+    }
+
+    private void evictLeastRecentlyUsedVoltageLevels(UUID networkUuid, int variantNum, String usedVoltageLevelId) {
+        completePendingFlushes(networkUuid);
+        Set<String> voltageLevelIds = voltageLevelsUsage.getCollection(networkUuid, variantNum);
+        synchronized (voltageLevelIds) {
+            if (usedVoltageLevelId != null) {
+                voltageLevelIds.remove(usedVoltageLevelId);
+                voltageLevelIds.add(usedVoltageLevelId);
+            }
+            Iterator<String> it = voltageLevelIds.iterator();
+            while (getCachedResourceCount(networkUuid, variantNum) > maxCachedResourceCount && it.hasNext()) {
+                String voltageLevelId = it.next();
+                // the voltage level being used is the most recent one, stop before evicting it
+                if (voltageLevelId.equals(usedVoltageLevelId)) {
+                    break;
+                }
+                if (evictVoltageLevel(networkUuid, variantNum, voltageLevelId)) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Evict the resources of a voltage level from all the collections.
+     *
+     * @return true if all the resources of the voltage level have been evicted, false if some of them are kept because
+     * they have been modified since last flush
+     */
+    private boolean evictVoltageLevel(UUID networkUuid, int variantNum, String voltageLevelId) {
+        boolean fullyEvicted = true;
+        for (var e : voltageLevelContainersCaches.entrySet()) {
+            ResourceType resourceType = e.getKey();
+            CollectionCache<? extends IdentifiableAttributes> collection = e.getValue().getCollection(networkUuid, variantNum);
+            Set<String> evictedIds = collection.evictContainer(voltageLevelId);
+            if (!evictedIds.isEmpty()) {
+                notifyEviction(networkUuid, variantNum, resourceType, evictedIds);
+            }
+            fullyEvicted &= !collection.isContainerCached(voltageLevelId);
+        }
+        return fullyEvicted;
+    }
+
+    private void notifyEviction(UUID networkUuid, int variantNum, ResourceType resourceType, Set<String> evictedIds) {
+        List<ResourceEvictionListener> listeners;
+        synchronized (evictionListeners) {
+            listeners = new ArrayList<>(evictionListeners);
+        }
+        listeners.forEach(listener -> listener.onEviction(networkUuid, variantNum, resourceType, evictedIds));
+    }
+
+    /**
+     * Mark a voltage level containing a created resource as the most recently used one, so that resources created
+     * during a network import can be evicted once flushed.
+     */
+    private void useVoltageLevels(UUID networkUuid, Resource<?> resource) {
+        if (maxCachedResourceCount > 0
+                && voltageLevelContainersCaches.containsKey(resource.getType())
+                && resource.getAttributes() instanceof Contained contained) {
+            Set<String> voltageLevelIds = voltageLevelsUsage.getCollection(networkUuid, resource.getVariantNum());
+            synchronized (voltageLevelIds) {
+                for (String voltageLevelId : contained.getContainerIds()) {
+                    voltageLevelIds.remove(voltageLevelId);
+                    voltageLevelIds.add(voltageLevelId);
+                }
+            }
+        }
+    }
+
+    private void markClean(UUID networkUuid) {
+        networkContainersCaches.values().forEach(cache -> cache.applyToCollection(networkUuid, (variantNum, collection) -> collection.markClean()));
+    }
+
+    @Override
+    public void flush(UUID networkUuid) {
+        flushAsync(networkUuid);
+    }
+
+    /**
+     * Flush the modifications of a network. The flushed resources can only be evicted once they are stored by the
+     * server, which may be after this method returns when the delegate flushes in background, so they are marked as
+     * clean when the flush has completed, the next time the cache is flushed or evicts resources.
+     */
+    @Override
+    public CompletableFuture<Void> flushAsync(UUID networkUuid) {
+        completePendingFlushes(networkUuid);
+        List<Pair<CollectionCache<?>, Set<String>>> flushingResourceIds = new ArrayList<>();
+        networkContainersCaches.values().forEach(cache -> cache.applyToCollection(networkUuid, (variantNum, collection) ->
+                flushingResourceIds.add(Pair.of(collection, collection.markFlushing()))));
+        CompletableFuture<Void> future;
+        try {
+            future = delegate.flushAsync(networkUuid);
+        } catch (RuntimeException e) {
+            flushingResourceIds.forEach(p -> p.getLeft().markFlushed(p.getRight(), true));
+            throw e;
+        }
+        pendingFlushes.computeIfAbsent(networkUuid, k -> new ConcurrentLinkedQueue<>()).add(new PendingFlush(future, flushingResourceIds));
+        // a synchronous flush is already completed
+        completePendingFlushes(networkUuid);
+        return future;
+    }
+
+    /**
+     * Mark the resources of the completed flushes of a network as clean, or as modified again if the flush has failed.
+     * This is done by the threads using the cache and not by the flushing ones, as the cache may not be concurrent.
+     */
+    private void completePendingFlushes(UUID networkUuid) {
+        Queue<PendingFlush> networkPendingFlushes = pendingFlushes.get(networkUuid);
+        if (networkPendingFlushes == null) {
+            return;
+        }
+        for (PendingFlush pendingFlush : networkPendingFlushes) {
+            if (pendingFlush.future().isDone() && networkPendingFlushes.remove(pendingFlush)) {
+                boolean failed = pendingFlush.future().isCompletedExceptionally();
+                pendingFlush.flushingResourceIds().forEach(p -> p.getLeft().markFlushed(p.getRight(), failed));
+            }
+        }
+    }
+
+    private void onAutoFlush(UUID networkUuid) {
+        // the auto flush is completed, as well as the ones before
+        completePendingFlushes(networkUuid);
+        markClean(networkUuid);
+        if (maxCachedResourceCount > 0) {
+            List<Integer> variantNums = new ArrayList<>();
+            voltageLevelsUsage.applyToCollection(networkUuid, (variantNum, voltageLevelIds) -> variantNums.add(variantNum));
+            for (int variantNum : variantNums) {
+                evictLeastRecentlyUsedVoltageLevels(networkUuid, variantNum, null);
+            }
+        }
     }
 
     @Override
@@ -241,6 +541,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
             networksCache.getCollection(networkUuid, variantNum).init();
             networksCache.getCollection(networkUuid, variantNum).createResource(networkResource);
             addIdentifiableId(networkUuid, networkResource);
+            useVoltageLevels(networkUuid, networkResource);
 
             // initialize network sub-collection cache to set to fully loaded
             networkContainersCaches.values().forEach(cache -> cache.getCollection(networkUuid, networkResource.getVariantNum()).init());
@@ -279,7 +580,9 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         delegate.deleteNetwork(networkUuid);
         networksCache.removeCollection(networkUuid);
         networkContainersCaches.values().forEach(cache -> cache.removeCollection(networkUuid));
+        voltageLevelsUsage.removeCollection(networkUuid);
         variantsInfosByNetworkUuid.remove(networkUuid);
+        pendingFlushes.remove(networkUuid);
     }
 
     @Override
@@ -287,6 +590,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         delegate.deleteNetwork(networkUuid, variantNum);
         networksCache.removeCollection(networkUuid, variantNum);
         networkContainersCaches.values().forEach(cache -> cache.removeCollection(networkUuid, variantNum));
+        voltageLevelsUsage.removeCollection(networkUuid, variantNum);
         List<VariantInfos> variantsInfos = variantsInfosByNetworkUuid.get(networkUuid);
         if (variantsInfos != null) {
             variantsInfos.removeIf(infos -> infos.getNum() == variantNum);
@@ -305,25 +609,21 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
 
     private static <T extends IdentifiableAttributes> void cloneCollection(NetworkCollectionIndex<CollectionCache<T>> cache, UUID networkUuid,
                                                                            int sourceVariantNum, int targetVariantNum, ObjectMapper objectMapper,
-                                                                           Consumer<Resource<T>> resourcePostProcessor) {
+                                                                           Consumer<Resource<T>> resourcePostProcessor, boolean copyOnWrite) {
         // clone resources from source variant collection
         CollectionCache<T> cloneCollection = cache.getCollection(networkUuid, sourceVariantNum)
-                .clone(objectMapper, targetVariantNum, resourcePostProcessor);
+                .clone(objectMapper, targetVariantNum, resourcePostProcessor, copyOnWrite);
         cache.addCollection(networkUuid, targetVariantNum, cloneCollection);
     }
 
-    private static <T extends IdentifiableAttributes> void cloneCollection(NetworkCollectionIndex<CollectionCache<T>> cache, UUID networkUuid,
-                                                                           int sourceVariantNum, int targetVariantNum, ObjectMapper objectMapper) {
-        cloneCollection(cache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper, null);
+    private <T extends IdentifiableAttributes> void cloneCollection(NetworkCollectionIndex<CollectionCache<T>> cache, UUID networkUuid,
+                                                                    int sourceVariantNum, int targetVariantNum, ObjectMapper objectMapper) {
+        cloneCollection(cache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper, null, copyOnWriteVariants);
     }
 
     @Override
     public void cloneNetwork(UUID networkUuid, int sourceVariantNum, int targetVariantNum, String targetVariantId) {
         delegate.cloneNetwork(networkUuid, sourceVariantNum, targetVariantNum, targetVariantId);
-        var objectMapper = JsonUtil.createObjectMapper()
-            .registerModule(new JavaTimeModule())
-            .configure(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS, false)
-            .configure(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS, false);
 
         // clone each collection and re-assign variant number and id
         cloneCollection(switchesCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
@@ -345,7 +645,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         cloneCollection(configuredBusesCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
         cloneCollection(groundsCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
         cloneCollection(substationsCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneCollection(voltageLevelsCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
+        cloneCollection(voltageLevelsCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper, null, false);
         cloneCollection(networksCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper,
                 networkResource -> {
                     NetworkAttributes networkAttributes = networkResource.getAttributes();
@@ -353,7 +653,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                     if (networkAttributes.isFullVariant()) {
                         networkAttributes.setFullVariantNum(sourceVariantNum);
                     }
-                });
+                }, false);
 
         variantsInfosByNetworkUuid.computeIfAbsent(networkUuid, k -> new ArrayList<>())
                 .add(new VariantInfos(targetVariantId, targetVariantNum));
@@ -366,6 +666,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         for (Resource<SubstationAttributes> substationResource : substationResources) {
             substationsCache.getCollection(networkUuid, substationResource.getVariantNum()).createResource(substationResource);
             addIdentifiableId(networkUuid, substationResource);
+            useVoltageLevels(networkUuid, substationResource);
 
             // initialize voltage level cache to set to fully loaded
             voltageLevelsCache.getCollection(networkUuid, substationResource.getVariantNum()).initContainer(substationResource.getId());
@@ -403,6 +704,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         for (Resource<VoltageLevelAttributes> voltageLevelResource : voltageLevelResources) {
             voltageLevelsCache.getCollection(networkUuid, voltageLevelResource.getVariantNum()).createResource(voltageLevelResource);
             addIdentifiableId(networkUuid, voltageLevelResource);
+            useVoltageLevels(networkUuid, voltageLevelResource);
         }
 
         // initialize voltage level sub-collection cache to set to fully loaded
@@ -445,7 +747,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
 
     @Override
     public List<Resource<GeneratorAttributes>> getVoltageLevelGenerators(UUID networkUuid, int variantNum, String voltageLevelId) {
-        return generatorsCache.getCollection(networkUuid, variantNum).getContainerResources(networkUuid, variantNum, voltageLevelId);
+        return getVoltageLevelContainerResources(generatorsCache, networkUuid, variantNum, voltageLevelId);
     }
 
     @Override
@@ -457,7 +759,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
 
     @Override
     public List<Resource<BatteryAttributes>> getVoltageLevelBatteries(UUID networkUuid, int variantNum, String voltageLevelId) {
-        return batteriesCache.getCollection(networkUuid, variantNum).getContainerResources(networkUuid, variantNum, voltageLevelId);
+        return getVoltageLevelContainerResources(batteriesCache, networkUuid, variantNum, voltageLevelId);
     }
 
     @Override
@@ -469,7 +771,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
 
     @Override
     public List<Resource<LoadAttributes>> getVoltageLevelLoads(UUID networkUuid, int variantNum, String voltageLevelId) {
-        return loadsCache.getCollection(networkUuid, variantNum).getContainerResources(networkUuid, variantNum, voltageLevelId);
+        return getVoltageLevelContainerResources(loadsCache, networkUuid, variantNum, voltageLevelId);
     }
 
     @Override
@@ -481,7 +783,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
 
     @Override
     public List<Resource<ShuntCompensatorAttributes>> getVoltageLevelShuntCompensators(UUID networkUuid, int variantNum, String voltageLevelId) {
-        return shuntCompensatorsCache.getCollection(networkUuid, variantNum).getContainerResources(networkUuid, variantNum, voltageLevelId);
+        return getVoltageLevelContainerResources(shuntCompensatorsCache, networkUuid, variantNum, voltageLevelId);
     }
 
     @Override
@@ -493,7 +795,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
 
     @Override
     public List<Resource<StaticVarCompensatorAttributes>> getVoltageLevelStaticVarCompensators(UUID networkUuid, int variantNum, String voltageLevelId) {
-        return staticVarCompensatorCache.getCollection(networkUuid, variantNum).getContainerResources(networkUuid, variantNum, voltageLevelId);
+        return getVoltageLevelContainerResources(staticVarCompensatorCache, networkUuid, variantNum, voltageLevelId);
     }
 
     @Override
@@ -505,7 +807,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
 
     @Override
     public List<Resource<VscConverterStationAttributes>> getVoltageLevelVscConverterStations(UUID networkUuid, int variantNum, String voltageLevelId) {
-        return vscConverterStationCache.getCollection(networkUuid, variantNum).getContainerResources(networkUuid, variantNum, voltageLevelId);
+        return getVoltageLevelContainerResources(vscConverterStationCache, networkUuid, variantNum, voltageLevelId);
     }
 
     @Override
@@ -517,7 +819,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
 
     @Override
     public List<Resource<LccConverterStationAttributes>> getVoltageLevelLccConverterStations(UUID networkUuid, int variantNum, String voltageLevelId) {
-        return lccConverterStationCache.getCollection(networkUuid, variantNum).getContainerResources(networkUuid, variantNum, voltageLevelId);
+        return getVoltageLevelContainerResources(lccConverterStationCache, networkUuid, variantNum, voltageLevelId);
     }
 
     @Override
@@ -529,7 +831,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
 
     @Override
     public List<Resource<TwoWindingsTransformerAttributes>> getVoltageLevelTwoWindingsTransformers(UUID networkUuid, int variantNum, String voltageLevelId) {
-        return twoWindingsTransformerCache.getCollection(networkUuid, variantNum).getContainerResources(networkUuid, variantNum, voltageLevelId);
+        return getVoltageLevelContainerResources(twoWindingsTransformerCache, networkUuid, variantNum, voltageLevelId);
     }
 
     @Override
@@ -541,7 +843,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
 
     @Override
     public List<Resource<ThreeWindingsTransformerAttributes>> getVoltageLevelThreeWindingsTransformers(UUID networkUuid, int variantNum, String voltageLevelId) {
-        return threeWindingsTransformerCache.getCollection(networkUuid, variantNum).getContainerResources(networkUuid, variantNum, voltageLevelId);
+        return getVoltageLevelContainerResources(threeWindingsTransformerCache, networkUuid, variantNum, voltageLevelId);
     }
 
     @Override
@@ -553,7 +855,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
 
     @Override
     public List<Resource<LineAttributes>> getVoltageLevelLines(UUID networkUuid, int variantNum, String voltageLevelId) {
-        return linesCache.getCollection(networkUuid, variantNum).getContainerResources(networkUuid, variantNum, voltageLevelId);
+        return getVoltageLevelContainerResources(linesCache, networkUuid, variantNum, voltageLevelId);
     }
 
     @Override
@@ -565,12 +867,12 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
 
     @Override
     public List<Resource<BoundaryLineAttributes>> getVoltageLevelBoundaryLines(UUID networkUuid, int variantNum, String voltageLevelId) {
-        return boundaryLinesCache.getCollection(networkUuid, variantNum).getContainerResources(networkUuid, variantNum, voltageLevelId);
+        return getVoltageLevelContainerResources(boundaryLinesCache, networkUuid, variantNum, voltageLevelId);
     }
 
     @Override
     public List<Resource<GroundAttributes>> getVoltageLevelGrounds(UUID networkUuid, int variantNum, String voltageLevelId) {
-        return groundsCache.getCollection(networkUuid, variantNum).getContainerResources(networkUuid, variantNum, voltageLevelId);
+        return getVoltageLevelContainerResources(groundsCache, networkUuid, variantNum, voltageLevelId);
     }
 
     @Override
@@ -579,6 +881,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         for (Resource<SwitchAttributes> switchResource : switchResources) {
             switchesCache.getCollection(networkUuid, switchResource.getVariantNum()).createResource(switchResource);
             addIdentifiableId(networkUuid, switchResource);
+            useVoltageLevels(networkUuid, switchResource);
         }
     }
 
@@ -594,7 +897,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
 
     @Override
     public List<Resource<SwitchAttributes>> getVoltageLevelSwitches(UUID networkUuid, int variantNum, String voltageLevelId) {
-        return switchesCache.getCollection(networkUuid, variantNum).getContainerResources(networkUuid, variantNum, voltageLevelId);
+        return getVoltageLevelContainerResources(switchesCache, networkUuid, variantNum, voltageLevelId);
     }
 
     @Override
@@ -618,6 +921,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         for (Resource<BusbarSectionAttributes> busbarSectionResource : busbarSectionResources) {
             busbarSectionsCache.getCollection(networkUuid, busbarSectionResource.getVariantNum()).createResource(busbarSectionResource);
             addIdentifiableId(networkUuid, busbarSectionResource);
+            useVoltageLevels(networkUuid, busbarSectionResource);
         }
     }
 
@@ -648,7 +952,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
 
     @Override
     public List<Resource<BusbarSectionAttributes>> getVoltageLevelBusbarSections(UUID networkUuid, int variantNum, String voltageLevelId) {
-        return busbarSectionsCache.getCollection(networkUuid, variantNum).getContainerResources(networkUuid, variantNum, voltageLevelId);
+        return getVoltageLevelContainerResources(busbarSectionsCache, networkUuid, variantNum, voltageLevelId);
     }
 
     @Override
@@ -657,6 +961,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         for (Resource<LoadAttributes> loadResource : loadResources) {
             loadsCache.getCollection(networkUuid, loadResource.getVariantNum()).createResource(loadResource);
             addIdentifiableId(networkUuid, loadResource);
+            useVoltageLevels(networkUuid, loadResource);
         }
     }
 
@@ -684,6 +989,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         for (Resource<GeneratorAttributes> generatorResource : generatorResources) {
             generatorsCache.getCollection(networkUuid, generatorResource.getVariantNum()).createResource(generatorResource);
             addIdentifiableId(networkUuid, generatorResource);
+            useVoltageLevels(networkUuid, generatorResource);
         }
     }
 
@@ -711,6 +1017,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         for (Resource<BatteryAttributes> batteryResource : batteryResources) {
             batteriesCache.getCollection(networkUuid, batteryResource.getVariantNum()).createResource(batteryResource);
             addIdentifiableId(networkUuid, batteryResource);
+            useVoltageLevels(networkUuid, batteryResource);
         }
     }
 
@@ -738,6 +1045,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         for (Resource<TwoWindingsTransformerAttributes> twoWindingsTransformerResource : twoWindingsTransformerResources) {
             twoWindingsTransformerCache.getCollection(networkUuid, twoWindingsTransformerResource.getVariantNum()).createResource(twoWindingsTransformerResource);
             addIdentifiableId(networkUuid, twoWindingsTransformerResource);
+            useVoltageLevels(networkUuid, twoWindingsTransformerResource);
         }
     }
 
@@ -767,6 +1075,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         for (Resource<ThreeWindingsTransformerAttributes> threeWindingsTransformerResource : threeWindingsTransformerResources) {
             threeWindingsTransformerCache.getCollection(networkUuid, threeWindingsTransformerResource.getVariantNum()).createResource(threeWindingsTransformerResource);
             addIdentifiableId(networkUuid, threeWindingsTransformerResource);
+            useVoltageLevels(networkUuid, threeWindingsTransformerResource);
         }
     }
 
@@ -794,6 +1103,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         for (Resource<LineAttributes> lineResource : lineResources) {
             linesCache.getCollection(networkUuid, lineResource.getVariantNum()).createResource(lineResource);
             addIdentifiableId(networkUuid, lineResource);
+            useVoltageLevels(networkUuid, lineResource);
         }
     }
 
@@ -821,6 +1131,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         for (Resource<ShuntCompensatorAttributes> shuntCompensatorResource : shuntCompensatorResources) {
             shuntCompensatorsCache.getCollection(networkUuid, shuntCompensatorResource.getVariantNum()).createResource(shuntCompensatorResource);
             addIdentifiableId(networkUuid, shuntCompensatorResource);
+            useVoltageLevels(networkUuid, shuntCompensatorResource);
         }
     }
 
@@ -848,6 +1159,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         for (Resource<VscConverterStationAttributes> vscConverterStationResource : vscConverterStationResources) {
             vscConverterStationCache.getCollection(networkUuid, vscConverterStationResource.getVariantNum()).createResource(vscConverterStationResource);
             addIdentifiableId(networkUuid, vscConverterStationResource);
+            useVoltageLevels(networkUuid, vscConverterStationResource);
         }
     }
 
@@ -875,6 +1187,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         for (Resource<LccConverterStationAttributes> lccConverterStationResource : lccConverterStationResources) {
             lccConverterStationCache.getCollection(networkUuid, lccConverterStationResource.getVariantNum()).createResource(lccConverterStationResource);
             addIdentifiableId(networkUuid, lccConverterStationResource);
+            useVoltageLevels(networkUuid, lccConverterStationResource);
         }
     }
 
@@ -902,6 +1215,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         for (Resource<StaticVarCompensatorAttributes> svcResource : svcResources) {
             staticVarCompensatorCache.getCollection(networkUuid, svcResource.getVariantNum()).createResource(svcResource);
             addIdentifiableId(networkUuid, svcResource);
+            useVoltageLevels(networkUuid, svcResource);
         }
     }
 
@@ -929,6 +1243,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         for (Resource<HvdcLineAttributes> hvdcLineResource : hvdcLineResources) {
             hvdcLinesCache.getCollection(networkUuid, hvdcLineResource.getVariantNum()).createResource(hvdcLineResource);
             addIdentifiableId(networkUuid, hvdcLineResource);
+            useVoltageLevels(networkUuid, hvdcLineResource);
         }
     }
 
@@ -963,6 +1278,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         for (Resource<BoundaryLineAttributes> boundaryLineResource : boundaryLineResources) {
             boundaryLinesCache.getCollection(networkUuid, boundaryLineResource.getVariantNum()).createResource(boundaryLineResource);
             addIdentifiableId(networkUuid, boundaryLineResource);
+            useVoltageLevels(networkUuid, boundaryLineResource);
         }
     }
 
@@ -997,6 +1313,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         for (Resource<TieLineAttributes> tieLineResource : tieLineResources) {
             tieLinesCache.getCollection(networkUuid, tieLineResource.getVariantNum()).createResource(tieLineResource);
             addIdentifiableId(networkUuid, tieLineResource);
+            useVoltageLevels(networkUuid, tieLineResource);
         }
     }
 
@@ -1032,6 +1349,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         for (Resource<AreaAttributes> areaResource : areaResources) {
             areasCache.getCollection(networkUuid, areaResource.getVariantNum()).createResource(areaResource);
             addIdentifiableId(networkUuid, areaResource);
+            useVoltageLevels(networkUuid, areaResource);
         }
     }
 
@@ -1098,6 +1416,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         for (Resource<ConfiguredBusAttributes> busResource : busResources) {
             configuredBusesCache.getCollection(networkUuid, busResource.getVariantNum()).createResource(busResource);
             addIdentifiableId(networkUuid, busResource);
+            useVoltageLevels(networkUuid, busResource);
         }
     }
 
@@ -1108,7 +1427,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
 
     @Override
     public List<Resource<ConfiguredBusAttributes>> getVoltageLevelConfiguredBuses(UUID networkUuid, int variantNum, String voltageLevelId) {
-        return configuredBusesCache.getCollection(networkUuid, variantNum).getContainerResources(networkUuid, variantNum, voltageLevelId);
+        return getVoltageLevelContainerResources(configuredBusesCache, networkUuid, variantNum, voltageLevelId);
     }
 
     @Override
@@ -1151,6 +1470,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
 
     @Override
     public void removeExtensionsAttributes(UUID networkUuid, int variantNum, ResourceType resourceType, Map<String, Set<String>> extensionsByIdentifiableId) {
+        unshareResources(networkUuid, variantNum, resourceType, extensionsByIdentifiableId.keySet());
         getCache(resourceType).getCollection(networkUuid, variantNum).removeExtensionAttributesByIdentifiableIds(extensionsByIdentifiableId);
         delegate.removeExtensionsAttributes(networkUuid, variantNum, resourceType, extensionsByIdentifiableId);
     }
@@ -1184,6 +1504,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
 
     @Override
     public void removeOperationalLimitsGroupAttributes(UUID networkUuid, int variantNum, ResourceType resourceType, Map<String, Map<Integer, Set<String>>> operationalLimitsGroupsToDelete) {
+        unshareResources(networkUuid, variantNum, resourceType, operationalLimitsGroupsToDelete.keySet());
         getCache(resourceType).getCollection(networkUuid, variantNum).removeOperationalLimitsGroupAttributes(operationalLimitsGroupsToDelete);
         delegate.removeOperationalLimitsGroupAttributes(networkUuid, variantNum, resourceType, operationalLimitsGroupsToDelete);
     }
@@ -1254,8 +1575,9 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         // getting it from the server
         var p = Pair.of(networkUuid, variantNum);
         Set<String> identifiablesIds = identifiablesIdsByNetworkVariant.get(p);
-        if (identifiablesIds == null && identifiableCallCountByNetworkVariant.getOrDefault(p, new MutableInt()).getValue() > MAX_GET_IDENTIFIABLE_CALL_COUNT) {
-            identifiablesIds = new HashSet<>(delegate.getIdentifiablesIds(networkUuid, variantNum));
+        if (identifiablesIds == null && identifiableCallCountByNetworkVariant.getOrDefault(p, new AtomicInteger()).get() > MAX_GET_IDENTIFIABLE_CALL_COUNT) {
+            identifiablesIds = ConcurrentHashMap.newKeySet();
+            identifiablesIds.addAll(delegate.getIdentifiablesIds(networkUuid, variantNum));
             identifiablesIdsByNetworkVariant.put(p, identifiablesIds);
         }
 
@@ -1264,16 +1586,99 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         }
 
         // if not in one of the caches, get resource from delegate and if present add in corresponding cache
-        Optional<Resource<IdentifiableAttributes>> resource = delegate.getIdentifiable(networkUuid, variantNum, id);
-        resource.ifPresent(r -> {
+        Optional<Resource<IdentifiableAttributes>> resource = delegate.getIdentifiable(networkUuid, variantNum, id).map(r -> {
             CollectionCache<IdentifiableAttributes> collection = (CollectionCache<IdentifiableAttributes>) networkContainersCaches.get(r.getType()).getCollection(networkUuid, variantNum);
-            // we already checked that the resource is not in the cache so we can directly put it in the cache
-            collection.addOrReplaceResource(r);
+            // we already checked that the resource is not in the cache, but in concurrent mode it could have been
+            // loaded by another thread in the meantime
+            return collection.addResourceIfAbsent(r);
         });
 
-        identifiableCallCountByNetworkVariant.computeIfAbsent(p, k -> new MutableInt())
-                .increment();
+        identifiableCallCountByNetworkVariant.computeIfAbsent(p, k -> new AtomicInteger())
+                .incrementAndGet();
 
         return resource;
     }
+
+    @Override
+    public List<Resource<IdentifiableAttributes>> getIdentifiablesByIds(UUID networkUuid, int variantNum, Collection<String> ids) {
+        return ids.stream()
+                .map(id -> getIdentifiable(networkUuid, variantNum, id))
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Resource<IdentifiableAttributes>> getIdentifiablesByIds(UUID networkUuid, int variantNum, ResourceType resourceType, Collection<String> ids) {
+        CollectionCache<IdentifiableAttributes> collection = (CollectionCache<IdentifiableAttributes>) getCache(resourceType).getCollection(networkUuid, variantNum);
+        return collection.getResources(networkUuid, variantNum, resourceType, ids);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends IdentifiableAttributes> void getIdentifiables(UUID networkUuid, int variantNum, ResourceType resourceType, Consumer<Resource<T>> consumer) {
+        CollectionCache<T> collection = (CollectionCache<T>) getCache(resourceType).getCollection(networkUuid, variantNum);
+        collection.getResources(networkUuid, variantNum).forEach(consumer);
+    }
+
+    /**
+     * Load in a single call to the delegate all the collections of the given resource types which are not yet fully
+     * loaded. Each resource is added to the cache of its collection as soon as it is received, collections are only
+     * set as fully loaded once the delegate has returned.
+     */
+    public void loadCollections(UUID networkUuid, int variantNum, Set<ResourceType> resourceTypes) {
+        Map<ResourceType, CollectionCache<IdentifiableAttributes>> collectionsToLoad = getCollectionsToLoad(networkUuid, variantNum, resourceTypes);
+        if (collectionsToLoad.isEmpty()) {
+            return;
+        }
+        // in concurrent mode, collections are locked in resource type order to avoid dead locks, and as they could
+        // have been loaded by another thread in the meantime the collections to load are checked again
+        runCollectionsLoading(collectionsToLoad.values().iterator(),
+            () -> loadCollectionsFromDelegate(networkUuid, variantNum, getCollectionsToLoad(networkUuid, variantNum, collectionsToLoad.keySet())));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<ResourceType, CollectionCache<IdentifiableAttributes>> getCollectionsToLoad(UUID networkUuid, int variantNum, Set<ResourceType> resourceTypes) {
+        Map<ResourceType, CollectionCache<IdentifiableAttributes>> collectionsToLoad = new EnumMap<>(ResourceType.class);
+        for (ResourceType resourceType : resourceTypes) {
+            CollectionCache<IdentifiableAttributes> collection = (CollectionCache<IdentifiableAttributes>) getCache(resourceType).getCollection(networkUuid, variantNum);
+            if (!collection.isFullyLoaded()) {
+                collectionsToLoad.put(resourceType, collection);
+            }
+        }
+        return collectionsToLoad;
+    }
+
+    private static void runCollectionsLoading(Iterator<CollectionCache<IdentifiableAttributes>> it, Runnable loading) {
+        if (it.hasNext()) {
+            it.next().runCollectionLoading(() -> runCollectionsLoading(it, loading));
+        } else {
+            loading.run();
+        }
+    }
+
+    private void loadCollectionsFromDelegate(UUID networkUuid, int variantNum, Map<ResourceType, CollectionCache<IdentifiableAttributes>> collectionsToLoad) {
+        if (collectionsToLoad.isEmpty()) {
+            return;
+        }
+        Map<ResourceType, Set<String>> loadedContainerIds = new EnumMap<>(ResourceType.class);
+        delegate.getCollections(networkUuid, variantNum, collectionsToLoad.keySet(), resource -> {
+            CollectionCache<IdentifiableAttributes> collection = collectionsToLoad.get(resource.getType());
+            if (collection == null) {
+                throw new PowsyblException("Unexpected resource type: " + resource.getType());
+            }
+            collection.addLoadedResource(resource, loadedContainerIds.computeIfAbsent(resource.getType(), k -> new HashSet<>()));
+        });
+        collectionsToLoad.forEach((resourceType, collection) -> collection.setFullyLoaded(loadedContainerIds.getOrDefault(resourceType, Set.of())));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void getCollections(UUID networkUuid, int variantNum, Set<ResourceType> resourceTypes, Consumer<Resource<IdentifiableAttributes>> consumer) {
+        loadCollections(networkUuid, variantNum, resourceTypes);
+        for (ResourceType resourceType : resourceTypes) {
+            CollectionCache<IdentifiableAttributes> collection = (CollectionCache<IdentifiableAttributes>) getCache(resourceType).getCollection(networkUuid, variantNum);
+            collection.getResources(networkUuid, variantNum).forEach(consumer);
+        }
+    }
 }
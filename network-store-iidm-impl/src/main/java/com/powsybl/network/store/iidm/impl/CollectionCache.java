@@ -9,21 +9,40 @@ package com.powsybl.network.store.iidm.impl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gdata.util.common.base.Pair;
 import com.powsybl.commons.PowsyblException;
+import com.powsybl.network.store.iidm.impl.util.TriConsumer;
 import com.powsybl.network.store.iidm.impl.util.TriFunction;
 import com.powsybl.network.store.model.*;
 
 import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * Identifiable collection cache management.
+ * <p>
+ * By default a collection cache is not thread safe. In concurrent mode, the cache can be read by several threads:
+ * the state of the cache is protected by a read write lock which is never held while loading from the delegate, and
+ * loadings are serialized by resource or container id (and for the full collection) so that concurrent misses on
+ * the same resource only load it once.
  *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 public class CollectionCache<T extends IdentifiableAttributes> {
 
+    private static final int LOADING_LOCK_STRIPES = 64;
+
+    /**
+     * Number of single extension loadings from the server above which the extension is loaded for all the
+     * identifiables of a fully loaded collection at once.
+     */
+    private static final int MAX_GET_EXTENSION_CALL_COUNT = 10;
+
     /**
      * Resources indexed by id. <br/>
      * We enforce a single resource per variant because they are referenced both in these maps
@@ -80,6 +99,17 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      */
     private final Map<String, Set<String>> removedExtensionAttributes = new HashMap<>();
 
+    /**
+     * Map storing sets of extension names known to be absent on the server, associated with identifiable IDs, so that
+     * looking for a missing extension only requests the server once.
+     */
+    private final Map<String, Set<String>> absentExtensionAttributes = new HashMap<>();
+
+    /**
+     * Number of extension attributes loaded one by one from the server, by extension name.
+     */
+    private final Map<String, Integer> extensionCallCountByExtensionName = new HashMap<>();
+
     /**
      * Indicates if all the operational limits groups for this collection have been fully loaded and synchronized with the server.
      */
@@ -104,6 +134,21 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      */
     private final Map<String, Map<Integer, Set<String>>> removedOperationalLimitsAttributes = new HashMap<>();
 
+    /**
+     * Set of ids of the resources created or modified since last flush. These resources are not yet synchronized with
+     * the server, so they cannot be evicted from the cache.
+     */
+    private final Set<String> dirtyResources = new HashSet<>();
+
+    // number of flushes in progress in background for each resource, which cannot be evicted until they are completed
+    private final Map<String, Integer> flushingResourceCounts = new HashMap<>();
+
+    /**
+     * true if some resources of this collection may be shared with the collection of another variant, see
+     * {@link #clone(ObjectMapper, int, Consumer, boolean)}.
+     */
+    private boolean sharingResources = false;
+
     /**
      * A function to load one resource from the server. An optional is returned because resource could not exist on
      * the server.
@@ -116,27 +161,184 @@ public class CollectionCache<T extends IdentifiableAttributes> {
     private final TriFunction<UUID, Integer, String, List<Resource<T>>> containerLoaderFunction;
 
     /**
-     * A function to load all resources of the collection.
+     * A function to load all resources of the collection. Resources are given one by one to a consumer as soon as
+     * they are loaded, so that the full collection does not need to be materialized by the loader.
      */
-    private final BiFunction<UUID, Integer, List<Resource<T>>> allLoaderFunction;
+    private final TriConsumer<UUID, Integer, Consumer<Resource<T>>> allLoaderFunction;
 
     private final NetworkStoreClient delegate;
 
+    /**
+     * Lock of the state of the cache in concurrent mode, null otherwise.
+     */
+    private final ReadWriteLock lock;
+
+    /**
+     * Locks striped by resource or container id serializing the loadings in concurrent mode, null otherwise.
+     */
+    private final Lock[] loadingLocks;
+
+    /**
+     * Lock serializing the loadings of the full collection (resources, extensions or operational limits groups) in
+     * concurrent mode, null otherwise.
+     */
+    private final ReentrantLock collectionLoadingLock;
+
+    /**
+     * Dictionary shared by the ids of the resources of the network, null to keep the ids as loaded or created.
+     */
+    private final StringDictionary stringDictionary;
+
     public CollectionCache(TriFunction<UUID, Integer, String, Optional<Resource<T>>> oneLoaderFunction,
                            TriFunction<UUID, Integer, String, List<Resource<T>>> containerLoaderFunction,
                            BiFunction<UUID, Integer, List<Resource<T>>> allLoaderFunction, NetworkStoreClient delegate) {
+        this(oneLoaderFunction, containerLoaderFunction, allLoaderFunction, delegate, false);
+    }
+
+    public CollectionCache(TriFunction<UUID, Integer, String, Optional<Resource<T>>> oneLoaderFunction,
+                           TriFunction<UUID, Integer, String, List<Resource<T>>> containerLoaderFunction,
+                           BiFunction<UUID, Integer, List<Resource<T>>> allLoaderFunction, NetworkStoreClient delegate,
+                           boolean concurrent) {
+        this(oneLoaderFunction, containerLoaderFunction, allLoaderFunction, delegate, concurrent, null);
+    }
+
+    public CollectionCache(TriFunction<UUID, Integer, String, Optional<Resource<T>>> oneLoaderFunction,
+                           TriFunction<UUID, Integer, String, List<Resource<T>>> containerLoaderFunction,
+                           BiFunction<UUID, Integer, List<Resource<T>>> allLoaderFunction, NetworkStoreClient delegate,
+                           boolean concurrent, StringDictionary stringDictionary) {
+        this(oneLoaderFunction, containerLoaderFunction, toStreamingLoader(allLoaderFunction), delegate, concurrent, stringDictionary);
+    }
+
+    public CollectionCache(TriFunction<UUID, Integer, String, Optional<Resource<T>>> oneLoaderFunction,
+                           TriFunction<UUID, Integer, String, List<Resource<T>>> containerLoaderFunction,
+                           TriConsumer<UUID, Integer, Consumer<Resource<T>>> allLoaderFunction, NetworkStoreClient delegate) {
+        this(oneLoaderFunction, containerLoaderFunction, allLoaderFunction, delegate, false);
+    }
+
+    /**
+     * @param concurrent true to allow the cache to be read by several threads
+     */
+    public CollectionCache(TriFunction<UUID, Integer, String, Optional<Resource<T>>> oneLoaderFunction,
+                           TriFunction<UUID, Integer, String, List<Resource<T>>> containerLoaderFunction,
+                           TriConsumer<UUID, Integer, Consumer<Resource<T>>> allLoaderFunction, NetworkStoreClient delegate,
+                           boolean concurrent) {
+        this(oneLoaderFunction, containerLoaderFunction, allLoaderFunction, delegate, concurrent, null);
+    }
+
+    /**
+     * @param concurrent true to allow the cache to be read by several threads
+     * @param stringDictionary dictionary the ids of the resources added to the cache are replaced with, null to
+     *                         keep the ids as loaded or created
+     */
+    public CollectionCache(TriFunction<UUID, Integer, String, Optional<Resource<T>>> oneLoaderFunction,
+                           TriFunction<UUID, Integer, String, List<Resource<T>>> containerLoaderFunction,
+                           TriConsumer<UUID, Integer, Consumer<Resource<T>>> allLoaderFunction, NetworkStoreClient delegate,
+                           boolean concurrent, StringDictionary stringDictionary) {
+        this.stringDictionary = stringDictionary;
         this.oneLoaderFunction = Objects.requireNonNull(oneLoaderFunction);
         this.containerLoaderFunction = containerLoaderFunction;
         this.allLoaderFunction = Objects.requireNonNull(allLoaderFunction);
         this.delegate = delegate;
+        if (concurrent) {
+            lock = new ReentrantReadWriteLock();
+            loadingLocks = new Lock[LOADING_LOCK_STRIPES];
+            Arrays.setAll(loadingLocks, i -> new ReentrantLock());
+            collectionLoadingLock = new ReentrantLock();
+        } else {
+            lock = null;
+            loadingLocks = null;
+            collectionLoadingLock = null;
+        }
+    }
+
+    private static <T extends IdentifiableAttributes> TriConsumer<UUID, Integer, Consumer<Resource<T>>> toStreamingLoader(BiFunction<UUID, Integer, List<Resource<T>>> allLoaderFunction) {
+        Objects.requireNonNull(allLoaderFunction);
+        return (networkUuid, variantNum, consumer) -> allLoaderFunction.apply(networkUuid, variantNum).forEach(consumer);
+    }
+
+    public boolean isConcurrent() {
+        return lock != null;
+    }
+
+    // notice: a read locked section must never call a write locked one as the read lock cannot be upgraded
+
+    private <R> R readLocked(Supplier<R> supplier) {
+        if (lock == null) {
+            return supplier.get();
+        }
+        lock.readLock().lock();
+        try {
+            return supplier.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private <R> R writeLocked(Supplier<R> supplier) {
+        if (lock == null) {
+            return supplier.get();
+        }
+        lock.writeLock().lock();
+        try {
+            return supplier.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void runWriteLocked(Runnable runnable) {
+        writeLocked(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    private static <R> R locked(Lock loadingLock, Supplier<R> supplier) {
+        if (loadingLock == null) {
+            return supplier.get();
+        }
+        loadingLock.lock();
+        try {
+            return supplier.get();
+        } finally {
+            loadingLock.unlock();
+        }
+    }
+
+    /**
+     * Load something related to a resource or a container, only one thread at a time loading for a given id.
+     */
+    private <R> R loadingLocked(String id, Supplier<R> supplier) {
+        return locked(loadingLocks != null ? loadingLocks[Math.floorMod(id.hashCode(), loadingLocks.length)] : null, supplier);
+    }
+
+    /**
+     * Load something related to the full collection, only one thread at a time loading for the collection.
+     */
+    private void runCollectionLoadingLocked(Runnable runnable) {
+        locked(collectionLoadingLock, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * A resource being loaded with the full collection by another thread must not be loaded a second time, so
+     * wait for the end of the collection loading.
+     */
+    private void awaitCollectionLoading() {
+        if (collectionLoadingLock != null && collectionLoadingLock.isLocked() && !collectionLoadingLock.isHeldByCurrentThread()) {
+            collectionLoadingLock.lock();
+            collectionLoadingLock.unlock();
+        }
     }
 
     public boolean isResourceLoaded(String id) {
-        return resources.containsKey(id);
+        return readLocked(() -> resources.containsKey(id));
     }
 
     public List<Resource<T>> getCachedResources() {
-        return new ArrayList<>(resources.values());
+        return readLocked(() -> new ArrayList<>(resources.values()));
     }
 
     /**
@@ -144,14 +346,16 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      * side and that even if empty the collection is fully loaded.
      */
     public void init() {
-        fullyLoaded = true;
-        fullyLoadedExtensions = true;
-        fullyLoadedOperationalLimitsGroup = true;
-        fullyLoadedSelectedOperationalLimitsGroup = true;
+        runWriteLocked(() -> {
+            fullyLoaded = true;
+            fullyLoadedExtensions = true;
+            fullyLoadedOperationalLimitsGroup = true;
+            fullyLoadedSelectedOperationalLimitsGroup = true;
+        });
     }
 
     public boolean isFullyLoaded() {
-        return fullyLoaded;
+        return readLocked(() -> fullyLoaded);
     }
 
     /**
@@ -159,7 +363,7 @@ public class CollectionCache<T extends IdentifiableAttributes> {
     public void initContainer(String containerId) {
         Objects.requireNonNull(containerId);
 
-        containerFullyLoaded.add(containerId);
+        runWriteLocked(() -> containerFullyLoaded.add(containerId));
     }
 
     /**
@@ -171,58 +375,148 @@ public class CollectionCache<T extends IdentifiableAttributes> {
     public Optional<Resource<T>> getResource(UUID networkUuid, int variantNum, String id) {
         Objects.requireNonNull(id);
 
-        Resource<T> resource = null;
-
-        if (resources.containsKey(id)) {
+        Resource<T> resource = readLocked(() -> resources.get(id));
+        if (resource != null) {
             // resource is in the cache
-            resource = resources.get(id);
-        } else {
+            return Optional.of(resource);
+        }
+        if (readLocked(() -> fullyLoaded || removedResources.contains(id))) {
+            // resource does not exist
+            return Optional.empty();
+        }
+
+        return loadingLocked(id, () -> {
+            awaitCollectionLoading();
             // if resource has not been fully loaded (so in that case it means the resource does not exist)
             // of if the resource has not been removed we try to get it from the server
-            if (!fullyLoaded && !removedResources.contains(id)) {
-                resource = oneLoaderFunction.apply(networkUuid, variantNum, id).orElse(null);
+            // notice: the resource could have been loaded by another thread in the meantime
+            if (readLocked(() -> !resources.containsKey(id) && !fullyLoaded && !removedResources.contains(id))) {
                 // if resource has been found on server side we add it to the cache
-                if (resource != null) {
-                    // we already checked that the resource is not in the cache so we can directly put it in the cache
-                    addOrReplaceResource(resource);
-                }
+                oneLoaderFunction.apply(networkUuid, variantNum, id).ifPresent(this::addLoadedResource);
             }
-        }
+            return Optional.ofNullable(readLocked(() -> resources.get(id)));
+        });
+    }
 
-        return Optional.ofNullable(resource);
+    /**
+     * Add a resource to the cache unless the cache already contains a resource with the same id.
+     * @return the resource of the cache
+     */
+    Resource<T> addResourceIfAbsent(Resource<T> resource) {
+        Objects.requireNonNull(resource);
+        return writeLocked(() -> {
+            Resource<T> cachedResource = resources.get(resource.getId());
+            if (cachedResource != null) {
+                return cachedResource;
+            }
+            addOrReplaceResource(resource);
+            return resource;
+        });
+    }
+
+    /**
+     * Add a single resource loaded from the server to the cache, unless it has been added or removed by another
+     * thread during the loading.
+     */
+    private void addLoadedResource(Resource<T> resource) {
+        runWriteLocked(() -> {
+            if (!resources.containsKey(resource.getId()) && !removedResources.contains(resource.getId())) {
+                addOrReplaceResource(resource);
+            }
+        });
+    }
+
+    /**
+     * Get resources from the collection by their ids. Resources which have not been found on cache are loaded from
+     * the server with a single request.
+     * @param type the resource type of the collection
+     * @param ids ids of the resources
+     * @return the resources found, in the order of the ids
+     */
+    @SuppressWarnings("unchecked")
+    public List<Resource<T>> getResources(UUID networkUuid, int variantNum, ResourceType type, Collection<String> ids) {
+        Objects.requireNonNull(ids);
+
+        runCollectionLoadingLocked(() -> {
+            // same as for a single resource, we only try to get from the server the resources which are not in the
+            // cache and have not been removed
+            Set<String> idsToLoad = readLocked(() -> fullyLoaded ? Set.of() : ids.stream()
+                    .filter(id -> !resources.containsKey(id) && !removedResources.contains(id))
+                    .collect(Collectors.toCollection(LinkedHashSet::new)));
+            if (!idsToLoad.isEmpty()) {
+                delegate.getIdentifiablesByIds(networkUuid, variantNum, type, idsToLoad)
+                        .forEach(resource -> addLoadedResource((Resource<T>) resource));
+            }
+        });
+
+        return readLocked(() -> ids.stream()
+                .map(resources::get)
+                .filter(Objects::nonNull)
+                .toList());
     }
 
     private void loadAll(UUID networkUuid, int variantNum) {
-        if (!fullyLoaded) {
-            // if collection has not yet been fully loaded we load it from the server
-            List<Resource<T>> resourcesToAdd = allLoaderFunction.apply(networkUuid, variantNum);
+        if (isFullyLoaded()) {
+            return;
+        }
+        runCollectionLoadingLocked(() -> {
+            // the collection could have been loaded by another thread in the meantime
+            if (!isFullyLoaded()) {
+                // if collection has not yet been fully loaded we load it from the server, resources are added to the cache
+                // as soon as they are decoded
+                Set<String> loadedContainerIds = new HashSet<>();
+                allLoaderFunction.accept(networkUuid, variantNum, resource -> addLoadedResource(resource, loadedContainerIds));
+                setFullyLoaded(loadedContainerIds);
+            }
+        });
+    }
 
-            // we update the full cache and set it as fully loaded
+    /**
+     * Run a loading of the full collection by another component, for instance of several collections at once. In
+     * concurrent mode, the other loadings of the full collection wait for the end of this one.
+     */
+    void runCollectionLoading(Runnable loading) {
+        runCollectionLoadingLocked(loading);
+    }
+
+    /**
+     * Set the collection as fully loaded, once all its resources have been added with
+     * {@link #addLoadedResource(Resource, Set)}.
+     * @param loadedContainerIds ids of the containers of the loaded resources
+     */
+    void setFullyLoaded(Set<String> loadedContainerIds) {
+        // containers and full cache are only set as fully loaded once the whole collection has been received
+        runWriteLocked(() -> {
+            containerFullyLoaded.addAll(loadedContainerIds);
+            fullyLoaded = true;
+        });
+    }
+
+    /**
+     * Add a resource of the collection being loaded to the cache.
+     * @param loadedContainerIds filled with the ids of the containers of the resource
+     */
+    void addLoadedResource(Resource<T> resource, Set<String> loadedContainerIds) {
+        deduplicateStrings(resource);
+        runWriteLocked(() -> {
             // notice: even if it adds some checks and reduces performance by a tiny bit, we avoid to overwrite already
             // loaded resource (single or container) because they are referenced in the resources or resourcesByContainerId map,
             // but also directly in any identifiable with the iidm api.
-            resourcesToAdd.forEach(resource -> resources.putIfAbsent(resource.getId(), resource));
-            fullyLoaded = true;
+            resources.putIfAbsent(resource.getId(), resource);
 
             // we update by container cache
-            for (Resource<T> resource : resourcesToAdd) {
-                IdentifiableAttributes attributes = resource.getAttributes();
-                if (attributes instanceof Contained) {
-                    Set<String> containerIds = ((Contained) attributes).getContainerIds();
-                    containerIds.forEach(containerId -> {
-                        // we add container resources and update container fully loaded status
-                        // notice: even if it adds some checks and reduces performance by a tiny bit, we avoid to overwrite already
-                        // loaded resource (single or container) because they are referenced in the resources or resourcesByContainerId map,
-                        // but also directly in any identifiable with the iidm api.
-                        getResourcesByContainerId(containerId).putIfAbsent(resource.getId(), resource);
-                        containerFullyLoaded.add(containerId);
-                    });
-                }
-
-                // discard remove status of the resources
-                removedResources.remove(resource.getId());
+            IdentifiableAttributes attributes = resource.getAttributes();
+            if (attributes instanceof Contained) {
+                Set<String> containerIds = ((Contained) attributes).getContainerIds();
+                containerIds.forEach(containerId -> {
+                    getResourcesByContainerId(containerId).putIfAbsent(resource.getId(), resource);
+                    loadedContainerIds.add(containerId);
+                });
             }
-        }
+
+            // discard remove status of the resources
+            removedResources.remove(resource.getId());
+        });
     }
 
     /**
@@ -232,7 +526,7 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      */
     public List<Resource<T>> getResources(UUID networkUuid, int variantNum) {
         loadAll(networkUuid, variantNum);
-        return new ArrayList<>(resources.values());
+        return readLocked(() -> new ArrayList<>(resources.values()));
     }
 
     private Map<String, Resource<T>> getResourcesByContainerId(String containerId) {
@@ -251,9 +545,31 @@ public class CollectionCache<T extends IdentifiableAttributes> {
             throw new PowsyblException("it is not possible to load resources by container, if container resources loader has not been specified");
         }
 
-        if (!fullyLoaded && !containerFullyLoaded.contains(containerId)) {
-            List<Resource<T>> resourcesToAdd = containerLoaderFunction.apply(networkUuid, variantNum, containerId)
-                .stream().filter(resource -> !removedResources.contains(resource.getId())).collect(Collectors.toList());
+        if (!isContainerLoaded(containerId)) {
+            loadingLocked(containerId, () -> {
+                awaitCollectionLoading();
+                // the container could have been loaded by another thread in the meantime
+                if (!isContainerLoaded(containerId)) {
+                    loadContainer(networkUuid, variantNum, containerId);
+                }
+                return null;
+            });
+        }
+        // notice: not using getResourcesByContainerId to not update the cache in a read locked section
+        return readLocked(() -> new ArrayList<>(resourcesByContainerId.getOrDefault(containerId, Map.of()).values()));
+    }
+
+    private boolean isContainerLoaded(String containerId) {
+        return readLocked(() -> fullyLoaded || containerFullyLoaded.contains(containerId));
+    }
+
+    private void loadContainer(UUID networkUuid, int variantNum, String containerId) {
+        List<Resource<T>> loadedResources = containerLoaderFunction.apply(networkUuid, variantNum, containerId);
+        loadedResources.forEach(this::deduplicateStrings);
+
+        runWriteLocked(() -> {
+            List<Resource<T>> resourcesToAdd = loadedResources.stream()
+                .filter(resource -> !removedResources.contains(resource.getId())).collect(Collectors.toList());
 
             resourcesToAdd.forEach(resource -> {
                 String resourceId = resource.getId();
@@ -265,8 +581,7 @@ public class CollectionCache<T extends IdentifiableAttributes> {
                 removedResources.remove(resourceId);
             });
             containerFullyLoaded.add(containerId);
-        }
-        return new ArrayList<>(getResourcesByContainerId(containerId).values());
+        });
     }
 
     /**
@@ -277,16 +592,25 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      */
     public void addOrReplaceResource(Resource<T> resource) {
         Objects.requireNonNull(resource);
+        deduplicateStrings(resource);
 
-        // full cache update
-        resources.put(resource.getId(), resource);
-        removedResources.remove(resource.getId());
+        runWriteLocked(() -> {
+            // full cache update
+            resources.put(resource.getId(), resource);
+            removedResources.remove(resource.getId());
 
-        // by container cache update
-        IdentifiableAttributes attributes = resource.getAttributes();
-        if (attributes instanceof Contained) {
-            Set<String> containerIds = ((Contained) attributes).getContainerIds();
-            containerIds.forEach(containerId -> getResourcesByContainerId(containerId).put(resource.getId(), resource));
+            // by container cache update
+            IdentifiableAttributes attributes = resource.getAttributes();
+            if (attributes instanceof Contained) {
+                Set<String> containerIds = ((Contained) attributes).getContainerIds();
+                containerIds.forEach(containerId -> getResourcesByContainerId(containerId).put(resource.getId(), resource));
+            }
+        });
+    }
+
+    private void deduplicateStrings(Resource<T> resource) {
+        if (stringDictionary != null) {
+            stringDictionary.deduplicate(resource);
         }
     }
 
@@ -297,11 +621,14 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      */
     public void createResource(Resource<T> resource) {
         String resourceId = resource.getId();
-        if (resources.containsKey(resourceId)) {
-            throw new PowsyblException("The collection cache already contains a " + resource.getType() + " with the id '" + resourceId + "'");
-        }
-        // we already checked that the resource is not in the cache so we can directly put it in the cache
-        addOrReplaceResource(resource);
+        runWriteLocked(() -> {
+            if (resources.containsKey(resourceId)) {
+                throw new PowsyblException("The collection cache already contains a " + resource.getType() + " with the id '" + resourceId + "'");
+            }
+            // we already checked that the resource is not in the cache so we can directly put it in the cache
+            addOrReplaceResource(resource);
+            dirtyResources.add(resourceId);
+        });
     }
 
     /**
@@ -310,7 +637,10 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      * @param resource the resource to update
      */
     public void updateResource(Resource<T> resource) {
-        addOrReplaceResource(resource);
+        runWriteLocked(() -> {
+            addOrReplaceResource(resource);
+            dirtyResources.add(resource.getId());
+        });
     }
 
     /**
@@ -320,25 +650,28 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      */
     public void removeResource(String id) {
         Objects.requireNonNull(id);
-        // keep track of removed extension attributes
-        removeExtensionAttributesByIdentifiableId(id);
-        // try to remove the resource from full cache
-        Resource<T> resource = resources.remove(id);
-        removedResources.add(id);
-
-        // if resource has been found also remove it from container cache
-        if (resource != null) {
-            IdentifiableAttributes attributes = resource.getAttributes();
-            if (attributes instanceof Contained) {
-                Set<String> containerIds = ((Contained) attributes).getContainerIds();
-                containerIds.forEach(containerId -> getResourcesByContainerId(containerId).remove(resource.getId()));
+        runWriteLocked(() -> {
+            // keep track of removed extension attributes
+            removeExtensionAttributesByIdentifiableId(id);
+            absentExtensionAttributes.remove(id);
+            // try to remove the resource from full cache
+            Resource<T> resource = resources.remove(id);
+            removedResources.add(id);
+
+            // if resource has been found also remove it from container cache
+            if (resource != null) {
+                IdentifiableAttributes attributes = resource.getAttributes();
+                if (attributes instanceof Contained) {
+                    Set<String> containerIds = ((Contained) attributes).getContainerIds();
+                    containerIds.forEach(containerId -> getResourcesByContainerId(containerId).remove(resource.getId()));
+                }
             }
-        }
+        });
     }
 
     public void removeResources(List<String> ids) {
         Objects.requireNonNull(ids);
-        ids.forEach(this::removeResource);
+        runWriteLocked(() -> ids.forEach(this::removeResource));
     }
 
     /**
@@ -349,7 +682,155 @@ public class CollectionCache<T extends IdentifiableAttributes> {
     public int getResourceCount(UUID networkUuid, int variantNum) {
         // the only reliable way to get count is to fully load the collection
         loadAll(networkUuid, variantNum);
-        return resources.size();
+        return readLocked(resources::size);
+    }
+
+    public boolean isSharingResources() {
+        return readLocked(() -> sharingResources);
+    }
+
+    /**
+     * Get a resource of the cache by its id, without loading anything.
+     */
+    public Optional<Resource<T>> getCachedResource(String id) {
+        return readLocked(() -> Optional.ofNullable(resources.get(id)));
+    }
+
+    /**
+     * Replace a resource shared with another variant by a private copy, so that the other variant can modify the
+     * shared resource in place. Nothing is done if this cache does not reference the given resource.
+     *
+     * @param sharedResource the resource about to be modified by another variant
+     * @param variantNum the variant num of this cache
+     * @param objectMapper a object mapper to help cloning the resource
+     */
+    public void unshareResource(Resource<T> sharedResource, int variantNum, ObjectMapper objectMapper) {
+        Objects.requireNonNull(sharedResource);
+        runWriteLocked(() -> {
+            String id = sharedResource.getId();
+            if (resources.get(id) != sharedResource) {
+                return;
+            }
+            Resource<T> copy = Resource.cloneResourcesToVariant(List.of(sharedResource), variantNum, objectMapper, null).get(0);
+            deduplicateStrings(copy);
+            resources.put(id, copy);
+            IdentifiableAttributes attributes = sharedResource.getAttributes();
+            if (attributes instanceof Contained) {
+                Set<String> containerIds = ((Contained) attributes).getContainerIds();
+                containerIds.forEach(containerId -> {
+                    Map<String, Resource<T>> containerResources = resourcesByContainerId.get(containerId);
+                    if (containerResources != null) {
+                        containerResources.replace(id, sharedResource, copy);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Get the number of resources currently in the cache, without loading anything.
+     */
+    public int getCachedResourceCount() {
+        return readLocked(resources::size);
+    }
+
+    /**
+     * Declare all the resources of the cache as synchronized with the server, so that they can be evicted.
+     */
+    public void markClean() {
+        runWriteLocked(dirtyResources::clear);
+    }
+
+    /**
+     * Declare the resources modified since last flush as being flushed, they cannot be evicted until
+     * {@link #markFlushed(Set, boolean)} is called.
+     *
+     * @return ids of the resources being flushed
+     */
+    public Set<String> markFlushing() {
+        return writeLocked(() -> {
+            Set<String> flushingIds = new HashSet<>(dirtyResources);
+            for (String id : flushingIds) {
+                flushingResourceCounts.merge(id, 1, Integer::sum);
+            }
+            dirtyResources.clear();
+            return flushingIds;
+        });
+    }
+
+    /**
+     * Declare the end of the flush of resources returned by {@link #markFlushing()}.
+     *
+     * @param failed true if the flush has failed, the resources are then considered as modified since last flush
+     */
+    public void markFlushed(Set<String> resourceIds, boolean failed) {
+        Objects.requireNonNull(resourceIds);
+        runWriteLocked(() -> {
+            for (String id : resourceIds) {
+                flushingResourceCounts.computeIfPresent(id, (k, count) -> count > 1 ? count - 1 : null);
+                if (failed && resources.containsKey(id)) {
+                    dirtyResources.add(id);
+                }
+            }
+        });
+    }
+
+    /**
+     * Check if some resources of a container are in the cache, without loading anything.
+     */
+    public boolean isContainerCached(String containerId) {
+        return readLocked(() -> !resourcesByContainerId.getOrDefault(containerId, Map.of()).isEmpty());
+    }
+
+    /**
+     * Evict from the cache the resources of a container, so that they will be reloaded from the server on next access.
+     * Nothing is evicted if one of the resources of the container has been modified since last flush or is still being
+     * flushed.
+     *
+     * @param containerId the container id
+     * @return ids of the evicted resources
+     */
+    public Set<String> evictContainer(String containerId) {
+        Objects.requireNonNull(containerId);
+        return writeLocked(() -> {
+            Map<String, Resource<T>> containerResources = resourcesByContainerId.get(containerId);
+            if (containerResources == null || containerResources.isEmpty()
+                    || containerResources.keySet().stream().anyMatch(id -> dirtyResources.contains(id) || flushingResourceCounts.containsKey(id))) {
+                return Collections.emptySet();
+            }
+            Set<String> evictedIds = new HashSet<>(containerResources.keySet());
+            for (Resource<T> resource : containerResources.values()) {
+                resources.remove(resource.getId());
+                // a branch also belongs to other containers which are not fully loaded anymore
+                IdentifiableAttributes attributes = resource.getAttributes();
+                if (attributes instanceof Contained) {
+                    for (String otherContainerId : ((Contained) attributes).getContainerIds()) {
+                        if (!otherContainerId.equals(containerId)) {
+                            Map<String, Resource<T>> otherContainerResources = resourcesByContainerId.get(otherContainerId);
+                            if (otherContainerResources != null) {
+                                otherContainerResources.remove(resource.getId());
+                            }
+                            containerFullyLoaded.remove(otherContainerId);
+                        }
+                    }
+                }
+            }
+            resourcesByContainerId.remove(containerId);
+            containerFullyLoaded.remove(containerId);
+
+            // extensions and limits are stored in the evicted resources
+            fullyLoadedExtensionsByIdentifiableIds.removeAll(evictedIds);
+            absentExtensionAttributes.keySet().removeAll(evictedIds);
+            loadedOperationalLimitsGroupsForBranches.removeIf(branchAndSide -> evictedIds.contains(branchAndSide.getFirst()));
+
+            // the cache is not synchronized with the full collection on the server anymore
+            fullyLoaded = false;
+            fullyLoadedExtensions = false;
+            fullyLoadedExtensionsByExtensionName.clear();
+            fullyLoadedOperationalLimitsGroup = false;
+            fullyLoadedSelectedOperationalLimitsGroup = false;
+            return evictedIds;
+        });
     }
 
     /**
@@ -361,63 +842,142 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      * @return the cache clone
      */
     public CollectionCache<T> clone(ObjectMapper objectMapper, int newVariantNum, Consumer<Resource<T>> resourcePostProcessor) {
-        // use json serialization to clone the resources of source collection
-        List<Resource<T>> clonedResources = Resource.cloneResourcesToVariant(resources.values(), newVariantNum, objectMapper, resourcePostProcessor);
+        return clone(objectMapper, newVariantNum, resourcePostProcessor, false);
+    }
 
-        var clonedCache = new CollectionCache<>(oneLoaderFunction, containerLoaderFunction, allLoaderFunction, delegate);
-        for (Resource<T> clonedResource : clonedResources) {
-            clonedCache.resources.put(clonedResource.getId(), clonedResource);
-        }
-        for (Map.Entry<String, Map<String, Resource<T>>> e : resourcesByContainerId.entrySet()) {
-            String containerId = e.getKey();
-            Map<String, Resource<T>> containerResources = e.getValue();
-            Map<String, Resource<T>> containerClonedResources = new HashMap<>(containerResources.size());
-            clonedCache.resourcesByContainerId.put(containerId, containerClonedResources);
-            for (String id : containerResources.keySet()) {
-                containerClonedResources.put(id, clonedCache.resources.get(id));
+    /**
+     * Cache copy.
+     * <p>
+     * In copy on write mode, the resources not modified since last flush are not copied but shared by the two caches,
+     * so they are still referencing the source variant. Before modifying in place a shared resource, the other caches
+     * referencing it have to be given a private copy, see {@link #unshareResource(Resource, int, ObjectMapper)}.
+     * Resources modified since last flush are always copied as they are referenced by the source variant buffer.
+     *
+     * @param objectMapper a object mapper to help cloning resources
+     * @param newVariantNum new variant num for all resources of the cloned cache
+     * @param resourcePostProcessor a resource post processor, resources are never shared if specified
+     * @param copyOnWrite true to share the resources not modified since last flush
+     * @return the cache clone
+     */
+    public CollectionCache<T> clone(ObjectMapper objectMapper, int newVariantNum, Consumer<Resource<T>> resourcePostProcessor, boolean copyOnWrite) {
+        return writeLocked(() -> {
+            boolean share = copyOnWrite && resourcePostProcessor == null;
+            List<Resource<T>> sharedResources = new ArrayList<>();
+            List<Resource<T>> resourcesToClone = new ArrayList<>();
+            for (Resource<T> resource : resources.values()) {
+                if (share && !dirtyResources.contains(resource.getId())) {
+                    sharedResources.add(resource);
+                } else {
+                    resourcesToClone.add(resource);
+                }
+            }
+            // use json serialization to clone the resources of source collection
+            List<Resource<T>> clonedResources = Resource.cloneResourcesToVariant(resourcesToClone, newVariantNum, objectMapper, resourcePostProcessor);
+
+            // the variants of a network share the same dictionary
+            var clonedCache = new CollectionCache<>(oneLoaderFunction, containerLoaderFunction, allLoaderFunction, delegate, isConcurrent(), stringDictionary);
+            clonedResources.forEach(clonedCache::deduplicateStrings);
+            for (Resource<T> sharedResource : sharedResources) {
+                clonedCache.resources.put(sharedResource.getId(), sharedResource);
+            }
+            for (Resource<T> clonedResource : clonedResources) {
+                clonedCache.resources.put(clonedResource.getId(), clonedResource);
+            }
+            if (!sharedResources.isEmpty()) {
+                sharingResources = true;
+                clonedCache.sharingResources = true;
+            }
+            for (Map.Entry<String, Map<String, Resource<T>>> e : resourcesByContainerId.entrySet()) {
+                String containerId = e.getKey();
+                Map<String, Resource<T>> containerResources = e.getValue();
+                Map<String, Resource<T>> containerClonedResources = new HashMap<>(containerResources.size());
+                clonedCache.resourcesByContainerId.put(containerId, containerClonedResources);
+                for (String id : containerResources.keySet()) {
+                    containerClonedResources.put(id, clonedCache.resources.get(id));
+                }
             }
-        }
-
-        // extensions
-        for (Map.Entry<String, Set<String>> entry : removedExtensionAttributes.entrySet()) {
-            clonedCache.removedExtensionAttributes.put(entry.getKey(), new HashSet<>(entry.getValue()));
-        }
-
-        clonedCache.fullyLoadedExtensionsByExtensionName.addAll(fullyLoadedExtensionsByExtensionName);
-        clonedCache.fullyLoadedExtensionsByIdentifiableIds.addAll(fullyLoadedExtensionsByIdentifiableIds);
-        clonedCache.fullyLoaded = fullyLoaded;
-        clonedCache.fullyLoadedExtensions = fullyLoadedExtensions;
 
-        // limits
-        clonedCache.loadedOperationalLimitsGroupsForBranches.addAll(loadedOperationalLimitsGroupsForBranches);
-        clonedCache.fullyLoadedOperationalLimitsGroup = fullyLoadedOperationalLimitsGroup;
-        clonedCache.fullyLoadedSelectedOperationalLimitsGroup = fullyLoadedSelectedOperationalLimitsGroup;
-        removedOperationalLimitsAttributes.forEach((branchId, limitSetBySide) ->
-                limitSetBySide.forEach((side, limitIdSet) ->
-                        clonedCache.removedOperationalLimitsAttributes
-                                .computeIfAbsent(branchId, s -> new HashMap<>())
-                                .computeIfAbsent(side, s -> new HashSet<>(limitIdSet))));
+            // extensions
+            for (Map.Entry<String, Set<String>> entry : removedExtensionAttributes.entrySet()) {
+                clonedCache.removedExtensionAttributes.put(entry.getKey(), new HashSet<>(entry.getValue()));
+            }
+            for (Map.Entry<String, Set<String>> entry : absentExtensionAttributes.entrySet()) {
+                clonedCache.absentExtensionAttributes.put(entry.getKey(), new HashSet<>(entry.getValue()));
+            }
 
-        clonedCache.containerFullyLoaded.addAll(containerFullyLoaded);
-        clonedCache.removedResources.addAll(removedResources);
-        return clonedCache;
+            clonedCache.fullyLoadedExtensionsByExtensionName.addAll(fullyLoadedExtensionsByExtensionName);
+            clonedCache.fullyLoadedExtensionsByIdentifiableIds.addAll(fullyLoadedExtensionsByIdentifiableIds);
+            clonedCache.fullyLoaded = fullyLoaded;
+            clonedCache.fullyLoadedExtensions = fullyLoadedExtensions;
+
+            // limits
+            clonedCache.loadedOperationalLimitsGroupsForBranches.addAll(loadedOperationalLimitsGroupsForBranches);
+            clonedCache.fullyLoadedOperationalLimitsGroup = fullyLoadedOperationalLimitsGroup;
+            clonedCache.fullyLoadedSelectedOperationalLimitsGroup = fullyLoadedSelectedOperationalLimitsGroup;
+            removedOperationalLimitsAttributes.forEach((branchId, limitSetBySide) ->
+                    limitSetBySide.forEach((side, limitIdSet) ->
+                            clonedCache.removedOperationalLimitsAttributes
+                                    .computeIfAbsent(branchId, s -> new HashMap<>())
+                                    .computeIfAbsent(side, s -> new HashSet<>(limitIdSet))));
+
+            clonedCache.containerFullyLoaded.addAll(containerFullyLoaded);
+            clonedCache.removedResources.addAll(removedResources);
+            clonedCache.dirtyResources.addAll(dirtyResources);
+            return clonedCache;
+        });
     }
 
     public Optional<ExtensionAttributes> getExtensionAttributes(UUID networkUuid, int variantNum, ResourceType type, String identifiableId, String extensionName) {
         Objects.requireNonNull(identifiableId);
 
-        if (isExtensionAttributesCached(identifiableId, extensionName)) {
-            return Optional.ofNullable(getCachedExtensionAttributes(identifiableId).get(extensionName));
+        // when the extension is looked for on many identifiables, typically while iterating over the collection, it is
+        // loaded for all of them at once. Only possible if all the resources are in the cache to receive the extension.
+        if (readLocked(() -> fullyLoaded && !isFullyLoadedExtension(extensionName)
+                && extensionCallCountByExtensionName.getOrDefault(extensionName, 0) >= MAX_GET_EXTENSION_CALL_COUNT)) {
+            loadAllExtensionsAttributesByResourceTypeAndExtensionName(networkUuid, variantNum, type, extensionName);
         }
 
-        if (!isFullyLoadedExtension(identifiableId, extensionName) && !isRemovedAttributes(identifiableId, extensionName)) {
-            return delegate.getExtensionAttributes(networkUuid, variantNum, type, identifiableId, extensionName)
-                    .map(attributes -> {
-                        addExtensionAttributesToCache(identifiableId, extensionName, attributes);
-                        return attributes;
-                    });
+        return loadingLocked(identifiableId, () -> {
+            ExtensionAttributes cachedAttributes = readLocked(() -> isExtensionAttributesCached(identifiableId, extensionName)
+                    ? getCachedExtensionAttributes(identifiableId).get(extensionName)
+                    : null);
+            if (cachedAttributes != null) {
+                return Optional.of(materializeExtensionAttributes(identifiableId, extensionName, cachedAttributes));
+            }
+
+            if (readLocked(() -> !isFullyLoadedExtension(identifiableId, extensionName) && !isRemovedAttributes(identifiableId, extensionName)
+                    && !isAbsentAttributes(identifiableId, extensionName))) {
+                Optional<ExtensionAttributes> attributes = delegate.getExtensionAttributes(networkUuid, variantNum, type, identifiableId, extensionName);
+                runWriteLocked(() -> {
+                    extensionCallCountByExtensionName.merge(extensionName, 1, Integer::sum);
+                    if (attributes.isPresent()) {
+                        addExtensionAttributesToCache(identifiableId, extensionName, attributes.get());
+                    } else {
+                        absentExtensionAttributes.computeIfAbsent(identifiableId, k -> new HashSet<>()).add(extensionName);
+                    }
+                });
+                return attributes;
+            }
+            return Optional.empty();
+        });
+    }
+
+    /**
+     * Replace in the cache lazy extension attributes of an identifiable by their typed attributes, so that they are
+     * only deserialized once. The replacement is equal to the lazy attributes, so it is done in place even if the
+     * resource is shared with other variants.
+     */
+    private ExtensionAttributes materializeExtensionAttributes(String identifiableId, String extensionName, ExtensionAttributes extensionAttributes) {
+        if (!(extensionAttributes instanceof LazyExtensionAttributes)) {
+            return extensionAttributes;
         }
-        return Optional.empty();
+        ExtensionAttributes materializedAttributes = LazyExtensionAttributes.materialize(extensionAttributes);
+        runWriteLocked(() -> {
+            if (resources.containsKey(identifiableId)) {
+                getCachedExtensionAttributes(identifiableId).replace(extensionName, extensionAttributes, materializedAttributes);
+            }
+        });
+        return materializedAttributes;
     }
 
     private Map<String, ExtensionAttributes> getCachedExtensionAttributes(String identifiableId) {
@@ -441,6 +1001,11 @@ public class CollectionCache<T extends IdentifiableAttributes> {
         return removedResources.contains(id) || removedExtensionAttributes.containsKey(id) && removedExtensionAttributes.get(id).contains(extensionName);
     }
 
+    private boolean isAbsentAttributes(String id, String extensionName) {
+        Set<String> extensionNames = absentExtensionAttributes.get(id);
+        return extensionNames != null && extensionNames.contains(extensionName);
+    }
+
     private boolean isExtensionAttributesCached(String id, String extensionName) {
         return resources.containsKey(id) && getCachedExtensionAttributes(id).containsKey(extensionName);
     }
@@ -473,14 +1038,21 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      * Load all the extensions attributes with specified extension name for all the identifiables of the collection in the cache.
      */
     public void loadAllExtensionsAttributesByResourceTypeAndExtensionName(UUID networkUuid, int variantNum, ResourceType type, String extensionName) {
-        if (!isFullyLoadedExtension(extensionName)) {
-            // if collection has not yet been fully loaded we load it from the server
-            Map<String, ExtensionAttributes> extensionAttributesMap = delegate.getAllExtensionsAttributesByResourceTypeAndExtensionName(networkUuid, variantNum, type, extensionName);
-
-            // we update the full cache and set it as fully loaded
-            extensionAttributesMap.forEach((identifiableId, extensionAttributes) -> addExtensionAttributesToCache(identifiableId, extensionName, extensionAttributes));
-            fullyLoadedExtensionsByExtensionName.add(extensionName);
+        if (readLocked(() -> isFullyLoadedExtension(extensionName))) {
+            return;
         }
+        runCollectionLoadingLocked(() -> {
+            if (!readLocked(() -> isFullyLoadedExtension(extensionName))) {
+                // if collection has not yet been fully loaded we load it from the server
+                Map<String, ExtensionAttributes> extensionAttributesMap = delegate.getAllExtensionsAttributesByResourceTypeAndExtensionName(networkUuid, variantNum, type, extensionName);
+
+                // we update the full cache and set it as fully loaded
+                runWriteLocked(() -> {
+                    extensionAttributesMap.forEach((identifiableId, extensionAttributes) -> addExtensionAttributesToCache(identifiableId, extensionName, extensionAttributes));
+                    fullyLoadedExtensionsByExtensionName.add(extensionName);
+                });
+            }
+        });
     }
 
     /**
@@ -488,18 +1060,31 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      */
     public Map<String, ExtensionAttributes> getAllExtensionsAttributesByIdentifiableId(UUID networkUuid, int variantNum, ResourceType type, String identifiableId) {
         Objects.requireNonNull(identifiableId);
-        if (isExtensionAttributesCached(identifiableId)) {
-            return getCachedExtensionAttributes(identifiableId);
-        }
+        return loadingLocked(identifiableId, () -> {
+            Map<String, ExtensionAttributes> cachedAttributes = readLocked(() -> isExtensionAttributesCached(identifiableId)
+                    ? getCachedExtensionAttributes(identifiableId)
+                    : null);
+            if (cachedAttributes != null) {
+                if (readLocked(() -> cachedAttributes.values().stream().anyMatch(LazyExtensionAttributes.class::isInstance))) {
+                    runWriteLocked(() -> cachedAttributes.replaceAll((extensionName, attributes) -> LazyExtensionAttributes.materialize(attributes)));
+                }
+                return cachedAttributes;
+            }
 
-        if (!isFullyLoadedIdentifiable(identifiableId) && !removedResources.contains(identifiableId)) {
-            Map<String, ExtensionAttributes> extensionAttributes = delegate.getAllExtensionsAttributesByIdentifiableId(networkUuid, variantNum, type, identifiableId);
-            if (extensionAttributes != null) {
-                addAllExtensionAttributesToCache(identifiableId, extensionAttributes);
-                return getCachedExtensionAttributes(identifiableId);
+            if (readLocked(() -> !isFullyLoadedIdentifiable(identifiableId) && !removedResources.contains(identifiableId))) {
+                Map<String, ExtensionAttributes> extensionAttributes = delegate.getAllExtensionsAttributesByIdentifiableId(networkUuid, variantNum, type, identifiableId);
+                if (extensionAttributes != null) {
+                    return writeLocked(() -> {
+                        addAllExtensionAttributesToCache(identifiableId, extensionAttributes);
+                        // extensions loaded for the whole collection may still be lazy
+                        Map<String, ExtensionAttributes> allExtensionAttributes = getCachedExtensionAttributes(identifiableId);
+                        allExtensionAttributes.replaceAll((extensionName, attributes) -> LazyExtensionAttributes.materialize(attributes));
+                        return allExtensionAttributes;
+                    });
+                }
             }
-        }
-        return Map.of();
+            return Map.<String, ExtensionAttributes>of();
+        });
     }
 
     private boolean isFullyLoadedIdentifiable(String identifiableId) {
@@ -533,64 +1118,85 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      * Load all the extensions attributes for all the identifiables with specified resource type in the cache
      */
     public void loadAllExtensionsAttributesByResourceType(UUID networkUuid, int variantNum, ResourceType type) {
-        if (!fullyLoadedExtensions) {
-            // if collection has not yet been fully loaded we load it from the server
-            Map<String, Map<String, ExtensionAttributes>> extensionAttributesMap = delegate.getAllExtensionsAttributesByResourceType(networkUuid, variantNum, type);
-
-            // we update the full cache and set it as fully loaded
-            extensionAttributesMap.forEach(this::addAllExtensionAttributesToCache);
-            fullyLoadedExtensions = true;
+        if (readLocked(() -> fullyLoadedExtensions)) {
+            return;
         }
+        runCollectionLoadingLocked(() -> {
+            if (!readLocked(() -> fullyLoadedExtensions)) {
+                // if collection has not yet been fully loaded we load it from the server
+                Map<String, Map<String, ExtensionAttributes>> extensionAttributesMap = delegate.getAllExtensionsAttributesByResourceType(networkUuid, variantNum, type);
+
+                // we update the full cache and set it as fully loaded
+                runWriteLocked(() -> {
+                    extensionAttributesMap.forEach(this::addAllExtensionAttributesToCache);
+                    fullyLoadedExtensions = true;
+                });
+            }
+        });
     }
 
     public void removeExtensionAttributesByIdentifiableIds(Map<String, Set<String>> extensionsByIdentifiableId) {
-        for (Map.Entry<String, Set<String>> entry : extensionsByIdentifiableId.entrySet()) {
-            Set<String> extensionNames = entry.getValue();
-            String identifiableId = entry.getKey();
-            if (resources.containsKey(identifiableId)) {
-                for (String extensionName : extensionNames) {
-                    getCachedExtensionAttributes(identifiableId).remove(extensionName);
-                    removedExtensionAttributes.computeIfAbsent(identifiableId, k -> new HashSet<>()).add(extensionName);
+        runWriteLocked(() -> {
+            for (Map.Entry<String, Set<String>> entry : extensionsByIdentifiableId.entrySet()) {
+                Set<String> extensionNames = entry.getValue();
+                String identifiableId = entry.getKey();
+                if (resources.containsKey(identifiableId)) {
+                    dirtyResources.add(identifiableId);
+                    for (String extensionName : extensionNames) {
+                        getCachedExtensionAttributes(identifiableId).remove(extensionName);
+                        removedExtensionAttributes.computeIfAbsent(identifiableId, k -> new HashSet<>()).add(extensionName);
+                    }
                 }
             }
-        }
+        });
     }
 
     public void removeExtensionAttributesByIdentifiableId(String identifiableId) {
         Objects.requireNonNull(identifiableId);
-        if (resources.containsKey(identifiableId)) {
-            Set<String> removedExtensionNames = getCachedExtensionAttributes(identifiableId).keySet();
-            removedExtensionAttributes.computeIfAbsent(identifiableId, k -> new HashSet<>()).addAll(removedExtensionNames);
-            getCachedExtensionAttributes(identifiableId).clear();
-        }
+        runWriteLocked(() -> {
+            if (resources.containsKey(identifiableId)) {
+                Set<String> removedExtensionNames = getCachedExtensionAttributes(identifiableId).keySet();
+                removedExtensionAttributes.computeIfAbsent(identifiableId, k -> new HashSet<>()).addAll(removedExtensionNames);
+                getCachedExtensionAttributes(identifiableId).clear();
+            }
+        });
     }
 
     // limits
     public List<OperationalLimitsGroupAttributes> getOperationalLimitsGroupAttributesForBranchSide(UUID networkUuid, int variantNum, ResourceType resourceType, String branchId, int side) {
         Objects.requireNonNull(branchId);
-        if (removedResources.contains(branchId)) {
-            return Collections.emptyList();
-        }
-        if (fullyLoadedOperationalLimitsGroup || loadedOperationalLimitsGroupsForBranches.contains(Pair.of(branchId, side))) {
-            return getCachedOperationalLimitsGroupAttributes(branchId, side).values().stream().toList();
-        } else {
+        return loadingLocked(branchId, () -> {
+            List<OperationalLimitsGroupAttributes> cachedAttributesList = readLocked(() -> {
+                if (removedResources.contains(branchId)) {
+                    return Collections.emptyList();
+                }
+                if (fullyLoadedOperationalLimitsGroup || loadedOperationalLimitsGroupsForBranches.contains(Pair.of(branchId, side))) {
+                    return getCachedOperationalLimitsGroupAttributes(branchId, side).values().stream().toList();
+                }
+                return null;
+            });
+            if (cachedAttributesList != null) {
+                return cachedAttributesList;
+            }
             List<OperationalLimitsGroupAttributes> operationalLimitsGroupAttributesList = delegate
                 .getOperationalLimitsGroupAttributesForBranchSide(networkUuid, variantNum, resourceType, branchId, side);
-            operationalLimitsGroupAttributesList.forEach(attributes ->
-                addOperationalLimitsGroupAttributesToCache(branchId, attributes.getId(), side, attributes));
-            loadedOperationalLimitsGroupsForBranches.add(Pair.of(branchId, side));
+            runWriteLocked(() -> {
+                operationalLimitsGroupAttributesList.forEach(attributes ->
+                    addOperationalLimitsGroupAttributesToCache(branchId, attributes.getId(), side, attributes));
+                loadedOperationalLimitsGroupsForBranches.add(Pair.of(branchId, side));
+            });
             return operationalLimitsGroupAttributesList;
-        }
+        });
     }
 
     public Optional<OperationalLimitsGroupAttributes> getOperationalLimitsAttributes(UUID networkUuid, int variantNum, ResourceType type,
                                                                                      String branchId, String operationalLimitGroupName, int side) {
-        return getOperationalLimitsAttributes(networkUuid, variantNum, type, branchId, operationalLimitGroupName, side, fullyLoadedOperationalLimitsGroup);
+        return getOperationalLimitsAttributes(networkUuid, variantNum, type, branchId, operationalLimitGroupName, side, readLocked(() -> fullyLoadedOperationalLimitsGroup));
     }
 
     public Optional<OperationalLimitsGroupAttributes> getSelectedOperationalLimitsAttributes(UUID networkUuid, int variantNum, ResourceType type,
                                                                                      String branchId, String operationalLimitGroupName, int side) {
-        return getOperationalLimitsAttributes(networkUuid, variantNum, type, branchId, operationalLimitGroupName, side, fullyLoadedSelectedOperationalLimitsGroup);
+        return getOperationalLimitsAttributes(networkUuid, variantNum, type, branchId, operationalLimitGroupName, side, readLocked(() -> fullyLoadedSelectedOperationalLimitsGroup));
     }
 
     private boolean isOperationalLimitsGroupInCache(String branchId, int side, String operationalLimitGroupName) {
@@ -607,22 +1213,22 @@ public class CollectionCache<T extends IdentifiableAttributes> {
                                                                                      String branchId, String operationalLimitGroupName, int side,
                                                                                      boolean limitsFullyLoaded) {
         Objects.requireNonNull(branchId);
-        if (removedResources.contains(branchId)) {
-            return Optional.empty();
-        }
-        if (isOperationalLimitsGroupInCache(branchId, side, operationalLimitGroupName)) {
-            return Optional.ofNullable(getCachedOperationalLimitsGroupAttributes(branchId, side).get(operationalLimitGroupName));
-        } else {
-            if (!limitsFullyLoaded && !isOperationalLimitsGroupRemovedAttributes(branchId, side, operationalLimitGroupName)) {
-                return delegate.getOperationalLimitsGroupAttributes(networkUuid, variantNum, type, branchId, operationalLimitGroupName, side)
-                    .map(attributes -> {
-                        addOperationalLimitsGroupAttributesToCache(branchId, operationalLimitGroupName, side, attributes);
-                        return attributes;
-                    });
-            } else {
+        return loadingLocked(branchId, () -> {
+            OperationalLimitsGroupAttributes cachedAttributes = readLocked(() -> !removedResources.contains(branchId) && isOperationalLimitsGroupInCache(branchId, side, operationalLimitGroupName)
+                    ? getCachedOperationalLimitsGroupAttributes(branchId, side).get(operationalLimitGroupName)
+                    : null);
+            if (cachedAttributes != null) {
+                return Optional.of(cachedAttributes);
+            }
+            if (readLocked(() -> limitsFullyLoaded || isOperationalLimitsGroupRemovedAttributes(branchId, side, operationalLimitGroupName))) {
                 return Optional.empty();
             }
-        }
+            return delegate.getOperationalLimitsGroupAttributes(networkUuid, variantNum, type, branchId, operationalLimitGroupName, side)
+                .map(attributes -> {
+                    runWriteLocked(() -> addOperationalLimitsGroupAttributesToCache(branchId, operationalLimitGroupName, side, attributes));
+                    return attributes;
+                });
+        });
     }
 
     private Map<String, OperationalLimitsGroupAttributes> getCachedOperationalLimitsGroupAttributes(String branchId, int side) {
@@ -653,29 +1259,43 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      * Get all the operational limits group attributes for all the identifiables with specified resource type in the cache
      */
     public void loadAllOperationalLimitsGroupAttributesByResourceType(UUID networkUuid, int variantNum, ResourceType type) {
-        if (!fullyLoadedOperationalLimitsGroup) {
-            // if collection has not yet been fully loaded we load it from the server
-            Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> operationalLimitsGroupAttributesMap =
-                delegate.getAllOperationalLimitsGroupAttributesByResourceType(networkUuid, variantNum, type);
-
-            loadOperationalLimitsGroupsToCache(operationalLimitsGroupAttributesMap);
-            fullyLoadedOperationalLimitsGroup = true;
-            fullyLoadedSelectedOperationalLimitsGroup = true;
+        if (readLocked(() -> fullyLoadedOperationalLimitsGroup)) {
+            return;
         }
+        runCollectionLoadingLocked(() -> {
+            if (!readLocked(() -> fullyLoadedOperationalLimitsGroup)) {
+                // if collection has not yet been fully loaded we load it from the server
+                Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> operationalLimitsGroupAttributesMap =
+                    delegate.getAllOperationalLimitsGroupAttributesByResourceType(networkUuid, variantNum, type);
+
+                runWriteLocked(() -> {
+                    loadOperationalLimitsGroupsToCache(operationalLimitsGroupAttributesMap);
+                    fullyLoadedOperationalLimitsGroup = true;
+                    fullyLoadedSelectedOperationalLimitsGroup = true;
+                });
+            }
+        });
     }
 
     /**
      * Get all selected the operational limits group attributes for all the identifiables with specified resource type in the cache
      */
     public void loadAllSelectedOperationalLimitsGroupAttributesByResourceType(UUID networkUuid, int variantNum, ResourceType type) {
-        if (!fullyLoadedSelectedOperationalLimitsGroup) {
-            // if collection has not yet been fully loaded we load it from the server
-            Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> operationalLimitsGroupAttributesMap =
-                delegate.getAllSelectedOperationalLimitsGroupAttributesByResourceType(networkUuid, variantNum, type);
-
-            loadOperationalLimitsGroupsToCache(operationalLimitsGroupAttributesMap);
-            fullyLoadedSelectedOperationalLimitsGroup = true;
+        if (readLocked(() -> fullyLoadedSelectedOperationalLimitsGroup)) {
+            return;
         }
+        runCollectionLoadingLocked(() -> {
+            if (!readLocked(() -> fullyLoadedSelectedOperationalLimitsGroup)) {
+                // if collection has not yet been fully loaded we load it from the server
+                Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> operationalLimitsGroupAttributesMap =
+                    delegate.getAllSelectedOperationalLimitsGroupAttributesByResourceType(networkUuid, variantNum, type);
+
+                runWriteLocked(() -> {
+                    loadOperationalLimitsGroupsToCache(operationalLimitsGroupAttributesMap);
+                    fullyLoadedSelectedOperationalLimitsGroup = true;
+                });
+            }
+        });
     }
 
     private void loadOperationalLimitsGroupsToCache(Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> operationalLimitsGroupAttributesMap) {
@@ -701,18 +1321,21 @@ public class CollectionCache<T extends IdentifiableAttributes> {
     }
 
     public void removeOperationalLimitsGroupAttributes(Map<String, Map<Integer, Set<String>>> operationalLimitsGroupsToDelete) {
-        removedOperationalLimitsAttributes.putAll(operationalLimitsGroupsToDelete);
-        for (Map.Entry<String, Map<Integer, Set<String>>> entry : operationalLimitsGroupsToDelete.entrySet()) {
-            String branchId = entry.getKey();
-            if (resources.containsKey(branchId)) {
-                for (Map.Entry<Integer, Set<String>> sideEntry : entry.getValue().entrySet()) {
-                    Integer side = sideEntry.getKey();
-                    Set<String> operationalLimitsGroups = sideEntry.getValue();
-                    Map<String, OperationalLimitsGroupAttributes> cachedOperationalLimitsGroupAttributes = getCachedOperationalLimitsGroupAttributes(branchId, side);
-                    operationalLimitsGroups.forEach(cachedOperationalLimitsGroupAttributes::remove);
+        runWriteLocked(() -> {
+            removedOperationalLimitsAttributes.putAll(operationalLimitsGroupsToDelete);
+            for (Map.Entry<String, Map<Integer, Set<String>>> entry : operationalLimitsGroupsToDelete.entrySet()) {
+                String branchId = entry.getKey();
+                if (resources.containsKey(branchId)) {
+                    dirtyResources.add(branchId);
+                    for (Map.Entry<Integer, Set<String>> sideEntry : entry.getValue().entrySet()) {
+                        Integer side = sideEntry.getKey();
+                        Set<String> operationalLimitsGroups = sideEntry.getValue();
+                        Map<String, OperationalLimitsGroupAttributes> cachedOperationalLimitsGroupAttributes = getCachedOperationalLimitsGroupAttributes(branchId, side);
+                        operationalLimitsGroups.forEach(cachedOperationalLimitsGroupAttributes::remove);
+                    }
                 }
             }
-        }
+        });
     }
 
     private boolean isOperationalLimitsGroupRemovedAttributes(String branchId, int side, String operationalLimitsGroupId) {
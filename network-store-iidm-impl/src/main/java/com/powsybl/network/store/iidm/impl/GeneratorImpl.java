@@ -361,7 +361,7 @@ public class GeneratorImpl extends AbstractRegulatingInjection<Generator, Genera
         if (type == RemoteReactivePowerControl.class) {
             var resource = getResource();
             if (resource.getAttributes().getRemoteReactivePowerControl() != null) {
-                resource.getAttributes().setRemoteReactivePowerControl(null);
+                updateResourceWithoutNotification(res -> res.getAttributes().setRemoteReactivePowerControl(null));
                 return true;
             }
             return false;
@@ -369,7 +369,7 @@ public class GeneratorImpl extends AbstractRegulatingInjection<Generator, Genera
         if (type == GeneratorEntsoeCategory.class) {
             var resource = getResource();
             if (resource.getAttributes().getEntsoeCategoryAttributes() != null) {
-                resource.getAttributes().setEntsoeCategoryAttributes(null);
+                updateResourceWithoutNotification(res -> res.getAttributes().setEntsoeCategoryAttributes(null));
                 return true;
             }
             return false;
@@ -377,7 +377,7 @@ public class GeneratorImpl extends AbstractRegulatingInjection<Generator, Genera
         if (type == CoordinatedReactiveControl.class) {
             var resource = getResource();
             if (resource.getAttributes().getCoordinatedReactiveControl() != null) {
-                resource.getAttributes().setCoordinatedReactiveControl(null);
+                updateResourceWithoutNotification(res -> res.getAttributes().setCoordinatedReactiveControl(null));
                 return true;
             }
             return false;
@@ -385,7 +385,7 @@ public class GeneratorImpl extends AbstractRegulatingInjection<Generator, Genera
         if (type == GeneratorShortCircuit.class) {
             var resource = getResource();
             if (resource.getAttributes().getGeneratorShortCircuitAttributes() != null) {
-                resource.getAttributes().setGeneratorShortCircuitAttributes(null);
+                updateResourceWithoutNotification(res -> res.getAttributes().setGeneratorShortCircuitAttributes(null));
                 return true;
             }
             return false;
@@ -393,7 +393,7 @@ public class GeneratorImpl extends AbstractRegulatingInjection<Generator, Genera
         if (type.isAssignableFrom(ConnectablePosition.class)) {
             var resource = getResource();
             if (resource.getAttributes().getPosition() != null) {
-                resource.getAttributes().setPosition(null);
+                updateResourceWithoutNotification(res -> res.getAttributes().setPosition(null));
                 return true;
             }
             return false;
@@ -44,7 +44,7 @@ public class GroundImpl extends AbstractInjectionImpl<Ground, GroundAttributes>
         if (fictitious) {
             throw new PowsyblException("The ground cannot be fictitious.");
         } else {
-            getResource().getAttributes().setFictitious(false);
+            updateResourceWithoutNotification(res -> res.getAttributes().setFictitious(false));
         }
     }
 
@@ -51,8 +51,10 @@ public class HvdcLineImpl extends AbstractIdentifiableImpl<HvdcLine, HvdcLineAtt
     public void remove() {
         var resource = getResource();
         index.notifyBeforeRemoval(this);
-        resource.getAttributes().setConverterStationId1(null);
-        resource.getAttributes().setConverterStationId2(null);
+        updateResourceWithoutNotification(res -> {
+            res.getAttributes().setConverterStationId1(null);
+            res.getAttributes().setConverterStationId2(null);
+        });
         index.removeHvdcLine(resource.getId());
         index.notifyAfterRemoval(resource.getId());
     }
@@ -254,7 +256,7 @@ public class HvdcLineImpl extends AbstractIdentifiableImpl<HvdcLine, HvdcLineAtt
         if (type == HvdcAngleDroopActivePowerControl.class) {
             var resource = getResource();
             if (resource.getAttributes().getHvdcAngleDroopActivePowerControl() != null) {
-                resource.getAttributes().setHvdcAngleDroopActivePowerControl(null);
+                updateResourceWithoutNotification(res -> res.getAttributes().setHvdcAngleDroopActivePowerControl(null));
                 return true;
             }
             return false;
@@ -262,7 +264,7 @@ public class HvdcLineImpl extends AbstractIdentifiableImpl<HvdcLine, HvdcLineAtt
         if (type == HvdcOperatorActivePowerRange.class) {
             var resource = getResource();
             if (resource.getAttributes().getHvdcOperatorActivePowerRange() != null) {
-                resource.getAttributes().setHvdcOperatorActivePowerRange(null);
+                updateResourceWithoutNotification(res -> res.getAttributes().setHvdcOperatorActivePowerRange(null));
                 return true;
             }
             return false;
@@ -8,22 +8,20 @@ package com.powsybl.network.store.iidm.impl;
 
 import com.powsybl.iidm.network.VoltageLevel;
 import com.powsybl.network.store.model.InternalConnectionAttributes;
-import com.powsybl.network.store.model.Resource;
-import com.powsybl.network.store.model.VoltageLevelAttributes;
 
 /**
  * @author Nicolas Noir <nicolas.noir at rte-france.com>
  */
 public class InternalConnectionAdderNodeBreakerImpl implements VoltageLevel.NodeBreakerView.InternalConnectionAdder {
 
-    private final Resource<VoltageLevelAttributes> voltageLevelResource;
+    private final VoltageLevelImpl voltageLevel;
 
     private Integer node1;
 
     private Integer node2;
 
-    InternalConnectionAdderNodeBreakerImpl(Resource<VoltageLevelAttributes> voltageLevelResource) {
-        this.voltageLevelResource = voltageLevelResource;
+    InternalConnectionAdderNodeBreakerImpl(VoltageLevelImpl voltageLevel) {
+        this.voltageLevel = voltageLevel;
     }
 
     @Override
@@ -44,7 +42,8 @@ public class InternalConnectionAdderNodeBreakerImpl implements VoltageLevel.Node
                         .node1(node1)
                         .node2(node2)
                         .build();
-        voltageLevelResource.getAttributes().getInternalConnections().add(icAttributes);
+        voltageLevel.updateResourceWithoutNotification(res -> res.getAttributes().getInternalConnections().add(icAttributes));
+        voltageLevel.invalidateCalculatedBuses();
     }
 
 }
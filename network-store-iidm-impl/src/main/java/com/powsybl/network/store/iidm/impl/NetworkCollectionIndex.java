@@ -9,6 +9,7 @@ package com.powsybl.network.store.iidm.impl;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
@@ -17,12 +18,21 @@ import java.util.function.Supplier;
  */
 public class NetworkCollectionIndex<C> {
 
-    private final Map<Pair<UUID, Integer>, C> collections = new LinkedHashMap<>();
+    private final Map<Pair<UUID, Integer>, C> collections;
 
     private final Supplier<C> factory;
 
     public NetworkCollectionIndex(Supplier<C> factory) {
+        this(factory, false);
+    }
+
+    /**
+     * @param concurrent if true, the index can be accessed by several threads but collections are not iterated
+     *                   in creation order anymore
+     */
+    public NetworkCollectionIndex(Supplier<C> factory, boolean concurrent) {
         this.factory = Objects.requireNonNull(factory);
+        collections = concurrent ? new ConcurrentHashMap<>() : new LinkedHashMap<>();
     }
 
     public C getCollection(UUID networkUuid, int variantNum) {
@@ -18,10 +18,13 @@ import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.util.Networks;
 import com.powsybl.network.store.iidm.impl.extensions.BaseVoltageMappingImpl;
 import com.powsybl.network.store.iidm.impl.extensions.CimCharacteristicsImpl;
+import com.powsybl.network.store.model.AttributeFilter;
 import com.powsybl.network.store.model.BaseVoltageMappingAttributes;
+import com.powsybl.network.store.model.CalculatedBusAttributes;
 import com.powsybl.network.store.model.CimCharacteristicsAttributes;
 import com.powsybl.network.store.model.NetworkAttributes;
 import com.powsybl.network.store.model.Resource;
+import com.powsybl.network.store.model.VoltageLevelAttributes;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.connectivity.ConnectivityInspector;
 import org.jgrapht.graph.Pseudograph;
@@ -158,6 +161,7 @@ public class NetworkImpl extends AbstractIdentifiableImpl<Network, NetworkAttrib
 
         @Override
         public Stream<Bus> getBusStream() {
+            calculateBuses(true);
             return getVoltageLevelStream().flatMap(vl -> vl.getBusView().getBusStream());
         }
 
@@ -874,7 +878,29 @@ public class NetworkImpl extends AbstractIdentifiableImpl<Network, NetworkAttrib
         return Ints.checkedCast(getConnectableStream().count());
     }
 
+    /**
+     * Calculate at once the buses of all the voltage levels for a view, possibly in parallel, so that the buses of each
+     * voltage level are then only read.
+     */
+    void calculateBuses(boolean isBusView) {
+        List<Resource<VoltageLevelAttributes>> nodeBreakerVoltageLevelResources = new ArrayList<>();
+        List<Resource<VoltageLevelAttributes>> busBreakerVoltageLevelResources = new ArrayList<>();
+        for (VoltageLevel vl : getVoltageLevels()) {
+            Resource<VoltageLevelAttributes> voltageLevelResource = ((VoltageLevelImpl) vl).getResource();
+            if (voltageLevelResource.getAttributes().getTopologyKind() == TopologyKind.NODE_BREAKER) {
+                nodeBreakerVoltageLevelResources.add(voltageLevelResource);
+            } else if (isBusView) {
+                // bus breaker view of a bus breaker voltage level is made of configured buses
+                busBreakerVoltageLevelResources.add(voltageLevelResource);
+            }
+        }
+        NodeBreakerTopology.INSTANCE.calculateBuses(index, nodeBreakerVoltageLevelResources, isBusView);
+        BusBreakerTopology.INSTANCE.calculateBuses(index, busBreakerVoltageLevelResources, isBusView);
+    }
+
     private void update(ComponentType componentType, boolean isBusView) {
+        calculateBuses(isBusView);
+
         // build graph
         Graph<Identifiable, Object> graph = new Pseudograph<>(Object.class);
 
@@ -939,6 +965,14 @@ public class NetworkImpl extends AbstractIdentifiableImpl<Network, NetworkAttrib
                 .sorted((o1, o2) -> o2.size() - o1.size()) // Main component is the first
                 .collect(Collectors.toList());
 
+        // keep the component sizes of the bus view to be able to update them after a merge of buses of a component
+        int[] sizes = isBusView ? sets.stream().mapToInt(Set::size).toArray() : null;
+        if (componentType == ComponentType.CONNECTED) {
+            getResource().getAttributes().setConnectedComponentSizes(sizes);
+        } else {
+            getResource().getAttributes().setSynchronousComponentSizes(sizes);
+        }
+
         // associate components to buses
         for (int num = 0; num < sets.size(); num++) {
             Set<Bus> buses = sets.get(num);
@@ -973,11 +1007,220 @@ public class NetworkImpl extends AbstractIdentifiableImpl<Network, NetworkAttrib
         updateResourceWithoutNotification(res -> res.getAttributes().setSynchronousComponentsValid(false));
     }
 
+    /**
+     * Update the components after two bus view buses have been merged by closing a switch. A merge within one
+     * component is handled by just decrementing its size as long as it stays strictly larger than the next one, so
+     * that components are still sorted by size as after a full calculation. Otherwise, including a merge of buses of
+     * different components which are united, the components are renumbered from the component numbers of the bus
+     * view buses, see {@link #renumberComponents(ComponentType, Integer, Integer)}.
+     *
+     * @param connectedComponentNum1 the connected component num of the first merged bus, null if it is a component
+     *                               of its own
+     * @param connectedComponentNum2 the connected component num of the second merged bus, null if it is a component
+     *                               of its own
+     * @param synchronousComponentNum1 the synchronous component num of the first merged bus, null if it is a
+     *                                 component of its own
+     * @param synchronousComponentNum2 the synchronous component num of the second merged bus, null if it is a
+     *                                 component of its own
+     */
+    void updateComponentsAfterBusMerge(Integer connectedComponentNum1, Integer connectedComponentNum2,
+                                       Integer synchronousComponentNum1, Integer synchronousComponentNum2) {
+        updateComponentsAfterBusMerge(ComponentType.CONNECTED, connectedComponentNum1, connectedComponentNum2);
+        updateComponentsAfterBusMerge(ComponentType.SYNCHRONOUS, synchronousComponentNum1, synchronousComponentNum2);
+    }
+
+    private void updateComponentsAfterBusMerge(ComponentType componentType, Integer num1, Integer num2) {
+        if (!isComponentsValid(componentType)) {
+            return;
+        }
+        if (num1 != null && num1.equals(num2)) {
+            int[] sizes = decrementComponentSize(getComponentSizes(componentType), num1);
+            if (sizes != null) {
+                setComponentSizes(componentType, sizes);
+                return;
+            }
+        }
+        setComponentSizes(componentType, renumberComponents(componentType, num1, num2));
+    }
+
+    /**
+     * Update the components after a bus view bus has been split by opening a switch, the parts of the bus being in
+     * the components of the bus or in components of their own. The split bus disconnecting other buses of its
+     * components has already invalidated them.
+     */
+    void updateComponentsAfterBusSplit() {
+        for (ComponentType componentType : ComponentType.values()) {
+            if (isComponentsValid(componentType)) {
+                setComponentSizes(componentType, renumberComponents(componentType, null, null));
+            }
+        }
+    }
+
+    /**
+     * Update the components after bus/breaker view buses have been merged or split. Only the components calculated on
+     * the bus/breaker view, which have no sizes, depend on them.
+     */
+    void updateComponentsAfterBusBreakerViewUpdate() {
+        for (ComponentType componentType : ComponentType.values()) {
+            if (isComponentsValid(componentType) && getComponentSizes(componentType) == null) {
+                setComponentSizes(componentType, null);
+            }
+        }
+    }
+
+    private boolean isComponentsValid(ComponentType componentType) {
+        NetworkAttributes attributes = getResource().getAttributes();
+        return componentType == ComponentType.CONNECTED ? attributes.isConnectedComponentsValid() : attributes.isSynchronousComponentsValid();
+    }
+
+    private int[] getComponentSizes(ComponentType componentType) {
+        NetworkAttributes attributes = getResource().getAttributes();
+        return componentType == ComponentType.CONNECTED ? attributes.getConnectedComponentSizes() : attributes.getSynchronousComponentSizes();
+    }
+
+    /**
+     * Set the component sizes, null sizes invalidating the components.
+     */
+    private void setComponentSizes(ComponentType componentType, int[] sizes) {
+        updateResourceWithoutNotification(res -> {
+            if (componentType == ComponentType.CONNECTED) {
+                res.getAttributes().setConnectedComponentSizes(sizes);
+                res.getAttributes().setConnectedComponentsValid(sizes != null);
+            } else {
+                res.getAttributes().setSynchronousComponentSizes(sizes);
+                res.getAttributes().setSynchronousComponentsValid(sizes != null);
+            }
+        });
+    }
+
+    private static Integer getComponentNum(CalculatedBusAttributes calculatedBus, ComponentType componentType) {
+        return componentType == ComponentType.CONNECTED ? calculatedBus.getConnectedComponentNumber() : calculatedBus.getSynchronousComponentNumber();
+    }
+
+    /**
+     * Renumber the components of the bus view from the component numbers of the bus view buses, without building the
+     * graph of the network. Buses without component number are components of their own and the components of both
+     * given numbers are united. As after a full calculation, the components are sorted by size, the components of
+     * same size being in order of first bus, the buses being in order of voltage level and then of calculated bus num.
+     *
+     * @return the component sizes, or null if the components are not valid anymore
+     */
+    private int[] renumberComponents(ComponentType componentType, Integer num1, Integer num2) {
+        if (getComponentSizes(componentType) == null) {
+            // components have been calculated on the bus/breaker view
+            return null;
+        }
+        Integer removedNum = num1 != null && num2 != null && !num1.equals(num2) ? Math.max(num1, num2) : null;
+        Integer keptNum = removedNum != null ? Math.min(num1, num2) : null;
+
+        // components in order of first bus
+        List<Resource<VoltageLevelAttributes>> voltageLevelResources = new ArrayList<>();
+        List<int[]> componentIndexes = new ArrayList<>();
+        Map<Integer, Integer> numToComponentIndex = new HashMap<>();
+        List<Integer> componentSizes = new ArrayList<>();
+        for (VoltageLevel vl : getVoltageLevels()) {
+            Resource<VoltageLevelAttributes> voltageLevelResource = ((VoltageLevelImpl) vl).getResource();
+            List<CalculatedBusAttributes> calculatedBuses = voltageLevelResource.getAttributes().getCalculatedBusesForBusView();
+            if (!voltageLevelResource.getAttributes().isCalculatedBusesValid() || calculatedBuses == null) {
+                return null;
+            }
+            int[] busComponentIndexes = new int[calculatedBuses.size()];
+            for (int i = 0; i < calculatedBuses.size(); i++) {
+                Integer num = getComponentNum(calculatedBuses.get(i), componentType);
+                int componentIndex;
+                if (num == null) {
+                    componentIndex = componentSizes.size();
+                    componentSizes.add(0);
+                } else {
+                    componentIndex = numToComponentIndex.computeIfAbsent(num.equals(removedNum) ? keptNum : num, k -> {
+                        componentSizes.add(0);
+                        return componentSizes.size() - 1;
+                    });
+                }
+                componentSizes.set(componentIndex, componentSizes.get(componentIndex) + 1);
+                busComponentIndexes[i] = componentIndex;
+            }
+            voltageLevelResources.add(voltageLevelResource);
+            componentIndexes.add(busComponentIndexes);
+        }
+
+        // main component is the first, the sort being stable
+        List<Integer> sortedComponentIndexes = new ArrayList<>(componentSizes.size());
+        for (int componentIndex = 0; componentIndex < componentSizes.size(); componentIndex++) {
+            sortedComponentIndexes.add(componentIndex);
+        }
+        sortedComponentIndexes.sort((i1, i2) -> componentSizes.get(i2) - componentSizes.get(i1));
+        int[] componentIndexToNum = new int[componentSizes.size()];
+        int[] sizes = new int[componentSizes.size()];
+        for (int num = 0; num < sortedComponentIndexes.size(); num++) {
+            componentIndexToNum[sortedComponentIndexes.get(num)] = num;
+            sizes[num] = componentSizes.get(sortedComponentIndexes.get(num));
+        }
+
+        // only the voltage levels with renumbered buses are updated
+        for (int i = 0; i < voltageLevelResources.size(); i++) {
+            Resource<VoltageLevelAttributes> voltageLevelResource = voltageLevelResources.get(i);
+            int[] busComponentIndexes = componentIndexes.get(i);
+            List<CalculatedBusAttributes> calculatedBuses = voltageLevelResource.getAttributes().getCalculatedBusesForBusView();
+            boolean renumbered = false;
+            for (int j = 0; j < calculatedBuses.size() && !renumbered; j++) {
+                renumbered = !Objects.equals(getComponentNum(calculatedBuses.get(j), componentType), componentIndexToNum[busComponentIndexes[j]]);
+            }
+            if (renumbered) {
+                index.prepareResourceUpdate(voltageLevelResource);
+                calculatedBuses = voltageLevelResource.getAttributes().getCalculatedBusesForBusView();
+                for (int j = 0; j < calculatedBuses.size(); j++) {
+                    int num = componentIndexToNum[busComponentIndexes[j]];
+                    if (componentType == ComponentType.CONNECTED) {
+                        calculatedBuses.get(j).setConnectedComponentNumber(num);
+                    } else {
+                        calculatedBuses.get(j).setSynchronousComponentNumber(num);
+                    }
+                }
+                index.updateVoltageLevelResource(voltageLevelResource, AttributeFilter.SV);
+            }
+        }
+        return sizes;
+    }
+
+    /**
+     * Get the component sizes after a component has lost a bus, or null if the component numbers are not valid anymore.
+     */
+    private static int[] decrementComponentSize(int[] sizes, Integer num) {
+        if (sizes == null || num == null || num >= sizes.length) {
+            return null;
+        }
+        int newSize = sizes[num] - 1;
+        if (num + 1 < sizes.length && newSize <= sizes[num + 1]) {
+            return null;
+        }
+        int[] newSizes = sizes.clone();
+        newSizes[num] = newSize;
+        return newSizes;
+    }
+
     void invalidateCalculatedBuses() {
         invalidateComponents();
         getResource().getAttributes().setBusCache(null);
     }
 
+    /**
+     * Replace in the bus view cache the buses of a voltage level, the buses of the other voltage levels being kept.
+     */
+    void updateBusCache(String voltageLevelId, Stream<Bus> voltageLevelBuses) {
+        Map<String, Bus> busCache = getResource().getAttributes().getBusCache();
+        if (busCache != null) {
+            ImmutableMap.Builder<String, Bus> builder = ImmutableMap.builder();
+            busCache.forEach((id, bus) -> {
+                if (!bus.getVoltageLevel().getId().equals(voltageLevelId)) {
+                    builder.put(id, bus);
+                }
+            });
+            voltageLevelBuses.forEach(bus -> builder.put(bus.getId(), bus));
+            getResource().getAttributes().setBusCache(builder.build());
+        }
+    }
+
     @Override
     public <E extends Extension<Network>> Collection<E> getExtensions() {
         Collection<E> extensions = super.getExtensions();
@@ -1338,7 +1581,7 @@ public class NetworkImpl extends AbstractIdentifiableImpl<Network, NetworkAttrib
         if (type == BaseVoltageMapping.class) {
             var resource = getResource();
             if (resource.getAttributes().getBaseVoltageMapping() != null) {
-                resource.getAttributes().setBaseVoltageMapping(null);
+                updateResourceWithoutNotification(res -> res.getAttributes().setBaseVoltageMapping(null));
                 return true;
             }
             return false;
@@ -1346,7 +1589,7 @@ public class NetworkImpl extends AbstractIdentifiableImpl<Network, NetworkAttrib
         if (type == CimCharacteristics.class) {
             var resource = getResource();
             if (resource.getAttributes().getCimCharacteristics() != null) {
-                resource.getAttributes().setCimCharacteristics(null);
+                updateResourceWithoutNotification(res -> res.getAttributes().setCimCharacteristics(null));
                 return true;
             }
             return false;
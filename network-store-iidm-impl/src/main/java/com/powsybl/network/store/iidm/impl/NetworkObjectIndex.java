@@ -14,7 +14,10 @@ import com.powsybl.network.store.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.ref.WeakReference;
 import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -26,7 +29,7 @@ import java.util.stream.Stream;
  *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
-public class NetworkObjectIndex {
+public class NetworkObjectIndex implements ResourceEvictionListener {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(NetworkObjectIndex.class);
 
@@ -78,12 +81,24 @@ public class NetworkObjectIndex {
         }
     }
 
+    /**
+     * Cache of the objects of a resource type, guaranteeing a single object per identifiable.
+     * <p>
+     * When the store client supports concurrent reads, the maps of the cache are protected by a lock, so that objects
+     * can be looked up by several threads. The lock is never held while loading resources from the store client.
+     * <p>
+     * The objects of the resources evicted from the cache of the store client are only weakly referenced, so that they
+     * can be garbage collected, and are reused if their identifiable is accessed again. An object still referenced
+     * elsewhere is bound again to the resource of the cache on next access.
+     */
     class ObjectCache<I extends Identifiable<I>, T extends AbstractIdentifiableImpl<I, U>, U extends IdentifiableAttributes> {
 
         private final Map<String, T> objectsById = new LinkedHashMap<>();
 
         private final Map<String, LoadingInfos> loadingInfosByObjectId = new HashMap<>();
 
+        private final Map<String, WeakReference<T>> evictedObjectsById = new HashMap<>();
+
         private final Consumer<Resource<U>> resourceCreator;
 
         private final Function<String, Optional<Resource<U>>> oneResourceGetter;
@@ -96,6 +111,11 @@ public class NetworkObjectIndex {
 
         private final Function<Resource<U>, T> objectCreator;
 
+        /**
+         * Lock of the maps of the cache in concurrent mode, null otherwise.
+         */
+        private final Lock lock;
+
         ObjectCache(Consumer<Resource<U>> resourceCreator, Function<String, Optional<Resource<U>>> oneResourceGetter,
                     Function<String, List<Resource<U>>> someResourcesGetter, Supplier<List<Resource<U>>> allResourcesGetter,
                     Consumer<String> resourceRemover, Function<Resource<U>, T> objectCreator) {
@@ -105,6 +125,26 @@ public class NetworkObjectIndex {
             this.allResourcesGetter = Objects.requireNonNull(allResourcesGetter);
             this.resourceRemover = Objects.requireNonNull(resourceRemover);
             this.objectCreator = Objects.requireNonNull(objectCreator);
+            lock = storeClient.isConcurrent() ? new ReentrantLock() : null;
+        }
+
+        private <R> R locked(Supplier<R> supplier) {
+            if (lock == null) {
+                return supplier.get();
+            }
+            lock.lock();
+            try {
+                return supplier.get();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void runLocked(Runnable runnable) {
+            locked(() -> {
+                runnable.run();
+                return null;
+            });
         }
 
         private void updateLoadingInfos(String id, LoadingInfos loadingInfos) {
@@ -114,14 +154,45 @@ public class NetworkObjectIndex {
             }
         }
 
+        /**
+         * Get the object of an identifiable, taking it back from the evicted objects if still referenced. Must be
+         * called with the lock held.
+         */
+        private T getObject(String id) {
+            T obj = objectsById.get(id);
+            if (obj == null) {
+                WeakReference<T> evictedObject = evictedObjectsById.remove(id);
+                obj = evictedObject != null ? evictedObject.get() : null;
+                if (obj != null) {
+                    objectsById.put(id, obj);
+                }
+            }
+            return obj;
+        }
+
+        /**
+         * Get the object of a resource, creating it if not yet in the cache. Must be called with the lock held.
+         */
+        private T getOrCreateObject(Resource<U> resource, LoadingInfos loadingInfos) {
+            T obj = getObject(resource.getId());
+            if (obj == null) {
+                obj = objectCreator.apply(resource);
+                objectsById.put(resource.getId(), obj);
+            }
+            // save loading granularity
+            updateLoadingInfos(resource.getId(), loadingInfos);
+            return obj;
+        }
+
         void setResourcesToObjects() {
             // load resources of working variant the same granularity as previous variant (one, some or all)
             // we first synthesize loading granularity of all resources of the collection to next only call loading
             // methods with the highest granularity of loading
+            Map<String, T> objects = locked(() -> new LinkedHashMap<>(objectsById));
             LoadingGranularity largestGranulary = null;
             Set<String> containerIds = new HashSet<>();
-            for (String id : objectsById.keySet()) {
-                var loadingInfos = loadingInfosByObjectId.get(id);
+            for (String id : objects.keySet()) {
+                var loadingInfos = locked(() -> loadingInfosByObjectId.get(id));
                 if (loadingInfos != null) {
                     if (largestGranulary == null || loadingInfos.getGranularity().ordinal() > largestGranulary.ordinal()) {
                         largestGranulary = loadingInfos.getGranularity();
@@ -141,7 +212,7 @@ public class NetworkObjectIndex {
                 }
             }
 
-            for (Map.Entry<String, T> e : objectsById.entrySet()) {
+            for (Map.Entry<String, T> e : objects.entrySet()) {
                 String id = e.getKey();
                 T obj = e.getValue();
                 Resource<U> workingVariantResource = oneResourceGetter.apply(id).orElse(null);
@@ -151,64 +222,61 @@ public class NetworkObjectIndex {
 
         Stream<T> getAll() {
             List<Resource<U>> resources = allResourcesGetter.get();
-            if (resources.size() != objectsById.size()) {
-                var loadingInfos = LoadingInfos.createAll();
-                for (Resource<U> resource : resources) {
-                    if (!objectsById.containsKey(resource.getId())) {
-                        objectsById.put(resource.getId(), objectCreator.apply(resource));
+            // iterate over a copy as objects could be evicted or added by another thread while the stream is consumed
+            List<T> objects = locked(() -> {
+                if (resources.size() != objectsById.size()) {
+                    var loadingInfos = LoadingInfos.createAll();
+                    for (Resource<U> resource : resources) {
+                        getOrCreateObject(resource, loadingInfos);
                     }
-                    // save loading granularity
-                    updateLoadingInfos(resource.getId(), loadingInfos);
                 }
-            }
-            return objectsById.values().stream()
+                return new ArrayList<>(objectsById.values());
+            });
+            return objects.stream()
                     .filter(obj -> obj.getNullableResource() != null); // to discard removed objects in the current variant
         }
 
         Stream<T> getSome(String containerId) {
             List<Resource<U>> resources = someResourcesGetter.apply(containerId);
             var loadingInfos = LoadingInfos.createSome(containerId);
-            return resources.stream().map(resource -> {
-                T obj = objectsById.get(resource.getId());
-                if (obj == null) {
-                    obj = objectCreator.apply(resource);
-                    objectsById.put(obj.getId(), obj);
-                }
-                // save loading granularity
-                updateLoadingInfos(resource.getId(), loadingInfos);
-                return obj;
-            })
-            .filter(obj -> obj.getNullableResource() != null); // to discard removed objects in the current variant
+            List<T> objects = locked(() -> resources.stream()
+                    .map(resource -> getOrCreateObject(resource, loadingInfos))
+                    .toList());
+            return objects.stream()
+                    .filter(obj -> obj.getNullableResource() != null); // to discard removed objects in the current variant
         }
 
         T add(Resource<U> resource) {
-            T obj = objectsById.get(resource.getId());
-            if (obj == null) {
-                obj = objectCreator.apply(resource);
-                objectsById.put(resource.getId(), obj);
-                // save loading granularity
-                updateLoadingInfos(resource.getId(), LoadingInfos.createOne());
-            }
-            return obj;
+            return locked(() -> {
+                T obj = getObject(resource.getId());
+                return obj != null ? obj : getOrCreateObject(resource, LoadingInfos.createOne());
+            });
         }
 
         Optional<T> getOne(String id) {
-            T obj = objectsById.get(id);
+            T obj = locked(() -> getObject(id));
             if (obj == null) {
                 Optional<Resource<U>> resource = oneResourceGetter.apply(id);
-                obj = resource.map(objectCreator).orElse(null);
-                if (obj != null) {
-                    objectsById.put(id, obj);
-                }
-                // save loading granularity
-                updateLoadingInfos(id, LoadingInfos.createOne());
+                obj = locked(() -> {
+                    // the object may have been created by another thread in the meantime
+                    T newObj = getObject(id);
+                    if (newObj == null) {
+                        newObj = resource.map(objectCreator).orElse(null);
+                        if (newObj != null) {
+                            objectsById.put(id, newObj);
+                        }
+                    }
+                    // save loading granularity
+                    updateLoadingInfos(id, LoadingInfos.createOne());
+                    return newObj;
+                });
             }
             return Optional.ofNullable(obj)
                     .filter(o -> o.getNullableResource() != null); // to discard removed objects in the current variant
         }
 
         T create(Resource<U> resource) {
-            T obj = objectsById.get(resource.getId());
+            T obj = locked(() -> objectsById.get(resource.getId()));
             if (obj != null) {
                 if (obj.getNullableResource() != null) {
                     throw new IllegalArgumentException("'" + resource.getId() + "' already exists");
@@ -220,7 +288,8 @@ public class NetworkObjectIndex {
             } else {
                 obj = objectCreator.apply(resource);
                 resourceCreator.accept(resource);
-                objectsById.put(resource.getId(), obj);
+                T newObj = obj;
+                runLocked(() -> objectsById.put(resource.getId(), newObj));
             }
             notifyCreation(obj);
             return obj;
@@ -228,7 +297,7 @@ public class NetworkObjectIndex {
 
         void remove(String id) {
             resourceRemover.accept(id);
-            T obj = objectsById.get(id);
+            T obj = locked(() -> getObject(id));
             if (obj != null) {
                 // to reuse the object from one variant to another one just set the resource to null
                 // and keep the object in the cache
@@ -237,7 +306,39 @@ public class NetworkObjectIndex {
         }
 
         boolean isLoaded(String id) {
-            return objectsById.containsKey(id);
+            return locked(() -> objectsById.containsKey(id));
+        }
+
+        void evict(Collection<String> ids) {
+            runLocked(() -> {
+                evictedObjectsById.values().removeIf(evictedObject -> evictedObject.get() == null);
+                for (String id : ids) {
+                    T obj = objectsById.remove(id);
+                    loadingInfosByObjectId.remove(id);
+                    if (obj != null) {
+                        obj.markResourceEvicted();
+                        evictedObjectsById.put(id, new WeakReference<>(obj));
+                    }
+                }
+            });
+        }
+
+        /**
+         * Get the resource of the working variant of an object whose resource has been evicted, the object being
+         * cached again.
+         */
+        Resource<U> reloadEvicted(T obj) {
+            String id = obj.getId();
+            Optional<Resource<U>> resource = oneResourceGetter.apply(id);
+            runLocked(() -> {
+                WeakReference<T> evictedObject = evictedObjectsById.get(id);
+                if (evictedObject != null && evictedObject.get() == obj) {
+                    evictedObjectsById.remove(id);
+                }
+                objectsById.putIfAbsent(id, obj);
+                updateLoadingInfos(id, LoadingInfos.createOne());
+            });
+            return resource.orElse(null);
         }
     }
 
@@ -426,6 +527,28 @@ public class NetworkObjectIndex {
         objectCachesByResourceType.put(ResourceType.CONFIGURED_BUS, configuredBusCache);
         objectCachesByResourceType.put(ResourceType.TIE_LINE, tieLineCache);
         objectCachesByResourceType.put(ResourceType.AREA, areaCache);
+        storeClient.addResourceEvictionListener(this);
+    }
+
+    @Override
+    public void onEviction(UUID networkUuid, int variantNum, ResourceType resourceType, Collection<String> ids) {
+        // objects only reference resources of the working variant
+        if (networkUuid.equals(this.networkUuid) && variantNum == workingVariantNum) {
+            ObjectCache objectCache = objectCachesByResourceType.get(resourceType);
+            if (objectCache != null) {
+                objectCache.evict(ids);
+            }
+        }
+    }
+
+    /**
+     * Get the resource of the working variant of an object whose resource has been evicted from the cache of the
+     * store client.
+     */
+    @SuppressWarnings("unchecked")
+    <D extends IdentifiableAttributes> Resource<D> reloadEvictedResource(AbstractIdentifiableImpl<?, D> obj, Resource<D> evictedResource) {
+        ObjectCache objectCache = objectCachesByResourceType.get(evictedResource.getType());
+        return (Resource<D>) objectCache.reloadEvicted(obj);
     }
 
     public NetworkStoreClient getStoreClient() {
@@ -1143,6 +1266,17 @@ public class NetworkObjectIndex {
         return getIdentifiable(network.getIdFromAlias(id)) != null;
     }
 
+    /**
+     * To be called before modifying in place a resource of the working variant, as it could be shared with other
+     * variants.
+     */
+    <T extends IdentifiableAttributes> void prepareResourceUpdate(Resource<T> resource) {
+        // the network uuid is not yet known while the network object itself is being created
+        if (networkUuid != null) {
+            storeClient.prepareResourceUpdate(networkUuid, workingVariantNum, resource);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     <T extends IdentifiableAttributes> void updateResource(Resource<T> resource, AttributeFilter attributeFilter) {
         switch (resource.getType()) {
@@ -10,6 +10,8 @@ package com.powsybl.network.store.iidm.impl;
 import com.powsybl.network.store.model.*;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -387,5 +389,132 @@ public interface NetworkStoreClient {
 
     List<String> getIdentifiablesIds(UUID networkUuid, int variantNum);
 
+    /**
+     * Get the identifiables with the given ids, ids of identifiables which do not exist being ignored. Default
+     * implementation gets identifiables one by one, clients able to get several identifiables in a single request
+     * should override it.
+     */
+    default List<Resource<IdentifiableAttributes>> getIdentifiablesByIds(UUID networkUuid, int variantNum, Collection<String> ids) {
+        List<Resource<IdentifiableAttributes>> resources = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            getIdentifiable(networkUuid, variantNum, id).ifPresent(resources::add);
+        }
+        return resources;
+    }
+
+    /**
+     * Get the identifiables of a resource type with the given ids, ids of identifiables which do not exist being
+     * ignored.
+     */
+    default List<Resource<IdentifiableAttributes>> getIdentifiablesByIds(UUID networkUuid, int variantNum, ResourceType resourceType, Collection<String> ids) {
+        return getIdentifiablesByIds(networkUuid, variantNum, ids).stream()
+                .filter(resource -> resource.getType() == resourceType)
+                .toList();
+    }
+
+    /**
+     * Load all the identifiables of a resource type, each resource being given to the consumer as soon as it is
+     * available. Default implementation relies on the collection getters, clients able to decode a collection
+     * incrementally should override it so that the full collection is never materialized.
+     */
+    @SuppressWarnings("unchecked")
+    default <T extends IdentifiableAttributes> void getIdentifiables(UUID networkUuid, int variantNum, ResourceType resourceType, Consumer<Resource<T>> consumer) {
+        List<? extends Resource<? extends IdentifiableAttributes>> resources = switch (resourceType) {
+            case NETWORK -> getNetwork(networkUuid, variantNum).stream().toList();
+            case SUBSTATION -> getSubstations(networkUuid, variantNum);
+            case VOLTAGE_LEVEL -> getVoltageLevels(networkUuid, variantNum);
+            case LOAD -> getLoads(networkUuid, variantNum);
+            case GENERATOR -> getGenerators(networkUuid, variantNum);
+            case BATTERY -> getBatteries(networkUuid, variantNum);
+            case SHUNT_COMPENSATOR -> getShuntCompensators(networkUuid, variantNum);
+            case VSC_CONVERTER_STATION -> getVscConverterStations(networkUuid, variantNum);
+            case LCC_CONVERTER_STATION -> getLccConverterStations(networkUuid, variantNum);
+            case STATIC_VAR_COMPENSATOR -> getStaticVarCompensators(networkUuid, variantNum);
+            case BUSBAR_SECTION -> getBusbarSections(networkUuid, variantNum);
+            case SWITCH -> getSwitches(networkUuid, variantNum);
+            case TWO_WINDINGS_TRANSFORMER -> getTwoWindingsTransformers(networkUuid, variantNum);
+            case THREE_WINDINGS_TRANSFORMER -> getThreeWindingsTransformers(networkUuid, variantNum);
+            case LINE -> getLines(networkUuid, variantNum);
+            case HVDC_LINE -> getHvdcLines(networkUuid, variantNum);
+            case BOUNDARY_LINE -> getBoundaryLines(networkUuid, variantNum);
+            case GROUND -> getGrounds(networkUuid, variantNum);
+            case CONFIGURED_BUS -> getConfiguredBuses(networkUuid, variantNum);
+            case TIE_LINE -> getTieLines(networkUuid, variantNum);
+            case AREA -> getAreas(networkUuid, variantNum);
+        };
+        resources.forEach(resource -> consumer.accept((Resource<T>) resource));
+    }
+
+    /**
+     * Load all the identifiables of several resource types, each resource being given to the consumer as soon as
+     * it is available. Default implementation loads the collections one by one, clients able to get several
+     * collections in a single request should override it.
+     */
+    default void getCollections(UUID networkUuid, int variantNum, Set<ResourceType> resourceTypes, Consumer<Resource<IdentifiableAttributes>> consumer) {
+        for (ResourceType resourceType : resourceTypes) {
+            getIdentifiables(networkUuid, variantNum, resourceType, consumer);
+        }
+    }
+
+    /**
+     * Called before modifying in place a resource of a variant. A client sharing unmodified resources between variants
+     * gives a private copy of the resource to the other variants. Default implementation does nothing as resources
+     * are not shared.
+     */
+    default <T extends IdentifiableAttributes> void prepareResourceUpdate(UUID networkUuid, int variantNum, Resource<T> resource) {
+        // nothing to do
+    }
+
+    /**
+     * Register a listener notified when cached resources are evicted. Default implementation does nothing as there is
+     * no cache to evict from. Listeners are weakly referenced so that registering does not prevent them from being
+     * garbage collected.
+     */
+    default void addResourceEvictionListener(ResourceEvictionListener listener) {
+        // nothing to do
+    }
+
+    /**
+     * Register a listener notified when the modifications of a network are flushed by the client itself. Default
+     * implementation does nothing as there is no buffered modification to flush.
+     */
+    default void addAutoFlushListener(AutoFlushListener listener) {
+        // nothing to do
+    }
+
+    /**
+     * Tell if resources can be read by several threads at the same time. Default implementation returns false as
+     * clients are not thread safe unless explicitly designed for.
+     */
+    default boolean isConcurrent() {
+        return false;
+    }
+
+    /**
+     * Tell if reading resources can evict other cached resources, notifying the eviction listeners in the reading
+     * thread. Default implementation returns false as there is no cache to evict from.
+     */
+    default boolean isEvictionEnabled() {
+        return false;
+    }
+
     void flush(UUID networkUuid);
+
+    /**
+     * Flush the modifications of a network, possibly in background. Default implementation flushes synchronously.
+     *
+     * @return a future completed when the modifications have been stored by the server
+     */
+    default CompletableFuture<Void> flushAsync(UUID networkUuid) {
+        flush(networkUuid);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Wait for the end of the flushes of a network still in progress in background. Default implementation does
+     * nothing as flush is synchronous.
+     */
+    default void awaitFlush(UUID networkUuid) {
+        // nothing to do
+    }
 }
@@ -7,8 +7,10 @@
 package com.powsybl.network.store.iidm.impl;
 
 import com.powsybl.iidm.network.IdentifiableType;
+import com.powsybl.network.store.iidm.impl.util.CompactGraph;
 import com.powsybl.network.store.model.*;
 import org.jgrapht.Graph;
+import org.jgrapht.Graphs;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -20,6 +22,29 @@ public class NodeBreakerTopology extends AbstractTopology<Integer> {
 
     public static final NodeBreakerTopology INSTANCE = new NodeBreakerTopology();
 
+    /**
+     * Outcome of an incremental update of the calculated buses of a view.
+     */
+    enum CalculatedBusesUpdate {
+        /**
+         * The connected sets of nodes are the same.
+         */
+        UNCHANGED,
+        /**
+         * Two calculated buses have been merged, the following ones being renumbered.
+         */
+        MERGED,
+        /**
+         * A calculated bus has been split, the parts which are still valid calculated buses being renumbered with the
+         * other calculated buses.
+         */
+        SPLIT,
+        /**
+         * The calculated buses cannot be updated incrementally and have to be fully recomputed.
+         */
+        UNKNOWN
+    }
+
     @Override
     protected Integer getNodeOrBus(Vertex vertex) {
         return vertex.getNode();
@@ -122,6 +147,235 @@ public class NodeBreakerTopology extends AbstractTopology<Integer> {
         }
     }
 
+    @Override
+    protected void buildEdges(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource, boolean includeOpenSwitches, boolean isBusView,
+                              CompactGraph<Integer> graph) {
+        super.buildEdges(index, voltageLevelResource, includeOpenSwitches, isBusView, graph);
+
+        for (InternalConnectionAttributes attributes : voltageLevelResource.getAttributes().getInternalConnections()) {
+            graph.addEdge(attributes.getNode1(), attributes.getNode2());
+        }
+    }
+
+    private static boolean isSwitchInView(SwitchAttributes attributes, boolean isBusView) {
+        // retained switches are bus/breaker view bus boundaries
+        return isBusView || !attributes.isRetained();
+    }
+
+    /**
+     * Get the nodes connected to a node of a calculated bus without a switch, only going through the closed switches
+     * and internal connections of the view.
+     */
+    private static Set<Integer> getConnectedNodes(NetworkObjectIndex index, Graph<Integer, Edge> graph, String switchId,
+                                                  int node, boolean isBusView) {
+        Set<Integer> encounteredNodes = new HashSet<>();
+        Deque<Integer> nodesToVisit = new ArrayDeque<>();
+        encounteredNodes.add(node);
+        nodesToVisit.add(node);
+        while (!nodesToVisit.isEmpty()) {
+            int visitedNode = nodesToVisit.poll();
+            for (Edge edge : graph.edgesOf(visitedNode)) {
+                if (edge.getBiConnectable() instanceof SwitchAttributes switchAttributes) {
+                    String id = switchAttributes.getResource().getId();
+                    // the switch attributes of the graph may be outdated, so the switch state is read from the index
+                    SwitchImpl s = index.getSwitch(id).orElse(null);
+                    if (id.equals(switchId) || s == null || s.isOpen() || !isSwitchInView(s.getResource().getAttributes(), isBusView)) {
+                        continue;
+                    }
+                }
+                int nextNode = Graphs.getOppositeVertex(graph, edge, visitedNode);
+                if (encounteredNodes.add(nextNode)) {
+                    nodesToVisit.add(nextNode);
+                }
+            }
+        }
+        return encounteredNodes;
+    }
+
+    private static boolean isComponentEdge(Vertex vertex) {
+        return switch (vertex.getConnectableType()) {
+            case LINE, TWO_WINDINGS_TRANSFORMER, THREE_WINDINGS_TRANSFORMER, HVDC_CONVERTER_STATION, BOUNDARY_LINE -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Split a calculated bus after a switch has been opened. Each part is kept if it is still a valid calculated bus,
+     * and the calculated buses are numbered again in order of first node of the graph of the voltage level, which
+     * has the nodes in the same order as the graph used for a full recompute.
+     * <p>
+     * In the bus view, the part with all the branches of the split bus stays in its components while the parts
+     * without branches are components of their own, with no component number. If branches are detached from the
+     * components of the split bus, or spread over several parts, the components may be split and are invalidated.
+     */
+    private CalculatedBusesUpdate splitCalculatedBus(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource,
+                                                     Graph<Integer, Edge> graph, List<CalculatedBusAttributes> calculatedBuses,
+                                                     Map<Integer, Integer> nodeToCalculatedBus, int splitNum, Set<Integer> nodes1,
+                                                     boolean isBusView) {
+        Set<Integer> nodes2 = new HashSet<>();
+        nodeToCalculatedBus.forEach((node, num) -> {
+            if (num == splitNum && !nodes1.contains(node)) {
+                nodes2.add(node);
+            }
+        });
+        Map<Integer, List<Vertex>> verticesByNode = calculatedBuses.get(splitNum).getVertices().stream()
+                .collect(Collectors.groupingBy(Vertex::getNode));
+        CalculatedBusAttributes splitBus = calculatedBuses.get(splitNum);
+        List<Set<Integer>> parts = new ArrayList<>(2);
+        Set<Integer> partWithBranches = null;
+        int sidesWithBranches = 0;
+        for (Set<Integer> nodes : List.of(nodes1, nodes2)) {
+            boolean valid = isCalculatedBusValid(nodes, verticesByNode, isBusView);
+            if (valid) {
+                parts.add(nodes);
+            }
+            if (nodes.stream().anyMatch(node -> verticesByNode.getOrDefault(node, Collections.emptyList()).stream().anyMatch(NodeBreakerTopology::isComponentEdge))) {
+                sidesWithBranches++;
+                partWithBranches = valid ? nodes : null;
+            }
+        }
+        long branchCount = splitBus.getVertices().stream().filter(NodeBreakerTopology::isComponentEdge).count();
+        if (isBusView && sidesWithBranches > 0 && branchCount > 1 && (sidesWithBranches > 1 || partWithBranches == null)) {
+            index.getNetwork().invalidateComponents();
+        }
+
+        // the parts are numbered after the other calculated buses, and then all calculated buses in order of
+        // first node
+        int partNum = calculatedBuses.size();
+        Map<Integer, Integer> nodeToOldNum = new HashMap<>(nodeToCalculatedBus);
+        nodes1.forEach(nodeToOldNum::remove);
+        nodes2.forEach(nodeToOldNum::remove);
+        for (Set<Integer> part : parts) {
+            for (int node : part) {
+                nodeToOldNum.put(node, partNum);
+            }
+            partNum++;
+        }
+        Map<Integer, Integer> oldNumToNum = new HashMap<>();
+        for (int node : graph.vertexSet()) {
+            Integer oldNum = nodeToOldNum.get(node);
+            if (oldNum != null && !oldNumToNum.containsKey(oldNum)) {
+                oldNumToNum.put(oldNum, oldNumToNum.size());
+            }
+        }
+        if (oldNumToNum.size() != calculatedBuses.size() - 1 + parts.size()) {
+            // a node of a calculated bus is not in the graph
+            return CalculatedBusesUpdate.UNKNOWN;
+        }
+
+        Set<Integer> keptComponentsPart = partWithBranches;
+        CalculatedBusAttributes[] updatedCalculatedBuses = new CalculatedBusAttributes[oldNumToNum.size()];
+        oldNumToNum.forEach((oldNum, num) -> {
+            if (oldNum < calculatedBuses.size()) {
+                updatedCalculatedBuses[num] = calculatedBuses.get(oldNum);
+            } else {
+                Set<Integer> part = parts.get(oldNum - calculatedBuses.size());
+                Set<Vertex> vertices = part.stream()
+                        .flatMap(node -> verticesByNode.getOrDefault(node, Collections.emptyList()).stream())
+                        .collect(Collectors.toSet());
+                updatedCalculatedBuses[num] = part == keptComponentsPart
+                        ? new CalculatedBusAttributes(vertices, splitBus.getConnectedComponentNumber(), splitBus.getSynchronousComponentNumber(), Double.NaN, Double.NaN)
+                        : new CalculatedBusAttributes(vertices, null, null, Double.NaN, Double.NaN);
+            }
+        });
+        Map<Integer, Integer> updatedNodeToCalculatedBus = new HashMap<>(nodeToOldNum.size());
+        nodeToOldNum.forEach((node, oldNum) -> updatedNodeToCalculatedBus.put(node, oldNumToNum.get(oldNum)));
+        index.prepareResourceUpdate(voltageLevelResource);
+        if (isBusView) {
+            voltageLevelResource.getAttributes().setCalculatedBusesForBusView(new ArrayList<>(Arrays.asList(updatedCalculatedBuses)));
+        } else {
+            voltageLevelResource.getAttributes().setCalculatedBusesForBusBreakerView(new ArrayList<>(Arrays.asList(updatedCalculatedBuses)));
+        }
+        setNodeOrBusToCalculatedBusNum(voltageLevelResource, updatedNodeToCalculatedBus, isBusView);
+        return CalculatedBusesUpdate.SPLIT;
+    }
+
+    /**
+     * Update the calculated buses of a view after a switch has been opened or closed, without rebuilding the
+     * topology of the voltage level. Only the cases where the result is known to be the same as a full recompute are
+     * handled:
+     * <ul>
+     *     <li>closing a switch inside a calculated bus or opening a switch without splitting a calculated bus,
+     *     which does not change anything,</li>
+     *     <li>opening a switch of a set of nodes which is not a calculated bus, as the split sets cannot be valid
+     *     calculated buses either,</li>
+     *     <li>closing a switch between two calculated buses, which are merged. As calculated buses are numbered in
+     *     order of first vertex, the merged bus takes the lowest num and the following ones are shifted,</li>
+     *     <li>opening a switch splitting a calculated bus, the parts which are still valid calculated buses replacing
+     *     it. Their vertices are the ones of the split bus, so that only the nodes of the cached graph of the voltage
+     *     level are needed to number them.</li>
+     * </ul>
+     * Closing a switch connected to a set of nodes which is not a calculated bus would require the vertices of the
+     * voltage level and is left to a full recompute.
+     */
+    CalculatedBusesUpdate updateCalculatedBuses(NetworkObjectIndex index, VoltageLevelImpl voltageLevel,
+                                                Resource<SwitchAttributes> switchResource, boolean isBusView) {
+        Resource<VoltageLevelAttributes> voltageLevelResource = voltageLevel.getResource();
+        VoltageLevelAttributes voltageLevelAttributes = voltageLevelResource.getAttributes();
+        List<CalculatedBusAttributes> calculatedBuses = isBusView ? voltageLevelAttributes.getCalculatedBusesForBusView()
+                                                                  : voltageLevelAttributes.getCalculatedBusesForBusBreakerView();
+        Map<Integer, Integer> nodeToCalculatedBus = getNodeOrBusToCalculatedBusNum(voltageLevelResource, isBusView);
+        SwitchAttributes switchAttributes = switchResource.getAttributes();
+        if (calculatedBuses == null || nodeToCalculatedBus == null || !isSwitchInView(switchAttributes, isBusView)) {
+            return CalculatedBusesUpdate.UNCHANGED;
+        }
+
+        int node1 = switchAttributes.getNode1();
+        int node2 = switchAttributes.getNode2();
+        Integer calculatedBusNum1 = nodeToCalculatedBus.get(node1);
+        Integer calculatedBusNum2 = nodeToCalculatedBus.get(node2);
+        if (switchAttributes.isOpen()) {
+            if (calculatedBusNum1 == null && calculatedBusNum2 == null) {
+                return CalculatedBusesUpdate.UNCHANGED;
+            }
+            if (calculatedBusNum1 == null || !calculatedBusNum1.equals(calculatedBusNum2)) {
+                return CalculatedBusesUpdate.UNKNOWN;
+            }
+            Graph<Integer, Edge> graph = voltageLevel.getNodeBreakerGraph(true, true);
+            Set<Integer> nodes1 = getConnectedNodes(index, graph, switchResource.getId(), node1, isBusView);
+            if (nodes1.contains(node2)) {
+                return CalculatedBusesUpdate.UNCHANGED;
+            }
+            return splitCalculatedBus(index, voltageLevelResource, graph, calculatedBuses, nodeToCalculatedBus, calculatedBusNum1,
+                                      nodes1, isBusView);
+        }
+
+        if (calculatedBusNum1 == null || calculatedBusNum2 == null) {
+            return CalculatedBusesUpdate.UNKNOWN;
+        }
+        if (calculatedBusNum1.equals(calculatedBusNum2)) {
+            return CalculatedBusesUpdate.UNCHANGED;
+        }
+
+        // merge the two calculated buses
+        int keptNum = Math.min(calculatedBusNum1, calculatedBusNum2);
+        int removedNum = Math.max(calculatedBusNum1, calculatedBusNum2);
+        CalculatedBusAttributes keptBus = calculatedBuses.get(keptNum);
+        CalculatedBusAttributes removedBus = calculatedBuses.get(removedNum);
+        Set<Vertex> mergedVertices = new HashSet<>(keptBus.getVertices());
+        mergedVertices.addAll(removedBus.getVertices());
+        // the merged bus is in the component of one of the buses, the network merging the components of both buses,
+        // a bus without component number being a component of its own
+        Integer connectedComponentNum = Objects.requireNonNullElse(keptBus.getConnectedComponentNumber(), removedBus.getConnectedComponentNumber());
+        Integer synchronousComponentNum = Objects.requireNonNullElse(keptBus.getSynchronousComponentNumber(), removedBus.getSynchronousComponentNumber());
+        List<CalculatedBusAttributes> updatedCalculatedBuses = new ArrayList<>(calculatedBuses);
+        updatedCalculatedBuses.set(keptNum, new CalculatedBusAttributes(mergedVertices, connectedComponentNum, synchronousComponentNum, Double.NaN, Double.NaN));
+        updatedCalculatedBuses.remove(removedNum);
+        Map<Integer, Integer> updatedNodeToCalculatedBus = new HashMap<>(nodeToCalculatedBus.size());
+        nodeToCalculatedBus.forEach((node, num) -> {
+            int updatedNum = num == removedNum ? keptNum : num;
+            updatedNodeToCalculatedBus.put(node, updatedNum > removedNum ? updatedNum - 1 : updatedNum);
+        });
+        index.prepareResourceUpdate(voltageLevelResource);
+        if (isBusView) {
+            voltageLevelAttributes.setCalculatedBusesForBusView(updatedCalculatedBuses);
+        } else {
+            voltageLevelAttributes.setCalculatedBusesForBusBreakerView(updatedCalculatedBuses);
+        }
+        setNodeOrBusToCalculatedBusNum(voltageLevelResource, updatedNodeToCalculatedBus, isBusView);
+        return CalculatedBusesUpdate.MERGED;
+    }
+
     @Override
     protected CalculatedBus createCalculatedBus(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource, int calculatedBusNum, boolean isBusView) {
         // to have a unique and stable calculated bus id, we use voltage level id as a base id plus the minimum node
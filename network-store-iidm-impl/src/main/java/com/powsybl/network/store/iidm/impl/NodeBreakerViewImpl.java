@@ -57,7 +57,7 @@ public class NodeBreakerViewImpl implements VoltageLevel.NodeBreakerView {
     public int getMaximumNodeIndex() {
         checkBusBreakerTopology();
 
-        Graph<Integer, Edge> graph = NodeBreakerTopology.INSTANCE.buildGraph(index, getVoltageLevelResource());
+        Graph<Integer, Edge> graph = voltageLevel.getNodeBreakerGraph(false, false);
         return graph.vertexSet().stream()
                 .mapToInt(Integer::intValue)
                 .max()
@@ -68,7 +68,7 @@ public class NodeBreakerViewImpl implements VoltageLevel.NodeBreakerView {
     public int[] getNodes() {
         checkBusBreakerTopology();
 
-        Graph<Integer, Edge> graph = NodeBreakerTopology.INSTANCE.buildGraph(index, getVoltageLevelResource());
+        Graph<Integer, Edge> graph = voltageLevel.getNodeBreakerGraph(false, false);
         return graph.vertexSet().stream()
                 .mapToInt(Integer::intValue)
                 .sorted()
@@ -114,7 +114,7 @@ public class NodeBreakerViewImpl implements VoltageLevel.NodeBreakerView {
         Objects.requireNonNull(traverser);
         checkBusBreakerTopology();
 
-        Graph<Integer, Edge> graph = NodeBreakerTopology.INSTANCE.buildGraph(index, getVoltageLevelResource(), true, true);
+        Graph<Integer, Edge> graph = voltageLevel.getNodeBreakerGraph(true, true);
         Set<Integer> encounteredVertices = new HashSet<>();
         Set<Edge> encounteredEdges = new HashSet<>();
         for (int node : nodes) {
@@ -132,7 +132,7 @@ public class NodeBreakerViewImpl implements VoltageLevel.NodeBreakerView {
     }
 
     boolean traverseFromNode(int node, TraversalType traversalType, VoltageLevel.NodeBreakerView.TopologyTraverser traverser) {
-        Graph<Integer, Edge> graph = NodeBreakerTopology.INSTANCE.buildGraph(index, getVoltageLevelResource(), true, true);
+        Graph<Integer, Edge> graph = voltageLevel.getNodeBreakerGraph(true, true);
         return traverseFromNode(graph, node, traverser, traversalType, new HashSet<>(), new HashSet<>());
     }
 
@@ -252,7 +252,7 @@ public class NodeBreakerViewImpl implements VoltageLevel.NodeBreakerView {
     @Override
     public InternalConnectionAdder newInternalConnection() {
         checkBusBreakerTopology();
-        return new InternalConnectionAdderNodeBreakerImpl(getVoltageLevelResource());
+        return new InternalConnectionAdderNodeBreakerImpl(voltageLevel);
     }
 
     @Override
@@ -276,7 +276,7 @@ public class NodeBreakerViewImpl implements VoltageLevel.NodeBreakerView {
     @Override
     public Stream<Switch> getSwitchStream(int node) {
         checkBusBreakerTopology();
-        Graph<Integer, Edge> graph = NodeBreakerTopology.INSTANCE.buildGraph(index, getVoltageLevelResource(), true, true);
+        Graph<Integer, Edge> graph = voltageLevel.getNodeBreakerGraph(true, true);
         return graph.edgesOf(node).stream()
                 .filter(edge -> edge.getBiConnectable() instanceof SwitchAttributes)
                 .map(edge -> {
@@ -294,7 +294,7 @@ public class NodeBreakerViewImpl implements VoltageLevel.NodeBreakerView {
     @Override
     public IntStream getNodeInternalConnectedToStream(int node) {
         checkBusBreakerTopology();
-        Graph<Integer, Edge> graph = NodeBreakerTopology.INSTANCE.buildGraph(index, getVoltageLevelResource(), true, true);
+        Graph<Integer, Edge> graph = voltageLevel.getNodeBreakerGraph(true, true);
         return graph.edgesOf(node).stream()
                 .filter(edge -> edge.getBiConnectable() instanceof InternalConnectionAttributes)
                 .mapToInt(edge -> {
@@ -327,6 +327,7 @@ public class NodeBreakerViewImpl implements VoltageLevel.NodeBreakerView {
         Switch removedSwitch = getSwitch(switchId);
         index.notifyBeforeRemoval(removedSwitch);
         index.removeSwitch(switchId);
+        voltageLevel.invalidateCalculatedBuses();
         index.notifyAfterRemoval(switchId);
     }
 
@@ -409,6 +410,7 @@ public class NodeBreakerViewImpl implements VoltageLevel.NodeBreakerView {
                         attributes.getNode1() == node2 && attributes.getNode2() == node1)) {
             throw new PowsyblException("Internal connection not found between " + node1 + " and " + node2);
         }
+        voltageLevel.invalidateCalculatedBuses();
     }
 
     @Override
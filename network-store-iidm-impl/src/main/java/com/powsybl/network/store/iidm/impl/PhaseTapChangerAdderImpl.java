@@ -11,7 +11,6 @@ import com.powsybl.network.store.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -26,7 +25,7 @@ public class PhaseTapChangerAdderImpl extends AbstractTapChangerAdder implements
 
     private final Function<Attributes, TapChangerParentAttributes> attributesGetter;
 
-    private final List<TapChangerStepAttributes> steps = new ArrayList<>();
+    private final List<TapChangerStepAttributes> steps = new TapChangerStepList();
 
     private PhaseTapChanger.RegulationMode regulationMode = PhaseTapChanger.RegulationMode.CURRENT_LIMITER;
 
@@ -12,7 +12,6 @@ import com.powsybl.network.store.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -27,7 +26,7 @@ public class RatioTapChangerAdderImpl extends AbstractTapChangerAdder implements
 
     private final Function<Attributes, TapChangerParentAttributes> attributesGetter;
 
-    private final List<TapChangerStepAttributes> steps = new ArrayList<>();
+    private final List<TapChangerStepAttributes> steps = new TapChangerStepList();
 
     private double regulationValue = Double.NaN;
 
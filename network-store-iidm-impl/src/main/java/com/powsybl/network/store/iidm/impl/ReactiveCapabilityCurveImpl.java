@@ -11,12 +11,8 @@ import com.powsybl.iidm.network.ReactiveLimitsKind;
 import com.powsybl.iidm.network.util.ReactiveCapabilityCurveUtil;
 import com.powsybl.network.store.model.ReactiveCapabilityCurveAttributes;
 import com.powsybl.network.store.model.ReactiveCapabilityCurvePointAttributes;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.*;
 import java.util.function.ToDoubleFunction;
-import java.util.stream.Collectors;
 import static com.powsybl.network.store.model.ReactiveCapabilityCurveAttributes.COMPARATOR;
 
 /**
@@ -85,22 +81,42 @@ public class ReactiveCapabilityCurveImpl extends AbstractPropertiesHolder implem
 
     @Override
     public Collection<Point> getPoints() {
-        return Collections.unmodifiableCollection(attributes.getPoints().values().stream().map(attributes -> PointImpl.create(attributes, owner)).collect(Collectors.toList()));
+        List<Point> points = new ArrayList<>(attributes.getPointCount());
+        for (int i = 0; i < attributes.getPointCount(); i++) {
+            points.add(PointImpl.create(attributes.getPoint(i), owner));
+        }
+        return Collections.unmodifiableCollection(points);
     }
 
     @Override
     public int getPointCount() {
-        return attributes.getPoints().size();
+        return attributes.getPointCount();
     }
 
     @Override
     public double getMinP() {
-        return attributes.getPoints().firstKey();
+        return getFirstPoint().getP();
     }
 
     @Override
     public double getMaxP() {
-        return attributes.getPoints().lastKey();
+        return getLastPoint().getP();
+    }
+
+    private ReactiveCapabilityCurvePointAttributes getFirstPoint() {
+        checkNotEmpty();
+        return attributes.getPoint(0);
+    }
+
+    private ReactiveCapabilityCurvePointAttributes getLastPoint() {
+        checkNotEmpty();
+        return attributes.getPoint(attributes.getPointCount() - 1);
+    }
+
+    private void checkNotEmpty() {
+        if (attributes.getPointCount() == 0) {
+            throw new NoSuchElementException();
+        }
     }
 
     @Override
@@ -124,18 +140,19 @@ public class ReactiveCapabilityCurveImpl extends AbstractPropertiesHolder implem
     }
 
     private double getReactiveLimit(double p, boolean extrapolateReactiveLimitSlope, ToDoubleFunction<ReactiveCapabilityCurvePointAttributes> getMinOrMaxQ) {
-        checkPointsSize(attributes.getPoints());
+        checkPointsSize(attributes);
 
         // First case : searched point is one of the points defining the curve
-        ReactiveCapabilityCurvePointAttributes pt = attributes.getPoints().get(p);
-        if (pt != null) {
-            return getMinOrMaxQ.applyAsDouble(pt);
+        int rank = attributes.findPoint(p);
+        if (rank >= 0) {
+            return getMinOrMaxQ.applyAsDouble(attributes.getPoint(rank));
         }
 
         // Second case : searched point is between minP and maxP
-        if (p >= this.getMinP() && p <= this.getMaxP()) {
-            ReactiveCapabilityCurvePointAttributes p1 = attributes.getPoints().floorEntry(p).getValue();
-            ReactiveCapabilityCurvePointAttributes p2 = attributes.getPoints().ceilingEntry(p).getValue();
+        int insertionRank = -rank - 1;
+        if (insertionRank > 0 && insertionRank < attributes.getPointCount()) {
+            ReactiveCapabilityCurvePointAttributes p1 = attributes.getPoint(insertionRank - 1);
+            ReactiveCapabilityCurvePointAttributes p2 = attributes.getPoint(insertionRank);
             return getMinOrMaxQ.applyAsDouble(p1) + (getMinOrMaxQ.applyAsDouble(p2) - getMinOrMaxQ.applyAsDouble(p1)) / (p2.getP() - p1.getP()) * (p - p1.getP());
         }
 
@@ -143,24 +160,25 @@ public class ReactiveCapabilityCurveImpl extends AbstractPropertiesHolder implem
         if (extrapolateReactiveLimitSlope) {
             // Points map
             TreeMap<Double, ReactiveCapabilityCurve.Point> pointsMap = new TreeMap<>(COMPARATOR);
-            attributes.getPoints().forEach((k, point) -> pointsMap.put(k, PointImpl.create(point, owner)));
+            for (int i = 0; i < attributes.getPointCount(); i++) {
+                ReactiveCapabilityCurvePointAttributes point = attributes.getPoint(i);
+                pointsMap.put(point.getP(), PointImpl.create(point, owner));
+            }
 
             PointImpl extrapolatedPoint = (PointImpl) ReactiveCapabilityCurveUtil.extrapolateReactiveLimitsSlope(p,
                 pointsMap, (localP, minQ, maxQ) -> PointImpl.create(ReactiveCapabilityCurvePointAttributes.builder().p(localP).minQ(minQ).maxQ(maxQ).build(), owner),
                 attributes.getOwnerDescription());
             return getMinOrMaxQ.applyAsDouble(extrapolatedPoint.getAttributes());
         }
-        if (p < this.getMinP()) { // p < minP
-            ReactiveCapabilityCurvePointAttributes pMin = attributes.getPoints().firstEntry().getValue();
-            return getMinOrMaxQ.applyAsDouble(pMin);
+        if (insertionRank == 0) { // p < minP
+            return getMinOrMaxQ.applyAsDouble(getFirstPoint());
         } else { // p > maxP
-            ReactiveCapabilityCurvePointAttributes pMax = attributes.getPoints().lastEntry().getValue();
-            return getMinOrMaxQ.applyAsDouble(pMax);
+            return getMinOrMaxQ.applyAsDouble(getLastPoint());
         }
     }
 
-    private static void checkPointsSize(TreeMap<Double, ReactiveCapabilityCurvePointAttributes> points) {
-        if (points.size() < 2) {
+    private static void checkPointsSize(ReactiveCapabilityCurveAttributes attributes) {
+        if (attributes.getPointCount() < 2) {
             throw new IllegalStateException("a reactive capability curve should have at least two points");
         }
     }
@@ -0,0 +1,23 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import com.powsybl.network.store.model.ResourceType;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Listener notified when resources are evicted from a network store client cache, so that objects referencing them
+ * can be released too. Evicted resources are reloaded from the server on next access.
+ *
+ * @author agent <agent at local>
+ */
+public interface ResourceEvictionListener {
+
+    void onEviction(UUID networkUuid, int variantNum, ResourceType resourceType, Collection<String> ids);
+}
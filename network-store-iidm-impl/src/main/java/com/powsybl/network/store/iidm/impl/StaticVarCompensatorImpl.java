@@ -207,7 +207,7 @@ public class StaticVarCompensatorImpl extends AbstractRegulatingInjection<Static
         if (type.isAssignableFrom(ConnectablePosition.class)) {
             var resource = getResource();
             if (resource.getAttributes().getPosition() != null) {
-                resource.getAttributes().setPosition(null);
+                updateResourceWithoutNotification(res -> res.getAttributes().setPosition(null));
                 return true;
             }
             return false;
@@ -215,7 +215,7 @@ public class StaticVarCompensatorImpl extends AbstractRegulatingInjection<Static
         if (type == StandbyAutomaton.class) {
             var resource = getResource();
             if (resource.getAttributes().getStandbyAutomaton() != null) {
-                resource.getAttributes().setStandbyAutomaton(null);
+                updateResourceWithoutNotification(res -> res.getAttributes().setStandbyAutomaton(null));
                 return true;
             }
             return false;
@@ -223,7 +223,7 @@ public class StaticVarCompensatorImpl extends AbstractRegulatingInjection<Static
         if (type == VoltagePerReactivePowerControl.class) {
             var resource = getResource();
             if (resource.getAttributes().getVoltagePerReactiveControl() != null) {
-                resource.getAttributes().setVoltagePerReactiveControl(null);
+                updateResourceWithoutNotification(res -> res.getAttributes().setVoltagePerReactiveControl(null));
                 return true;
             }
             return false;
@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import com.powsybl.network.store.model.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dictionary of the ids repeated in the resources of a network, like voltage level and bus ids, so that resources
+ * deserialized or created separately share one instance of each id instead of one instance per resource.
+ * <p>
+ * Only ids referencing other identifiables or buses are deduplicated, names and properties are left unchanged. The
+ * dictionary can be used by several threads at the same time.
+ *
+ * @author agent <agent at local>
+ */
+public class StringDictionary {
+
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+
+    /**
+     * Get the instance of the dictionary equal to a string, the string itself being added to the dictionary if
+     * there is none.
+     */
+    public String get(String s) {
+        if (s == null) {
+            return null;
+        }
+        String existing = strings.get(s);
+        if (existing != null) {
+            return existing;
+        }
+        existing = strings.putIfAbsent(s, s);
+        return existing != null ? existing : s;
+    }
+
+    public int size() {
+        return strings.size();
+    }
+
+    /**
+     * Replace the id of a resource and the ids referenced by its attributes by the instances of the dictionary.
+     */
+    public void deduplicate(Resource<? extends IdentifiableAttributes> resource) {
+        // the id of a resource is also referenced by other resources, like regulated equipments or hvdc lines
+        resource.setId(get(resource.getId()));
+        IdentifiableAttributes attributes = resource.getAttributes();
+        if (attributes instanceof InjectionAttributes injection) {
+            injection.setVoltageLevelId(get(injection.getVoltageLevelId()));
+            injection.setBus(get(injection.getBus()));
+            injection.setConnectableBus(get(injection.getConnectableBus()));
+        } else if (attributes instanceof BranchAttributes branch) {
+            branch.setVoltageLevelId1(get(branch.getVoltageLevelId1()));
+            branch.setVoltageLevelId2(get(branch.getVoltageLevelId2()));
+            branch.setBus1(get(branch.getBus1()));
+            branch.setBus2(get(branch.getBus2()));
+            branch.setConnectableBus1(get(branch.getConnectableBus1()));
+            branch.setConnectableBus2(get(branch.getConnectableBus2()));
+        }
+        if (attributes instanceof VoltageLevelAttributes voltageLevel) {
+            voltageLevel.setSubstationId(get(voltageLevel.getSubstationId()));
+            deduplicateCalculatedBuses(voltageLevel.getCalculatedBusesForBusView());
+            deduplicateCalculatedBuses(voltageLevel.getCalculatedBusesForBusBreakerView());
+        } else if (attributes instanceof SwitchAttributes switchAttributes) {
+            switchAttributes.setVoltageLevelId(get(switchAttributes.getVoltageLevelId()));
+            switchAttributes.setBus1(get(switchAttributes.getBus1()));
+            switchAttributes.setBus2(get(switchAttributes.getBus2()));
+        } else if (attributes instanceof BusbarSectionAttributes busbarSection) {
+            busbarSection.setVoltageLevelId(get(busbarSection.getVoltageLevelId()));
+        } else if (attributes instanceof ConfiguredBusAttributes configuredBus) {
+            configuredBus.setVoltageLevelId(get(configuredBus.getVoltageLevelId()));
+        } else if (attributes instanceof TwoWindingsTransformerAttributes twoWindingsTransformer) {
+            deduplicateRegulatingPoint(twoWindingsTransformer.getRatioTapChangerAttributes());
+            deduplicateRegulatingPoint(twoWindingsTransformer.getPhaseTapChangerAttributes());
+        } else if (attributes instanceof ThreeWindingsTransformerAttributes threeWindingsTransformer) {
+            deduplicateLeg(threeWindingsTransformer.getLeg1());
+            deduplicateLeg(threeWindingsTransformer.getLeg2());
+            deduplicateLeg(threeWindingsTransformer.getLeg3());
+        } else if (attributes instanceof HvdcLineAttributes hvdcLine) {
+            hvdcLine.setConverterStationId1(get(hvdcLine.getConverterStationId1()));
+            hvdcLine.setConverterStationId2(get(hvdcLine.getConverterStationId2()));
+        } else if (attributes instanceof TieLineAttributes tieLine) {
+            tieLine.setBoundaryLine1Id(get(tieLine.getBoundaryLine1Id()));
+            tieLine.setBoundaryLine2Id(get(tieLine.getBoundaryLine2Id()));
+        }
+        // generators, shunt compensators, static var compensators and vsc converter stations
+        if (attributes instanceof AbstractRegulatingEquipmentAttributes regulatingEquipment) {
+            deduplicateRegulatingPoint(regulatingEquipment);
+        }
+    }
+
+    private void deduplicateLeg(LegAttributes leg) {
+        if (leg != null) {
+            leg.setVoltageLevelId(get(leg.getVoltageLevelId()));
+            leg.setBus(get(leg.getBus()));
+            leg.setConnectableBus(get(leg.getConnectableBus()));
+            deduplicateRegulatingPoint(leg.getRatioTapChangerAttributes());
+            deduplicateRegulatingPoint(leg.getPhaseTapChangerAttributes());
+        }
+    }
+
+    private void deduplicateRegulatingPoint(AbstractRegulatingEquipmentAttributes regulatingEquipment) {
+        if (regulatingEquipment == null || regulatingEquipment.getRegulatingPoint() == null) {
+            return;
+        }
+        RegulatingPointAttributes regulatingPoint = regulatingEquipment.getRegulatingPoint();
+        regulatingPoint.setRegulatingEquipmentId(get(regulatingPoint.getRegulatingEquipmentId()));
+        regulatingPoint.setRegulationMode(get(regulatingPoint.getRegulationMode()));
+        deduplicateTerminalRef(regulatingPoint.getLocalTerminal());
+        deduplicateTerminalRef(regulatingPoint.getRegulatingTerminal());
+    }
+
+    private void deduplicateTerminalRef(TerminalRefAttributes terminalRef) {
+        if (terminalRef != null) {
+            terminalRef.setConnectableId(get(terminalRef.getConnectableId()));
+            terminalRef.setSide(get(terminalRef.getSide()));
+        }
+    }
+
+    private void deduplicateCalculatedBuses(List<CalculatedBusAttributes> calculatedBuses) {
+        if (calculatedBuses == null) {
+            return;
+        }
+        for (CalculatedBusAttributes calculatedBus : calculatedBuses) {
+            deduplicateVertices(calculatedBus.getVertices());
+        }
+    }
+
+    private void deduplicateVertices(Collection<Vertex> vertices) {
+        if (vertices == null) {
+            return;
+        }
+        // the hash code of the vertices is unchanged as the replaced ids are equal
+        for (Vertex vertex : vertices) {
+            vertex.setId(get(vertex.getId()));
+            vertex.setBus(get(vertex.getBus()));
+            vertex.setSide(get(vertex.getSide()));
+        }
+    }
+}
@@ -64,8 +64,8 @@ public class SwitchImpl extends AbstractIdentifiableImpl<Switch, SwitchAttribute
         if (open != wasOpen) {
             updateResource(r -> r.getAttributes().setOpen(open),
                 "open", wasOpen, open);
-            // invalidate calculated buses
-            getVoltageLevel().invalidateCalculatedBuses();
+            // update or invalidate calculated buses
+            getVoltageLevel().updateCalculatedBusesAfterSwitchOperation(getResource());
         }
     }
 
@@ -30,6 +30,14 @@ public class SwitchPathValidator implements PathValidator<Integer, Edge> {
 
     @Override
     public boolean isValidPath(GraphPath<Integer, Edge> graphPath, Edge edge) {
+        return isValidEdge(edge);
+    }
+
+    /**
+     * Check the edge independently of the path it extends, which is enough as only switches are validated. This allows
+     * the validator to be used by searches not building partial paths, like {@link com.powsybl.network.store.iidm.impl.util.JGraphTGraph#findShortestPath}.
+     */
+    public boolean isValidEdge(Edge edge) {
 
         if (edge.getBiConnectable() instanceof SwitchAttributes switchAttributes) {
 
@@ -14,6 +14,7 @@ import com.powsybl.math.graph.TraversalType;
 import com.powsybl.math.graph.TraverseResult;
 import com.powsybl.network.store.iidm.impl.util.JGraphTGraph;
 import com.powsybl.network.store.model.*;
+import org.apache.commons.lang3.mutable.MutableBoolean;
 
 import java.util.*;
 import java.util.function.Function;
@@ -182,12 +183,8 @@ public class TerminalImpl<U extends IdentifiableAttributes> implements Terminal,
             .collect(Collectors.toSet());
     }
 
-    private double computePathWeight(List<Edge> path, Predicate<Switch> openOperableSwitch) {
-        return path.stream().mapToDouble(edge -> computeEdgeWeight(edge, openOperableSwitch)).sum();
-    }
-
-    private double computeEdgeWeight(Edge edge, Predicate<Switch> openOperableSwitch) {
-        return testSwitchFromEdge(edge, openOperableSwitch) ? 1d : 0d;
+    private int computeEdgeWeight(Edge edge, Predicate<Switch> openOperableSwitch) {
+        return testSwitchFromEdge(edge, openOperableSwitch) ? 1 : 0;
     }
 
     /**
@@ -204,16 +201,6 @@ public class TerminalImpl<U extends IdentifiableAttributes> implements Terminal,
         return false;
     }
 
-    /**
-     * Check if a switch from the edge is open but cannot be operated (according to the given predicate)
-     * @param edge the edge to test
-     * @param isSwitchOperable the predicate defining if a switch can be operated
-     * @return <code>true</code> if the switch is open and cannot be operated
-     */
-    private boolean checkNonClosableSwitch(Edge edge, Predicate<Switch> isSwitchOperable) {
-        return testSwitchFromEdge(edge, SwitchPredicates.IS_OPEN.and(isSwitchOperable.negate()));
-    }
-
     /**
      * <p>This method is an adaptation of the same method from NodeBreakerVoltageLevel in powsybl-core, in order to keep
      * the same logic and the same results on both sides.</p>
@@ -228,7 +215,7 @@ public class TerminalImpl<U extends IdentifiableAttributes> implements Terminal,
         Predicate<Switch> isOpenOperableSwitch = SwitchPredicates.IS_OPEN.and(isSwitchOperable);
 
         // Full graph of the network
-        JGraphTGraph graph = new JGraphTGraph(NodeBreakerTopology.INSTANCE.buildGraph(index, voltageLevelResource, true, true));
+        JGraphTGraph graph = new JGraphTGraph(getVoltageLevel().getNodeBreakerGraph(true, true));
 
         // Node of the present terminal (start of the paths)
         int node = getAttributes().getNode();
@@ -236,19 +223,19 @@ public class TerminalImpl<U extends IdentifiableAttributes> implements Terminal,
         // Nodes of the busbar sections (end of the paths)
         Set<Integer> busbarSectionNodes = getBusbarSectionNodes(voltageLevelResource);
 
-        // find all paths starting from the current terminal to a busbar section that does not contain an open switch
-        // that is not of the type of switch the user wants to operate
-        // Paths are already sorted by the number of open switches and by the size of the paths
-        List<List<Edge>> paths = graph.findAllPaths(node,
+        // find the shortest path starting from the current terminal to a busbar section that does not contain an open
+        // switch that is not of the type of switch the user wants to operate. Paths are compared by the number of open
+        // switches and by the size of the paths
+        SwitchPathValidator pathValidator = new SwitchPathValidator(SwitchPredicates.IS_OPEN.negate().or(isSwitchOperable), index);
+        Optional<List<Edge>> path = graph.findShortestPath(node,
             busbarSectionNodes::contains,
-            edge -> checkNonClosableSwitch(edge, isSwitchOperable),
-            Comparator.comparing((List<Edge> list) -> computePathWeight(list, isOpenOperableSwitch))
-                .thenComparing(List::size));
+            pathValidator::isValidEdge,
+            edge -> computeEdgeWeight(edge, isOpenOperableSwitch));
 
         // Close the switches on the shortest path if at least a path is found
-        if (!paths.isEmpty()) {
+        if (path.isPresent()) {
             // the shortest path is the best
-            List<Edge> shortestPath = paths.get(0);
+            List<Edge> shortestPath = path.get();
 
             // close all open operable switches on the path
             shortestPath.stream()
@@ -307,8 +294,6 @@ public class TerminalImpl<U extends IdentifiableAttributes> implements Terminal,
     public boolean connect(Predicate<Switch> isTypeSwitchToOperate) {
         boolean done = false;
 
-        Resource<VoltageLevelAttributes> voltageLevelResource = getVoltageLevelResource();
-        VoltageLevelAttributes voltageLevelAttributes = voltageLevelResource.getAttributes();
         boolean connectedBefore = isConnected();
         index.notifyUpdate(getConnectable(), "beginConnect", index.getNetwork().getVariantManager().getWorkingVariantId(), connectedBefore, null);
         if (isNodeBeakerTopologyKind()) {
@@ -326,10 +311,10 @@ public class TerminalImpl<U extends IdentifiableAttributes> implements Terminal,
         boolean connectedAfter = isConnected();
         index.notifyUpdate(getConnectable(), "endConnect", index.getNetwork().getVariantManager().getWorkingVariantId(), null, connectedAfter);
 
-        if (done) {
-            // to invalidate calculated buses
-            voltageLevelAttributes.setCalculatedBusesValid(false);
-            index.updateVoltageLevelResource(voltageLevelResource);
+        // in a node/breaker topology, calculated buses and components have already been updated by the switch
+        // operations
+        if (done && !isNodeBeakerTopologyKind()) {
+            getVoltageLevel().invalidateCalculatedBuses();
         }
 
         return done;
@@ -450,7 +435,7 @@ public class TerminalImpl<U extends IdentifiableAttributes> implements Terminal,
         Resource<VoltageLevelAttributes> voltageLevelResource = getVoltageLevelResource();
 
         // Full graph of the network
-        JGraphTGraph graph = new JGraphTGraph(NodeBreakerTopology.INSTANCE.buildGraph(index, voltageLevelResource, true, true));
+        JGraphTGraph graph = new JGraphTGraph(getVoltageLevel().getNodeBreakerGraph(true, true));
 
         // Node of the present terminal (start of the paths)
         int node = getAttributes().getNode();
@@ -458,24 +443,18 @@ public class TerminalImpl<U extends IdentifiableAttributes> implements Terminal,
         // Nodes of the connectables (end of the paths)
         Set<Integer> connectableNodes = getConnectableNodes(voltageLevelResource);
 
-        // find all paths starting from the current terminal to a connectable that does not contain an open switch
-        List<List<Edge>> paths = graph.findAllPaths(node,
+        // visit all paths starting from the current terminal to a connectable that does not contain an open switch.
+        // For each path, the first openable switch found is added in the set of switches to open
+        MutableBoolean pathFound = new MutableBoolean(false);
+        boolean allPathsOpened = graph.visitAllPaths(node,
             connectableNodes::contains,
             this::isAnOpenSwitch,
-            Comparator.comparing(List::size));
-        if (paths.isEmpty()) {
-            return false;
-        }
-
-        // Each path is visited and for each, the first openable switch found is added in the set of switches to open
-        for (List<Edge> path : paths) {
-            // Identify the first openable switch on the path
-            if (!identifySwitchToOpenPath(path, isSwitchOpenable, switchesToOpen)) {
-                // If no such switch was found, return false immediately
-                return false;
-            }
-        }
-        return true;
+            path -> {
+                pathFound.setTrue();
+                // Identify the first openable switch on the path, if no such switch was found, stop immediately
+                return identifySwitchToOpenPath(path, isSwitchOpenable, switchesToOpen);
+            });
+        return pathFound.isTrue() && allPathsOpened;
     }
 
     private boolean disconnectNodeBreaker(Predicate<Switch> isSwitchOpenable) {
@@ -518,8 +497,6 @@ public class TerminalImpl<U extends IdentifiableAttributes> implements Terminal,
     public boolean disconnect(Predicate<Switch> isSwitchOpenable) {
         boolean done = false;
 
-        Resource<VoltageLevelAttributes> voltageLevelResource = getVoltageLevelResource();
-        VoltageLevelAttributes voltageLevelAttributes = voltageLevelResource.getAttributes();
         boolean disconnectedBefore = !isConnected();
         index.notifyUpdate(getConnectable(), "beginDisconnect", index.getNetwork().getVariantManager().getWorkingVariantId(), disconnectedBefore, null);
         if (isNodeBeakerTopologyKind()) {
@@ -535,10 +512,10 @@ public class TerminalImpl<U extends IdentifiableAttributes> implements Terminal,
         boolean disconnectedAfter = !isConnected();
         index.notifyUpdate(getConnectable(), "endDisconnect", index.getNetwork().getVariantManager().getWorkingVariantId(), null, disconnectedAfter);
 
-        if (done) {
-            // to invalidate calculated buses
-            voltageLevelAttributes.setCalculatedBusesValid(false);
-            index.updateVoltageLevelResource(voltageLevelResource);
+        // in a node/breaker topology, calculated buses and components have already been updated by the switch
+        // operations
+        if (done && !isNodeBeakerTopologyKind()) {
+            getVoltageLevel().invalidateCalculatedBuses();
         }
 
         return done;
@@ -662,15 +639,15 @@ public class TerminalImpl<U extends IdentifiableAttributes> implements Terminal,
     }
 
     public void setAsRegulatingPoint(AbstractRegulatingPoint regulatingPoint) {
-        getAttributes().getRegulatingEquipments()
+        getAbstractIdentifiable().updateResourceWithoutNotification(r -> getAttributes(r).getRegulatingEquipments()
             .add(new RegulatingEquipmentIdentifier(regulatingPoint.getRegulatingEquipmentId(), regulatingPoint.getRegulatingEquipmentType(),
-                regulatingPoint.getRegulatingTapChangerType()));
+                regulatingPoint.getRegulatingTapChangerType())));
     }
 
     public void removeRegulatingPoint(AbstractRegulatingPoint regulatingPoint) {
-        getAttributes().getRegulatingEquipments()
+        getAbstractIdentifiable().updateResourceWithoutNotification(r -> getAttributes(r).getRegulatingEquipments()
             .remove(new RegulatingEquipmentIdentifier(regulatingPoint.getRegulatingEquipmentId(),
-                regulatingPoint.getRegulatingEquipmentType(), regulatingPoint.getRegulatingTapChangerType()));
+                regulatingPoint.getRegulatingEquipmentType(), regulatingPoint.getRegulatingTapChangerType())));
     }
 
     @SuppressWarnings("checkstyle:LambdaBodyLength")
@@ -716,7 +693,7 @@ public class TerminalImpl<U extends IdentifiableAttributes> implements Terminal,
                 .withUntypedValue("regulatingEquipments", regulatingEquiments)
                 .withSeverity(TypedValue.INFO_SEVERITY)
                 .add();
-            getAttributes().getRegulatingEquipments().clear();
+            getAbstractIdentifiable().updateResourceWithoutNotification(r -> getAttributes(r).getRegulatingEquipments().clear());
         }
     }
 
@@ -16,16 +16,21 @@ import com.powsybl.iidm.network.extensions.SlackTerminal;
 import com.powsybl.iidm.network.util.ShortIdDictionary;
 import com.powsybl.network.store.iidm.impl.extensions.IdentifiableShortCircuitImpl;
 import com.powsybl.network.store.iidm.impl.extensions.SlackTerminalImpl;
+import com.powsybl.network.store.model.CalculatedBusAttributes;
 import com.powsybl.network.store.model.IdentifiableShortCircuitAttributes;
 import com.powsybl.network.store.model.Resource;
+import com.powsybl.network.store.model.SwitchAttributes;
 import com.powsybl.network.store.model.TerminalRefAttributes;
 import com.powsybl.network.store.model.VoltageLevelAttributes;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.AsUnmodifiableGraph;
 
 import java.io.IOException;
 import java.io.PrintStream;
 import java.io.Writer;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -41,6 +46,19 @@ public class VoltageLevelImpl extends AbstractIdentifiableImpl<VoltageLevel, Vol
 
     private final VoltageLevelBusViewImpl busView;
 
+    private record NodeBreakerGraphKey(int variantNum, boolean includeOpenSwitches, boolean includeRetainSwitches) {
+    }
+
+    private record NodeBreakerGraph(Resource<VoltageLevelAttributes> voltageLevelResource, Graph<Integer, Edge> graph) {
+    }
+
+    /**
+     * Node/breaker graphs of the voltage level by variant and switch filtering flags. A graph is only valid for the
+     * voltage level resource it has been built from, so that a graph is never reused after the variant has been
+     * removed and its num reused by another one.
+     */
+    private final Map<NodeBreakerGraphKey, NodeBreakerGraph> nodeBreakerGraphs = new ConcurrentHashMap<>();
+
     public VoltageLevelImpl(NetworkObjectIndex index, Resource<VoltageLevelAttributes> resource) {
         super(index, resource);
         nodeBreakerView = NodeBreakerViewImpl.create(resource.getAttributes().getTopologyKind(), this, index);
@@ -55,6 +73,90 @@ public class VoltageLevelImpl extends AbstractIdentifiableImpl<VoltageLevel, Vol
     void invalidateCalculatedBuses() {
         updateResourceWithoutNotification(res -> res.getAttributes().setCalculatedBusesValid(false));
         getNetwork().invalidateCalculatedBuses();
+        int variantNum = index.getWorkingVariantNum();
+        nodeBreakerGraphs.keySet().removeIf(key -> key.variantNum() == variantNum);
+    }
+
+    /**
+     * Update the calculated buses after a switch has been opened or closed. In a node/breaker topology, the calculated
+     * buses are updated incrementally when possible, see
+     * {@link NodeBreakerTopology#updateCalculatedBuses(NetworkObjectIndex, VoltageLevelImpl, Resource, boolean)},
+     * otherwise they are invalidated.
+     */
+    void updateCalculatedBusesAfterSwitchOperation(Resource<SwitchAttributes> switchResource) {
+        VoltageLevelAttributes attributes = getResource().getAttributes();
+        if (attributes.getTopologyKind() != TopologyKind.NODE_BREAKER || !attributes.isCalculatedBusesValid()) {
+            invalidateCalculatedBuses();
+            return;
+        }
+        // component numbers of the bus view buses of the switch, before they are possibly merged
+        CalculatedBusAttributes bus1 = getBusViewCalculatedBus(attributes, switchResource.getAttributes().getNode1());
+        CalculatedBusAttributes bus2 = getBusViewCalculatedBus(attributes, switchResource.getAttributes().getNode2());
+        Integer connectedComponentNum1 = bus1 != null ? bus1.getConnectedComponentNumber() : null;
+        Integer connectedComponentNum2 = bus2 != null ? bus2.getConnectedComponentNumber() : null;
+        Integer synchronousComponentNum1 = bus1 != null ? bus1.getSynchronousComponentNumber() : null;
+        Integer synchronousComponentNum2 = bus2 != null ? bus2.getSynchronousComponentNumber() : null;
+
+        var busBreakerViewUpdate = NodeBreakerTopology.INSTANCE.updateCalculatedBuses(index, this, switchResource, false);
+        var busViewUpdate = NodeBreakerTopology.INSTANCE.updateCalculatedBuses(index, this, switchResource, true);
+        if (busBreakerViewUpdate == NodeBreakerTopology.CalculatedBusesUpdate.UNKNOWN
+                || busViewUpdate == NodeBreakerTopology.CalculatedBusesUpdate.UNKNOWN) {
+            invalidateCalculatedBuses();
+            return;
+        }
+
+        // only the graphs without open switches depend on the switch state
+        int variantNum = index.getWorkingVariantNum();
+        nodeBreakerGraphs.keySet().removeIf(key -> key.variantNum() == variantNum && !key.includeOpenSwitches());
+
+        // as after a full recompute, voltages and angles are not preserved
+        updateResourceWithoutNotification(res -> {
+            resetVoltagesAndAngles(res.getAttributes().getCalculatedBusesForBusView());
+            resetVoltagesAndAngles(res.getAttributes().getCalculatedBusesForBusBreakerView());
+        });
+
+        if (busBreakerViewUpdate != NodeBreakerTopology.CalculatedBusesUpdate.UNCHANGED) {
+            getNetwork().updateComponentsAfterBusBreakerViewUpdate();
+        }
+        if (busViewUpdate == NodeBreakerTopology.CalculatedBusesUpdate.MERGED) {
+            getNetwork().updateComponentsAfterBusMerge(connectedComponentNum1, connectedComponentNum2, synchronousComponentNum1, synchronousComponentNum2);
+        } else if (busViewUpdate == NodeBreakerTopology.CalculatedBusesUpdate.SPLIT) {
+            getNetwork().updateComponentsAfterBusSplit();
+        }
+        if (busViewUpdate != NodeBreakerTopology.CalculatedBusesUpdate.UNCHANGED) {
+            getNetwork().updateBusCache(getId(), busView.getBusStream());
+        }
+    }
+
+    private static CalculatedBusAttributes getBusViewCalculatedBus(VoltageLevelAttributes attributes, int node) {
+        Map<Integer, Integer> nodeToCalculatedBus = attributes.getNodeToCalculatedBusForBusView();
+        Integer calculatedBusNum = nodeToCalculatedBus != null ? nodeToCalculatedBus.get(node) : null;
+        return calculatedBusNum != null ? attributes.getCalculatedBusesForBusView().get(calculatedBusNum) : null;
+    }
+
+    private static void resetVoltagesAndAngles(List<CalculatedBusAttributes> calculatedBuses) {
+        if (calculatedBuses != null) {
+            for (CalculatedBusAttributes calculatedBus : calculatedBuses) {
+                calculatedBus.setV(Double.NaN);
+                calculatedBus.setAngle(Double.NaN);
+            }
+        }
+    }
+
+    /**
+     * Get the node/breaker graph of the voltage level for the working variant. The graph is built on first call and
+     * then reused until the calculated buses of the voltage level are invalidated.
+     */
+    Graph<Integer, Edge> getNodeBreakerGraph(boolean includeOpenSwitches, boolean includeRetainSwitches) {
+        Resource<VoltageLevelAttributes> resource = getResource();
+        var key = new NodeBreakerGraphKey(index.getWorkingVariantNum(), includeOpenSwitches, includeRetainSwitches);
+        NodeBreakerGraph nodeBreakerGraph = nodeBreakerGraphs.get(key);
+        if (nodeBreakerGraph == null || nodeBreakerGraph.voltageLevelResource() != resource) {
+            Graph<Integer, Edge> graph = NodeBreakerTopology.INSTANCE.buildGraph(index, resource, includeOpenSwitches, includeRetainSwitches);
+            nodeBreakerGraph = new NodeBreakerGraph(resource, new AsUnmodifiableGraph<>(graph));
+            nodeBreakerGraphs.put(key, nodeBreakerGraph);
+        }
+        return nodeBreakerGraph.graph();
     }
 
     @Override
@@ -617,7 +719,7 @@ public class VoltageLevelImpl extends AbstractIdentifiableImpl<VoltageLevel, Vol
         if (type == SlackTerminal.class) {
             var resource = getResource();
             if (resource.getAttributes().getSlackTerminal() != null) {
-                resource.getAttributes().setSlackTerminal(null);
+                updateResourceWithoutNotification(res -> res.getAttributes().setSlackTerminal(null));
                 return true;
             }
             return false;
@@ -625,7 +727,7 @@ public class VoltageLevelImpl extends AbstractIdentifiableImpl<VoltageLevel, Vol
         if (type.isAssignableFrom(IdentifiableShortCircuit.class)) {
             var resource = getResource();
             if (resource.getAttributes().getIdentifiableShortCircuitAttributes() != null) {
-                resource.getAttributes().setIdentifiableShortCircuitAttributes(null);
+                updateResourceWithoutNotification(res -> res.getAttributes().setIdentifiableShortCircuitAttributes(null));
                 return true;
             }
             return false;
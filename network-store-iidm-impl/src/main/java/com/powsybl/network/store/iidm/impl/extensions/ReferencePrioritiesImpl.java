@@ -60,7 +60,7 @@ public class ReferencePrioritiesImpl<C extends Connectable<C>> extends AbstractE
 
     @Override
     public void deleteReferencePriorities() {
-        getAttributes().getReferencePriorities().clear();
+        ((AbstractIdentifiableImpl<?, ?>) getExtendable()).updateResourceWithoutNotification(res -> getAttributes().getReferencePriorities().clear());
     }
 
     void putReferencePriority(ReferencePriorityImpl referencePriority) {
@@ -106,7 +106,7 @@ public class StandbyAutomatonImpl extends AbstractExtension<StaticVarCompensator
     public StandbyAutomatonImpl setStandby(boolean standby) {
         checkVoltageConfig(getSvc(), getLowVoltageSetpoint(), getHighVoltageSetpoint(), getLowVoltageThreshold(),
             getHighVoltageThreshold(), standby, getSvc().getId());
-        getAttributes().setStandby(standby);
+        getSvc().updateResourceWithoutNotification(res -> getAttributes(res).setStandby(standby));
         return this;
     }
 
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl.util;
+
+import java.util.*;
+
+/**
+ * Undirected graph of nodes or buses only used to find connected sets. Vertices are numbered in insertion order and
+ * edges are stored in two int arrays, so that no edge object is needed. Connected sets are computed with a union-find
+ * and are returned in the same order as the JGraphT connectivity inspector on a graph with the same insertion order:
+ * sorted by first inserted vertex.
+ *
+ * @author agent <agent at local>
+ */
+public class CompactGraph<T> {
+
+    private static final int DEFAULT_EDGE_CAPACITY = 16;
+
+    private final Map<T, Integer> vertexNums = new HashMap<>();
+
+    private final List<T> vertices = new ArrayList<>();
+
+    private int[] edgeVertexNums1 = new int[DEFAULT_EDGE_CAPACITY];
+
+    private int[] edgeVertexNums2 = new int[DEFAULT_EDGE_CAPACITY];
+
+    private int edgeCount = 0;
+
+    /**
+     * Add a vertex if not already in the graph.
+     *
+     * @return the vertex num
+     */
+    public int addVertex(T vertex) {
+        Objects.requireNonNull(vertex);
+        Integer num = vertexNums.get(vertex);
+        if (num == null) {
+            num = vertices.size();
+            vertexNums.put(vertex, num);
+            vertices.add(vertex);
+        }
+        return num;
+    }
+
+    /**
+     * Add an edge between two vertices, the vertices being added if not already in the graph.
+     */
+    public void addEdge(T vertex1, T vertex2) {
+        int num1 = addVertex(vertex1);
+        int num2 = addVertex(vertex2);
+        if (edgeCount == edgeVertexNums1.length) {
+            edgeVertexNums1 = Arrays.copyOf(edgeVertexNums1, edgeCount * 2);
+            edgeVertexNums2 = Arrays.copyOf(edgeVertexNums2, edgeCount * 2);
+        }
+        edgeVertexNums1[edgeCount] = num1;
+        edgeVertexNums2[edgeCount] = num2;
+        edgeCount++;
+    }
+
+    public int getVertexCount() {
+        return vertices.size();
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    private static int find(int[] parents, int num) {
+        int root = num;
+        while (parents[root] != root) {
+            // path halving
+            parents[root] = parents[parents[root]];
+            root = parents[root];
+        }
+        return root;
+    }
+
+    public List<Set<T>> getConnectedSets() {
+        int vertexCount = vertices.size();
+        int[] parents = new int[vertexCount];
+        for (int num = 0; num < vertexCount; num++) {
+            parents[num] = num;
+        }
+        for (int e = 0; e < edgeCount; e++) {
+            int root1 = find(parents, edgeVertexNums1[e]);
+            int root2 = find(parents, edgeVertexNums2[e]);
+            // the lowest vertex num is always the root so that sets are naturally sorted by first inserted vertex
+            if (root1 < root2) {
+                parents[root2] = root1;
+            } else if (root2 < root1) {
+                parents[root1] = root2;
+            }
+        }
+
+        List<Set<T>> connectedSets = new ArrayList<>();
+        int[] setNums = new int[vertexCount];
+        for (int num = 0; num < vertexCount; num++) {
+            int root = find(parents, num);
+            Set<T> connectedSet;
+            if (root == num) {
+                setNums[num] = connectedSets.size();
+                connectedSet = new HashSet<>();
+                connectedSets.add(connectedSet);
+            } else {
+                connectedSet = connectedSets.get(setNums[root]);
+            }
+            connectedSet.add(vertices.get(num));
+        }
+        return connectedSets;
+    }
+}
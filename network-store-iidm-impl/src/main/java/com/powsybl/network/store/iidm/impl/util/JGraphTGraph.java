@@ -11,9 +11,11 @@ package com.powsybl.network.store.iidm.impl.util;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.network.store.iidm.impl.Edge;
 import org.jgrapht.Graph;
+import org.jgrapht.Graphs;
 
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 /**
  * This class is used to provide JGraphT graphs with the same methods as the UndirectedGraph implementation from
@@ -23,12 +25,220 @@ import java.util.function.Predicate;
  */
 public class JGraphTGraph {
 
+    private static final long UNREACHED = Long.MAX_VALUE;
+
     private final Graph<Integer, Edge> graph;
 
+    // scratch buffers reused from one search to another, so that an instance must not be shared between threads
+    private int vertexCount = -1;
+    private long[] costs;
+    private boolean[] settled;
+    private long[] heapCosts;
+    private int[] heapVertices;
+    private int heapSize;
+    private final BitSet encountered = new BitSet();
+    private final List<Edge> path = new ArrayList<>();
+
     public JGraphTGraph(Graph<Integer, Edge> graph) {
         this.graph = graph;
     }
 
+    private void ensureScratchBuffers() {
+        if (vertexCount == -1) {
+            vertexCount = graph.vertexSet().isEmpty() ? 0 : Collections.max(graph.vertexSet()) + 1;
+            costs = new long[vertexCount];
+            settled = new boolean[vertexCount];
+            heapCosts = new long[Math.max(vertexCount, 1)];
+            heapVertices = new int[Math.max(vertexCount, 1)];
+        }
+    }
+
+    private void push(long cost, int v) {
+        if (heapSize == heapCosts.length) {
+            heapCosts = Arrays.copyOf(heapCosts, heapSize * 2);
+            heapVertices = Arrays.copyOf(heapVertices, heapSize * 2);
+        }
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (heapCosts[parent] <= cost) {
+                break;
+            }
+            heapCosts[i] = heapCosts[parent];
+            heapVertices[i] = heapVertices[parent];
+            i = parent;
+        }
+        heapCosts[i] = cost;
+        heapVertices[i] = v;
+    }
+
+    private void pop() {
+        heapSize--;
+        long cost = heapCosts[heapSize];
+        int v = heapVertices[heapSize];
+        int i = 0;
+        while (2 * i + 1 < heapSize) {
+            int child = 2 * i + 1;
+            if (child + 1 < heapSize && heapCosts[child + 1] < heapCosts[child]) {
+                child++;
+            }
+            if (cost <= heapCosts[child]) {
+                break;
+            }
+            heapCosts[i] = heapCosts[child];
+            heapVertices[i] = heapVertices[child];
+            i = child;
+        }
+        heapCosts[i] = cost;
+        heapVertices[i] = v;
+    }
+
+    private static long getEdgeCost(Edge edge, ToIntFunction<Edge> edgeWeight, long weightFactor) {
+        // paths are compared by weight and then by size
+        return edgeWeight.applyAsInt(edge) * weightFactor + 1;
+    }
+
+    /**
+     * Find the shortest path from the specified vertex, paths being compared by their weight and then by their size.
+     * <p>
+     * Unlike {@link #findAllPaths(int, Predicate, Predicate, Comparator)}, paths are not enumerated: a Dijkstra search
+     * is run from all the target vertices and stops as soon as the start vertex is reached, then the shortest path is
+     * followed from the start vertex. When several paths have the same weight and size, the first one in the order of
+     * {@link #findAllPaths(int, Predicate, Predicate, Comparator)} is returned, so that both methods give the same
+     * shortest path.
+     * </p>
+     *
+     * @param from the vertex index where the traverse has to start.
+     * @param pathComplete a function that returns true when the target vertex is found.
+     * @param edgeValid a function that returns true when the edge can be traversed.
+     * @param edgeWeight a function that returns the non-negative weight of an edge.
+     * @return the edges of the shortest path, or an empty optional if no path has been found.
+     */
+    public Optional<List<Edge>> findShortestPath(int from,
+                                                 Predicate<Integer> pathComplete,
+                                                 Predicate<Edge> edgeValid,
+                                                 ToIntFunction<Edge> edgeWeight) {
+        if (from < 0) {
+            throw new PowsyblException("Invalid vertex " + from);
+        }
+        ensureScratchBuffers();
+        Arrays.fill(costs, UNREACHED);
+        Arrays.fill(settled, false);
+        heapSize = 0;
+        long weightFactor = vertexCount + 1L;
+
+        // the start vertex is never a target, as paths are not empty
+        for (int v : graph.vertexSet()) {
+            if (v != from && pathComplete.test(v)) {
+                costs[v] = 0;
+                push(0, v);
+            }
+        }
+        boolean found = false;
+        while (heapSize > 0) {
+            long cost = heapCosts[0];
+            int v = heapVertices[0];
+            pop();
+            if (settled[v]) {
+                continue;
+            }
+            settled[v] = true;
+            if (v == from) {
+                found = true;
+                break;
+            }
+            for (Edge edge : graph.edgesOf(v)) {
+                if (edgeValid.test(edge)) {
+                    int other = Graphs.getOppositeVertex(graph, edge, v);
+                    long otherCost = cost + getEdgeCost(edge, edgeWeight, weightFactor);
+                    if (!settled[other] && otherCost < costs[other]) {
+                        costs[other] = otherCost;
+                        push(otherCost, other);
+                    }
+                }
+            }
+        }
+        if (!found) {
+            return Optional.empty();
+        }
+
+        // follow the shortest path, taking at each vertex the first adjacent edge leading to a vertex closer to a
+        // target. As costs strictly decrease, the path cannot go back to an already traversed vertex.
+        List<Edge> shortestPath = new ArrayList<>();
+        int v = from;
+        while (costs[v] > 0) {
+            int next = -1;
+            for (Edge edge : graph.edgesOf(v)) {
+                if (edgeValid.test(edge)) {
+                    int other = Graphs.getOppositeVertex(graph, edge, v);
+                    if (costs[other] != UNREACHED && costs[other] + getEdgeCost(edge, edgeWeight, weightFactor) == costs[v]) {
+                        shortestPath.add(edge);
+                        next = other;
+                        break;
+                    }
+                }
+            }
+            if (next == -1) {
+                throw new IllegalStateException("Shortest path lost at vertex " + v);
+            }
+            v = next;
+        }
+        return Optional.of(shortestPath);
+    }
+
+    /**
+     * Visit all paths from the specified vertex, in the same order as
+     * {@link #findAllPaths(int, Predicate, Predicate, Comparator)} before sorting, without storing them.
+     * <p>
+     * The path given to the visitor is a buffer updated during the traverse, so it has to be copied to be kept. The
+     * traverse stops as soon as the visitor returns false.
+     * </p>
+     *
+     * @param from the vertex index where the traverse has to start.
+     * @param pathComplete a function that returns true when the target vertex is found.
+     * @param pathCancelled a function that returns true when the edge must not be traversed.
+     * @param pathVisitor a function called for each path, returning false to stop the traverse.
+     * @return false if the traverse has been stopped by the visitor, true otherwise.
+     */
+    public boolean visitAllPaths(int from,
+                                 Predicate<Integer> pathComplete,
+                                 Predicate<Edge> pathCancelled,
+                                 Predicate<List<Edge>> pathVisitor) {
+        if (from < 0) {
+            throw new PowsyblException("Invalid vertex " + from);
+        }
+        encountered.clear();
+        path.clear();
+        return visitAllPaths(from, pathComplete, pathCancelled, pathVisitor, path);
+    }
+
+    private boolean visitAllPaths(int v, Predicate<Integer> pathComplete, Predicate<Edge> pathCancelled,
+                                  Predicate<List<Edge>> pathVisitor, List<Edge> currentPath) {
+        // only vertices of the current path are encountered, as when paths are copied in findAllPaths
+        encountered.set(v);
+        boolean continueTraverse = true;
+        for (Edge edge : graph.edgesOf(v)) {
+            if (pathCancelled != null && pathCancelled.test(edge)) {
+                // Do not continue on this path if the edge cannot be traversed
+                continue;
+            }
+            int other = Graphs.getOppositeVertex(graph, edge, v);
+            if (encountered.get(other)) {
+                continue;
+            }
+            currentPath.add(edge);
+            continueTraverse = Boolean.TRUE.equals(pathComplete.test(other))
+                ? pathVisitor.test(currentPath)
+                : visitAllPaths(other, pathComplete, pathCancelled, pathVisitor, currentPath);
+            currentPath.remove(currentPath.size() - 1);
+            if (!continueTraverse) {
+                break;
+            }
+        }
+        encountered.clear(v);
+        return continueTraverse;
+    }
+
     /**
      * Find all paths from the specified vertex.
      * This method relies on two functions to stop the traverse when the target vertex is found or when an edge must not be traversed.
@@ -0,0 +1,16 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl.util;
+
+/**
+ * @author agent <agent at local>
+ */
+@FunctionalInterface
+public interface TriConsumer<T, U, V> {
+
+    void accept(T t, U u, V v);
+}
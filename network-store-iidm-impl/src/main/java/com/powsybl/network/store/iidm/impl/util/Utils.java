@@ -6,6 +6,7 @@
  */
 package com.powsybl.network.store.iidm.impl.util;
 
+import com.powsybl.network.store.iidm.impl.AbstractIdentifiableImpl;
 import com.powsybl.network.store.model.BranchAttributes;
 import com.powsybl.network.store.model.Resource;
 
@@ -17,16 +18,15 @@ public final class Utils {
 
     }
 
-    public static <T extends BranchAttributes> boolean removeConnectionPositionForBranches(Resource<T> resource) {
-        boolean isRemoved = false;
-        if (resource.getAttributes().getPosition1() != null) {
-            resource.getAttributes().setPosition1(null);
-            isRemoved = true;
+    public static <T extends BranchAttributes> boolean removeConnectionPositionForBranches(AbstractIdentifiableImpl<?, T> branch) {
+        Resource<T> resource = branch.getResource();
+        if (resource.getAttributes().getPosition1() == null && resource.getAttributes().getPosition2() == null) {
+            return false;
         }
-        if (resource.getAttributes().getPosition2() != null) {
-            resource.getAttributes().setPosition2(null);
-            isRemoved = true;
-        }
-        return isRemoved;
+        branch.updateResourceWithoutNotification(res -> {
+            res.getAttributes().setPosition1(null);
+            res.getAttributes().setPosition2(null);
+        });
+        return true;
     }
 }
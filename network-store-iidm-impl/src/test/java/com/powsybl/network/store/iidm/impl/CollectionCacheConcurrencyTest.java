@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import com.powsybl.network.store.model.LoadAttributes;
+import com.powsybl.network.store.model.Resource;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Collection cache in concurrent mode read by many threads, checking that each resource is loaded only once.
+ *
+ * @author agent <agent at local>
+ */
+public class CollectionCacheConcurrencyTest {
+
+    private static final UUID NETWORK_UUID = UUID.randomUUID();
+
+    private static final int VOLTAGE_LEVEL_COUNT = 10;
+
+    private static final int LOAD_COUNT = 1000;
+
+    private static final int THREAD_COUNT = 16;
+
+    private final List<String> loadIds = IntStream.range(0, LOAD_COUNT).mapToObj(i -> "l" + i).toList();
+
+    private final Map<String, AtomicInteger> oneLoadCountById = new ConcurrentHashMap<>();
+
+    private final Map<String, AtomicInteger> containerLoadCountById = new ConcurrentHashMap<>();
+
+    private final AtomicInteger allLoadCount = new AtomicInteger();
+
+    private CollectionCache<LoadAttributes> collectionCache;
+
+    private static String getVoltageLevelId(String loadId) {
+        return "vl" + Integer.parseInt(loadId.substring(1)) % VOLTAGE_LEVEL_COUNT;
+    }
+
+    private static Resource<LoadAttributes> createResource(String id) {
+        return Resource.loadBuilder()
+                .id(id)
+                .attributes(LoadAttributes.builder()
+                        .voltageLevelId(getVoltageLevelId(id))
+                        .build())
+                .build();
+    }
+
+    private static void simulateLatency() {
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Before
+    public void setUp() {
+        collectionCache = new CollectionCache<>(
+            (networkUuid, variantNum, id) -> {
+                oneLoadCountById.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
+                simulateLatency();
+                return loadIds.contains(id) ? Optional.of(createResource(id)) : Optional.empty();
+            },
+            (networkUuid, variantNum, containerId) -> {
+                containerLoadCountById.computeIfAbsent(containerId, k -> new AtomicInteger()).incrementAndGet();
+                simulateLatency();
+                return loadIds.stream().filter(id -> getVoltageLevelId(id).equals(containerId)).map(CollectionCacheConcurrencyTest::createResource).toList();
+            },
+            (networkUuid, variantNum) -> {
+                allLoadCount.incrementAndGet();
+                simulateLatency();
+                return loadIds.stream().map(CollectionCacheConcurrencyTest::createResource).toList();
+            },
+            null,
+            true);
+    }
+
+    /**
+     * Run the same task on several threads started at the same time.
+     */
+    private static <R> List<R> runConcurrently(int threadCount, Callable<R> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<R>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<R> results = new ArrayList<>();
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentLazyLoading() throws Exception {
+        List<Map<String, Resource<LoadAttributes>>> resourcesByThread = runConcurrently(THREAD_COUNT, () -> {
+            Map<String, Resource<LoadAttributes>> resources = new HashMap<>();
+            List<String> ids = new ArrayList<>(loadIds);
+            Collections.shuffle(ids);
+            // half of the resources are loaded one by one, the other half by voltage level
+            for (String id : ids.subList(0, LOAD_COUNT / 2)) {
+                resources.put(id, collectionCache.getResource(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, id).orElseThrow());
+            }
+            assertTrue(collectionCache.getResource(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "unknown").isEmpty());
+            for (int i = 0; i < VOLTAGE_LEVEL_COUNT; i++) {
+                collectionCache.getContainerResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "vl" + i)
+                    .forEach(resource -> resources.putIfAbsent(resource.getId(), resource));
+            }
+            return resources;
+        });
+
+        // each resource and each container has been loaded only once
+        assertTrue(oneLoadCountById.values().stream().allMatch(count -> count.get() == 1));
+        assertEquals(VOLTAGE_LEVEL_COUNT, containerLoadCountById.size());
+        assertTrue(containerLoadCountById.values().stream().allMatch(count -> count.get() == 1));
+
+        // all the threads got the same resource objects
+        Map<String, Resource<LoadAttributes>> expectedResources = resourcesByThread.get(0);
+        assertEquals(LOAD_COUNT, expectedResources.size());
+        for (Map<String, Resource<LoadAttributes>> resources : resourcesByThread) {
+            assertEquals(LOAD_COUNT, resources.size());
+            resources.forEach((id, resource) -> assertSame(expectedResources.get(id), resource));
+            resources.forEach((id, resource) -> assertSame(resource, collectionCache.getResource(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, id).orElseThrow()));
+        }
+    }
+
+    @Test
+    public void testConcurrentFullLoading() throws Exception {
+        List<Integer> resourceCounts = runConcurrently(THREAD_COUNT, () -> {
+            // lookups of single resources are waiting for the loading of the full collection
+            collectionCache.getResource(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "l0");
+            return collectionCache.getResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM).size();
+        });
+        assertEquals(Collections.nCopies(THREAD_COUNT, LOAD_COUNT), resourceCounts);
+        assertEquals(1, allLoadCount.get());
+        assertTrue(oneLoadCountById.getOrDefault("l0", new AtomicInteger()).get() <= 1);
+    }
+
+    @Test
+    public void testConcurrentReadsOfLoadedCollection() throws Exception {
+        Map<String, Resource<LoadAttributes>> loadedResources = new HashMap<>();
+        collectionCache.getResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM).forEach(resource -> loadedResources.put(resource.getId(), resource));
+        List<Integer> foundCounts = runConcurrently(THREAD_COUNT, () -> {
+            int found = 0;
+            for (int i = 0; i < 10 * LOAD_COUNT; i++) {
+                String id = loadIds.get(i % LOAD_COUNT);
+                if (collectionCache.getResource(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, id).orElseThrow() == loadedResources.get(id)) {
+                    found++;
+                }
+            }
+            return found;
+        });
+        // reads of a fully loaded collection never go to the loaders
+        assertEquals(Collections.nCopies(THREAD_COUNT, 10 * LOAD_COUNT), foundCounts);
+        assertEquals(1, allLoadCount.get());
+        assertTrue(oneLoadCountById.isEmpty());
+        assertTrue(containerLoadCountById.isEmpty());
+    }
+}
@@ -9,6 +9,7 @@ package com.powsybl.network.store.iidm.impl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.extensions.ActivePowerControl;
+import com.powsybl.network.store.iidm.impl.util.TriConsumer;
 import com.powsybl.network.store.iidm.impl.util.TriFunction;
 import com.powsybl.network.store.model.*;
 import org.junit.Before;
@@ -16,6 +17,7 @@ import org.junit.Test;
 
 import java.util.*;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 
 import static org.junit.Assert.*;
 
@@ -159,6 +161,36 @@ public class CollectionCacheTest {
         assertEquals(3, collectionCache.getResourceCount(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM));
     }
 
+    @Test
+    public void getResourcesStreamingTest() {
+        List<String> streamedIds = new ArrayList<>();
+        TriConsumer<UUID, Integer, Consumer<Resource<LoadAttributes>>> streamingLoader = (networkUuid, variantNum, consumer) -> {
+            for (Resource<LoadAttributes> resource : List.of(createResource("l1", "vl1"), createResource("l2", "vl1"), createResource("l3", "vl2"))) {
+                consumer.accept(resource);
+                streamedIds.add(resource.getId());
+                if (resource.getId().equals("l2") && streamedIds.size() == 2) {
+                    throw new PowsyblException("Connection lost");
+                }
+            }
+        };
+        CollectionCache<LoadAttributes> streamingCache = new CollectionCache<>(oneLoader, containerLoader, streamingLoader, mockNetworkStoreClient);
+
+        // a failure in the middle of the stream does not leave the cache (or its containers) flagged as fully loaded
+        assertThrows(PowsyblException.class, () -> streamingCache.getResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM));
+        assertFalse(streamingCache.isFullyLoaded());
+        assertTrue(streamingCache.isResourceLoaded("l1"));
+        assertFalse(streamingCache.isResourceLoaded("l3"));
+
+        // already decoded resources are kept, the others are added on next load
+        Resource<LoadAttributes> cachedL1 = streamingCache.getResource(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "l1").orElseThrow();
+        assertEquals(3, streamingCache.getResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM).size());
+        assertTrue(streamingCache.isFullyLoaded());
+        assertSame(cachedL1, streamingCache.getResource(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "l1").orElseThrow());
+        assertEquals(1, streamingCache.getContainerResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "vl2").size());
+        assertFalse(containerLoaderCalled);
+        assertFalse(oneLoaderCalled);
+    }
+
     @Test
     public void incorrectGetContainerResourcesTest() {
         CollectionCache<LoadAttributes> otherCollectionCache = new CollectionCache<>(oneLoader, null, allLoader, null);
@@ -366,6 +398,29 @@ public class CollectionCacheTest {
         assertTrue(exception.getMessage().startsWith("Cannot manipulate extensions for identifiable"));
     }
 
+    @Test
+    public void getAbsentExtensionAttributes() {
+        // Load all resources in cache
+        assertEquals(Arrays.asList(l1, l2, l3), collectionCache.getResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM));
+        // An absent extension is only requested once to the server
+        assertTrue(collectionCache.getExtensionAttributes(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, ResourceType.LOAD, "l3", "activePowerControl").isEmpty());
+        assertTrue(mockNetworkStoreClient.isExtensionAttributeLoaderCalled());
+        mockNetworkStoreClient.setExtensionAttributeLoaderCalled(false);
+        assertTrue(collectionCache.getExtensionAttributes(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, ResourceType.LOAD, "l3", "activePowerControl").isEmpty());
+        assertFalse(mockNetworkStoreClient.isExtensionAttributeLoaderCalled());
+        // After many single requests of the same extension, it is loaded for all the identifiables at once
+        for (int i = 0; i < 9; i++) {
+            assertTrue(collectionCache.getExtensionAttributes(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, ResourceType.LOAD, "x" + i, "activePowerControl").isEmpty());
+        }
+        assertFalse(mockNetworkStoreClient.isExtensionAttributesLoaderByResourceTypeAndNameCalled());
+        mockNetworkStoreClient.setExtensionAttributeLoaderCalled(false);
+        assertEquals(apc2, collectionCache.getExtensionAttributes(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, ResourceType.LOAD, "l2", "activePowerControl").orElse(null));
+        assertTrue(mockNetworkStoreClient.isExtensionAttributesLoaderByResourceTypeAndNameCalled());
+        assertFalse(mockNetworkStoreClient.isExtensionAttributeLoaderCalled());
+        assertEquals(apc1, collectionCache.getExtensionAttributes(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, ResourceType.LOAD, "l1", "activePowerControl").orElse(null));
+        assertFalse(mockNetworkStoreClient.isExtensionAttributeLoaderCalled());
+    }
+
     @Test
     public void getExtensionAttributes() {
         // Load resources in cache
@@ -573,6 +628,31 @@ public class CollectionCacheTest {
         assertFalse(mockNetworkStoreClient.isExtensionAttributesLoaderByResourceTypeCalled());
     }
 
+    @Test
+    public void loadLazyExtensionAttributesByResourceType() {
+        mockNetworkStoreClient = new LazyExtensionsMockNetworkStoreClient();
+        collectionCache = new CollectionCache<>(oneLoader, containerLoader, allLoader, mockNetworkStoreClient);
+        assertEquals(Arrays.asList(l1, l2, l3), collectionCache.getResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM));
+        collectionCache.loadAllExtensionsAttributesByResourceType(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, ResourceType.LOAD);
+        assertTrue(mockNetworkStoreClient.isExtensionAttributesLoaderByResourceTypeCalled());
+        // extension attributes are only deserialized when used
+        Map<String, ExtensionAttributes> l1Extensions = collectionCache.getCachedResource("l1").orElseThrow().getAttributes().getExtensionAttributes();
+        Map<String, ExtensionAttributes> l2Extensions = collectionCache.getCachedResource("l2").orElseThrow().getAttributes().getExtensionAttributes();
+        assertTrue(l1Extensions.get("activePowerControl") instanceof LazyExtensionAttributes);
+        assertTrue(l1Extensions.get("operatingStatus") instanceof LazyExtensionAttributes);
+        assertEquals(apc1, collectionCache.getExtensionAttributes(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, ResourceType.LOAD, "l1", "activePowerControl").orElse(null));
+        assertSame(l1Extensions.get("activePowerControl"),
+                collectionCache.getExtensionAttributes(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, ResourceType.LOAD, "l1", "activePowerControl").orElse(null));
+        assertTrue(l1Extensions.get("operatingStatus") instanceof LazyExtensionAttributes);
+        assertTrue(l2Extensions.get("activePowerControl") instanceof LazyExtensionAttributes);
+        assertEquals(Map.of("activePowerControl", apc1, "operatingStatus", os1), collectionCache.getAllExtensionsAttributesByIdentifiableId(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM,
+                ResourceType.LOAD, "l1"));
+        assertEquals(os1, l1Extensions.get("operatingStatus"));
+        assertEquals(apc2, collectionCache.getExtensionAttributes(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, ResourceType.LOAD, "l2", "activePowerControl").orElse(null));
+        assertFalse(mockNetworkStoreClient.isExtensionAttributeLoaderCalled());
+        assertFalse(mockNetworkStoreClient.isExtensionAttributesLoaderByIdCalled());
+    }
+
     @Test
     public void createThrowTest() {
         assertFalse(oneLoaderCalled);
@@ -711,4 +791,115 @@ public class CollectionCacheTest {
         assertFalse(containerLoaderCalled);
         assertFalse(allLoaderCalled);
     }
+
+    @Test
+    public void getResourcesByIdsTest() {
+        collectionCache.getResource(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "l1");
+        assertTrue(oneLoaderCalled);
+
+        // only resources not already in the cache are loaded, with a single request
+        List<Resource<LoadAttributes>> resources = collectionCache.getResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, ResourceType.LOAD, List.of("l1", "l2", "l3", "l4"));
+        assertEquals(List.of("l1", "l2", "l3"), resources.stream().map(Resource::getId).toList());
+        assertEquals(List.of(List.of("l2", "l3", "l4")), mockNetworkStoreClient.getIdentifiablesByIdsRequests());
+        assertEquals(List.of("l1", "l2"), collectionCache.getContainerResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "vl1").stream().map(Resource::getId).toList());
+        assertTrue(containerLoaderCalled);
+
+        // removed resources are not loaded again
+        collectionCache.removeResource("l2");
+        assertEquals(List.of("l1", "l3"), collectionCache.getResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, ResourceType.LOAD, List.of("l1", "l2", "l3")).stream().map(Resource::getId).toList());
+        assertEquals(1, mockNetworkStoreClient.getIdentifiablesByIdsRequests().size());
+
+        // nothing is loaded once the collection is fully loaded
+        collectionCache.getResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM);
+        assertTrue(collectionCache.getResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, ResourceType.LOAD, List.of("l5")).isEmpty());
+        assertEquals(1, mockNetworkStoreClient.getIdentifiablesByIdsRequests().size());
+    }
+
+    @Test
+    public void evictContainerTest() {
+        assertEquals(Arrays.asList(l1, l2, l3), collectionCache.getResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM));
+        assertEquals(3, collectionCache.getCachedResourceCount());
+        allLoaderCalled = false;
+
+        // evicted resources are reloaded from the server on next access
+        assertEquals(Set.of("l1", "l2"), collectionCache.evictContainer("vl1"));
+        assertEquals(1, collectionCache.getCachedResourceCount());
+        assertFalse(collectionCache.isFullyLoaded());
+        assertFalse(collectionCache.isContainerCached("vl1"));
+        assertEquals(Arrays.asList(l1, l2), collectionCache.getContainerResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "vl1"));
+        assertTrue(containerLoaderCalled);
+        assertFalse(allLoaderCalled);
+        assertEquals(3, collectionCache.getCachedResourceCount());
+
+        // a container with a modified resource is not evicted until flush
+        Resource<LoadAttributes> l3Modified = createResource("l3", "vl2");
+        l3Modified.getAttributes().setP0(10);
+        collectionCache.updateResource(l3Modified);
+        assertTrue(collectionCache.evictContainer("vl2").isEmpty());
+        assertTrue(collectionCache.isContainerCached("vl2"));
+        collectionCache.markClean();
+        assertEquals(Set.of("l3"), collectionCache.evictContainer("vl2"));
+        assertFalse(collectionCache.isResourceLoaded("l3"));
+
+        // nothing to evict
+        assertTrue(collectionCache.evictContainer("vl3").isEmpty());
+    }
+
+    @Test
+    public void evictContainerDuringFlushTest() {
+        assertEquals(Arrays.asList(l1, l2, l3), collectionCache.getResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM));
+        Resource<LoadAttributes> l3Modified = createResource("l3", "vl2");
+        collectionCache.updateResource(l3Modified);
+
+        // a resource being flushed in background is not evicted until the flush has completed
+        assertEquals(Set.of("l3"), collectionCache.markFlushing());
+        assertTrue(collectionCache.evictContainer("vl2").isEmpty());
+        collectionCache.markFlushed(Set.of("l3"), false);
+        assertEquals(Set.of("l3"), collectionCache.evictContainer("vl2"));
+
+        // a resource whose flush has failed is still modified
+        collectionCache.updateResource(collectionCache.getResource(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "l1").orElseThrow());
+        Set<String> flushingIds = collectionCache.markFlushing();
+        assertEquals(Set.of("l1"), flushingIds);
+        collectionCache.markFlushed(flushingIds, true);
+        assertTrue(collectionCache.evictContainer("vl1").isEmpty());
+        assertTrue(collectionCache.markFlushing().contains("l1"));
+    }
+
+    @Test
+    public void copyOnWriteCloneTest() {
+        assertEquals(Arrays.asList(l1, l2, l3), collectionCache.getResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM));
+        Resource<LoadAttributes> l3Modified = createResource("l3", "vl2");
+        l3Modified.getAttributes().setP0(10);
+        collectionCache.updateResource(l3Modified);
+
+        // clean resources are shared, modified ones are copied
+        int newVariantNum = 1;
+        CollectionCache<LoadAttributes> clonedCache = collectionCache.clone(new ObjectMapper(), newVariantNum, null, true);
+        assertTrue(collectionCache.isSharingResources());
+        assertTrue(clonedCache.isSharingResources());
+        assertSame(l1, clonedCache.getCachedResource("l1").orElseThrow());
+        assertSame(l2, clonedCache.getCachedResource("l2").orElseThrow());
+        Resource<LoadAttributes> clonedL3 = clonedCache.getCachedResource("l3").orElseThrow();
+        assertNotSame(l3Modified, clonedL3);
+        assertEquals(newVariantNum, clonedL3.getVariantNum());
+        assertEquals(10, clonedL3.getAttributes().getP0(), 0);
+
+        // before being modified in place by the initial variant, a shared resource is replaced by a copy in the clone
+        clonedCache.unshareResource(l1, newVariantNum, new ObjectMapper());
+        Resource<LoadAttributes> clonedL1 = clonedCache.getCachedResource("l1").orElseThrow();
+        assertNotSame(l1, clonedL1);
+        assertEquals(newVariantNum, clonedL1.getVariantNum());
+        assertTrue(clonedCache.getContainerResources(NETWORK_UUID, newVariantNum, "vl1").stream().anyMatch(resource -> resource == clonedL1));
+        assertSame(l1, collectionCache.getCachedResource("l1").orElseThrow());
+
+        // a resource not referenced anymore is not copied again
+        clonedCache.unshareResource(l1, newVariantNum, new ObjectMapper());
+        assertSame(clonedL1, clonedCache.getCachedResource("l1").orElseThrow());
+
+        // without copy on write, all the resources are copied
+        CollectionCache<LoadAttributes> copiedCache = collectionCache.clone(new ObjectMapper(), 2, null, false);
+        assertFalse(copiedCache.isSharingResources());
+        assertNotSame(l2, copiedCache.getCachedResource("l2").orElseThrow());
+    }
 }
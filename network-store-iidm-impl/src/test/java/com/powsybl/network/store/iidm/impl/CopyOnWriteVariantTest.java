@@ -0,0 +1,231 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.powsybl.cgmes.extensions.CgmesTapChangers;
+import com.powsybl.cgmes.extensions.CgmesTapChangersAdder;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.extensions.ReferencePriorities;
+import com.powsybl.iidm.network.extensions.ReferencePrioritiesAdder;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.network.test.HvdcTestNetwork;
+import com.powsybl.network.store.model.IdentifiableAttributes;
+import com.powsybl.network.store.model.RegulatingEquipmentIdentifier;
+import com.powsybl.network.store.model.Resource;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class CopyOnWriteVariantTest {
+
+    private static final String VARIANT_ID = "v";
+
+    private final CachedNetworkStoreClient client = new CachedNetworkStoreClient(new OfflineNetworkStoreClient(), false,
+            CachedNetworkStoreClient.UNLIMITED_CACHED_RESOURCE_COUNT, true);
+
+    private Network createNetwork() {
+        return EurostagTutorialExample1Factory.create(new NetworkFactoryImpl(() -> client));
+    }
+
+    private void flushAndCloneVariant(Network network) {
+        // once flushed, the resources are shared by the cloned variant
+        client.flush(((NetworkImpl) network).getUuid());
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, VARIANT_ID);
+    }
+
+    @Test
+    public void test() {
+        assertTrue(client.isCopyOnWriteVariants());
+        Network network = createNetwork();
+        flushAndCloneVariant(network);
+
+        // a modification of the clone is not visible from the initial variant
+        network.getVariantManager().setWorkingVariant(VARIANT_ID);
+        Load load = network.getLoad("LOAD");
+        load.setP0(700);
+        load.setProperty("foo", "bar");
+        assertEquals(700, load.getP0(), 0);
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(600, load.getP0(), 0);
+        assertFalse(load.hasProperty("foo"));
+
+        // and the other way around
+        load.setQ0(300);
+        network.getVariantManager().setWorkingVariant(VARIANT_ID);
+        assertEquals(200, load.getQ0(), 0);
+        assertEquals(700, load.getP0(), 0);
+        assertEquals("bar", load.getProperty("foo"));
+
+        // the unmodified resources are still readable from both variants
+        assertEquals(607, network.getGenerator("GEN").getTargetP(), 0);
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(607, network.getGenerator("GEN").getTargetP(), 0);
+        assertEquals(300, load.getQ0(), 0);
+    }
+
+    @Test
+    public void testNewCurrentLimits() {
+        Network network = createNetwork();
+        flushAndCloneVariant(network);
+
+        // the selected operational limits group is set on the clone only
+        network.getVariantManager().setWorkingVariant(VARIANT_ID);
+        Line line = network.getLine("NHV1_NHV2_1");
+        line.newCurrentLimits1().setPermanentLimit(500).add();
+        assertEquals(Optional.of("DEFAULT"), line.getSelectedOperationalLimitsGroupId1());
+        assertEquals(500, line.getCurrentLimits1().orElseThrow().getPermanentLimit(), 0);
+
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertTrue(line.getSelectedOperationalLimitsGroupId1().isEmpty());
+        assertTrue(line.getCurrentLimits1().isEmpty());
+    }
+
+    @Test
+    public void testCgmesTapChanger() {
+        Network network = createNetwork();
+        TwoWindingsTransformer twt = network.getTwoWindingsTransformer("NGEN_NHV1");
+        twt.newExtension(CgmesTapChangersAdder.class).add();
+        flushAndCloneVariant(network);
+
+        // the tap changer is added to the clone only
+        network.getVariantManager().setWorkingVariant(VARIANT_ID);
+        CgmesTapChangers<TwoWindingsTransformer> cgmesTapChangers = twt.getExtension(CgmesTapChangers.class);
+        cgmesTapChangers.newTapChanger().setId("tc1").setControlId("control1").setStep(1).setType("type1").add();
+        assertNotNull(cgmesTapChangers.getTapChanger("tc1"));
+
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertTrue(twt.getExtension(CgmesTapChangers.class).getTapChangers().isEmpty());
+    }
+
+    @Test
+    public void testBusViewAfterCloneVariant() {
+        Network network = createNetwork();
+        flushAndCloneVariant(network);
+
+        // the bus view of the clone is calculated after the load has been disconnected
+        network.getVariantManager().setWorkingVariant(VARIANT_ID);
+        Load load = network.getLoad("LOAD");
+        load.getTerminal().disconnect();
+        assertNull(load.getTerminal().getBusView().getBus());
+        assertEquals(0, network.getBusView().getBus("VLLOAD_0").getLoadStream().count());
+
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertNotNull(load.getTerminal().getBusView().getBus());
+        assertEquals(1, network.getBusView().getBus("VLLOAD_0").getLoadStream().count());
+    }
+
+    @Test
+    public void testRemoveHvdcLine() {
+        Network network = HvdcTestNetwork.createVsc(new NetworkFactoryImpl(() -> client));
+        flushAndCloneVariant(network);
+
+        // the converter stations of the line are only detached in the clone
+        network.getVariantManager().setWorkingVariant(VARIANT_ID);
+        network.getHvdcLine("L").remove();
+        assertNull(network.getHvdcLine("L"));
+
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        HvdcLine hvdcLine = network.getHvdcLine("L");
+        assertNotNull(hvdcLine);
+        assertEquals("C1", hvdcLine.getConverterStation1().getId());
+        assertEquals("C2", hvdcLine.getConverterStation2().getId());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDeleteReferencePriorities() {
+        Network network = createNetwork();
+        Generator generator = network.getGenerator("GEN");
+        ReferencePriorities<Generator> referencePriorities = generator.newExtension(ReferencePrioritiesAdder.class).add();
+        referencePriorities.newReferencePriority().setTerminal(generator.getTerminal()).setPriority(1).add();
+        flushAndCloneVariant(network);
+
+        // the reference priorities are only deleted in the clone
+        network.getVariantManager().setWorkingVariant(VARIANT_ID);
+        generator.getExtension(ReferencePriorities.class).deleteReferencePriorities();
+        assertTrue(((ReferencePriorities<Generator>) generator.getExtension(ReferencePriorities.class)).getReferencePriorities().isEmpty());
+
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(1, ((ReferencePriorities<Generator>) generator.getExtension(ReferencePriorities.class)).getReferencePriorities().size());
+    }
+
+    @Test
+    public void testRemoveRegulatedEquipment() {
+        Network network = createNetwork();
+        Load load = network.getLoad("LOAD");
+        network.getGenerator("GEN").setRegulatingTerminal(load.getTerminal());
+        flushAndCloneVariant(network);
+
+        // the regulating equipments of the load are only cleared in the clone
+        network.getVariantManager().setWorkingVariant(VARIANT_ID);
+        load.remove();
+
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(List.of("GEN"), ((LoadImpl) load).getResource().getAttributes().getRegulatingEquipments().stream()
+            .map(RegulatingEquipmentIdentifier::getEquipmentId)
+            .toList());
+        assertEquals("LOAD", network.getGenerator("GEN").getRegulatingTerminal().getConnectable().getId());
+    }
+
+    /**
+     * Record the attributes of the resources at their first preparation since the last flush, as merge patches do.
+     */
+    private static final class SnapshotNetworkStoreClient extends AbstractForwardingNetworkStoreClient<NetworkStoreClient> {
+
+        private final ObjectMapper objectMapper = JsonUtil.createObjectMapper();
+
+        private final Map<String, ObjectNode> snapshots = new HashMap<>();
+
+        private SnapshotNetworkStoreClient() {
+            super(new OfflineNetworkStoreClient());
+        }
+
+        @Override
+        public <T extends IdentifiableAttributes> void prepareResourceUpdate(UUID networkUuid, int variantNum, Resource<T> resource) {
+            snapshots.computeIfAbsent(resource.getId(), id -> objectMapper.valueToTree(resource.getAttributes()));
+            super.prepareResourceUpdate(networkUuid, variantNum, resource);
+        }
+
+        @Override
+        public void flush(UUID networkUuid) {
+            snapshots.clear();
+            super.flush(networkUuid);
+        }
+    }
+
+    @Test
+    public void testPrepareBeforeInPlaceModification() {
+        SnapshotNetworkStoreClient snapshotClient = new SnapshotNetworkStoreClient();
+        CachedNetworkStoreClient cachedClient = new CachedNetworkStoreClient(snapshotClient);
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl(() -> cachedClient));
+        cachedClient.flush(((NetworkImpl) network).getUuid());
+
+        // the attributes recorded at the first preparation are the ones before any modification
+        Line line = network.getLine("NHV1_NHV2_1");
+        line.newCurrentLimits1().setPermanentLimit(500).add();
+        line.setProperty("foo", "bar");
+        assertFalse(snapshotClient.snapshots.get("NHV1_NHV2_1").hasNonNull("selectedOperationalLimitsGroupId1"));
+        assertFalse(snapshotClient.snapshots.get("NHV1_NHV2_1").hasNonNull("properties"));
+
+        Load load = network.getLoad("LOAD");
+        load.setProperty("foo", "bar");
+        load.removeProperty("foo");
+        assertFalse(snapshotClient.snapshots.get("LOAD").hasNonNull("properties"));
+    }
+}
@@ -0,0 +1,239 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.network.store.model.CalculatedBusAttributes;
+import com.powsybl.network.store.model.Vertex;
+import com.powsybl.network.store.model.VoltageLevelAttributes;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Randomized check that calculated buses and components incrementally updated after a switch operation are the same
+ * as fully recomputed ones.
+ *
+ * @author agent <agent at local>
+ */
+public class IncrementalCalculatedBusesTest {
+
+    private static final int BUSBAR_SECTION_COUNT = 4;
+
+    private static final int FEEDER_COUNT = 30;
+
+    private static final int OPERATION_COUNT = 500;
+
+    private record CalculatedBuses(List<Set<Vertex>> busBreakerViewBuses, Map<Integer, Integer> nodeToBusBreakerViewBus,
+                                   List<Set<Vertex>> busViewBuses, Map<Integer, Integer> nodeToBusViewBus,
+                                   List<String> busViewBusIds, List<Integer> connectedComponentNums,
+                                   List<Integer> synchronousComponentNums) {
+    }
+
+    private static List<Set<Vertex>> getVertices(List<CalculatedBusAttributes> calculatedBuses) {
+        calculatedBuses.forEach(calculatedBus -> {
+            assertTrue(Double.isNaN(calculatedBus.getV()));
+            assertTrue(Double.isNaN(calculatedBus.getAngle()));
+        });
+        return calculatedBuses.stream().map(CalculatedBusAttributes::getVertices).toList();
+    }
+
+    private static CalculatedBuses getCalculatedBuses(Network network, VoltageLevelImpl vl) {
+        // bus view buses are read through the network to also check the network bus cache
+        List<String> busViewBusIds = vl.getBusView().getBusStream().map(Identifiable::getId).toList();
+        busViewBusIds.forEach(id -> assertNotNull(network.getBusView().getBus(id)));
+        vl.getBusBreakerView().getBuses();
+        VoltageLevelAttributes attributes = vl.getResource().getAttributes();
+        List<Bus> buses = network.getBusView().getBusStream().toList();
+        List<Integer> connectedComponentNums = buses.stream().map(bus -> bus.getConnectedComponent().getNum()).toList();
+        List<Integer> synchronousComponentNums = buses.stream().map(bus -> bus.getSynchronousComponent().getNum()).toList();
+        return new CalculatedBuses(getVertices(attributes.getCalculatedBusesForBusBreakerView()), new HashMap<>(attributes.getNodeToCalculatedBusForBusBreakerView()),
+                                   getVertices(attributes.getCalculatedBusesForBusView()), new HashMap<>(attributes.getNodeToCalculatedBusForBusView()),
+                                   busViewBusIds, connectedComponentNums, synchronousComponentNums);
+    }
+
+    /**
+     * Busbar sections are coupled by breakers and each feeder is connected through a breaker to a node which can be
+     * connected to two busbar sections with disconnectors. Some feeders are lines to another voltage level, so that
+     * calculated buses of the first voltage level can be in the same component.
+     */
+    private static Network createNetwork(Random random) {
+        Network network = Network.create("test", "test");
+        Substation s = network.newSubstation().setId("S").add();
+        VoltageLevel vl = s.newVoltageLevel().setId("VL").setNominalV(400).setTopologyKind(TopologyKind.NODE_BREAKER).add();
+        for (int i = 0; i < BUSBAR_SECTION_COUNT; i++) {
+            vl.getNodeBreakerView().newBusbarSection().setId("BBS" + i).setNode(i).add();
+        }
+        VoltageLevel vl2 = s.newVoltageLevel().setId("VL2").setNominalV(400).setTopologyKind(TopologyKind.BUS_BREAKER).add();
+        vl2.getBusBreakerView().newBus().setId("VL2_B").add();
+        vl2.newLoad().setId("VL2_L").setBus("VL2_B").setConnectableBus("VL2_B").setP0(1).setQ0(0).add();
+        int node = BUSBAR_SECTION_COUNT;
+        for (int i = 0; i < BUSBAR_SECTION_COUNT - 1; i++) {
+            vl.getNodeBreakerView().newBreaker().setId("C" + i).setNode1(i).setNode2(i + 1)
+                .setOpen(random.nextBoolean()).setRetained(random.nextBoolean()).add();
+        }
+        for (int i = 0; i < FEEDER_COUNT; i++) {
+            if (i % 3 == 2) {
+                network.newLine().setId("LINE" + i).setVoltageLevel1("VL").setNode1(node).setVoltageLevel2("VL2").setBus2("VL2_B")
+                    .setConnectableBus2("VL2_B").setR(1).setX(1).setG1(0).setB1(0).setG2(0).setB2(0).add();
+            } else if (i % 3 == 0) {
+                vl.newLoad().setId("L" + i).setNode(node).setP0(1).setQ0(0).add();
+            } else {
+                vl.newGenerator().setId("G" + i).setNode(node).setMinP(0).setMaxP(10).setTargetP(1).setTargetQ(0)
+                    .setVoltageRegulatorOn(false).add();
+            }
+            vl.getNodeBreakerView().newBreaker().setId("B" + i).setNode1(node).setNode2(node + 1)
+                .setOpen(random.nextBoolean()).setRetained(random.nextInt(4) == 0).add();
+            vl.getNodeBreakerView().newDisconnector().setId("D" + i + "_1").setNode1(node + 1).setNode2(random.nextInt(BUSBAR_SECTION_COUNT))
+                .setOpen(random.nextBoolean()).add();
+            vl.getNodeBreakerView().newDisconnector().setId("D" + i + "_2").setNode1(node + 1).setNode2(random.nextInt(BUSBAR_SECTION_COUNT))
+                .setOpen(random.nextBoolean()).add();
+            node += 2;
+        }
+        return network;
+    }
+
+    @Test
+    public void testSplit() {
+        // two busbar sections, the loads LA and LB being connected to the first one and LC to the second one
+        Network network = Network.create("test", "test");
+        Substation s = network.newSubstation().setId("S").add();
+        VoltageLevel vl = s.newVoltageLevel().setId("VL").setNominalV(400).setTopologyKind(TopologyKind.NODE_BREAKER).add();
+        vl.getNodeBreakerView().newBusbarSection().setId("BBS0").setNode(0).add();
+        vl.getNodeBreakerView().newBusbarSection().setId("BBS3").setNode(3).add();
+        vl.newLoad().setId("LA").setNode(1).setP0(1).setQ0(0).add();
+        vl.newLoad().setId("LC").setNode(4).setP0(1).setQ0(0).add();
+        vl.newLoad().setId("LB").setNode(2).setP0(1).setQ0(0).add();
+        vl.getNodeBreakerView().newBreaker().setId("BA").setNode1(1).setNode2(0).add();
+        vl.getNodeBreakerView().newBreaker().setId("BB").setNode1(2).setNode2(0).add();
+        vl.getNodeBreakerView().newBreaker().setId("BC").setNode1(4).setNode2(3).add();
+        VoltageLevelImpl vlImpl = (VoltageLevelImpl) vl;
+        assertEquals(List.of("VL_0", "VL_3"), vl.getBusView().getBusStream().map(Identifiable::getId).toList());
+        getCalculatedBuses(network, vlImpl);
+
+        // LA is detached from its bus, which is still a valid calculated bus in the bus view but now comes after the
+        // bus of LC, and which is split in two calculated buses in the bus/breaker view
+        vl.getNodeBreakerView().getSwitch("BA").setOpen(true);
+        assertTrue(vlImpl.getResource().getAttributes().isCalculatedBusesValid());
+        CalculatedBuses updatedBuses = getCalculatedBuses(network, vlImpl);
+        assertEquals(List.of("VL_3", "VL_0"), updatedBuses.busViewBusIds());
+        assertNull(network.getLoad("LA").getTerminal().getBusView().getBus());
+        assertEquals(3, updatedBuses.busBreakerViewBuses().size());
+        vlImpl.invalidateCalculatedBuses();
+        assertEquals(getCalculatedBuses(network, vlImpl), updatedBuses);
+
+        // LB is detached as well, so the bus of BBS0 is not a valid calculated bus of the bus view anymore
+        vl.getNodeBreakerView().getSwitch("BB").setOpen(true);
+        assertTrue(vlImpl.getResource().getAttributes().isCalculatedBusesValid());
+        updatedBuses = getCalculatedBuses(network, vlImpl);
+        assertEquals(List.of("VL_3"), updatedBuses.busViewBusIds());
+        assertNull(network.getBusView().getBus("VL_0"));
+        vlImpl.invalidateCalculatedBuses();
+        assertEquals(getCalculatedBuses(network, vlImpl), updatedBuses);
+    }
+
+    @Test
+    public void testComponents() {
+        // a first bus with a line to a second voltage level and a second bus only with a load, the coupler being open
+        Network network = Network.create("test", "test");
+        Substation s = network.newSubstation().setId("S").add();
+        VoltageLevel vl = s.newVoltageLevel().setId("VL").setNominalV(400).setTopologyKind(TopologyKind.NODE_BREAKER).add();
+        vl.getNodeBreakerView().newBusbarSection().setId("BBS0").setNode(0).add();
+        vl.getNodeBreakerView().newBusbarSection().setId("BBS3").setNode(3).add();
+        vl.newLoad().setId("LA").setNode(2).setP0(1).setQ0(0).add();
+        vl.newLoad().setId("LB").setNode(4).setP0(1).setQ0(0).add();
+        vl.getNodeBreakerView().newBreaker().setId("BL").setNode1(1).setNode2(0).add();
+        vl.getNodeBreakerView().newBreaker().setId("BA").setNode1(2).setNode2(0).add();
+        vl.getNodeBreakerView().newBreaker().setId("BB").setNode1(4).setNode2(3).add();
+        vl.getNodeBreakerView().newBreaker().setId("C").setNode1(0).setNode2(3).setOpen(true).add();
+        VoltageLevel vl2 = s.newVoltageLevel().setId("VL2").setNominalV(400).setTopologyKind(TopologyKind.BUS_BREAKER).add();
+        vl2.getBusBreakerView().newBus().setId("VL2_B").add();
+        vl2.newLoad().setId("VL2_L").setBus("VL2_B").setConnectableBus("VL2_B").setP0(1).setQ0(0).add();
+        Line line = network.newLine().setId("LINE").setVoltageLevel1("VL").setNode1(1).setVoltageLevel2("VL2").setBus2("VL2_B")
+                .setConnectableBus2("VL2_B").setR(1).setX(1).setG1(0).setB1(0).setG2(0).setB2(0).add();
+        VoltageLevelImpl vlImpl = (VoltageLevelImpl) vl;
+        NetworkImpl networkImpl = (NetworkImpl) network;
+        getCalculatedBuses(network, vlImpl);
+        assertEquals(List.of(0, 1, 0), getCalculatedBuses(network, vlImpl).connectedComponentNums());
+
+        // closing the coupler merges the buses of two components, which are united
+        vl.getNodeBreakerView().getSwitch("C").setOpen(false);
+        assertTrue(networkImpl.getResource().getAttributes().isConnectedComponentsValid());
+        assertTrue(networkImpl.getResource().getAttributes().isSynchronousComponentsValid());
+        CalculatedBuses updatedBuses = getCalculatedBuses(network, vlImpl);
+        assertEquals(List.of(0, 0), updatedBuses.connectedComponentNums());
+        vlImpl.invalidateCalculatedBuses();
+        assertEquals(getCalculatedBuses(network, vlImpl), updatedBuses);
+
+        // disconnecting the line detaches its node from the bus, the line being the only link between both voltage
+        // levels
+        assertTrue(line.getTerminal1().disconnect());
+        assertTrue(vlImpl.getResource().getAttributes().isCalculatedBusesValid());
+        assertTrue(networkImpl.getResource().getAttributes().isConnectedComponentsValid());
+        updatedBuses = getCalculatedBuses(network, vlImpl);
+        assertEquals(List.of(0, 1), updatedBuses.connectedComponentNums());
+        vlImpl.invalidateCalculatedBuses();
+        assertEquals(getCalculatedBuses(network, vlImpl), updatedBuses);
+
+        // opening the coupler splits the bus in two buses without branch, each one in its own component
+        vl.getNodeBreakerView().getSwitch("C").setOpen(true);
+        assertTrue(networkImpl.getResource().getAttributes().isConnectedComponentsValid());
+        updatedBuses = getCalculatedBuses(network, vlImpl);
+        assertEquals(3, updatedBuses.connectedComponentNums().size());
+        vlImpl.invalidateCalculatedBuses();
+        assertEquals(getCalculatedBuses(network, vlImpl), updatedBuses);
+    }
+
+    @Test
+    public void test() {
+        Random random = new Random(0);
+        Network network = createNetwork(random);
+        VoltageLevelImpl vl = (VoltageLevelImpl) network.getVoltageLevel("VL");
+        List<Switch> switches = vl.getNodeBreakerView().getSwitches();
+        List<Terminal> terminals = vl.getConnectableStream()
+                .filter(connectable -> !(connectable instanceof BusbarSection))
+                .<Terminal>flatMap(connectable -> ((Connectable<?>) connectable).getTerminals().stream())
+                .filter(terminal -> terminal.getVoltageLevel().getId().equals("VL"))
+                .toList();
+        getCalculatedBuses(network, vl);
+
+        int incrementalUpdateCount = 0;
+        int incrementalComponentUpdateCount = 0;
+        for (int i = 0; i < OPERATION_COUNT; i++) {
+            String operation;
+            if (random.nextInt(4) == 0) {
+                // terminals are connected and disconnected by closing and opening switches
+                Terminal terminal = terminals.get(random.nextInt(terminals.size()));
+                operation = (terminal.isConnected() ? "Disconnection" : "Connection") + " of " + terminal.getConnectable().getId();
+                if (terminal.isConnected()) {
+                    terminal.disconnect();
+                } else {
+                    terminal.connect();
+                }
+            } else {
+                Switch sw = switches.get(random.nextInt(switches.size()));
+                operation = "Switch " + sw.getId();
+                sw.setOpen(!sw.isOpen());
+            }
+            if (vl.getResource().getAttributes().isCalculatedBusesValid()) {
+                incrementalUpdateCount++;
+            }
+            if (((NetworkImpl) network).getResource().getAttributes().isConnectedComponentsValid()) {
+                incrementalComponentUpdateCount++;
+            }
+            CalculatedBuses updatedBuses = getCalculatedBuses(network, vl);
+
+            vl.invalidateCalculatedBuses();
+            CalculatedBuses recomputedBuses = getCalculatedBuses(network, vl);
+            assertEquals("Operation " + i + ": " + operation, recomputedBuses, updatedBuses);
+        }
+        assertTrue(incrementalUpdateCount > 0);
+        assertTrue(incrementalComponentUpdateCount > 0);
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.network.store.model.ExtensionAttributes;
+import com.powsybl.network.store.model.LazyExtensionAttributes;
+import com.powsybl.network.store.model.ResourceType;
+
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Mock client returning the extension attributes of a whole collection as lazy extension attributes, as the rest
+ * client does when lazy extension attributes are enabled.
+ *
+ * @author agent <agent at local>
+ */
+class LazyExtensionsMockNetworkStoreClient extends MockNetworkStoreClient {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Override
+    public Map<String, Map<String, ExtensionAttributes>> getAllExtensionsAttributesByResourceType(UUID networkUuid, int variantNum, ResourceType resourceType) {
+        Map<String, Map<String, ExtensionAttributes>> lazyExtensionAttributes = new HashMap<>();
+        super.getAllExtensionsAttributesByResourceType(networkUuid, variantNum, resourceType).forEach((identifiableId, extensionAttributes) -> {
+            Map<String, ExtensionAttributes> lazyAttributes = new HashMap<>();
+            extensionAttributes.forEach((extensionName, attributes) -> lazyAttributes.put(extensionName, toLazy(attributes)));
+            lazyExtensionAttributes.put(identifiableId, lazyAttributes);
+        });
+        return lazyExtensionAttributes;
+    }
+
+    static LazyExtensionAttributes toLazy(ExtensionAttributes extensionAttributes) {
+        try {
+            return new LazyExtensionAttributes(OBJECT_MAPPER.writerFor(ExtensionAttributes.class).writeValueAsBytes(extensionAttributes));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -22,8 +22,19 @@ class MockNetworkStoreClient implements NetworkStoreClient {
     private boolean extensionAttributesLoaderByResourceTypeAndNameCalled = false;
     private boolean extensionAttributesLoaderByIdCalled = false;
     private boolean extensionAttributesLoaderByResourceTypeCalled = false;
+    private final List<List<String>> identifiablesByIdsRequests = new ArrayList<>();
 
     // Methods used in tests
+    @Override
+    public List<Resource<IdentifiableAttributes>> getIdentifiablesByIds(UUID networkUuid, int variantNum, ResourceType resourceType, Collection<String> ids) {
+        identifiablesByIdsRequests.add(new ArrayList<>(ids));
+        return ids.stream()
+                .filter(id -> id.equals("l1") || id.equals("l2") || id.equals("l3"))
+                .<Resource<IdentifiableAttributes>>map(id -> Resource.create(ResourceType.LOAD, id, variantNum,
+                        LoadAttributes.builder().voltageLevelId(id.equals("l3") ? "vl2" : "vl1").build()))
+                .toList();
+    }
+
     @Override
     public Optional<ExtensionAttributes> getExtensionAttributes(UUID networkUuid, int variantNum, ResourceType resourceType, String identifiableId, String extensionName) {
         extensionAttributeLoaderCalled = true;
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Load;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VoltageLevel;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.network.store.model.Resource;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Several threads walking the same network in concurrent mode, the objects of the network being created by the
+ * reading threads.
+ *
+ * @author agent <agent at local>
+ */
+public class NetworkConcurrencyTest {
+
+    private static final int LOAD_COUNT = 1000;
+
+    private static final int THREAD_COUNT = 16;
+
+    @Test
+    public void testConcurrentReads() throws Exception {
+        // the network is created in a first client acting as the store
+        CachedNetworkStoreClient storeClient = new CachedNetworkStoreClient(new OfflineNetworkStoreClient());
+        Network createdNetwork = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl(() -> storeClient));
+        VoltageLevel vl = createdNetwork.getVoltageLevel("VLLOAD");
+        for (int i = 0; i < LOAD_COUNT; i++) {
+            vl.newLoad().setId("L" + i).setBus("NLOAD").setP0(i).setQ0(0).add();
+        }
+        UUID networkUuid = ((NetworkImpl) createdNetwork).getUuid();
+
+        // and read again through a concurrent client, so that no object of the network exists yet
+        CachedNetworkStoreClient client = new CachedNetworkStoreClient(storeClient, true);
+        NetworkImpl network = NetworkImpl.create(client, client.getNetwork(networkUuid, Resource.INITIAL_VARIANT_NUM).orElseThrow());
+
+        Map<String, Identifiable<?>> objectsById = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREAD_COUNT; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<Integer> nums = new ArrayList<>(IntStream.range(0, LOAD_COUNT).boxed().toList());
+                    Collections.shuffle(nums, new Random(seed));
+                    for (int num : nums) {
+                        Load load = network.getLoad("L" + num);
+                        assertEquals(num, load.getP0(), 0);
+                        assertEquals("VLLOAD", load.getTerminal().getVoltageLevel().getId());
+                        // a single object by identifiable, whatever the thread creating it
+                        assertSame(load, objectsById.computeIfAbsent(load.getId(), id -> load));
+                    }
+                    assertEquals(LOAD_COUNT + 1, network.getLoadCount());
+                    network.getGenerators().forEach(generator -> assertSame(generator, objectsById.computeIfAbsent(generator.getId(), id -> generator)));
+                    network.getLines().forEach(line -> assertSame(line, objectsById.computeIfAbsent(line.getId(), id -> line)));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(LOAD_COUNT + 3, objectsById.size());
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import com.powsybl.iidm.network.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Node/breaker graph caching of a large voltage level.
+ *
+ * @author agent <agent at local>
+ */
+public class NodeBreakerGraphCacheTest {
+
+    private static final int BUSBAR_SECTION_COUNT = 10;
+
+    private static final int LOAD_COUNT = 500;
+
+    private Network network;
+
+    private VoltageLevelImpl vl;
+
+    /**
+     * Each load is connected to its busbar section through a breaker and a disconnector.
+     */
+    @Before
+    public void setUp() {
+        network = Network.create("test", "test");
+        Substation s = network.newSubstation().setId("S").add();
+        vl = (VoltageLevelImpl) s.newVoltageLevel().setId("VL").setNominalV(400).setTopologyKind(TopologyKind.NODE_BREAKER).add();
+        for (int i = 0; i < BUSBAR_SECTION_COUNT; i++) {
+            vl.getNodeBreakerView().newBusbarSection().setId("BBS" + i).setNode(i).add();
+        }
+        int node = BUSBAR_SECTION_COUNT;
+        for (int i = 0; i < LOAD_COUNT; i++) {
+            vl.newLoad().setId("L" + i).setNode(node).setP0(1).setQ0(0).add();
+            vl.getNodeBreakerView().newBreaker().setId("B" + i).setNode1(node).setNode2(node + 1).add();
+            vl.getNodeBreakerView().newDisconnector().setId("D" + i).setNode1(node + 1).setNode2(i % BUSBAR_SECTION_COUNT).add();
+            node += 2;
+        }
+    }
+
+    @Test
+    public void testGraphIsReused() {
+        var graph = vl.getNodeBreakerGraph(true, true);
+        assertSame(graph, vl.getNodeBreakerGraph(true, true));
+        assertNotSame(graph, vl.getNodeBreakerGraph(false, false));
+
+        // the graph is not rebuilt for each node
+        int switchCount = 0;
+        for (int node = 0; node < BUSBAR_SECTION_COUNT + 2 * LOAD_COUNT; node++) {
+            switchCount += vl.getNodeBreakerView().getSwitches(node).size();
+        }
+        assertEquals(4 * LOAD_COUNT, switchCount);
+        assertSame(graph, vl.getNodeBreakerGraph(true, true));
+
+        // until the calculated buses are invalidated
+        vl.invalidateCalculatedBuses();
+        assertNotSame(graph, vl.getNodeBreakerGraph(true, true));
+    }
+
+    @Test
+    public void testGraphInvalidation() {
+        assertEquals(BUSBAR_SECTION_COUNT + 2 * LOAD_COUNT - 1, vl.getNodeBreakerView().getMaximumNodeIndex());
+        var graph = vl.getNodeBreakerGraph(false, false);
+        assertTrue(graph.containsEdge(0, BUSBAR_SECTION_COUNT + 1));
+
+        // opening a switch
+        vl.getNodeBreakerView().getSwitch("D0").setOpen(true);
+        assertNotSame(graph, vl.getNodeBreakerGraph(false, false));
+        assertFalse(vl.getNodeBreakerGraph(false, false).containsEdge(0, BUSBAR_SECTION_COUNT + 1));
+        assertTrue(vl.getNodeBreakerGraph(true, true).containsEdge(0, BUSBAR_SECTION_COUNT + 1));
+
+        // adding and removing a switch
+        int newNode = BUSBAR_SECTION_COUNT + 2 * LOAD_COUNT;
+        vl.getNodeBreakerView().newDisconnector().setId("D").setNode1(0).setNode2(newNode).add();
+        assertEquals(newNode, vl.getNodeBreakerView().getMaximumNodeIndex());
+        assertEquals(List.of("D"), vl.getNodeBreakerView().getSwitches(newNode).stream().map(Identifiable::getId).toList());
+        vl.getNodeBreakerView().removeSwitch("D");
+        assertEquals(newNode - 1, vl.getNodeBreakerView().getMaximumNodeIndex());
+
+        // adding and removing an internal connection
+        vl.getNodeBreakerView().newInternalConnection().setNode1(0).setNode2(1).add();
+        assertEquals(List.of(1), vl.getNodeBreakerView().getNodesInternalConnectedTo(0));
+        vl.getNodeBreakerView().removeInternalConnections(0, 1);
+        assertTrue(vl.getNodeBreakerView().getNodesInternalConnectedTo(0).isEmpty());
+
+        // a variant has its own graph
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+        graph = vl.getNodeBreakerGraph(true, true);
+        network.getVariantManager().setWorkingVariant("v");
+        vl = (VoltageLevelImpl) network.getVoltageLevel("VL");
+        vl.getNodeBreakerView().getSwitch("B0").setOpen(true);
+        assertFalse(vl.getNodeBreakerGraph(false, false).containsEdge(BUSBAR_SECTION_COUNT, BUSBAR_SECTION_COUNT + 1));
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        vl = (VoltageLevelImpl) network.getVoltageLevel("VL");
+        assertSame(graph, vl.getNodeBreakerGraph(true, true));
+        assertTrue(vl.getNodeBreakerGraph(false, false).containsEdge(BUSBAR_SECTION_COUNT, BUSBAR_SECTION_COUNT + 1));
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.iidm.network.Load;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.network.store.model.LoadAttributes;
+import com.powsybl.network.store.model.Resource;
+import com.powsybl.network.store.model.ResourceType;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Objects still referenced after the eviction of the resources of their voltage level.
+ *
+ * @author agent <agent at local>
+ */
+public class ObjectEvictionTest {
+
+    /**
+     * Store returning copies of its load resources, as the server does.
+     */
+    private static final class CopyingStoreClient extends AbstractForwardingNetworkStoreClient<NetworkStoreClient> {
+
+        private final ObjectMapper objectMapper = JsonUtil.createObjectMapper();
+
+        private CopyingStoreClient(NetworkStoreClient delegate) {
+            super(delegate);
+        }
+
+        private List<Resource<LoadAttributes>> copy(List<Resource<LoadAttributes>> resources, int variantNum) {
+            return Resource.cloneResourcesToVariant(resources, variantNum, objectMapper, null);
+        }
+
+        @Override
+        public List<Resource<LoadAttributes>> getVoltageLevelLoads(UUID networkUuid, int variantNum, String voltageLevelId) {
+            return copy(delegate.getVoltageLevelLoads(networkUuid, variantNum, voltageLevelId), variantNum);
+        }
+
+        @Override
+        public Optional<Resource<LoadAttributes>> getLoad(UUID networkUuid, int variantNum, String loadId) {
+            return delegate.getLoad(networkUuid, variantNum, loadId).map(resource -> copy(List.of(resource), variantNum).get(0));
+        }
+    }
+
+    @Test
+    public void testModifyAfterEviction() {
+        // the network is created in a first client acting as the store, and read again through a client evicting
+        // the resources of the least recently used voltage levels
+        CachedNetworkStoreClient storeClient = new CachedNetworkStoreClient(new OfflineNetworkStoreClient());
+        UUID networkUuid = ((NetworkImpl) EurostagTutorialExample1Factory.create(new NetworkFactoryImpl(() -> storeClient))).getUuid();
+        CachedNetworkStoreClient client = new CachedNetworkStoreClient(new CopyingStoreClient(storeClient), false, 1);
+        Set<String> evictedLoadIds = new HashSet<>();
+        ResourceEvictionListener listener = (uuid, variantNum, resourceType, ids) -> {
+            if (resourceType == ResourceType.LOAD) {
+                evictedLoadIds.addAll(ids);
+            }
+        };
+        client.addResourceEvictionListener(listener);
+        NetworkImpl network = NetworkImpl.create(client, client.getNetwork(networkUuid, Resource.INITIAL_VARIANT_NUM).orElseThrow());
+
+        Load load = network.getVoltageLevel("VLLOAD").getLoads().iterator().next();
+        Resource<LoadAttributes> evictedResource = ((LoadImpl) load).getResource();
+        assertEquals(1, network.getVoltageLevel("VLGEN").getGeneratorCount());
+        assertEquals(Set.of("LOAD"), evictedLoadIds);
+
+        // the held object is bound again to the resource of the cache, so that the modification is not lost
+        load.setP0(100);
+        assertNotSame(evictedResource, ((LoadImpl) load).getResource());
+        assertEquals(100, client.getLoad(networkUuid, Resource.INITIAL_VARIANT_NUM, "LOAD").orElseThrow().getAttributes().getP0(), 0);
+        assertSame(load, network.getLoad("LOAD"));
+        assertEquals(100, network.getLoad("LOAD").getP0(), 0);
+    }
+}
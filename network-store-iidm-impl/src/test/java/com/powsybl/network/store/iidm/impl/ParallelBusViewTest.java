@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.network.store.model.Resource;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * Buses of all voltage levels calculated in parallel with a concurrent cache compared to the ones calculated
+ * sequentially.
+ *
+ * @author agent <agent at local>
+ */
+public class ParallelBusViewTest {
+
+    private static final int VOLTAGE_LEVEL_COUNT = 40;
+
+    private static final int LOAD_COUNT = 20;
+
+    /**
+     * Node/breaker voltage levels with two busbar sections and some open breakers, chained by lines to bus/breaker
+     * voltage levels.
+     */
+    private static Network createNetwork(boolean concurrent) {
+        return createNetworkInStore(new CachedNetworkStoreClient(new OfflineNetworkStoreClient(), concurrent));
+    }
+
+    private static Network createNetworkInStore(NetworkStoreClient storeClient) {
+        Network network = new NetworkFactoryImpl(() -> storeClient)
+                .createNetwork("test", "test");
+        for (int i = 0; i < VOLTAGE_LEVEL_COUNT; i++) {
+            Substation s = network.newSubstation().setId("S" + i).add();
+            VoltageLevel vl = s.newVoltageLevel().setId("VL" + i).setNominalV(400).setTopologyKind(TopologyKind.NODE_BREAKER).add();
+            vl.getNodeBreakerView().newBusbarSection().setId("BBS" + i + "_0").setNode(0).add();
+            vl.getNodeBreakerView().newBusbarSection().setId("BBS" + i + "_1").setNode(1).add();
+            vl.getNodeBreakerView().newBreaker().setId("C" + i).setNode1(0).setNode2(1).setOpen(i % 2 == 0).add();
+            int node = 2;
+            for (int j = 0; j < LOAD_COUNT; j++) {
+                vl.newLoad().setId("L" + i + "_" + j).setNode(node).setP0(1).setQ0(0).add();
+                vl.getNodeBreakerView().newBreaker().setId("B" + i + "_" + j).setNode1(node).setNode2(j % 2).setOpen(j % 7 == 0).add();
+                node++;
+            }
+            VoltageLevel vlBb = s.newVoltageLevel().setId("VLBB" + i).setNominalV(400).setTopologyKind(TopologyKind.BUS_BREAKER).add();
+            vlBb.getBusBreakerView().newBus().setId("B" + i).add();
+            network.newLine().setId("LINE" + i).setVoltageLevel1("VL" + i).setNode1(node).setVoltageLevel2("VLBB" + i)
+                .setBus2("B" + i).setConnectableBus2("B" + i).setR(1).setX(1).setG1(0).setB1(0).setG2(0).setB2(0).add();
+            vl.getNodeBreakerView().newBreaker().setId("BL" + i).setNode1(node).setNode2(1).add();
+            if (i > 0) {
+                network.newLine().setId("LINE" + (i - 1) + "_" + i).setVoltageLevel1("VLBB" + (i - 1)).setBus1("B" + (i - 1))
+                    .setConnectableBus1("B" + (i - 1)).setVoltageLevel2("VL" + i).setNode2(node + 1)
+                    .setR(1).setX(1).setG1(0).setB1(0).setG2(0).setB2(0).add();
+                vl.getNodeBreakerView().newBreaker().setId("BL" + (i - 1) + "_" + i).setNode1(node + 1).setNode2(0).add();
+            }
+        }
+        return network;
+    }
+
+    private static List<String> getBuses(Network network) {
+        return network.getBusView().getBusStream()
+            .map(bus -> bus.getId() + " " + bus.getConnectedComponent().getNum() + " " + bus.getSynchronousComponent().getNum())
+            .toList();
+    }
+
+    @Test
+    public void test() {
+        Network sequentialNetwork = createNetwork(false);
+        Network parallelNetwork = createNetwork(true);
+        assertFalse(((NetworkImpl) sequentialNetwork).getIndex().getStoreClient().isConcurrent());
+        assertTrue(((NetworkImpl) parallelNetwork).getIndex().getStoreClient().isConcurrent());
+
+        List<String> buses = getBuses(parallelNetwork);
+        parallelNetwork.getVoltageLevelStream().forEach(vl -> assertTrue(((VoltageLevelImpl) vl).getResource().getAttributes().isCalculatedBusesValid()));
+        assertEquals(getBuses(sequentialNetwork), buses);
+        assertNotNull(parallelNetwork.getBusView().getBus("VL1_0"));
+
+        // a topology change only invalidates one voltage level
+        for (Network network : List.of(sequentialNetwork, parallelNetwork)) {
+            network.getSwitch("C1").setOpen(true);
+            network.getSwitch("BL3_4").setOpen(true);
+        }
+        assertEquals(getBuses(sequentialNetwork), getBuses(parallelNetwork));
+        assertEquals(getBuses(sequentialNetwork).size(), parallelNetwork.getBusView().getConnectedComponents().stream()
+            .mapToInt(Component::getSize).sum());
+    }
+
+    @Test
+    public void testEviction() {
+        // the network is created in a first client acting as the store, and read again through a concurrent client
+        // evicting the resources of the least recently used voltage levels
+        CachedNetworkStoreClient storeClient = new CachedNetworkStoreClient(new OfflineNetworkStoreClient());
+        NetworkImpl createdNetwork = (NetworkImpl) createNetworkInStore(storeClient);
+        CachedNetworkStoreClient client = new CachedNetworkStoreClient(storeClient, true, 100);
+        assertTrue(client.isConcurrent());
+        assertTrue(client.isEvictionEnabled());
+        Set<Thread> evictionThreads = ConcurrentHashMap.newKeySet();
+        ResourceEvictionListener listener = (networkUuid, variantNum, resourceType, ids) -> evictionThreads.add(Thread.currentThread());
+        client.addResourceEvictionListener(listener);
+        NetworkImpl network = NetworkImpl.create(client, client.getNetwork(createdNetwork.getUuid(), Resource.INITIAL_VARIANT_NUM).orElseThrow());
+
+        // buses are not calculated in parallel, so that evictions are only notified to the calling thread
+        assertEquals(getBuses(createNetwork(false)), getBuses(network));
+        assertEquals(Set.of(Thread.currentThread()), evictionThreads);
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.iidm.network.IdentifiableType;
+import com.powsybl.network.store.model.*;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class StringDictionaryTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StringDictionaryTest.class);
+
+    private static final UUID NETWORK_UUID = UUID.randomUUID();
+
+    // new string instances, like the ones created by the deserialization of each resource
+    private static String newString(String s) {
+        return new String(s.toCharArray());
+    }
+
+    private static Resource<LoadAttributes> createLoad(String id, String voltageLevelId, String bus) {
+        return Resource.loadBuilder()
+                .id(newString(id))
+                .attributes(LoadAttributes.builder()
+                        .voltageLevelId(newString(voltageLevelId))
+                        .bus(newString(bus))
+                        .connectableBus(newString(bus))
+                        .build())
+                .build();
+    }
+
+    private static CollectionCache<LoadAttributes> createCache(List<Resource<LoadAttributes>> loads, StringDictionary stringDictionary) {
+        return new CollectionCache<>(
+            (networkUuid, variantNum, id) -> loads.stream().filter(r -> r.getId().equals(id)).findFirst(),
+            null,
+            (networkUuid, variantNum) -> loads,
+            null,
+            false,
+            stringDictionary);
+    }
+
+    @Test
+    public void testGet() {
+        StringDictionary stringDictionary = new StringDictionary();
+        assertNull(stringDictionary.get(null));
+        String vl1 = newString("vl1");
+        assertSame(vl1, stringDictionary.get(vl1));
+        assertSame(vl1, stringDictionary.get(newString("vl1")));
+        assertEquals(1, stringDictionary.size());
+    }
+
+    @Test
+    public void testCachedResources() {
+        StringDictionary stringDictionary = new StringDictionary();
+        CollectionCache<LoadAttributes> cache = createCache(List.of(createLoad("l1", "vl1", "b1"), createLoad("l2", "vl1", "b1")), stringDictionary);
+
+        // loaded resources
+        List<Resource<LoadAttributes>> loads = cache.getResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM);
+        assertEquals(2, loads.size());
+        LoadAttributes l1 = loads.get(0).getAttributes();
+        LoadAttributes l2 = loads.get(1).getAttributes();
+        assertEquals("vl1", l1.getVoltageLevelId());
+        assertSame(l1.getVoltageLevelId(), l2.getVoltageLevelId());
+        assertSame(l1.getBus(), l2.getBus());
+        assertSame(l1.getBus(), l1.getConnectableBus());
+
+        // created resources
+        Resource<LoadAttributes> l3 = createLoad("l3", "vl1", "b1");
+        cache.createResource(l3);
+        assertSame(l1.getVoltageLevelId(), l3.getAttributes().getVoltageLevelId());
+        assertSame(l1.getBus(), l3.getAttributes().getBus());
+
+        // cloned resources
+        CollectionCache<LoadAttributes> clonedCache = cache.clone(new ObjectMapper(), 1, null);
+        Resource<LoadAttributes> clonedL3 = clonedCache.getResource(NETWORK_UUID, 1, "l3").orElseThrow();
+        assertNotSame(l3, clonedL3);
+        assertSame(l3.getId(), clonedL3.getId());
+        assertSame(l1.getVoltageLevelId(), clonedL3.getAttributes().getVoltageLevelId());
+
+        // l1, l2, l3, vl1 and b1
+        assertEquals(5, stringDictionary.size());
+    }
+
+    @Test
+    public void testReferencedIds() {
+        StringDictionary stringDictionary = new StringDictionary();
+        Resource<VoltageLevelAttributes> vl1 = Resource.voltageLevelBuilder()
+                .id("vl1")
+                .attributes(VoltageLevelAttributes.builder()
+                        .substationId(newString("s1"))
+                        .calculatedBusesForBusView(List.of(CalculatedBusAttributes.builder()
+                                .vertices(Set.of(new Vertex(newString("g1"), IdentifiableType.GENERATOR, null, newString("b1"), null)))
+                                .build()))
+                        .build())
+                .build();
+        Resource<GeneratorAttributes> g1 = Resource.generatorBuilder()
+                .id(newString("g1"))
+                .attributes(GeneratorAttributes.builder()
+                        .voltageLevelId(newString("vl1"))
+                        .bus(newString("b1"))
+                        .regulatingPoint(RegulatingPointAttributes.builder()
+                                .regulatingEquipmentId(newString("g1"))
+                                .localTerminal(new TerminalRefAttributes(newString("g1"), null))
+                                .build())
+                        .build())
+                .build();
+        stringDictionary.deduplicate(vl1);
+        stringDictionary.deduplicate(g1);
+
+        Vertex vertex = vl1.getAttributes().getCalculatedBusesForBusView().get(0).getVertices().iterator().next();
+        assertSame(vl1.getId(), g1.getAttributes().getVoltageLevelId());
+        assertSame(vertex.getId(), g1.getId());
+        assertSame(vertex.getBus(), g1.getAttributes().getBus());
+        assertSame(g1.getId(), g1.getAttributes().getRegulatingPoint().getRegulatingEquipmentId());
+        assertSame(g1.getId(), g1.getAttributes().getRegulatingPoint().getLocalTerminal().getConnectableId());
+        assertEquals(4, stringDictionary.size());
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long measureCacheHeap(int loadCount, int voltageLevelCount, StringDictionary stringDictionary) {
+        List<Resource<LoadAttributes>> loads = new ArrayList<>(loadCount);
+        long before = usedMemory();
+        IntStream.range(0, loadCount).forEach(i -> loads.add(createLoad("load" + i, "voltageLevel" + i % voltageLevelCount, "bus" + i % voltageLevelCount)));
+        CollectionCache<LoadAttributes> cache = createCache(loads, stringDictionary);
+        assertEquals(loadCount, cache.getResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM).size());
+        long after = usedMemory();
+        assertEquals(loadCount, loads.size());
+        return after - before;
+    }
+
+    /**
+     * Micro-benchmark comparing the heap footprint of cached loads with and without a dictionary. Results are only
+     * logged as they depend on the garbage collector.
+     */
+    @Test
+    public void benchmarkHeapFootprint() {
+        int loadCount = 100000;
+        int voltageLevelCount = 1000;
+        long bytes = measureCacheHeap(loadCount, voltageLevelCount, null);
+        long deduplicatedBytes = measureCacheHeap(loadCount, voltageLevelCount, new StringDictionary());
+        LOGGER.info("{} cached loads in {} voltage levels: {} bytes per load without dictionary, {} bytes per load with dictionary",
+                loadCount, voltageLevelCount, bytes / loadCount, deduplicatedBytes / loadCount);
+    }
+}
@@ -8,7 +8,11 @@ package com.powsybl.network.store.iidm.impl;
 
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.extensions.GeneratorStartup;
+import com.powsybl.iidm.network.extensions.GeneratorStartupAdder;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.network.store.model.GeneratorAttributes;
+import com.powsybl.network.store.model.Resource;
 import org.junit.Test;
 
 import java.util.Set;
@@ -124,10 +128,10 @@ public class VariantTest {
         network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
         network.getVariantManager().setWorkingVariant("v");
 
-        // recalculate buses on the new variant
+        // update buses on the new variant
         assertTrue(gt.isConnected());
         assertTrue(gt.disconnect());
-        assertFalse(((VoltageLevelImpl) vl1).getResource().getAttributes().isCalculatedBusesValid());
+        assertTrue(((VoltageLevelImpl) vl1).getResource().getAttributes().isCalculatedBusesValid());
         assertFalse(gt.isConnected());
         assertTrue(vl1.getNodeBreakerView().getSwitch("BR1").isOpen());
         assertEquals(3, vl1.getBusBreakerView().getBus("VL1_0").getConnectedTerminalCount());
@@ -141,4 +145,33 @@ public class VariantTest {
         assertEquals(4, vl1.getBusBreakerView().getBus("VL1_0").getConnectedTerminalCount());
         assertEquals(4, vl1.getBusView().getBus("VL1_0").getConnectedTerminalCount());
     }
+
+    @Test
+    public void testLazyExtensionAttributesAfterVariantSwitch() {
+        CachedNetworkStoreClient client = new CachedNetworkStoreClient(new OfflineNetworkStoreClient());
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl(() -> client));
+        Generator gen = network.getGenerator("GEN");
+        gen.newExtension(GeneratorStartupAdder.class)
+                .withPlannedActivePowerSetpoint(600)
+                .withStartupCost(5)
+                .withMarginalCost(10)
+                .withPlannedOutageRate(0.8)
+                .withForcedOutageRate(0.7)
+                .add();
+        GeneratorStartup startup = gen.getExtension(GeneratorStartup.class);
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+
+        // extension attributes of the cloned variant loaded as lazy attributes, as the rest client does
+        Resource<GeneratorAttributes> resource = client.getGenerator(((NetworkImpl) network).getUuid(), 1, "GEN").orElseThrow();
+        resource.getAttributes().getExtensionAttributes().computeIfPresent(GeneratorStartup.NAME,
+            (extensionName, attributes) -> LazyExtensionsMockNetworkStoreClient.toLazy(attributes));
+
+        // the extension created on the initial variant can still be used on the new one
+        network.getVariantManager().setWorkingVariant("v");
+        assertEquals(600, startup.getPlannedActivePowerSetpoint(), 0);
+        startup.setMarginalCost(11);
+        assertEquals(11, startup.getMarginalCost(), 0);
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(10, startup.getMarginalCost(), 0);
+    }
 }
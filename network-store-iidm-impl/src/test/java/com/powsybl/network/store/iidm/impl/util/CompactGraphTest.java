@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl.util;
+
+import org.jgrapht.Graph;
+import org.jgrapht.alg.connectivity.ConnectivityInspector;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.Pseudograph;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Connected sets of the compact graph compared to the JGraphT ones.
+ *
+ * @author agent <agent at local>
+ */
+public class CompactGraphTest {
+
+    @Test
+    public void testConnectedSets() {
+        CompactGraph<String> graph = new CompactGraph<>();
+        graph.addVertex("c");
+        graph.addEdge("a", "b");
+        graph.addEdge("d", "a");
+        graph.addEdge("b", "b");
+        graph.addEdge("e", "c");
+        graph.addVertex("f");
+        graph.addVertex("a");
+        assertEquals(6, graph.getVertexCount());
+        assertEquals(4, graph.getEdgeCount());
+        assertEquals(List.of(Set.of("c", "e"), Set.of("a", "b", "d"), Set.of("f")), graph.getConnectedSets());
+        assertTrue(new CompactGraph<String>().getConnectedSets().isEmpty());
+    }
+
+    @Test
+    public void testSameConnectedSetsAsJGraphT() {
+        Random random = new Random(0);
+        int vertexCount = 10_000;
+        int edgeCount = 9_000;
+        int[][] edges = new int[edgeCount][];
+        for (int e = 0; e < edgeCount; e++) {
+            edges[e] = new int[] {random.nextInt(vertexCount), random.nextInt(vertexCount)};
+        }
+
+        Graph<Integer, DefaultEdge> jgraphtGraph = new Pseudograph<>(DefaultEdge.class);
+        for (int v = 0; v < vertexCount; v++) {
+            jgraphtGraph.addVertex(v);
+        }
+        for (int[] edge : edges) {
+            jgraphtGraph.addEdge(edge[0], edge[1]);
+        }
+        List<Set<Integer>> expectedConnectedSets = new ConnectivityInspector<>(jgraphtGraph).connectedSets();
+
+        CompactGraph<Integer> graph = new CompactGraph<>();
+        for (int v = 0; v < vertexCount; v++) {
+            graph.addVertex(v);
+        }
+        for (int[] edge : edges) {
+            graph.addEdge(edge[0], edge[1]);
+        }
+        assertEquals(expectedConnectedSets, graph.getConnectedSets());
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl.util;
+
+import com.powsybl.network.store.iidm.impl.Edge;
+import com.powsybl.network.store.model.InternalConnectionAttributes;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.Pseudograph;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.*;
+
+/**
+ * Shortest path search and path visit compared to the enumeration of all paths.
+ *
+ * @author agent <agent at local>
+ */
+public class JGraphTGraphTest {
+
+    private static Edge addEdge(Graph<Integer, Edge> graph, int node1, int node2) {
+        graph.addVertex(node1);
+        graph.addVertex(node2);
+        Edge edge = new Edge(InternalConnectionAttributes.builder().node1(node1).node2(node2).build());
+        graph.addEdge(node1, node2, edge);
+        return edge;
+    }
+
+    private static Optional<List<Edge>> findShortestPathFromAllPaths(JGraphTGraph graph, int from, Predicate<Integer> pathComplete,
+                                                                     Set<Edge> cancelledEdges, Set<Edge> weightedEdges) {
+        List<List<Edge>> paths = graph.findAllPaths(from, pathComplete, cancelledEdges::contains,
+            Comparator.comparing((List<Edge> path) -> path.stream().filter(weightedEdges::contains).count())
+                .thenComparing(List::size));
+        return paths.stream().findFirst();
+    }
+
+    @Test
+    public void testSameShortestPathAsAllPaths() {
+        Random random = new Random(0);
+        int foundCount = 0;
+        for (int i = 0; i < 200; i++) {
+            // small random graph with self loops and parallel edges
+            Graph<Integer, Edge> graph = new Pseudograph<>(Edge.class);
+            int vertexCount = 15;
+            for (int v = 0; v < vertexCount; v++) {
+                graph.addVertex(v);
+            }
+            Set<Edge> cancelledEdges = new HashSet<>();
+            Set<Edge> weightedEdges = new HashSet<>();
+            for (int e = 0; e < 22; e++) {
+                Edge edge = addEdge(graph, random.nextInt(vertexCount), random.nextInt(vertexCount));
+                if (random.nextInt(5) == 0) {
+                    cancelledEdges.add(edge);
+                } else if (random.nextInt(3) == 0) {
+                    weightedEdges.add(edge);
+                }
+            }
+            Set<Integer> targets = Set.of(random.nextInt(vertexCount), random.nextInt(vertexCount), random.nextInt(vertexCount));
+            int from = random.nextInt(vertexCount);
+
+            JGraphTGraph jGraphTGraph = new JGraphTGraph(graph);
+            Optional<List<Edge>> expectedPath = findShortestPathFromAllPaths(jGraphTGraph, from, targets::contains, cancelledEdges, weightedEdges);
+            Optional<List<Edge>> path = jGraphTGraph.findShortestPath(from, targets::contains, edge -> !cancelledEdges.contains(edge),
+                edge -> weightedEdges.contains(edge) ? 1 : 0);
+            assertEquals("Graph " + i, expectedPath, path);
+            if (path.isPresent()) {
+                foundCount++;
+            }
+            // scratch buffers are reused by a second search
+            assertEquals(path, jGraphTGraph.findShortestPath(from, targets::contains, edge -> !cancelledEdges.contains(edge),
+                edge -> weightedEdges.contains(edge) ? 1 : 0));
+        }
+        assertTrue(foundCount > 0);
+    }
+
+    @Test
+    public void testVisitAllPaths() {
+        Graph<Integer, Edge> graph = new Pseudograph<>(Edge.class);
+        addEdge(graph, 0, 1);
+        addEdge(graph, 1, 2);
+        addEdge(graph, 1, 3);
+        addEdge(graph, 3, 2);
+        addEdge(graph, 2, 4);
+        addEdge(graph, 3, 3);
+        Edge cancelledEdge = addEdge(graph, 0, 4);
+        JGraphTGraph jGraphTGraph = new JGraphTGraph(graph);
+        Set<Integer> targets = Set.of(2, 4);
+
+        List<List<Edge>> expectedPaths = jGraphTGraph.findAllPaths(0, targets::contains, cancelledEdge::equals, (path1, path2) -> 0);
+        assertEquals(2, expectedPaths.size());
+        List<List<Edge>> paths = new ArrayList<>();
+        assertTrue(jGraphTGraph.visitAllPaths(0, targets::contains, cancelledEdge::equals, path -> paths.add(new ArrayList<>(path))));
+        assertEquals(expectedPaths, paths);
+
+        // stopped after the first path
+        paths.clear();
+        assertFalse(jGraphTGraph.visitAllPaths(0, targets::contains, cancelledEdge::equals, path -> !paths.add(new ArrayList<>(path))));
+        assertEquals(expectedPaths.subList(0, 1), paths);
+    }
+
+    /**
+     * Breaker-and-a-half substation: each diameter links busbar 1 to busbar 2 through three breakers, with two feeders
+     * between them. Bay nodes of successive diameters are also linked by couplers, which makes a mesh of nodes to
+     * traverse before reaching a busbar section, all couplers being open. The feeder of the last diameter is
+     * disconnected from the busbars.
+     */
+    private static Graph<Integer, Edge> createBreakerAndAHalfGraph(int diameterCount, Set<Edge> openEdges, int[] feederNode) {
+        Graph<Integer, Edge> graph = new Pseudograph<>(Edge.class);
+        int[][] bayNodes = new int[diameterCount][];
+        int node = 2;
+        for (int d = 0; d < diameterCount; d++) {
+            int[] nodes = {node, node + 1, node + 2, node + 3};
+            node += 4;
+            bayNodes[d] = nodes;
+            addEdge(graph, 0, nodes[0]);
+            addEdge(graph, nodes[0], nodes[1]);
+            addEdge(graph, nodes[1], nodes[2]);
+            addEdge(graph, nodes[2], nodes[3]);
+            addEdge(graph, nodes[3], 1);
+            if (d > 0) {
+                for (int i = 0; i < nodes.length; i++) {
+                    openEdges.add(addEdge(graph, bayNodes[d - 1][i], nodes[i]));
+                }
+            }
+        }
+        feederNode[0] = bayNodes[diameterCount - 1][1];
+        openEdges.addAll(graph.getAllEdges(bayNodes[diameterCount - 1][0], feederNode[0]));
+        openEdges.addAll(graph.getAllEdges(feederNode[0], bayNodes[diameterCount - 1][2]));
+        return graph;
+    }
+
+    @Test
+    public void testBreakerAndAHalf() {
+        Set<Integer> busbarSectionNodes = Set.of(0, 1);
+        Set<Edge> openEdges = new HashSet<>();
+        int[] feederNode = new int[1];
+        JGraphTGraph jGraphTGraph = new JGraphTGraph(createBreakerAndAHalfGraph(5, openEdges, feederNode));
+
+        Optional<List<Edge>> expectedPath = findShortestPathFromAllPaths(jGraphTGraph, feederNode[0], busbarSectionNodes::contains,
+            Collections.emptySet(), openEdges);
+        Optional<List<Edge>> path = jGraphTGraph.findShortestPath(feederNode[0], busbarSectionNodes::contains, edge -> true,
+            edge -> openEdges.contains(edge) ? 1 : 0);
+        assertTrue(path.isPresent());
+        assertEquals(expectedPath, path);
+        assertEquals(2, path.get().size());
+        assertEquals(1, path.get().stream().filter(openEdges::contains).count());
+    }
+
+    @Test
+    public void testLargeBreakerAndAHalf() {
+        // too many paths to enumerate them all, the shortest path search still only closing one breaker
+        Set<Integer> busbarSectionNodes = Set.of(0, 1);
+        Set<Edge> openEdges = new HashSet<>();
+        int[] feederNode = new int[1];
+        JGraphTGraph jGraphTGraph = new JGraphTGraph(createBreakerAndAHalfGraph(50, openEdges, feederNode));
+
+        Optional<List<Edge>> path = jGraphTGraph.findShortestPath(feederNode[0], busbarSectionNodes::contains, edge -> true,
+            edge -> openEdges.contains(edge) ? 1 : 0);
+        assertTrue(path.isPresent());
+        assertEquals(2, path.get().size());
+        assertEquals(1, path.get().stream().filter(openEdges::contains).count());
+    }
+}
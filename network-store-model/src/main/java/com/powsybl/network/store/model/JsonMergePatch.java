@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * JSON merge patch (RFC 7386) creation and application. Objects are patched field by field, any other value (arrays
+ * included) is replaced as a whole and a null value removes the field.
+ *
+ * @author agent <agent at local>
+ */
+public final class JsonMergePatch {
+
+    private JsonMergePatch() {
+    }
+
+    /**
+     * Create the merge patch transforming the source object into the target object.
+     *
+     * @return the patch, empty if both objects are equal
+     */
+    public static ObjectNode create(ObjectNode source, ObjectNode target) {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(target);
+        ObjectNode patch = JsonNodeFactory.instance.objectNode();
+        Iterator<Map.Entry<String, JsonNode>> it = target.fields();
+        while (it.hasNext()) {
+            Map.Entry<String, JsonNode> e = it.next();
+            String name = e.getKey();
+            JsonNode targetValue = e.getValue();
+            JsonNode sourceValue = source.get(name);
+            if (targetValue.isNull()) {
+                // a null value cannot be patched, as it means a removal, so it is handled as an absent field
+                if (sourceValue != null && !sourceValue.isNull()) {
+                    patch.putNull(name);
+                }
+            } else if (sourceValue instanceof ObjectNode sourceObject && targetValue instanceof ObjectNode targetObject) {
+                ObjectNode valuePatch = create(sourceObject, targetObject);
+                if (!valuePatch.isEmpty()) {
+                    patch.set(name, valuePatch);
+                }
+            } else if (!targetValue.equals(sourceValue)) {
+                patch.set(name, targetValue);
+            }
+        }
+        Iterator<String> sourceNames = source.fieldNames();
+        while (sourceNames.hasNext()) {
+            String name = sourceNames.next();
+            if (!target.has(name) && !source.get(name).isNull()) {
+                patch.putNull(name);
+            }
+        }
+        return patch;
+    }
+
+    /**
+     * Apply a merge patch in place to an object.
+     *
+     * @return the patched object
+     */
+    public static ObjectNode apply(ObjectNode target, ObjectNode patch) {
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(patch);
+        Iterator<Map.Entry<String, JsonNode>> it = patch.fields();
+        while (it.hasNext()) {
+            Map.Entry<String, JsonNode> e = it.next();
+            String name = e.getKey();
+            JsonNode value = e.getValue();
+            if (value.isNull()) {
+                target.remove(name);
+            } else if (value instanceof ObjectNode objectPatch) {
+                JsonNode targetValue = target.get(name);
+                ObjectNode targetObject = targetValue instanceof ObjectNode o ? o : target.putObject(name);
+                apply(targetObject, objectPatch);
+            } else {
+                target.set(name, value);
+            }
+        }
+        return target;
+    }
+}
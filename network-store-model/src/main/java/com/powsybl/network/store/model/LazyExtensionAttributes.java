@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.EqualsAndHashCode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * Extension attributes kept as the json bytes they have been read from, to only pay the deserialization of the
+ * extensions that are actually used. The typed attributes are deserialized with {@link #materialize()}, through the
+ * extension loader matching the extension name found in the json.
+ * <p>
+ * Serializing lazy extension attributes writes back the json they have been read from.
+ *
+ * @author agent <agent at local>
+ */
+@EqualsAndHashCode
+@JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+@JsonSerialize(using = LazyExtensionAttributesSerializer.class)
+@JsonDeserialize(using = LazyExtensionAttributesDeserializer.class)
+public final class LazyExtensionAttributes implements ExtensionAttributes {
+
+    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final byte[] json;
+
+    public LazyExtensionAttributes(byte[] json) {
+        this.json = Objects.requireNonNull(json);
+    }
+
+    byte[] getJson() {
+        return json;
+    }
+
+    /**
+     * Deserialize the typed attributes.
+     */
+    public ExtensionAttributes materialize() {
+        try {
+            return OBJECT_MAPPER.readValue(json, ExtensionAttributes.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Get the typed attributes of extension attributes which may be lazy.
+     */
+    public static ExtensionAttributes materialize(ExtensionAttributes extensionAttributes) {
+        return extensionAttributes instanceof LazyExtensionAttributes lazyExtensionAttributes
+                ? lazyExtensionAttributes.materialize()
+                : extensionAttributes;
+    }
+}
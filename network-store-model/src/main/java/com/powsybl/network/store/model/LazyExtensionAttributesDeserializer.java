@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Copy the tokens of extension attributes as json bytes, whatever the format they are read from, without building
+ * any object.
+ *
+ * @author agent <agent at local>
+ */
+public class LazyExtensionAttributesDeserializer extends JsonDeserializer<LazyExtensionAttributes> {
+
+    @Override
+    public LazyExtensionAttributes deserialize(JsonParser p, DeserializationContext context) throws IOException {
+        try (ByteArrayBuilder bytes = new ByteArrayBuilder();
+             JsonGenerator generator = LazyExtensionAttributes.OBJECT_MAPPER.getFactory().createGenerator(bytes)) {
+            generator.copyCurrentStructure(p);
+            generator.flush();
+            return new LazyExtensionAttributes(bytes.toByteArray());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+
+/**
+ * Write back the json of lazy extension attributes, which already contains the extension name used as type id.
+ * Tokens are copied so that any output format is supported.
+ *
+ * @author agent <agent at local>
+ */
+public class LazyExtensionAttributesSerializer extends JsonSerializer<LazyExtensionAttributes> {
+
+    @Override
+    public void serialize(LazyExtensionAttributes value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        try (JsonParser parser = LazyExtensionAttributes.OBJECT_MAPPER.getFactory().createParser(value.getJson())) {
+            parser.nextToken();
+            gen.copyCurrentStructure(parser);
+        }
+    }
+
+    @Override
+    public void serializeWithType(LazyExtensionAttributes value, JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(value, gen, serializers);
+    }
+}
@@ -70,6 +70,20 @@ public class NetworkAttributes extends AbstractIdentifiableAttributes {
     @JsonIgnore
     private Map<String, Bus> busCache;
 
+    /**
+     * Number of bus view buses by connected component num, only known when connected components have been
+     * calculated on the bus view. Used to keep the components valid after the bus view buses have been merged or split.
+     */
+    @JsonIgnore
+    private int[] connectedComponentSizes;
+
+    /**
+     * Number of bus view buses by synchronous component num, only known when synchronous components have been
+     * calculated on the bus view. Used to keep the components valid after the bus view buses have been merged or split.
+     */
+    @JsonIgnore
+    private int[] synchronousComponentSizes;
+
     @JsonIgnore
     public boolean isFullVariant() {
         return fullVariantNum == FULL_VARIANT_INDICATOR;
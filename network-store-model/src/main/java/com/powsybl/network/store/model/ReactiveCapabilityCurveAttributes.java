@@ -6,22 +6,25 @@
  */
 package com.powsybl.network.store.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.powsybl.iidm.network.ReactiveLimitsKind;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
+import java.util.*;
 
 /**
+ * Points of the curve are stored in primitive arrays sorted by active power, instead of a map of point objects.
+ *
  * @author Nicolas Noir <nicolas.noir at rte-france.com>
  */
 @Data
-@Builder(builderClassName = "ReactiveCapabilityCurveAttributesBuilder")
+@JsonPropertyOrder({"kind", "points", "ownerDescription", "properties"})
 @Schema(description = "Reactive capability curve attributes")
 public class ReactiveCapabilityCurveAttributes implements ReactiveLimitsAttributes {
 
@@ -36,13 +39,28 @@ public class ReactiveCapabilityCurveAttributes implements ReactiveLimitsAttribut
      * <p>Note: it throws a {@link NullPointerException} when one of the Doubles are null,
      * similarly as the default Double comparator. But in our use case, this cannot happen.</p>
      */
-    public static final Comparator<Double> COMPARATOR = (d1, d2) -> d1 - d2 == 0 ? 0 : Double.compare(d1, d2);
+    public static final Comparator<Double> COMPARATOR = (d1, d2) -> compare(d1, d2);
 
     @Schema(description = "Kind of reactive limit")
     private final ReactiveLimitsKind kind = ReactiveLimitsKind.CURVE;
 
-    @Schema(description = "curve points")
-    private TreeMap<Double, ReactiveCapabilityCurvePointAttributes> points;
+    // null when the curve has no points map
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private double[] ps;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private double[] minQs;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private double[] maxQs;
+
+    // only allocated once a point has properties
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Map<String, String>[] pointProperties;
 
     @Schema(description = "owner description")
     private String ownerDescription;
@@ -51,52 +69,167 @@ public class ReactiveCapabilityCurveAttributes implements ReactiveLimitsAttribut
     private Map<String, String> properties;
 
     public ReactiveCapabilityCurveAttributes() {
-        this.points = new TreeMap<>(COMPARATOR);
+        setPoints(Collections.emptyNavigableMap());
         this.ownerDescription = null;
         this.properties = new HashMap<>();
     }
 
+    @Builder(builderClassName = "ReactiveCapabilityCurveAttributesBuilder")
     public ReactiveCapabilityCurveAttributes(NavigableMap<Double, ReactiveCapabilityCurvePointAttributes> points, String ownerDescription, Map<String, String> properties) {
-        this.points = getTreeMapWithComparator(points);
+        setPoints(points);
         this.ownerDescription = ownerDescription;
         this.properties = properties;
     }
 
-    public void setPoints(NavigableMap<Double, ReactiveCapabilityCurvePointAttributes> points) {
-        this.points = getTreeMapWithComparator(points);
+    private static int compare(double d1, double d2) {
+        return d1 - d2 == 0 ? 0 : Double.compare(d1, d2);
     }
 
-    private static TreeMap<Double, ReactiveCapabilityCurvePointAttributes> getTreeMapWithComparator(NavigableMap<Double, ReactiveCapabilityCurvePointAttributes> points) {
-        if (points == null) {
+    /**
+     * Get the points of the curve, sorted by active power. The map is a copy but its points read and write the
+     * attributes of the curve.
+     */
+    @Schema(description = "curve points")
+    public TreeMap<Double, ReactiveCapabilityCurvePointAttributes> getPoints() {
+        if (ps == null) {
             return null;
-        } else if (points.comparator() == COMPARATOR && points instanceof TreeMap<Double, ReactiveCapabilityCurvePointAttributes> treeMap) {
-            return treeMap;
+        }
+        TreeMap<Double, ReactiveCapabilityCurvePointAttributes> points = new TreeMap<>(COMPARATOR);
+        for (int i = 0; i < ps.length; i++) {
+            points.put(ps[i], getPoint(i));
+        }
+        return points;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void setPoints(NavigableMap<Double, ReactiveCapabilityCurvePointAttributes> points) {
+        if (points == null) {
+            ps = null;
+            minQs = null;
+            maxQs = null;
+            pointProperties = null;
+            return;
+        }
+        // -0.0 and 0.0 keys are merged by the comparator
+        TreeMap<Double, ReactiveCapabilityCurvePointAttributes> sortedPoints;
+        if (points.comparator() == COMPARATOR && points instanceof TreeMap<Double, ReactiveCapabilityCurvePointAttributes> treeMap) {
+            sortedPoints = treeMap;
         } else {
-            TreeMap<Double, ReactiveCapabilityCurvePointAttributes> treeMap = new TreeMap<>(COMPARATOR);
-            treeMap.putAll(points);
-            return treeMap;
+            sortedPoints = new TreeMap<>(COMPARATOR);
+            sortedPoints.putAll(points);
         }
+        int pointCount = sortedPoints.size();
+        double[] newPs = new double[pointCount];
+        double[] newMinQs = new double[pointCount];
+        double[] newMaxQs = new double[pointCount];
+        Map<String, String>[] newPointProperties = null;
+        int i = 0;
+        for (ReactiveCapabilityCurvePointAttributes point : sortedPoints.values()) {
+            newPs[i] = point.getP();
+            newMinQs[i] = point.getMinQ();
+            newMaxQs[i] = point.getMaxQ();
+            if (point.getProperties() != null) {
+                if (newPointProperties == null) {
+                    newPointProperties = new Map[pointCount];
+                }
+                newPointProperties[i] = point.getProperties();
+            }
+            i++;
+        }
+        ps = newPs;
+        minQs = newMinQs;
+        maxQs = newMaxQs;
+        pointProperties = newPointProperties;
+    }
+
+    @JsonIgnore
+    public int getPointCount() {
+        return ps != null ? ps.length : 0;
     }
 
     /**
-     * <p>Specific builder for ReactiveCapabilityCurveAttributes to handle the -0.0 == 0.0 case</p>
+     * Get a point of the curve by its rank in the active power order, the point reads and writes the attributes of
+     * the curve.
      */
-    public static class ReactiveCapabilityCurveAttributesBuilder {
-        private TreeMap<Double, ReactiveCapabilityCurvePointAttributes> points;
+    public ReactiveCapabilityCurvePointAttributes getPoint(int index) {
+        Objects.checkIndex(index, getPointCount());
+        return new Point(index);
+    }
+
+    /**
+     * Search the rank of a point by its active power, with a binary search.
+     *
+     * @return the rank of the point if found, else {@code -(insertion rank) - 1}
+     */
+    public int findPoint(double p) {
+        int low = 0;
+        int high = getPointCount() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int c = compare(ps[mid], p);
+            if (c < 0) {
+                low = mid + 1;
+            } else if (c > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private final class Point extends ReactiveCapabilityCurvePointAttributes {
+
+        private final int index;
+
+        private Point(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public double getP() {
+            return ps[index];
+        }
+
+        @Override
+        public void setP(double p) {
+            ps[index] = p;
+        }
+
+        @Override
+        public double getMinQ() {
+            return minQs[index];
+        }
+
+        @Override
+        public void setMinQ(double minQ) {
+            minQs[index] = minQ;
+        }
+
+        @Override
+        public double getMaxQ() {
+            return maxQs[index];
+        }
+
+        @Override
+        public void setMaxQ(double maxQ) {
+            maxQs[index] = maxQ;
+        }
 
-        public ReactiveCapabilityCurveAttributesBuilder points(NavigableMap<Double, ReactiveCapabilityCurvePointAttributes> points) {
-            this.points = getTreeMapWithComparator(points);
-            return this;
+        @Override
+        public Map<String, String> getProperties() {
+            return pointProperties != null ? pointProperties[index] : null;
         }
 
-        public ReactiveCapabilityCurveAttributes build() {
-            // Some more checks even if the points() method did the work
-            if (points != null && points.comparator() != COMPARATOR) {
-                TreeMap<Double, ReactiveCapabilityCurvePointAttributes> reordered = new TreeMap<>(COMPARATOR);
-                reordered.putAll(points);
-                points = reordered;
+        @Override
+        @SuppressWarnings("unchecked")
+        public void setProperties(Map<String, String> properties) {
+            if (properties != null || pointProperties != null) {
+                if (pointProperties == null) {
+                    pointProperties = new Map[ps.length];
+                }
+                pointProperties[index] = properties;
             }
-            return new ReactiveCapabilityCurveAttributes(points, ownerDescription, properties);
         }
     }
 }
@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * All the resources of a resource type, one part of a {@link ResourceCollectionsTopLevelDocument}.
+ *
+ * @author agent <agent at local>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Collection of resources of a same type")
+public class ResourceCollection {
+
+    @Schema(description = "Resource type of the collection", requiredMode = Schema.RequiredMode.REQUIRED)
+    private ResourceType type;
+
+    @Schema(description = "Resources of the collection", requiredMode = Schema.RequiredMode.REQUIRED)
+    @Builder.Default
+    private List<Resource<IdentifiableAttributes>> data = new ArrayList<>();
+
+    @SuppressWarnings("unchecked")
+    public static <T extends IdentifiableAttributes> ResourceCollection of(ResourceType type, List<Resource<T>> resources) {
+        return new ResourceCollection(type, new ArrayList<>((List<Resource<IdentifiableAttributes>>) (List<?>) resources));
+    }
+}
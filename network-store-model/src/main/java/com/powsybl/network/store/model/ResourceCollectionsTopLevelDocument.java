@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Several collections of a network variant loaded in a single request, one {@link ResourceCollection} per resource
+ * type.
+ *
+ * @author agent <agent at local>
+ */
+@Schema(description = "Top level document compliant with Json API spec")
+public class ResourceCollectionsTopLevelDocument extends AbstractTopLevelDocument<ResourceCollection> {
+
+    @JsonCreator
+    public ResourceCollectionsTopLevelDocument(@JsonProperty("data") List<ResourceCollection> data, @JsonProperty("meta") Map<String, String> meta) {
+        super(data, meta);
+    }
+
+    public static ResourceCollectionsTopLevelDocument empty() {
+        return new ResourceCollectionsTopLevelDocument(List.of(), new HashMap<>());
+    }
+
+    public static ResourceCollectionsTopLevelDocument of(List<ResourceCollection> data) {
+        return new ResourceCollectionsTopLevelDocument(data, new HashMap<>());
+    }
+}
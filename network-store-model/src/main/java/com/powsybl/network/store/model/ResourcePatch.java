@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * Partial update of a resource: only the modified attributes are sent, as a JSON merge patch (RFC 7386) of the
+ * resource attributes. A null value in the patch removes the attribute.
+ *
+ * @author agent <agent at local>
+ */
+@Data
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resource patch")
+public class ResourcePatch {
+
+    @Schema(description = "Resource type", required = true)
+    private ResourceType type;
+
+    @Schema(description = "Resource ID", required = true)
+    private String id;
+
+    @Schema(description = "Variant number", required = true)
+    private int variantNum;
+
+    @Schema(description = "JSON merge patch of the resource attributes", required = true)
+    private ObjectNode attributes;
+}
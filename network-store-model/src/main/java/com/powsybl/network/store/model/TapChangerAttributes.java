@@ -8,6 +8,7 @@ package com.powsybl.network.store.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -43,5 +44,10 @@ public class TapChangerAttributes extends AbstractRegulatingEquipmentAttributes
     private boolean loadTapChangingCapabilities;
 
     @Schema(description = "steps")
+    @JsonDeserialize(as = TapChangerStepList.class)
     private List<TapChangerStepAttributes> steps;
+
+    public void setSteps(List<TapChangerStepAttributes> steps) {
+        this.steps = TapChangerStepList.of(steps);
+    }
 }
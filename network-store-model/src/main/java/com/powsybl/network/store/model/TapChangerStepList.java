@@ -0,0 +1,360 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * Compact list of tap changer steps, storing each attribute in a primitive column instead of one object per step.
+ * Alphas, indexes, sides, types and properties columns are only allocated once a step has a non null value for them.
+ * <p>
+ * Steps returned by {@link #get(int)} are views reading and writing the columns, they must not be kept after a step
+ * has been added or removed before them.
+ *
+ * @author agent <agent at local>
+ */
+public class TapChangerStepList extends AbstractList<TapChangerStepAttributes> implements RandomAccess {
+
+    private static final int DEFAULT_CAPACITY = 4;
+
+    private int size;
+
+    private double[] rhos;
+
+    private double[] rs;
+
+    private double[] xs;
+
+    private double[] gs;
+
+    private double[] bs;
+
+    private double[] alphas;
+
+    private BitSet nullAlphas;
+
+    private Integer[] indexes;
+
+    private Integer[] sides;
+
+    private TapChangerType[] types;
+
+    private Map<String, String>[] properties;
+
+    public TapChangerStepList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TapChangerStepList(int initialCapacity) {
+        rhos = new double[initialCapacity];
+        rs = new double[initialCapacity];
+        xs = new double[initialCapacity];
+        gs = new double[initialCapacity];
+        bs = new double[initialCapacity];
+    }
+
+    public TapChangerStepList(Collection<? extends TapChangerStepAttributes> steps) {
+        this(steps.size());
+        addAll(steps);
+    }
+
+    /**
+     * Get a compact copy of some steps, or the steps themselves if they are already compact.
+     */
+    public static List<TapChangerStepAttributes> of(List<TapChangerStepAttributes> steps) {
+        return steps == null || steps instanceof TapChangerStepList ? steps : new TapChangerStepList(steps);
+    }
+
+    private final class Step extends TapChangerStepAttributes {
+
+        private final int position;
+
+        private Step(int position) {
+            this.position = position;
+        }
+
+        @Override
+        public double getRho() {
+            return rhos[position];
+        }
+
+        @Override
+        public void setRho(double rho) {
+            rhos[position] = rho;
+        }
+
+        @Override
+        public double getR() {
+            return rs[position];
+        }
+
+        @Override
+        public void setR(double r) {
+            rs[position] = r;
+        }
+
+        @Override
+        public double getX() {
+            return xs[position];
+        }
+
+        @Override
+        public void setX(double x) {
+            xs[position] = x;
+        }
+
+        @Override
+        public double getG() {
+            return gs[position];
+        }
+
+        @Override
+        public void setG(double g) {
+            gs[position] = g;
+        }
+
+        @Override
+        public double getB() {
+            return bs[position];
+        }
+
+        @Override
+        public void setB(double b) {
+            bs[position] = b;
+        }
+
+        @Override
+        public Double getAlpha() {
+            return getAlphaAt(position);
+        }
+
+        @Override
+        public void setAlpha(Double alpha) {
+            setAlphaAt(position, alpha);
+        }
+
+        @Override
+        public Integer getIndex() {
+            return indexes != null ? indexes[position] : null;
+        }
+
+        @Override
+        public void setIndex(Integer stepIndex) {
+            if (stepIndex != null || indexes != null) {
+                indexes = allocate(indexes, Integer[]::new);
+                indexes[position] = stepIndex;
+            }
+        }
+
+        @Override
+        public Integer getSide() {
+            return sides != null ? sides[position] : null;
+        }
+
+        @Override
+        public void setSide(Integer side) {
+            if (side != null || sides != null) {
+                sides = allocate(sides, Integer[]::new);
+                sides[position] = side;
+            }
+        }
+
+        @Override
+        public TapChangerType getType() {
+            return types != null ? types[position] : null;
+        }
+
+        @Override
+        public void setType(TapChangerType type) {
+            if (type != null || types != null) {
+                types = allocate(types, TapChangerType[]::new);
+                types[position] = type;
+            }
+        }
+
+        @Override
+        public Map<String, String> getProperties() {
+            return properties != null ? properties[position] : null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void setProperties(Map<String, String> stepProperties) {
+            if (stepProperties != null || properties != null) {
+                properties = allocate(properties, Map[]::new);
+                properties[position] = stepProperties;
+            }
+        }
+    }
+
+    private Double getAlphaAt(int index) {
+        return alphas != null && !nullAlphas.get(index) ? alphas[index] : null;
+    }
+
+    private void setAlphaAt(int index, Double alpha) {
+        if (alpha != null) {
+            if (alphas == null) {
+                alphas = new double[rhos.length];
+                nullAlphas = new BitSet();
+                nullAlphas.set(0, size);
+            }
+            alphas[index] = alpha;
+            nullAlphas.clear(index);
+        } else if (alphas != null) {
+            nullAlphas.set(index);
+        }
+    }
+
+    private <A> A[] allocate(A[] column, IntFunction<A[]> generator) {
+        return column != null ? column : generator.apply(rhos.length);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public TapChangerStepAttributes get(int index) {
+        Objects.checkIndex(index, size);
+        return new Step(index);
+    }
+
+    private static TapChangerStepAttributes copy(TapChangerStepAttributes step) {
+        return new TapChangerStepAttributes(step.getRho(), step.getR(), step.getX(), step.getG(), step.getB(), step.getAlpha(),
+                step.getIndex(), step.getSide(), step.getType(), step.getProperties());
+    }
+
+    private void write(int index, TapChangerStepAttributes stepAttributes) {
+        Step step = new Step(index);
+        step.setRho(stepAttributes.getRho());
+        step.setR(stepAttributes.getR());
+        step.setX(stepAttributes.getX());
+        step.setG(stepAttributes.getG());
+        step.setB(stepAttributes.getB());
+        step.setAlpha(stepAttributes.getAlpha());
+        step.setIndex(stepAttributes.getIndex());
+        step.setSide(stepAttributes.getSide());
+        step.setType(stepAttributes.getType());
+        step.setProperties(stepAttributes.getProperties());
+    }
+
+    @Override
+    public TapChangerStepAttributes set(int index, TapChangerStepAttributes stepAttributes) {
+        Objects.checkIndex(index, size);
+        Objects.requireNonNull(stepAttributes);
+        TapChangerStepAttributes oldStepAttributes = copy(new Step(index));
+        write(index, stepAttributes);
+        return oldStepAttributes;
+    }
+
+    @Override
+    public void add(int index, TapChangerStepAttributes stepAttributes) {
+        Objects.checkIndex(index, size + 1);
+        Objects.requireNonNull(stepAttributes);
+        // the step could be a view of this list, read it before shifting the columns
+        TapChangerStepAttributes stepAttributesCopy = stepAttributes instanceof Step ? copy(stepAttributes) : stepAttributes;
+        if (size == rhos.length) {
+            grow();
+        }
+        shift(index, index + 1, size - index);
+        if (nullAlphas != null) {
+            BitSet shifted = nullAlphas.get(index, size);
+            nullAlphas.clear(index, size + 1);
+            shifted.stream().forEach(i -> nullAlphas.set(index + 1 + i));
+        }
+        size++;
+        // the new step has no alpha, index, side, type or properties until written
+        clearObjects(index);
+        if (nullAlphas != null) {
+            nullAlphas.set(index);
+        }
+        write(index, stepAttributesCopy);
+        modCount++;
+    }
+
+    @Override
+    public TapChangerStepAttributes remove(int index) {
+        Objects.checkIndex(index, size);
+        TapChangerStepAttributes oldStepAttributes = copy(new Step(index));
+        shift(index + 1, index, size - index - 1);
+        if (nullAlphas != null) {
+            BitSet shifted = nullAlphas.get(index + 1, size);
+            nullAlphas.clear(index, size);
+            shifted.stream().forEach(i -> nullAlphas.set(index + i));
+        }
+        size--;
+        clearObjects(size);
+        modCount++;
+        return oldStepAttributes;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            clearObjects(i);
+        }
+        if (nullAlphas != null) {
+            nullAlphas.clear();
+        }
+        size = 0;
+        modCount++;
+    }
+
+    private void clearObjects(int index) {
+        if (indexes != null) {
+            indexes[index] = null;
+        }
+        if (sides != null) {
+            sides[index] = null;
+        }
+        if (types != null) {
+            types[index] = null;
+        }
+        if (properties != null) {
+            properties[index] = null;
+        }
+    }
+
+    private void shift(int srcIndex, int destIndex, int length) {
+        for (double[] column : new double[][] {rhos, rs, xs, gs, bs, alphas}) {
+            if (column != null) {
+                System.arraycopy(column, srcIndex, column, destIndex, length);
+            }
+        }
+        for (Object[] column : new Object[][] {indexes, sides, types, properties}) {
+            if (column != null) {
+                System.arraycopy(column, srcIndex, column, destIndex, length);
+            }
+        }
+    }
+
+    private void grow() {
+        int capacity = Math.max(DEFAULT_CAPACITY, rhos.length + (rhos.length >> 1));
+        rhos = Arrays.copyOf(rhos, capacity);
+        rs = Arrays.copyOf(rs, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        gs = Arrays.copyOf(gs, capacity);
+        bs = Arrays.copyOf(bs, capacity);
+        if (alphas != null) {
+            alphas = Arrays.copyOf(alphas, capacity);
+        }
+        if (indexes != null) {
+            indexes = Arrays.copyOf(indexes, capacity);
+        }
+        if (sides != null) {
+            sides = Arrays.copyOf(sides, capacity);
+        }
+        if (types != null) {
+            types = Arrays.copyOf(types, capacity);
+        }
+        if (properties != null) {
+            properties = Arrays.copyOf(properties, capacity);
+        }
+    }
+}
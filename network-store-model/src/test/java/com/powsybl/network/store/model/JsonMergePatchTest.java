@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent <agent at local>
+ */
+class JsonMergePatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ObjectNode read(String json) throws JsonProcessingException {
+        return (ObjectNode) objectMapper.readTree(json.replace('\'', '"'));
+    }
+
+    private void assertPatch(String source, String target, String expectedPatch) throws JsonProcessingException {
+        ObjectNode patch = JsonMergePatch.create(read(source), read(target));
+        assertEquals(read(expectedPatch), patch);
+        assertEquals(read(target), JsonMergePatch.apply(read(source), patch));
+    }
+
+    @Test
+    void testCreateAndApply() throws JsonProcessingException {
+        assertPatch("{'a':1,'b':'x'}", "{'a':1,'b':'x'}", "{}");
+        assertPatch("{'a':1,'b':'x'}", "{'a':2,'b':'x'}", "{'a':2}");
+        assertPatch("{'a':1,'b':'x'}", "{'a':1}", "{'b':null}");
+        assertPatch("{'a':1}", "{'a':1,'c':{'d':true}}", "{'c':{'d':true}}");
+        // nested objects are patched field by field
+        assertPatch("{'c':{'d':true,'e':[1,2]}}", "{'c':{'d':false,'e':[1,2]}}", "{'c':{'d':false}}");
+        // arrays are replaced
+        assertPatch("{'e':[1,2]}", "{'e':[1,3]}", "{'e':[1,3]}");
+        assertPatch("{'c':{'d':true}}", "{'c':3}", "{'c':3}");
+        assertPatch("{'c':3}", "{'c':{'d':true}}", "{'c':{'d':true}}");
+    }
+
+    @Test
+    void testNullValues() throws JsonProcessingException {
+        // a null value is handled as an absent field
+        assertEquals(read("{}"), JsonMergePatch.create(read("{'a':null}"), read("{}")));
+        assertEquals(read("{'a':null}"), JsonMergePatch.create(read("{'a':1}"), read("{'a':null}")));
+        assertEquals(read("{'b':1,'c':{}}"), JsonMergePatch.apply(read("{'a':1,'b':1}"), read("{'a':null,'c':{'d':null}}")));
+    }
+
+    @Test
+    void testAttributes() {
+        GeneratorAttributes attributes = GeneratorAttributes.builder()
+                .voltageLevelId("VL")
+                .name("G")
+                .minP(0)
+                .maxP(100)
+                .targetP(50)
+                .reactiveLimits(MinMaxReactiveLimitsAttributes.builder().minQ(-10).maxQ(10).build())
+                .build();
+        ObjectNode original = objectMapper.valueToTree(attributes);
+        attributes.setTargetP(60);
+        ObjectNode patch = JsonMergePatch.create(original, objectMapper.valueToTree(attributes));
+        assertEquals(1, patch.size());
+        assertEquals(60, patch.get("targetP").asDouble());
+        assertEquals(objectMapper.valueToTree(attributes), JsonMergePatch.apply(original, patch));
+    }
+}
@@ -1,14 +1,18 @@
 package com.powsybl.network.store.model;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.powsybl.iidm.network.ReactiveLimitsKind;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.TreeMap;
 
 import static com.powsybl.network.store.model.ReactiveCapabilityCurveAttributes.COMPARATOR;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author Nicolas Rol {@literal <nicolas.rol at rte-france.com>}
@@ -116,4 +120,52 @@ class ReactiveCapabilityCurveAttributesTest {
         // Check the comparator
         assertEquals(pointAttributes1, points.get(-0.0));
     }
+
+    @Test
+    void testFindPoint() {
+        TreeMap<Double, ReactiveCapabilityCurvePointAttributes> points = new TreeMap<>();
+        points.put(10.0, new ReactiveCapabilityCurvePointAttributes(10.0, -5.0, 5.0, null));
+        points.put(-0.0, new ReactiveCapabilityCurvePointAttributes(-0.0, -1.0, 1.0, Map.of("prop1", "value1")));
+        points.put(-10.0, new ReactiveCapabilityCurvePointAttributes(-10.0, -2.0, 2.0, null));
+        ReactiveCapabilityCurveAttributes attributes = ReactiveCapabilityCurveAttributes.builder()
+                .points(points)
+                .build();
+
+        assertEquals(3, attributes.getPointCount());
+        assertEquals(-10.0, attributes.getPoint(0).getP());
+        assertEquals(10.0, attributes.getPoint(2).getP());
+        assertEquals(1, attributes.findPoint(0.0));
+        assertEquals(1, attributes.findPoint(-0.0));
+        assertEquals(2, attributes.findPoint(10.0));
+        assertEquals(-1, attributes.findPoint(-20.0));
+        assertEquals(-3, attributes.findPoint(5.0));
+        assertEquals(-4, attributes.findPoint(20.0));
+        assertThrows(IndexOutOfBoundsException.class, () -> attributes.getPoint(3));
+
+        // points read and write the curve
+        assertEquals(Map.of("prop1", "value1"), attributes.getPoint(1).getProperties());
+        assertNull(attributes.getPoint(0).getProperties());
+        attributes.getPoint(0).setMaxQ(3.0);
+        attributes.getPoint(0).setProperties(Map.of("prop2", "value2"));
+        assertEquals(3.0, attributes.getPoints().firstEntry().getValue().getMaxQ());
+        assertEquals(Map.of("prop2", "value2"), attributes.getPoints().firstEntry().getValue().getProperties());
+    }
+
+    @Test
+    void testJson() throws IOException {
+        TreeMap<Double, ReactiveCapabilityCurvePointAttributes> points = new TreeMap<>(COMPARATOR);
+        points.put(0.0, new ReactiveCapabilityCurvePointAttributes(0.0, -1.0, 1.0, null));
+        points.put(0.5, new ReactiveCapabilityCurvePointAttributes(0.5, -2.0, 2.0, Map.of("prop1", "value1")));
+        ReactiveCapabilityCurveAttributes attributes = new ReactiveCapabilityCurveAttributes(points, "test", Map.of());
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        String json = objectMapper.writeValueAsString(attributes);
+        JsonNode pointsNode = objectMapper.readTree(json).get("points");
+        assertEquals(2, pointsNode.size());
+        assertEquals(-2.0, pointsNode.get("0.5").get("minQ").asDouble());
+        assertEquals("value1", pointsNode.get("0.5").get("properties").get("prop1").asText());
+        ReactiveCapabilityCurveAttributes attributes2 = (ReactiveCapabilityCurveAttributes) objectMapper.readValue(json, ReactiveLimitsAttributes.class);
+        assertEquals(attributes, attributes2);
+        assertPoints(attributes2.getPoints(), points.get(0.0), points.get(0.5));
+    }
 }
@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent <agent at local>
+ */
+class TapChangerStepListTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TapChangerStepListTest.class);
+
+    private static TapChangerStepAttributes createStep(int i, Double alpha) {
+        return TapChangerStepAttributes.builder()
+                .rho(1 + i * 0.01)
+                .r(i)
+                .x(2. * i)
+                .g(3. * i)
+                .b(4. * i)
+                .alpha(alpha)
+                .build();
+    }
+
+    @Test
+    void testListOperations() {
+        TapChangerStepList steps = new TapChangerStepList();
+        List<TapChangerStepAttributes> expectedSteps = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            TapChangerStepAttributes step = createStep(i, i % 3 == 0 ? null : (double) i);
+            steps.add(step);
+            expectedSteps.add(step);
+        }
+        assertEquals(expectedSteps, steps);
+
+        TapChangerStepAttributes step = createStep(20, 20.);
+        step.setProperties(Map.of("name", "step20"));
+        steps.add(2, step);
+        expectedSteps.add(2, step);
+        assertEquals(expectedSteps, steps);
+        assertEquals(Map.of("name", "step20"), steps.get(2).getProperties());
+        assertNull(steps.get(3).getProperties());
+
+        assertEquals(expectedSteps.remove(0), steps.remove(0));
+        assertEquals(expectedSteps.remove(4), steps.remove(4));
+        assertEquals(expectedSteps, steps);
+        assertNull(steps.get(steps.size() - 1).getAlpha());
+
+        TapChangerStepAttributes newStep = createStep(30, null);
+        assertEquals(expectedSteps.set(1, newStep), steps.set(1, newStep));
+        assertEquals(expectedSteps, steps);
+
+        // steps are views on the list
+        steps.get(0).setRho(5);
+        steps.get(0).setAlpha(null);
+        assertEquals(5, steps.get(0).getRho(), 0);
+        assertNull(steps.get(0).getAlpha());
+        steps.get(0).setIndex(1);
+        steps.get(0).setType(TapChangerType.PHASE);
+        assertEquals(1, steps.get(0).getIndex());
+        assertEquals(TapChangerType.PHASE, steps.get(0).getType());
+        assertNull(steps.get(1).getIndex());
+
+        // adding a view of the list itself
+        steps.add(0, steps.get(steps.size() - 1));
+        assertEquals(steps.get(0), steps.get(steps.size() - 1));
+
+        steps.clear();
+        assertTrue(steps.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> steps.get(0));
+    }
+
+    @Test
+    void testJson() throws IOException {
+        List<TapChangerStepAttributes> boxedSteps = List.of(createStep(0, 1.), createStep(1, null));
+        PhaseTapChangerAttributes boxedTapChanger = PhaseTapChangerAttributes.builder()
+                .lowTapPosition(0)
+                .steps(boxedSteps)
+                .build();
+        PhaseTapChangerAttributes compactTapChanger = PhaseTapChangerAttributes.builder()
+                .lowTapPosition(0)
+                .steps(new TapChangerStepList(boxedSteps))
+                .build();
+
+        // same json shape
+        ObjectMapper objectMapper = new ObjectMapper();
+        String json = objectMapper.writeValueAsString(boxedTapChanger);
+        assertEquals(json, objectMapper.writeValueAsString(compactTapChanger));
+
+        PhaseTapChangerAttributes tapChanger = objectMapper.readValue(json, PhaseTapChangerAttributes.class);
+        assertInstanceOf(TapChangerStepList.class, tapChanger.getSteps());
+        assertEquals(boxedSteps, tapChanger.getSteps());
+
+        tapChanger.setSteps(new ArrayList<>(boxedSteps));
+        assertInstanceOf(TapChangerStepList.class, tapChanger.getSteps());
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long measureHeap(IntFunction<Object> factory, int count) {
+        Object[] holder = new Object[count];
+        long before = usedMemory();
+        for (int i = 0; i < count; i++) {
+            holder[i] = factory.apply(i);
+        }
+        long after = usedMemory();
+        assertEquals(count, Arrays.stream(holder).filter(Objects::nonNull).count());
+        return after - before;
+    }
+
+    /**
+     * Micro-benchmark comparing the heap footprint of the steps of phase tap changers stored as one object per step
+     * and in a compact list. Results are only logged as they depend on the garbage collector.
+     */
+    @Test
+    void benchmarkHeapFootprint() {
+        int tapChangerCount = 5000;
+        int stepCount = 33;
+        long boxedBytes = measureHeap(i -> {
+            List<TapChangerStepAttributes> steps = new ArrayList<>(stepCount);
+            for (int j = 0; j < stepCount; j++) {
+                steps.add(createStep(j, (double) j));
+            }
+            return steps;
+        }, tapChangerCount);
+        long compactBytes = measureHeap(i -> {
+            TapChangerStepList steps = new TapChangerStepList(stepCount);
+            for (int j = 0; j < stepCount; j++) {
+                steps.add(createStep(j, (double) j));
+            }
+            return steps;
+        }, tapChangerCount);
+        LOGGER.info("Steps of {} tap changers with {} steps: {} bytes per step with one object per step, {} bytes per step compact",
+                tapChangerCount, stepCount, boxedBytes / (tapChangerCount * stepCount), compactBytes / (tapChangerCount * stepCount));
+    }
+}
@@ -16,10 +16,12 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import static com.powsybl.network.store.model.ResourceType.GENERATOR;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -157,4 +159,29 @@ public class TopLevelDocumentTest {
         String jsonRef = "{\"data\":[],\"meta\":{}}";
         assertEquals(jsonRef, json);
     }
+
+    @Test
+    public void testResourceCollections() throws IOException {
+        Resource<SubstationAttributes> resource = Resource.substationBuilder()
+                .id("S")
+                .attributes(SubstationAttributes.builder()
+                        .country(Country.FR)
+                        .build())
+                .build();
+        ResourceCollectionsTopLevelDocument document = ResourceCollectionsTopLevelDocument.of(List.of(
+                ResourceCollection.of(ResourceType.SUBSTATION, List.of(resource)),
+                ResourceCollection.of(ResourceType.LOAD, List.of())));
+        ObjectMapper objectMapper = JsonUtil.createObjectMapper();
+        String json = objectMapper.writeValueAsString(document);
+        String jsonRef =
+                "{\"data\":[{\"type\":\"SUBSTATION\",\"data\":[{\"type\":\"SUBSTATION\",\"id\":\"S\",\"variantNum\":0,\"attributes\":{\"fictitious\":false,\"extensionAttributes\":{},\"country\":\"FR\"}}]},"
+                        + "{\"type\":\"LOAD\",\"data\":[]}],\"meta\":{}}";
+        assertEquals(jsonRef, json);
+        ResourceCollectionsTopLevelDocument document2 = objectMapper.readValue(json, ResourceCollectionsTopLevelDocument.class);
+        assertEquals(2, document2.getData().size());
+        assertEquals(ResourceType.SUBSTATION, document2.getData().get(0).getType());
+        assertEquals(resource, document2.getData().get(0).getData().get(0));
+        assertEquals(ResourceType.LOAD, document2.getData().get(1).getType());
+        assertTrue(document2.getData().get(1).getData().isEmpty());
+    }
 }